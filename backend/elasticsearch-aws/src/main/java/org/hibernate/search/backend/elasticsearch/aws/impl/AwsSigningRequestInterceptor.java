@@ -117,6 +117,9 @@ private SdkHttpFullRequest toAwsRequest(HttpRequest request, HttpContext context
 		// Do NOT copy the headers, as the AWS SDK will sometimes sign some headers
 		// that are not properly taken into account by the AWS servers (e.g. content-length).
 
+		// The signer reads the whole content to hash it.
+		// Entities created by the Elasticsearch backend retain their content when it is read that way,
+		// so the JSON is not encoded a second time when the request is actually sent.
 		awsRequestBuilder.contentStreamProvider( contentStreamProvider );
 
 		return awsRequestBuilder.build();
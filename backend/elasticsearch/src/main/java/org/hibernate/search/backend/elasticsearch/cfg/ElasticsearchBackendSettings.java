@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.mapping.TypeNameMappingStrategyName;
 import org.hibernate.search.backend.elasticsearch.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.backend.elasticsearch.search.query.RequestCacheStrategyName;
 
 /**
  * Configuration properties for Elasticsearch backends.
@@ -151,6 +152,79 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_CONNECTIONS_PER_ROUTE = "max_connections_per_route";
 
+	/**
+	 * The maximum number of search requests (search, count, explain, scroll)
+	 * executed simultaneously against the Elasticsearch cluster.
+	 * <p>
+	 * Search requests exceeding this limit are queued until a previous search request completes.
+	 * Setting this to a value lower than {@link #MAX_CONNECTIONS} reserves connections for other requests.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no limit other than {@link #MAX_CONNECTIONS}.
+	 */
+	public static final String LANES_SEARCH_MAX_CONCURRENT_REQUESTS = "lanes.search.max_concurrent_requests";
+
+	/**
+	 * The timeout when executing a search request (search, count, explain, scroll)
+	 * against an Elasticsearch server.
+	 * <p>
+	 * Overrides {@link #REQUEST_TIMEOUT} for search requests.
+	 * Time spent queued because of {@link #LANES_SEARCH_MAX_CONCURRENT_REQUESTS} is not included.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as 60000,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the value of {@link #REQUEST_TIMEOUT}.
+	 */
+	public static final String LANES_SEARCH_REQUEST_TIMEOUT = "lanes.search.request_timeout";
+
+	/**
+	 * The latency percentile after which search requests (search, count, explain) are hedged,
+	 * i.e. a duplicate request is sent, preferably to another node, and whichever response comes first is used.
+	 * <p>
+	 * The percentile is computed over the latency of recent search requests;
+	 * requests are not hedged until enough latencies have been recorded.
+	 * Scroll requests are never hedged.
+	 * Duplicate requests count towards {@link #LANES_SEARCH_MAX_CONCURRENT_REQUESTS}.
+	 * <p>
+	 * Expects an Integer value between 1 and 99, such as {@code 95},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning search requests are never hedged.
+	 */
+	public static final String LANES_SEARCH_HEDGING_PERCENTILE = "lanes.search.hedging.percentile";
+
+	/**
+	 * The maximum number of indexing requests (bulk, delete-by-query, refresh, flush, force-merge)
+	 * executed simultaneously against the Elasticsearch cluster.
+	 * <p>
+	 * Indexing requests exceeding this limit are queued until a previous indexing request completes.
+	 * Setting this to a value lower than {@link #MAX_CONNECTIONS} reserves connections for other requests,
+	 * so that searches are not delayed by a burst of indexing, e.g. during mass indexing.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no limit other than {@link #MAX_CONNECTIONS}.
+	 */
+	public static final String LANES_INDEXING_MAX_CONCURRENT_REQUESTS = "lanes.indexing.max_concurrent_requests";
+
+	/**
+	 * The timeout when executing an indexing request (bulk, delete-by-query, refresh, flush, force-merge)
+	 * against an Elasticsearch server.
+	 * <p>
+	 * Overrides {@link #REQUEST_TIMEOUT} for indexing requests.
+	 * Time spent queued because of {@link #LANES_INDEXING_MAX_CONCURRENT_REQUESTS} is not included.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as 60000,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the value of {@link #REQUEST_TIMEOUT}.
+	 */
+	public static final String LANES_INDEXING_REQUEST_TIMEOUT = "lanes.indexing.request_timeout";
+
 	/**
 	 * Whether automatic discovery of nodes in the Elasticsearch cluster is enabled.
 	 * <p>
@@ -161,6 +235,23 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String DISCOVERY_ENABLED = "discovery.enabled";
 
+	/**
+	 * Whether requests are sent to the node with the lowest expected latency,
+	 * instead of to each node in turn.
+	 * <p>
+	 * The expected latency of a node is derived from the number of requests currently executing on that node
+	 * and from a moving average of the latency of past requests on that node.
+	 * <p>
+	 * When enabled, a request that fails on one node is not retried on another node;
+	 * the failing node is however excluded from the selection of subsequent requests for a while.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#NODE_SELECTION_LATENCY_AWARE}.
+	 */
+	public static final String NODE_SELECTION_LATENCY_AWARE = "node_selection.latency_aware";
+
 	/**
 	 * The time interval between two executions of the automatic discovery, if enabled.
 	 * <p>
@@ -246,6 +337,22 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to build documents in parallel when executing large indexing plans.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to no value, meaning documents are built sequentially, in the thread executing the indexing plan.
+	 * <p>
+	 * Documents are only built in parallel when the mapper declares that entities can safely be accessed
+	 * from multiple threads, which the Hibernate ORM mapper only does when explicitly enabled.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String DOCUMENT_BUILDING_THREAD_POOL_SIZE = "document_building.thread_pool.size";
+
 	/**
 	 * Property for specifying the maximum duration a {@code Scroll} will be usable if no
 	 * other results are fetched from Elasticsearch.
@@ -257,6 +364,51 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String SCROLL_TIMEOUT = "scroll_timeout";
 
+	/**
+	 * Property for enabling the prefetching of scroll chunks.
+	 * <p>
+	 * When enabled, each call to {@code SearchScroll.next()} sends the request for the following chunk
+	 * to Elasticsearch before loading the entities of the current chunk,
+	 * so that the following chunk is fetched while entities are being loaded and processed.
+	 * This keeps one extra chunk in flight at all times, and one extra scroll request is sent
+	 * if the scroll is closed before reaching the last chunk.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#SCROLL_PREFETCH_ENABLED}.
+	 */
+	public static final String SCROLL_PREFETCH_ENABLED = "scroll_prefetch.enabled";
+
+	/**
+	 * The strategy for the use of the shard request cache by search queries.
+	 * <p>
+	 * Can be overridden for a given query with
+	 * {@link org.hibernate.search.backend.elasticsearch.search.query.dsl.ElasticsearchSearchQueryOptionsStep#requestCache(boolean)}.
+	 * <p>
+	 * Expects a {@link RequestCacheStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_REQUEST_CACHE_STRATEGY}.
+	 */
+	public static final String SEARCH_REQUEST_CACHE_STRATEGY = "search.request_cache.strategy";
+
+	/**
+	 * The default preference for search queries,
+	 * i.e. the nodes and shards copies search queries should preferably be executed on.
+	 * <p>
+	 * Using the same preference for repeated queries leads to better use of caches.
+	 * See the Elasticsearch documentation for the list of accepted values.
+	 * <p>
+	 * Can be overridden for a given query with
+	 * {@link org.hibernate.search.backend.elasticsearch.search.query.dsl.ElasticsearchSearchQueryOptionsStep#preference(String)},
+	 * e.g. to pass a user or session identifier.
+	 * <p>
+	 * Expects a String.
+	 * <p>
+	 * Defaults to no value, i.e. search queries are executed on shard copies selected by Elasticsearch.
+	 */
+	public static final String SEARCH_PREFERENCE = "search.preference";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -272,11 +424,14 @@ private Defaults() {
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
 		public static final boolean DISCOVERY_ENABLED = false;
+		public static final boolean NODE_SELECTION_LATENCY_AWARE = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final boolean VERSION_CHECK_ENABLED = true;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 		public static final TypeNameMappingStrategyName MAPPING_TYPE_NAME_STRATEGY = TypeNameMappingStrategyName.DISCRIMINATOR;
 		public static final int SCROLL_TIMEOUT = 60;
+		public static final boolean SCROLL_PREFETCH_ENABLED = false;
+		public static final RequestCacheStrategyName SEARCH_REQUEST_CACHE_STRATEGY = RequestCacheStrategyName.INDEX_DEFAULT;
 	}
 }
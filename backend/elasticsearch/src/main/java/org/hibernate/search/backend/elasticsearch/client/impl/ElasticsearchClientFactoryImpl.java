@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -15,6 +17,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchHttpClientConfigurer;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
@@ -34,6 +37,7 @@
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.nio.conn.NoopIOSessionStrategy;
 import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
 import org.elasticsearch.client.sniff.NodesSniffer;
 import org.elasticsearch.client.sniff.Sniffer;
@@ -114,12 +118,43 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.MAX_CONNECTIONS_PER_ROUTE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> LANES_SEARCH_MAX_CONCURRENT_REQUESTS =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.LANES_SEARCH_MAX_CONCURRENT_REQUESTS )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> LANES_SEARCH_REQUEST_TIMEOUT =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.LANES_SEARCH_REQUEST_TIMEOUT )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> LANES_SEARCH_HEDGING_PERCENTILE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.LANES_SEARCH_HEDGING_PERCENTILE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> LANES_INDEXING_MAX_CONCURRENT_REQUESTS =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.LANES_INDEXING_MAX_CONCURRENT_REQUESTS )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> LANES_INDEXING_REQUEST_TIMEOUT =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.LANES_INDEXING_REQUEST_TIMEOUT )
+					.asInteger()
+					.build();
+
 	private static final ConfigurationProperty<Boolean> DISCOVERY_ENABLED =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.DISCOVERY_ENABLED )
 					.asBoolean()
 					.withDefault( ElasticsearchBackendSettings.Defaults.DISCOVERY_ENABLED )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> NODE_SELECTION_LATENCY_AWARE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.NODE_SELECTION_LATENCY_AWARE )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.NODE_SELECTION_LATENCY_AWARE )
+					.build();
+
 	private static final ConfigurationProperty<Integer> DISCOVERY_REFRESH_INTERVAL =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.DISCOVERY_REFRESH_INTERVAL )
 					.asInteger()
@@ -141,20 +176,43 @@ public ElasticsearchClientImplementor create(ConfigurationPropertySource propert
 		int connectionTimeoutMs = CONNECTION_TIMEOUT.get( propertySource );
 
 		ServerUris hosts = ServerUris.fromStrings( PROTOCOL.get( propertySource ), HOSTS.get( propertySource ) );
-		RestClient restClient = createClient( propertySource, threadProvider, threadNamePrefix, hosts );
+		LatencyAwareNodeSelector nodeSelector = NODE_SELECTION_LATENCY_AWARE.get( propertySource )
+				? new LatencyAwareNodeSelector() : null;
+		RestClient restClient = createClient( propertySource, threadProvider, threadNamePrefix, hosts, nodeSelector );
 		Sniffer sniffer = createSniffer( propertySource, restClient, hosts );
 
+		Map<ElasticsearchRequestLane, ElasticsearchClientLane> lanes = new EnumMap<>( ElasticsearchRequestLane.class );
+		lanes.put( ElasticsearchRequestLane.DEFAULT, new ElasticsearchClientLane( ElasticsearchRequestLane.DEFAULT,
+				Optional.empty(), requestTimeoutMs, null, timeoutExecutorService ) );
+		lanes.put( ElasticsearchRequestLane.SEARCH, new ElasticsearchClientLane( ElasticsearchRequestLane.SEARCH,
+				LANES_SEARCH_MAX_CONCURRENT_REQUESTS.get( propertySource ),
+				or( LANES_SEARCH_REQUEST_TIMEOUT.get( propertySource ), requestTimeoutMs ),
+				LANES_SEARCH_HEDGING_PERCENTILE.get( propertySource ).map( RequestHedgingPolicy::new ).orElse( null ),
+				timeoutExecutorService ) );
+		lanes.put( ElasticsearchRequestLane.INDEXING, new ElasticsearchClientLane( ElasticsearchRequestLane.INDEXING,
+				LANES_INDEXING_MAX_CONCURRENT_REQUESTS.get( propertySource ),
+				or( LANES_INDEXING_REQUEST_TIMEOUT.get( propertySource ), requestTimeoutMs ),
+				null, timeoutExecutorService ) );
+
 		return new ElasticsearchClientImpl(
 				restClient, sniffer, timeoutExecutorService,
-				requestTimeoutMs, connectionTimeoutMs,
+				lanes, nodeSelector, connectionTimeoutMs,
 				gsonProvider.getGson(), gsonProvider.getLogHelper()
 		);
 	}
 
+	private static <T> Optional<T> or(Optional<T> optional, Optional<T> fallback) {
+		return optional.isPresent() ? optional : fallback;
+	}
+
 	private RestClient createClient(ConfigurationPropertySource propertySource,
 			ThreadProvider threadProvider, String threadNamePrefix,
-			ServerUris hosts) {
-		return RestClient.builder( hosts.asHostsArray() )
+			ServerUris hosts, LatencyAwareNodeSelector nodeSelector) {
+		RestClientBuilder builder = RestClient.builder( hosts.asHostsArray() );
+		if ( nodeSelector != null ) {
+			builder.setNodeSelector( nodeSelector );
+		}
+		return builder
 				.setRequestConfigCallback( b -> customizeRequestConfig( b, propertySource ) )
 				.setHttpClientConfigCallback(
 						b -> customizeHttpClientConfig(
@@ -14,16 +14,23 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.entity.ContentType;
+import org.elasticsearch.client.Cancellable;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
@@ -34,13 +41,13 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.spi.JsonLogHelper;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchLogCategories;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.timeout.spi.RequestDeadline;
 import org.hibernate.search.util.common.impl.Closer;
-import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.Gson;
@@ -59,7 +66,8 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private final ScheduledExecutorService timeoutExecutorService;
 
-	private final Optional<Integer> requestTimeoutMs;
+	private final Map<ElasticsearchRequestLane, ElasticsearchClientLane> lanes;
+	private final LatencyAwareNodeSelector nodeSelector;
 	private final int connectionTimeoutMs;
 
 	private final Gson gson;
@@ -67,12 +75,14 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ScheduledExecutorService timeoutExecutorService,
-			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
+			Map<ElasticsearchRequestLane, ElasticsearchClientLane> lanes, LatencyAwareNodeSelector nodeSelector,
+			int connectionTimeoutMs,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
-		this.requestTimeoutMs = requestTimeoutMs;
+		this.lanes = lanes;
+		this.nodeSelector = nodeSelector;
 		this.connectionTimeoutMs = connectionTimeoutMs;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
@@ -80,7 +90,8 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
-		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
+		ElasticsearchClientLane lane = lanes.get( request.lane() );
+		CompletableFuture<ElasticsearchResponse> result = send( request, lane )
 				.thenApply( this::convertResponse );
 		if ( requestLog.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
@@ -98,7 +109,105 @@ public <T> T unwrap(Class<T> clientClass) {
 		throw log.clientUnwrappingWithUnkownType( clientClass, RestClient.class );
 	}
 
-	private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchRequest) {
+	private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchRequest, ElasticsearchClientLane lane) {
+		RequestHedgingPolicy hedgingPolicy = lane.hedgingPolicy();
+		if ( hedgingPolicy != null && elasticsearchRequest.idempotent() ) {
+			long hedgingDelayNanos = hedgingPolicy.delayNanos();
+			if ( hedgingDelayNanos >= 0 ) {
+				return sendHedged( elasticsearchRequest, lane, hedgingDelayNanos );
+			}
+		}
+		return lane.execute( () -> sendAttempt( elasticsearchRequest, lane, newSelection( null ), null ) );
+	}
+
+	/*
+	 * Sends the request, then sends a duplicate if the request didn't complete after the given delay,
+	 * and uses whichever response comes first, cancelling the other attempt.
+	 * The result only fails if all attempts fail.
+	 * Each attempt goes through the lane, so that duplicates count towards its limit of concurrent requests,
+	 * and the delay only starts once the first attempt is actually sent.
+	 */
+	private CompletableFuture<Response> sendHedged(ElasticsearchRequest elasticsearchRequest,
+			ElasticsearchClientLane lane, long hedgingDelayNanos) {
+		CompletableFuture<Response> result = new CompletableFuture<>();
+		AtomicInteger pendingAttempts = new AtomicInteger( 1 );
+		Queue<Cancellable> attempts = new ConcurrentLinkedQueue<>();
+
+		lane.execute( () -> {
+			LatencyAwareNodeSelector.Selection primarySelection = newSelection( null );
+			CompletableFuture<Response> primaryAttempt =
+					sendAttempt( elasticsearchRequest, lane, primarySelection, attempts );
+			ScheduledFuture<?> hedge = timeoutExecutorService.schedule(
+					() -> sendHedge( elasticsearchRequest, lane, hedgingDelayNanos, primarySelection,
+							result, pendingAttempts, attempts ),
+					hedgingDelayNanos, TimeUnit.NANOSECONDS
+			);
+			result.whenComplete( (ignored1, ignored2) -> hedge.cancel( false ) );
+			return primaryAttempt;
+		} )
+				.whenComplete( (response, throwable) -> onHedgedAttemptCompleted( result, pendingAttempts, response, throwable ) );
+
+		result.whenComplete( (ignored1, ignored2) -> {
+			// Cancelling an attempt that already completed has no effect.
+			cancelAll( attempts );
+		} );
+
+		return result;
+	}
+
+	private void sendHedge(ElasticsearchRequest elasticsearchRequest, ElasticsearchClientLane lane,
+			long hedgingDelayNanos, LatencyAwareNodeSelector.Selection primarySelection,
+			CompletableFuture<Response> result, AtomicInteger pendingAttempts, Queue<Cancellable> attempts) {
+		int pending;
+		do {
+			pending = pendingAttempts.get();
+			if ( pending == 0 || result.isDone() ) {
+				return;
+			}
+		}
+		while ( !pendingAttempts.compareAndSet( pending, pending + 1 ) );
+		requestLog.hedgingRequest( elasticsearchRequest.method(), elasticsearchRequest.path(),
+				TimeUnit.NANOSECONDS.toMillis( hedgingDelayNanos ) );
+		HttpHost primaryHost = primarySelection == null ? null : primarySelection.selectedHost();
+		lane.execute( () -> {
+			if ( result.isDone() ) {
+				// The duplicate waited for a slot in the lane, and is no longer needed.
+				return result;
+			}
+			CompletableFuture<Response> attempt =
+					sendAttempt( elasticsearchRequest, lane, newSelection( primaryHost ), attempts );
+			if ( result.isDone() ) {
+				// The primary attempt completed while we were sending the duplicate.
+				cancelAll( attempts );
+			}
+			return attempt;
+		} )
+				.whenComplete( (response, throwable) -> onHedgedAttemptCompleted( result, pendingAttempts, response, throwable ) );
+	}
+
+	private static void onHedgedAttemptCompleted(CompletableFuture<Response> result, AtomicInteger pendingAttempts,
+			Response response, Throwable throwable) {
+		if ( throwable == null ) {
+			result.complete( response );
+		}
+		else if ( pendingAttempts.decrementAndGet() == 0 ) {
+			result.completeExceptionally( throwable );
+		}
+	}
+
+	private static void cancelAll(Queue<Cancellable> attempts) {
+		for ( Cancellable attempt : attempts ) {
+			attempt.cancel();
+		}
+	}
+
+	private LatencyAwareNodeSelector.Selection newSelection(HttpHost excludedHost) {
+		return nodeSelector == null ? null : nodeSelector.newSelection( excludedHost );
+	}
+
+	private CompletableFuture<Response> sendAttempt(ElasticsearchRequest elasticsearchRequest,
+			ElasticsearchClientLane lane, LatencyAwareNodeSelector.Selection selection,
+			Queue<Cancellable> cancellables) {
 		CompletableFuture<Response> completableFuture = new CompletableFuture<>();
 
 		HttpEntity entity;
@@ -110,31 +219,54 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 			return completableFuture;
 		}
 
-		restClient.performRequestAsync(
-				toRequest( elasticsearchRequest, entity ),
-				new ResponseListener() {
-					@Override
-					public void onSuccess(Response response) {
-						completableFuture.complete( response );
-					}
-					@Override
-					public void onFailure(Exception exception) {
-						if ( exception instanceof ResponseException ) {
-							requestLog.debug( "ES client issued a ResponseException - not necessarily a problem", exception );
-							/*
-							 * The client tries to guess what's an error and what's not, but it's too naive.
-							 * A 404 on DELETE is not always important to us, for instance.
-							 * Thus we ignore the exception and do our own checks afterwards.
-							 */
-							completableFuture.complete( ( (ResponseException) exception ).getResponse() );
+		long startTime = System.nanoTime();
+		Runnable sendAction = () -> {
+			Cancellable cancellable = restClient.performRequestAsync(
+					toRequest( elasticsearchRequest, entity ),
+					new ResponseListener() {
+						@Override
+						public void onSuccess(Response response) {
+							onAttemptCompleted( elasticsearchRequest, lane, selection, startTime, true );
+							completableFuture.complete( response );
 						}
-						else {
-							completableFuture.completeExceptionally( exception );
+						@Override
+						public void onFailure(Exception exception) {
+							if ( exception instanceof CancellationException ) {
+								// Another attempt won: the latency of this one is meaningless.
+								if ( selection != null ) {
+									nodeSelector.onRequestCancelled( selection );
+								}
+								completableFuture.completeExceptionally( exception );
+							}
+							else if ( exception instanceof ResponseException ) {
+								onAttemptCompleted( elasticsearchRequest, lane, selection, startTime, true );
+								requestLog.debug( "ES client issued a ResponseException - not necessarily a problem", exception );
+								/*
+								 * The client tries to guess what's an error and what's not, but it's too naive.
+								 * A 404 on DELETE is not always important to us, for instance.
+								 * Thus we ignore the exception and do our own checks afterwards.
+								 */
+								completableFuture.complete( ( (ResponseException) exception ).getResponse() );
+							}
+							else {
+								onAttemptCompleted( elasticsearchRequest, lane, selection, startTime, false );
+								completableFuture.completeExceptionally( exception );
+							}
 						}
 					}
-				}
-				);
+					);
+			if ( cancellables != null ) {
+				cancellables.add( cancellable );
+			}
+		};
+		if ( selection == null ) {
+			sendAction.run();
+		}
+		else {
+			nodeSelector.withSelection( selection, sendAction );
+		}
 
+		Optional<Integer> requestTimeoutMs = lane.requestTimeoutMs();
 		RequestDeadline requestDeadline = elasticsearchRequest.deadline();
 		if ( requestDeadline == null && !requestTimeoutMs.isPresent() ) {
 			// no need to schedule a client side timeout
@@ -165,6 +297,19 @@ public void onFailure(Exception exception) {
 		return completableFuture;
 	}
 
+	private void onAttemptCompleted(ElasticsearchRequest elasticsearchRequest, ElasticsearchClientLane lane,
+			LatencyAwareNodeSelector.Selection selection, long startTime, boolean gotResponse) {
+		long latencyNanos = System.nanoTime() - startTime;
+		if ( selection != null ) {
+			// Failures count too: a node that fails slowly should not be selected.
+			nodeSelector.onRequestCompleted( selection, latencyNanos );
+		}
+		RequestHedgingPolicy hedgingPolicy = lane.hedgingPolicy();
+		if ( gotResponse && hedgingPolicy != null && elasticsearchRequest.idempotent() ) {
+			hedgingPolicy.addSample( latencyNanos );
+		}
+	}
+
 	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.method(), elasticsearchRequest.path() );
 		setPerRequestSocketTimeout( elasticsearchRequest, request );
@@ -0,0 +1,149 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
+import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchLogCategories;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Limits the number of requests of a given {@link ElasticsearchRequestLane lane}
+ * that are executed simultaneously, queuing the others.
+ * <p>
+ * Queued requests don't hold a connection, so limiting one lane to fewer requests than the maximum number of connections
+ * effectively reserves the remaining connections for other lanes.
+ */
+final class ElasticsearchClientLane {
+
+	private static final Log requestLog = LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST );
+
+	private static final CompletableFuture<Void> AVAILABLE_SLOT = CompletableFuture.completedFuture( null );
+
+	private final ElasticsearchRequestLane lane;
+	private final Optional<Integer> maxConcurrentRequests;
+	private final Optional<Integer> requestTimeoutMs;
+	private final RequestHedgingPolicy hedgingPolicy;
+	private final Executor queuedRequestExecutor;
+
+	private final Deque<CompletableFuture<Void>> queue = new ArrayDeque<>();
+	private int inFlightCount = 0;
+
+	private final LongAdder queuedRequestCount = new LongAdder();
+	private final LongAdder totalQueueWaitTimeNanos = new LongAdder();
+
+	ElasticsearchClientLane(ElasticsearchRequestLane lane,
+			Optional<Integer> maxConcurrentRequests, Optional<Integer> requestTimeoutMs,
+			RequestHedgingPolicy hedgingPolicy,
+			Executor queuedRequestExecutor) {
+		this.lane = lane;
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		this.requestTimeoutMs = requestTimeoutMs;
+		this.hedgingPolicy = hedgingPolicy;
+		this.queuedRequestExecutor = queuedRequestExecutor;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + lane + "]";
+	}
+
+	Optional<Integer> requestTimeoutMs() {
+		return requestTimeoutMs;
+	}
+
+	/**
+	 * @return The policy for hedging idempotent requests in this lane, or {@code null} if they must not be hedged.
+	 */
+	RequestHedgingPolicy hedgingPolicy() {
+		return hedgingPolicy;
+	}
+
+	/**
+	 * @return The number of requests that had to wait for a slot in this lane since startup.
+	 */
+	long queuedRequestCount() {
+		return queuedRequestCount.sum();
+	}
+
+	/**
+	 * @return The total time requests spent waiting for a slot in this lane since startup, in nanoseconds.
+	 */
+	long totalQueueWaitTimeNanos() {
+		return totalQueueWaitTimeNanos.sum();
+	}
+
+	<T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> sender) {
+		if ( !maxConcurrentRequests.isPresent() ) {
+			return Futures.create( sender );
+		}
+
+		CompletableFuture<Void> slot = acquire();
+		if ( slot.isDone() ) {
+			return sendAndRelease( sender );
+		}
+
+		long queueStartTime = System.nanoTime();
+		return slot.thenCompose( ignored -> {
+			long waitTimeNanos = System.nanoTime() - queueStartTime;
+			queuedRequestCount.increment();
+			totalQueueWaitTimeNanos.add( waitTimeNanos );
+			requestLog.queuedRequest( lane, TimeUnit.NANOSECONDS.toMillis( waitTimeNanos ),
+					queuedRequestCount.sum(), TimeUnit.NANOSECONDS.toMillis( totalQueueWaitTimeNanos.sum() ) );
+			return sendAndRelease( sender );
+		} );
+	}
+
+	private <T> CompletableFuture<T> sendAndRelease(Supplier<CompletableFuture<T>> sender) {
+		CompletableFuture<T> result = Futures.create( sender );
+		result.whenComplete( (ignored1, ignored2) -> release() );
+		return result;
+	}
+
+	private synchronized CompletableFuture<Void> acquire() {
+		if ( inFlightCount < maxConcurrentRequests.get() ) {
+			++inFlightCount;
+			return AVAILABLE_SLOT;
+		}
+		CompletableFuture<Void> slot = new CompletableFuture<>();
+		queue.addLast( slot );
+		return slot;
+	}
+
+	private void release() {
+		CompletableFuture<Void> next;
+		synchronized ( this ) {
+			next = queue.pollFirst();
+			if ( next == null ) {
+				--inFlightCount;
+				return;
+			}
+			// Otherwise, the slot is handed over to the next request.
+		}
+		// Responses are handled in HTTP client threads:
+		// send the next request from another thread so as not to block them while building the request body.
+		try {
+			queuedRequestExecutor.execute( () -> next.complete( null ) );
+		}
+		catch (RejectedExecutionException e) {
+			// Shutting down: just send the request from this thread; it will fail anyway.
+			next.complete( null );
+		}
+	}
+
+}
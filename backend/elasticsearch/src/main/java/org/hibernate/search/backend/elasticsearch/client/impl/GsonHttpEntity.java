@@ -11,6 +11,7 @@
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -55,6 +56,12 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Finally, some clients need to read the whole content before it is sent,
+ * for example to compute a digest of the payload when signing requests.
+ * When the content is read through {@link #getContent()},
+ * we retain the encoded pages and replay them when the content is produced
+ * or written later, so that the JSON is only ever encoded once.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -121,6 +128,30 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private ProgressiveCharBufferWriter writer =
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
+	/**
+	 * Whether the writer was given an output to write to since the last {@link #close()}.
+	 * If so, some of its pages may have been sent already and it can no longer be used to retain the content.
+	 */
+	private boolean outputStarted = false;
+
+	/**
+	 * The fully encoded content, in byte buffer pages, or null if the content is not retained.
+	 * Set the first time the content is read through {@link #getContent()}
+	 * and never reset afterwards: each page is replayed through a duplicate, so the pages are never mutated.
+	 */
+	private List<ByteBuffer> retainedPages;
+
+	/**
+	 * When replaying retained pages, the index of the next page to replay.
+	 */
+	private int nextPageToReplayIndex = 0;
+
+	/**
+	 * When replaying retained pages, the page currently being replayed,
+	 * which flow control might have prevented from being fully written.
+	 */
+	private ByteBuffer currentReplayedPage;
+
 	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
@@ -158,12 +189,19 @@ public Header getContentEncoding() {
 	}
 
 	@Override
-	public InputStream getContent() {
+	public InputStream getContent() throws IOException {
+		retainContent();
 		return new HttpAsyncContentProducerInputStream( this, BYTE_BUFFER_PAGE_SIZE );
 	}
 
 	@Override
 	public void writeTo(OutputStream out) throws IOException {
+		if ( retainedPages != null ) {
+			for ( ByteBuffer page : retainedPages ) {
+				out.write( page.array(), page.arrayOffset() + page.position(), page.remaining() );
+			}
+			return;
+		}
 		/*
 		 * For this method we use no pagination, so ignore the mutable fields.
 		 *
@@ -199,6 +237,65 @@ public void close() {
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
 		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		this.outputStarted = false;
+		//Retained pages are kept, but replaying must start from the beginning again:
+		this.nextPageToReplayIndex = 0;
+		this.currentReplayedPage = null;
+	}
+
+	/**
+	 * Encode the whole content into byte buffer pages, unless that was already done,
+	 * and retain these pages so that they can be replayed instead of encoding the JSON again.
+	 * <p>
+	 * This is only done when the content is read through {@link #getContent()},
+	 * which the HTTP client doesn't do itself: it generally means the content is being read
+	 * before it is sent, for example to compute a digest when signing the request.
+	 * Since the content will be fully read at least twice in that case,
+	 * keeping it in memory is cheaper than encoding the JSON twice.
+	 *
+	 * @throws IOException If encoding fails.
+	 */
+	private void retainContent() throws IOException {
+		if ( retainedPages != null ) {
+			return;
+		}
+		if ( outputStarted ) {
+			// Some pages may have been sent already: start over.
+			close();
+		}
+		// Continue from whatever attemptOnePassEncoding() encoded already.
+		// The writer has no output, so it will keep all pages.
+		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
+			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
+			gson.toJson( bodyPart, writer );
+			writer.append( '\n' );
+		}
+		retainedPages = writer.drainPages();
+		hintContentLength( writer.contentLength() );
+		close();
+	}
+
+	/**
+	 * Write the retained pages, starting from the next page to replay,
+	 * but simply stop and return as soon as the sink can't accept more data.
+	 *
+	 * @return {@code true} if all pages were written, {@code false} if flow control pushed back.
+	 * @throws IOException If writing fails.
+	 */
+	private boolean replayRetainedPages(ContentEncoder encoder) throws IOException {
+		while ( nextPageToReplayIndex < retainedPages.size() ) {
+			if ( currentReplayedPage == null ) {
+				currentReplayedPage = retainedPages.get( nextPageToReplayIndex ).duplicate();
+			}
+			encoder.write( currentReplayedPage );
+			if ( currentReplayedPage.hasRemaining() ) {
+				//Just quit: return control to the caller and trust we'll be called again.
+				return false;
+			}
+			currentReplayedPage = null;
+			++nextPageToReplayIndex;
+		}
+		return true;
 	}
 
 	/**
@@ -252,8 +349,16 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// to have available space !
 		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
 
+		if ( retainedPages != null ) {
+			if ( replayRetainedPages( encoder ) ) {
+				encoder.complete();
+			}
+			return;
+		}
+
 		//Re-set the encoder as it might be a different one than a previously used instance:
 		writer.setOutput( encoder );
+		outputStarted = true;
 
 		//First write unfinished business from previous attempts
 		writer.resumePendingWrites();
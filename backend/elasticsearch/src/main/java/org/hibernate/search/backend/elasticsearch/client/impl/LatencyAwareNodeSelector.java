@@ -0,0 +1,222 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+
+/**
+ * A node selector that sends each request to the node with the lowest expected latency,
+ * taking into account the number of requests currently executing on each node
+ * and a moving average of the latency of past requests on each node.
+ * <p>
+ * Only one node is selected for each request, so the {@link org.elasticsearch.client.RestClient}
+ * will not retry a failed request on another node;
+ * it will, however, temporarily exclude the failing node from the selection of subsequent requests.
+ */
+final class LatencyAwareNodeSelector implements NodeSelector {
+
+	/**
+	 * The weight of the latest sample in the exponentially weighted moving average of latencies.
+	 */
+	private static final double EWMA_ALPHA = 0.3;
+
+	private final ConcurrentMap<HttpHost, NodeStatistics> statistics = new ConcurrentHashMap<>();
+
+	// The RestClient calls the node selector synchronously, from the thread calling performRequestAsync,
+	// so we can use a thread-local to pass information about the request being sent.
+	private final ThreadLocal<Selection> currentSelection = new ThreadLocal<>();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + statistics + "]";
+	}
+
+	/**
+	 * @param excludedHost A host to avoid if possible, e.g. because another attempt of the same request
+	 * is already executing on that host. May be {@code null}.
+	 * @return A new selection, to pass to {@link #withSelection(Selection, Runnable)}.
+	 */
+	Selection newSelection(HttpHost excludedHost) {
+		return new Selection( excludedHost );
+	}
+
+	/**
+	 * Runs the given action, which is expected to send a request through the RestClient,
+	 * and records the node selected for that request into the given selection.
+	 */
+	void withSelection(Selection selection, Runnable sendAction) {
+		currentSelection.set( selection );
+		try {
+			sendAction.run();
+		}
+		finally {
+			currentSelection.remove();
+		}
+	}
+
+	/**
+	 * To be called once the request has completed, be it successfully or not.
+	 */
+	void onRequestCompleted(Selection selection, long latencyNanos) {
+		HttpHost host = selection.selectedHost;
+		if ( host == null ) {
+			return;
+		}
+		NodeStatistics nodeStatistics = statistics.get( host );
+		if ( nodeStatistics != null ) {
+			nodeStatistics.onRequestCompleted( latencyNanos );
+		}
+	}
+
+	/**
+	 * To be called if the request was cancelled before completion,
+	 * e.g. because another attempt of the same request completed first.
+	 */
+	void onRequestCancelled(Selection selection) {
+		HttpHost host = selection.selectedHost;
+		if ( host == null ) {
+			return;
+		}
+		NodeStatistics nodeStatistics = statistics.get( host );
+		if ( nodeStatistics != null ) {
+			nodeStatistics.onRequestCancelled();
+		}
+	}
+
+	@Override
+	public void select(Iterable<Node> nodes) {
+		Selection selection = currentSelection.get();
+		HttpHost excludedHost = selection == null ? null : selection.excludedHost;
+
+		// Nodes without samples are assumed to be as fast as the fastest node,
+		// so that they get a chance to be used without immediately receiving every request.
+		double defaultLatencyNanos = Double.MAX_VALUE;
+		int nodeCount = 0;
+		for ( Node node : nodes ) {
+			NodeStatistics nodeStatistics = statistics.computeIfAbsent( node.getHost(), ignored -> new NodeStatistics() );
+			defaultLatencyNanos = Math.min( defaultLatencyNanos, nodeStatistics.ewmaLatencyNanosOrMax() );
+			++nodeCount;
+		}
+		if ( statistics.size() > nodeCount ) {
+			// Some nodes were removed, e.g. by discovery, or are currently considered dead:
+			// forget about them, so that statistics don't accumulate forever.
+			pruneStatistics( nodes );
+		}
+		if ( defaultLatencyNanos == Double.MAX_VALUE ) {
+			defaultLatencyNanos = 1;
+		}
+
+		Node best = null;
+		double bestScore = Double.MAX_VALUE;
+		boolean bestExcluded = true;
+		int tieCount = 0;
+		for ( Node node : nodes ) {
+			NodeStatistics nodeStatistics = statistics.computeIfAbsent( node.getHost(), ignored -> new NodeStatistics() );
+			boolean excluded = node.getHost().equals( excludedHost );
+			double score = nodeStatistics.score( defaultLatencyNanos );
+			if ( best == null || bestExcluded && !excluded || excluded == bestExcluded && score < bestScore ) {
+				best = node;
+				bestScore = score;
+				bestExcluded = excluded;
+				tieCount = 1;
+			}
+			else if ( excluded == bestExcluded && score == bestScore ) {
+				// Reservoir sampling: pick one of the tied nodes with uniform probability.
+				++tieCount;
+				if ( ThreadLocalRandom.current().nextInt( tieCount ) == 0 ) {
+					best = node;
+				}
+			}
+		}
+
+		if ( best == null ) {
+			return;
+		}
+
+		for ( Iterator<Node> iterator = nodes.iterator(); iterator.hasNext(); ) {
+			if ( iterator.next() != best ) {
+				iterator.remove();
+			}
+		}
+
+		if ( selection != null ) {
+			selection.selectedHost = best.getHost();
+			statistics.get( best.getHost() ).onRequestStarted();
+		}
+	}
+
+	private void pruneStatistics(Iterable<Node> nodes) {
+		Set<HttpHost> hosts = new HashSet<>();
+		for ( Node node : nodes ) {
+			hosts.add( node.getHost() );
+		}
+		statistics.keySet().retainAll( hosts );
+	}
+
+	static final class Selection {
+		private final HttpHost excludedHost;
+		private volatile HttpHost selectedHost;
+
+		private Selection(HttpHost excludedHost) {
+			this.excludedHost = excludedHost;
+		}
+
+		/**
+		 * @return The host selected for the request, or {@code null} if none was selected (yet).
+		 */
+		HttpHost selectedHost() {
+			return selectedHost;
+		}
+	}
+
+	private static final class NodeStatistics {
+		private int outstandingRequests = 0;
+		// Negative until the first sample
+		private double ewmaLatencyNanos = -1;
+
+		@Override
+		public synchronized String toString() {
+			return "[outstandingRequests=" + outstandingRequests + ", ewmaLatencyNanos=" + ewmaLatencyNanos + "]";
+		}
+
+		synchronized double ewmaLatencyNanosOrMax() {
+			return ewmaLatencyNanos < 0 ? Double.MAX_VALUE : ewmaLatencyNanos;
+		}
+
+		synchronized double score(double defaultLatencyNanos) {
+			double latency = ewmaLatencyNanos < 0 ? defaultLatencyNanos : ewmaLatencyNanos;
+			return ( outstandingRequests + 1 ) * Math.max( 1, latency );
+		}
+
+		synchronized void onRequestStarted() {
+			++outstandingRequests;
+		}
+
+		synchronized void onRequestCancelled() {
+			--outstandingRequests;
+		}
+
+		synchronized void onRequestCompleted(long latencyNanos) {
+			--outstandingRequests;
+			if ( ewmaLatencyNanos < 0 ) {
+				ewmaLatencyNanos = latencyNanos;
+			}
+			else {
+				ewmaLatencyNanos = EWMA_ALPHA * latencyNanos + ( 1 - EWMA_ALPHA ) * ewmaLatencyNanos;
+			}
+		}
+	}
+}
@@ -14,8 +14,10 @@
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CoderResult;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 
 import org.apache.http.nio.ContentEncoder;
 
@@ -177,6 +179,29 @@ public int contentLength() {
 		return contentLength;
 	}
 
+	/**
+	 * Remove all buffer pages from this writer without sending them to the {@link #setOutput(ContentEncoder) output},
+	 * even those that are not full yet.
+	 * <p>
+	 * Only pages that were not written to the output yet are returned,
+	 * so this should only be used on writers that were never given an output.
+	 *
+	 * @return The buffer pages, in write order, ready to be read.
+	 * @throws IOException when encoding the content of the char buffer fails.
+	 */
+	public List<ByteBuffer> drainPages() throws IOException {
+		flush();
+		List<ByteBuffer> pages = new ArrayList<>( needWritingPages.size() + 1 );
+		pages.addAll( needWritingPages );
+		needWritingPages.clear();
+		if ( currentPage != null && currentPage.position() > 0 ) {
+			currentPage.flip();
+			pages.add( currentPage );
+		}
+		currentPage = null;
+		return pages;
+	}
+
 	private void writeToByteBuffer(CharBuffer input) throws IOException {
 		while ( true ) {
 			if ( currentPage == null ) {
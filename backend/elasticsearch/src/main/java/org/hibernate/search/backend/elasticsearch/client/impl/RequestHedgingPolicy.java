@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.Arrays;
+
+/**
+ * Decides when to send a duplicate of a slow request ("hedged request"),
+ * based on a percentile of the latency of recent requests.
+ * <p>
+ * Latencies are sampled in a fixed-size circular buffer,
+ * and the percentile is only recomputed every few samples to keep the overhead low.
+ */
+final class RequestHedgingPolicy {
+
+	private static final int SAMPLE_COUNT = 1000;
+	private static final int MIN_SAMPLE_COUNT = 100;
+	private static final int RECOMPUTE_INTERVAL = 50;
+
+	private final int percentile;
+
+	private final long[] samples = new long[SAMPLE_COUNT];
+	private int sampleCount = 0;
+	private int nextSampleIndex = 0;
+	private int samplesSinceLastComputation = 0;
+	private long delayNanos = -1;
+
+	/**
+	 * @param percentile The percentile of latency after which requests should be hedged, between 1 and 99.
+	 */
+	RequestHedgingPolicy(int percentile) {
+		this.percentile = percentile;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[percentile=" + percentile + "]";
+	}
+
+	/**
+	 * @return The delay after which a request should be hedged, in nanoseconds,
+	 * or a negative number if requests should not be hedged (yet), because there are not enough samples.
+	 */
+	synchronized long delayNanos() {
+		return delayNanos;
+	}
+
+	synchronized void addSample(long latencyNanos) {
+		samples[nextSampleIndex] = latencyNanos;
+		nextSampleIndex = ( nextSampleIndex + 1 ) % SAMPLE_COUNT;
+		if ( sampleCount < SAMPLE_COUNT ) {
+			++sampleCount;
+		}
+		++samplesSinceLastComputation;
+		if ( sampleCount >= MIN_SAMPLE_COUNT && samplesSinceLastComputation >= RECOMPUTE_INTERVAL ) {
+			samplesSinceLastComputation = 0;
+			long[] sorted = Arrays.copyOf( samples, sampleCount );
+			Arrays.sort( sorted );
+			int index = (int) Math.ceil( percentile / 100.0 * sampleCount ) - 1;
+			delayNanos = sorted[Math.max( 0, Math.min( index, sampleCount - 1 ) )];
+		}
+	}
+
+}
@@ -47,6 +47,8 @@ public static Builder builder(String method) {
 	private final Map<String, String> parameters;
 	private final List<JsonObject> bodyParts;
 	private final RequestDeadline deadline;
+	private final ElasticsearchRequestLane lane;
+	private final boolean idempotent;
 
 	private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
@@ -54,6 +56,8 @@ private ElasticsearchRequest(Builder builder) {
 		this.parameters = builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
 		this.bodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
 		this.deadline = builder.requestDeadline;
+		this.lane = builder.lane;
+		this.idempotent = builder.idempotent;
 	}
 
 	public String method() {
@@ -76,6 +80,18 @@ public RequestDeadline deadline() {
 		return deadline;
 	}
 
+	public ElasticsearchRequestLane lane() {
+		return lane;
+	}
+
+	/**
+	 * @return {@code true} if executing this request multiple times has the same effect as executing it once,
+	 * meaning in particular that the request can be sent to multiple nodes simultaneously ("hedged").
+	 */
+	public boolean idempotent() {
+		return idempotent;
+	}
+
 	@Override
 	public String toString() {
 		return new StringJoiner( ", ", ElasticsearchRequest.class.getSimpleName() + "[", "]" )
@@ -84,6 +100,8 @@ public String toString() {
 				.add( "parameters=" + parameters )
 				.add( "bodyParts=" + bodyParts )
 				.add( "deadline=" + deadline )
+				.add( "lane=" + lane )
+				.add( "idempotent=" + idempotent )
 				.toString();
 	}
 
@@ -96,6 +114,8 @@ public static final class Builder {
 		private Map<String, String> parameters;
 		private List<JsonObject> bodyParts;
 		private RequestDeadline requestDeadline;
+		private ElasticsearchRequestLane lane = ElasticsearchRequestLane.DEFAULT;
+		private boolean idempotent = false;
 
 		private Builder(String method) {
 			super();
@@ -165,6 +185,16 @@ public Builder requestDeadline(RequestDeadline requestDeadline) {
 			return this;
 		}
 
+		public Builder lane(ElasticsearchRequestLane lane) {
+			this.lane = lane;
+			return this;
+		}
+
+		public Builder idempotent(boolean idempotent) {
+			this.idempotent = idempotent;
+			return this;
+		}
+
 		public ElasticsearchRequest build() {
 			return new ElasticsearchRequest( this );
 		}
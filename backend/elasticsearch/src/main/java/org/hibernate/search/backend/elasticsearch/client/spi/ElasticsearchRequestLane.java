@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.spi;
+
+/**
+ * The lane an {@link ElasticsearchRequest} is executed in.
+ * <p>
+ * Each lane can be assigned its own limit on concurrent requests and its own timeout,
+ * so that requests of one category (e.g. large bulk requests)
+ * cannot hold every connection to the cluster and delay requests of another category (e.g. searches).
+ */
+public enum ElasticsearchRequestLane {
+
+	/**
+	 * Requests that don't belong to any other lane, e.g. schema management requests.
+	 */
+	DEFAULT( null ),
+	/**
+	 * Search requests: search, count, explain, scroll.
+	 */
+	SEARCH( "search" ),
+	/**
+	 * Indexing requests: bulk, delete-by-query, refresh, flush, force-merge.
+	 */
+	INDEXING( "indexing" );
+
+	private final String externalRepresentation;
+
+	ElasticsearchRequestLane(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The name of this lane in configuration properties,
+	 * or {@code null} if this lane cannot be configured.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+
+}
@@ -21,10 +21,12 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.metadata.impl.ElasticsearchIndexMetadataSyntax;
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
+import org.hibernate.search.backend.elasticsearch.search.query.RequestCacheStrategyName;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
@@ -43,6 +45,23 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> SCROLL_PREFETCH_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SCROLL_PREFETCH_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_PREFETCH_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<RequestCacheStrategyName> SEARCH_REQUEST_CACHE_STRATEGY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SEARCH_REQUEST_CACHE_STRATEGY )
+					.as( RequestCacheStrategyName.class, RequestCacheStrategyName::of )
+					.withDefault( ElasticsearchBackendSettings.Defaults.SEARCH_REQUEST_CACHE_STRATEGY )
+					.build();
+
+	private static final OptionalConfigurationProperty<String> SEARCH_PREFERENCE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SEARCH_PREFERENCE )
+					.asString()
+					.build();
+
 	private final BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder;
 	private final BackendThreads threads;
 	private final GsonProvider defaultGsonProvider;
@@ -59,6 +78,9 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private ElasticsearchWorkBuilderFactory workBuilderFactory;
 	private ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private Integer scrollTimeout;
+	private boolean scrollPrefetchEnabled;
+	private RequestCacheStrategyName searchRequestCacheStrategy;
+	private String searchPreference;
 
 	ElasticsearchLinkImpl(BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder,
 			BackendThreads threads, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
@@ -116,6 +138,24 @@ public Integer getScrollTimeout() {
 		return scrollTimeout;
 	}
 
+	@Override
+	public boolean isScrollPrefetchEnabled() {
+		checkStarted();
+		return scrollPrefetchEnabled;
+	}
+
+	@Override
+	public RequestCacheStrategyName getSearchRequestCacheStrategy() {
+		checkStarted();
+		return searchRequestCacheStrategy;
+	}
+
+	@Override
+	public String getSearchPreference() {
+		checkStarted();
+		return searchPreference;
+	}
+
 	ElasticsearchVersion getElasticsearchVersion() {
 		checkStarted();
 		return elasticsearchVersion;
@@ -149,6 +189,9 @@ void onStart(ConfigurationPropertySource propertySource) {
 			workBuilderFactory = protocolDialect.createWorkBuilderFactory( gsonProvider );
 			searchResultExtractorFactory = protocolDialect.createSearchResultExtractorFactory();
 			scrollTimeout = SCROLL_TIMEOUT.get( propertySource );
+			scrollPrefetchEnabled = SCROLL_PREFETCH_ENABLED.get( propertySource );
+			searchRequestCacheStrategy = SEARCH_REQUEST_CACHE_STRATEGY.get( propertySource );
+			searchPreference = SEARCH_PREFERENCE.get( propertySource ).orElse( null );
 		}
 	}
 
@@ -105,7 +105,8 @@ public <R> IndexIndexingPlan<R> createIndexingPlan(
 				indexManagerContext,
 				sessionContext,
 				entityReferenceFactory,
-				refreshStrategy
+				refreshStrategy,
+				threads.getDocumentBuildingExecutorOrNull()
 		);
 	}
 
@@ -159,7 +160,8 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 				link.getWorkBuilderFactory(), link.getSearchResultExtractorFactory(),
 				generalPurposeOrchestrator,
 				searchContext, sessionContext, loadingContextBuilder, rootProjection,
-				link.getScrollTimeout()
+				link.getScrollTimeout(), link.isScrollPrefetchEnabled(),
+				link.getSearchRequestCacheStrategy(), link.getSearchPreference()
 		);
 	}
 
@@ -10,6 +10,7 @@
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.metadata.impl.ElasticsearchIndexMetadataSyntax;
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
+import org.hibernate.search.backend.elasticsearch.search.query.RequestCacheStrategyName;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 
@@ -35,4 +36,10 @@ public interface ElasticsearchLink {
 
 	Integer getScrollTimeout();
 
+	boolean isScrollPrefetchEnabled();
+
+	RequestCacheStrategyName getSearchRequestCacheStrategy();
+
+	String getSearchPreference();
+
 }
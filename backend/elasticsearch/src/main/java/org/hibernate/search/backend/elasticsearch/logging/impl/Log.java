@@ -15,6 +15,7 @@
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
@@ -648,4 +649,35 @@ SearchTimeoutException clientSideTimedOut(@FormatWith(DurationInSecondsAndFracti
 			+ " Valid values are: %2$s.")
 	SearchException invalidDynamicType(String invalidRepresentation, List<String> validRepresentations);
 
+	@Message(id = ID_OFFSET_3 + 122, value = "Invalid request cache strategy name: '%1$s'."
+			+ " Valid names are: %2$s.")
+	SearchException invalidRequestCacheStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_3 + 123,
+			value = "Invalid search cursor: '%1$s'."
+					+ " A cursor can only be used with the query that produced it, or with an identical query.")
+	SearchException invalidSearchCursor(Object cursor);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET_3 + 124,
+			value = "Skipped %1$d indexing works superseded by later works on the same documents in the same batch"
+					+ " (%2$d since startup).")
+	void coalescedIndexingWorks(int batchCount, long totalCount);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET_3 + 125,
+			value = "Request in lane '%1$s' waited %2$dms for a previous request of the same lane to complete"
+					+ " (%3$d queued requests and %4$dms of total wait time in this lane since startup).")
+	void queuedRequest(ElasticsearchRequestLane lane, long waitTimeInMs, long totalQueuedRequestCount,
+			long totalWaitTimeInMs);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET_3 + 126,
+			value = "Elasticsearch HTTP %1$s request to path '%2$s' did not complete within %3$dms:"
+					+ " sending a duplicate request and using whichever response comes first.")
+	void hedgingRequest(String method, String path, long delayInMs);
+
+	@Message(id = ID_OFFSET_3 + 127,
+			value = "Invalid search cursor: '%1$s'. The cursor is malformed: %2$s")
+	SearchException malformedSearchCursor(String externalForm, String causeMessage, @Cause Exception cause);
 }
@@ -6,11 +6,16 @@
  */
 package org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
 /**
  * The search syntax for ES5.6 to 6.2.
  */
 public class Elasticsearch56SearchSyntax extends Elasticsearch60SearchSyntax {
 
+	private static final JsonPrimitive UID_SORT_JSON = new JsonPrimitive( "_uid" );
+
 	@Override
 	public String getTermAggregationOrderByTermToken() {
 		return "_term"; // _key in ES6.0+
@@ -20,4 +25,9 @@ public String getTermAggregationOrderByTermToken() {
 	public boolean useOldSortNestedApi() {
 		return true;
 	}
+
+	@Override
+	public JsonElement getDocumentIdTieBreakerSort() {
+		return UID_SORT_JSON; // The _id field cannot be sorted on in ES5
+	}
 }
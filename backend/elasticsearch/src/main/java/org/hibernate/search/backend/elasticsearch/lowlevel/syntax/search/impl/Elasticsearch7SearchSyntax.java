@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonArrayAccessor;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 
@@ -20,6 +21,8 @@ public class Elasticsearch7SearchSyntax implements ElasticsearchSearchSyntax {
 	private static final JsonArrayAccessor DOCVALUE_FIELDS_ACCESSOR =
 			JsonAccessor.root().property( "docvalue_fields" ).asArray();
 
+	private static final JsonPrimitive ID_SORT_JSON = new JsonPrimitive( "_id" );
+
 	@Override
 	public String getTermAggregationOrderByTermToken() {
 		return "_key";
@@ -35,4 +38,9 @@ public void requestDocValues(JsonObject requestBody, JsonPrimitive fieldName) {
 		// The default format is the format defined in the mapping, which is what we want
 		DOCVALUE_FIELDS_ACCESSOR.addElementIfAbsent( requestBody, fieldName );
 	}
+
+	@Override
+	public JsonElement getDocumentIdTieBreakerSort() {
+		return ID_SORT_JSON;
+	}
 }
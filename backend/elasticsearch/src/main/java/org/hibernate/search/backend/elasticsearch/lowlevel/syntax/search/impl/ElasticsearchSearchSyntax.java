@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 
@@ -17,4 +18,6 @@ public interface ElasticsearchSearchSyntax {
 
 	void requestDocValues(JsonObject requestBody, JsonPrimitive fieldName);
 
+	JsonElement getDocumentIdTieBreakerSort();
+
 }
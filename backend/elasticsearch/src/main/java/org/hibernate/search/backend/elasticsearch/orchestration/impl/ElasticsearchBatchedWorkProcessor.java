@@ -6,10 +6,20 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
  * A processor for batched works that triggers work execution
@@ -22,13 +32,26 @@
  * Two works submitted to this orchestrator in the same batch will always be executed
  * one after the other, never in parallel.
  * <p>
+ * Single-document works are only added to bulks when the batch ends,
+ * so that works made redundant by a later work on the same document (e.g. an index followed by a delete)
+ * can be skipped. The futures of skipped works are completed with the outcome of the work that superseded them.
+ * <p>
  * This class is mutable and not thread-safe.
  */
 class ElasticsearchBatchedWorkProcessor implements BatchedWorkProcessor {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final ElasticsearchWorkBulker bulker;
 
+	// Works pending submission to the bulker in the current batch, in submission order
+	private final List<PendingWork> pendingWorks = new ArrayList<>();
+	// The last pending work for each document
+	private final Map<Object, PendingWork> lastPendingWorkByDocument = new HashMap<>();
+	private int batchCoalescedWorkCount = 0;
+	private final LongAdder coalescedWorkCount = new LongAdder();
+
 	public ElasticsearchBatchedWorkProcessor(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			ElasticsearchWorkBulker bulker) {
 		this.sequenceBuilder = sequenceBuilder;
@@ -39,14 +62,29 @@ public ElasticsearchBatchedWorkProcessor(ElasticsearchWorkSequenceBuilder sequen
 	public void beginBatch() {
 		bulker.reset();
 		sequenceBuilder.init( CompletableFuture.completedFuture( null ) );
+		pendingWorks.clear();
+		lastPendingWorkByDocument.clear();
+		batchCoalescedWorkCount = 0;
 	}
 
+	@SuppressWarnings("unchecked") // Single-document works always return Void
 	public <T> CompletableFuture<T> submit(BulkableWork<T> work) {
+		if ( work instanceof SingleDocumentIndexingWork ) {
+			return (CompletableFuture<T>) submitSingleDocumentWork( (BulkableWork<Void>) work,
+					( (SingleDocumentIndexingWork) work ).getDocumentKey() );
+		}
+		// Preserve the order of execution
+		addPendingWorksToBulk();
 		return bulker.add( work );
 	}
 
 	@Override
 	public CompletableFuture<Void> endBatch() {
+		addPendingWorksToBulk();
+		if ( batchCoalescedWorkCount > 0 ) {
+			coalescedWorkCount.add( batchCoalescedWorkCount );
+			log.coalescedIndexingWorks( batchCoalescedWorkCount, coalescedWorkCount.sum() );
+		}
 		CompletableFuture<Void> future = sequenceBuilder.build();
 		bulker.finalizeBulkWork();
 		// Sequence futures are not expected to fail even if one work fails,
@@ -58,4 +96,66 @@ public CompletableFuture<Void> endBatch() {
 	public void complete() {
 		// Nothing to do: if all individual works have completed, we're done.
 	}
+
+	/**
+	 * @return The total number of works that were skipped so far
+	 * because a later work in the same batch superseded them.
+	 */
+	public long coalescedWorkCount() {
+		return coalescedWorkCount.sum();
+	}
+
+	private CompletableFuture<Void> submitSingleDocumentWork(BulkableWork<Void> work, Object documentKey) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		PendingWork previous = lastPendingWorkByDocument.get( documentKey );
+		// Works with different refresh strategies cannot be coalesced:
+		// callers of the previous work may expect a refresh that the later work won't trigger.
+		if ( previous != null && previous.work.getRefreshStrategy() == work.getRefreshStrategy() ) {
+			// Works on other documents are independent and works on this document were all submitted before,
+			// so it's safe to execute this work in place of the previous one.
+			previous.work = work;
+			previous.futures.add( future );
+			++batchCoalescedWorkCount;
+			return future;
+		}
+		PendingWork pending = new PendingWork( work, future );
+		pendingWorks.add( pending );
+		lastPendingWorkByDocument.put( documentKey, pending );
+		return future;
+	}
+
+	private void addPendingWorksToBulk() {
+		if ( pendingWorks.isEmpty() ) {
+			return;
+		}
+		try {
+			for ( PendingWork pending : pendingWorks ) {
+				CompletableFuture<Void> bulkedWorkFuture;
+				try {
+					bulkedWorkFuture = bulker.add( pending.work );
+				}
+				catch (RuntimeException e) {
+					bulkedWorkFuture = new CompletableFuture<>();
+					bulkedWorkFuture.completeExceptionally( e );
+				}
+				for ( CompletableFuture<Void> future : pending.futures ) {
+					bulkedWorkFuture.whenComplete( Futures.copyHandler( future ) );
+				}
+			}
+		}
+		finally {
+			pendingWorks.clear();
+			lastPendingWorkByDocument.clear();
+		}
+	}
+
+	private static final class PendingWork {
+		private BulkableWork<Void> work;
+		private final List<CompletableFuture<Void>> futures = new ArrayList<>( 1 );
+
+		private PendingWork(BulkableWork<Void> work, CompletableFuture<Void> future) {
+			this.work = work;
+			this.futures.add( future );
+		}
+	}
 }
\ No newline at end of file
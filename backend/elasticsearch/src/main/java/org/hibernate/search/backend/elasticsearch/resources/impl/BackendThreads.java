@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.resources.impl;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
@@ -23,10 +24,16 @@ public class BackendThreads {
 					.asInteger()
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> DOCUMENT_BUILDING_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.DOCUMENT_BUILDING_THREAD_POOL_SIZE )
+					.asInteger()
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService workExecutor;
+	private ExecutorService documentBuildingExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -45,12 +52,19 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.workExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+
+		this.documentBuildingExecutor = DOCUMENT_BUILDING_THREAD_POOL_SIZE.get( propertySource )
+				.map( size -> threadPoolProvider.newFixedThreadPool( size, prefix + " - Document building thread" ) )
+				.orElse( null );
 	}
 
 	public void onStop() {
 		if ( workExecutor != null ) {
 			workExecutor.shutdownNow();
 		}
+		if ( documentBuildingExecutor != null ) {
+			documentBuildingExecutor.shutdownNow();
+		}
 	}
 
 	public String getPrefix() {
@@ -67,6 +81,14 @@ public ScheduledExecutorService getWorkExecutor() {
 		return workExecutor;
 	}
 
+	/**
+	 * @return The executor to build documents in parallel, or {@code null} if documents must be built sequentially.
+	 */
+	public ExecutorService getDocumentBuildingExecutorOrNull() {
+		checkStarted();
+		return documentBuildingExecutor;
+	}
+
 	private void checkStarted() {
 		if ( workExecutor == null ) {
 			throw new AssertionFailure(
@@ -24,6 +24,7 @@
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinBoundingBoxPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinCirclePredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinPolygonPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.TermsPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.WildcardPredicateBuilder;
 
 import com.google.gson.JsonObject;
@@ -99,6 +100,11 @@ public ExistsPredicateBuilder exists(String absoluteFieldPath) {
 		}
 	}
 
+	@Override
+	public TermsPredicateBuilder terms(String absoluteFieldPath) {
+		return indexes.field( absoluteFieldPath ).queryElement( PredicateTypeKeys.TERMS, searchContext );
+	}
+
 	@Override
 	public SpatialWithinCirclePredicateBuilder spatialWithinCircle(String absoluteFieldPath) {
 		return indexes.field( absoluteFieldPath )
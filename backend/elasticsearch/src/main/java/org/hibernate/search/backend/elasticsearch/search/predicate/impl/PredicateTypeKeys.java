@@ -15,6 +15,7 @@
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinBoundingBoxPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinCirclePredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinPolygonPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.TermsPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.WildcardPredicateBuilder;
 
 public final class PredicateTypeKeys {
@@ -25,6 +26,7 @@ private PredicateTypeKeys() {
 	public static final SearchQueryElementTypeKey<MatchPredicateBuilder> MATCH = key( "match" );
 	public static final SearchQueryElementTypeKey<RangePredicateBuilder> RANGE = key( "range" );
 	public static final SearchQueryElementTypeKey<ExistsPredicateBuilder> EXISTS = key( "exists" );
+	public static final SearchQueryElementTypeKey<TermsPredicateBuilder> TERMS = key( "terms" );
 	public static final SearchQueryElementTypeKey<PhrasePredicateBuilder> PHRASE = key( "phrase" );
 	public static final SearchQueryElementTypeKey<WildcardPredicateBuilder> WILDCARD = key( "wildcard" );
 	public static final SearchQueryElementTypeKey<ElasticsearchSimpleQueryStringPredicateBuilderFieldState> SIMPLE_QUERY_STRING =
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Strategies for the use of the Elasticsearch shard request cache by search queries.
+ */
+public enum RequestCacheStrategyName {
+
+	/**
+	 * Do not tell Elasticsearch whether to use the request cache:
+	 * the index settings apply.
+	 * <p>
+	 * With the default index settings, only requests that do not return hits are cached.
+	 */
+	INDEX_DEFAULT("index-default"),
+	/**
+	 * Explicitly enable the request cache for requests that do not return hits,
+	 * e.g. aggregation-only queries or queries that only fetch the total hit count,
+	 * and let the index settings apply to other requests.
+	 */
+	NO_HITS("no-hits"),
+	/**
+	 * Explicitly enable the request cache for all requests, except scrolls.
+	 */
+	ALWAYS("always"),
+	/**
+	 * Explicitly disable the request cache for all requests.
+	 */
+	NEVER("never");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static RequestCacheStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				RequestCacheStrategyName.values(),
+				RequestCacheStrategyName::externalRepresentation,
+				log::invalidRequestCacheStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	RequestCacheStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
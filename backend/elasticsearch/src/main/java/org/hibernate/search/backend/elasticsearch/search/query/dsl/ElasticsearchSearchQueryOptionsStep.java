@@ -39,6 +39,34 @@
 	@Incubating
 	ElasticsearchSearchQueryOptionsStep<H, LOS> requestTransformer(ElasticsearchSearchRequestTransformer transformer);
 
+	/**
+	 * Enable or disable the shard request cache for this search query.
+	 * <p>
+	 * Overrides the strategy set through the backend configuration property
+	 * {@link org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings#SEARCH_REQUEST_CACHE_STRATEGY}.
+	 * <p>
+	 * Has no effect on scrolls, which cannot use the request cache.
+	 *
+	 * @param enabled {@code true} to enable the request cache, {@code false} to disable it.
+	 * @return {@code this}, for method chaining.
+	 */
+	ElasticsearchSearchQueryOptionsStep<H, LOS> requestCache(boolean enabled);
+
+	/**
+	 * Set the preference for this search query,
+	 * i.e. the nodes and shard copies this search query should preferably be executed on.
+	 * <p>
+	 * Passing the same arbitrary string, e.g. a user or session identifier,
+	 * for repeated queries will route them to the same shard copies, leading to better use of caches.
+	 * <p>
+	 * Overrides the default set through the backend configuration property
+	 * {@link org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings#SEARCH_PREFERENCE}.
+	 *
+	 * @param preference The preference, in a format accepted by Elasticsearch.
+	 * @return {@code this}, for method chaining.
+	 */
+	ElasticsearchSearchQueryOptionsStep<H, LOS> preference(String preference);
+
 	@Override
 	ElasticsearchSearchQuery<H> toQuery();
 }
@@ -54,6 +54,18 @@ public ElasticsearchSearchQueryOptionsStep<H, LOS> requestTransformer(Elasticsea
 		return thisAsS();
 	}
 
+	@Override
+	public ElasticsearchSearchQueryOptionsStep<H, LOS> requestCache(boolean enabled) {
+		searchQueryBuilder.requestCache( enabled );
+		return thisAsS();
+	}
+
+	@Override
+	public ElasticsearchSearchQueryOptionsStep<H, LOS> preference(String preference) {
+		searchQueryBuilder.preference( preference );
+		return thisAsS();
+	}
+
 	@Override
 	public ElasticsearchSearchQuery<H> toQuery() {
 		return searchQueryBuilder.build();
@@ -12,13 +12,18 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.backend.elasticsearch.search.timeout.impl.ElasticsearchTimeoutManager;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
@@ -31,6 +36,13 @@
  * @param <H> The type of hits in the search result.
  */
 public class ElasticsearchLoadableSearchResult<H> {
+
+	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).property( "hits" ).asArray();
+
+	private static final JsonAccessor<JsonArray> HIT_SORT_ACCESSOR =
+			JsonAccessor.root().property( "sort" ).asArray();
+
 	private final ElasticsearchSearchQueryExtractContext extractContext;
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
@@ -63,6 +75,18 @@
 	}
 
 	ElasticsearchSearchResultImpl<H> loadBlocking() {
+		return loadBlocking( null );
+	}
+
+	/**
+	 * @param sortForSearchAfter The sort of the executed request if it includes a document identifier tie-breaker
+	 * and a cursor to the next page should be returned, or {@code null} otherwise.
+	 * @return The loaded search result.
+	 */
+	ElasticsearchSearchResultImpl<H> loadBlocking(JsonArray sortForSearchAfter) {
+		// Compute the cursor from the raw hits: hits skipped below because of failed loads still count.
+		SearchCursor nextPageCursor = sortForSearchAfter == null ? null : extractNextPageCursor( sortForSearchAfter );
+
 		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		LoadingResult<?, ?> loadingResult = extractContext.getProjectionHitMapper()
@@ -100,10 +124,25 @@ ElasticsearchSearchResultImpl<H> loadBlocking() {
 		return new ElasticsearchSearchResultImpl<>(
 				extractContext.getResponseBody(),
 				resultTotal, loadedHits, extractedAggregations,
-				took, timedOut, scrollId );
+				took, timedOut, scrollId, nextPageCursor );
+	}
+
+	private SearchCursor extractNextPageCursor(JsonArray sortForSearchAfter) {
+		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( extractContext.getResponseBody() ).orElse( null );
+		if ( jsonHits == null || jsonHits.size() == 0 ) {
+			return null;
+		}
+		JsonObject lastHit = jsonHits.get( jsonHits.size() - 1 ).getAsJsonObject();
+		return HIT_SORT_ACCESSOR.get( lastHit )
+				.map( sortValues -> new ElasticsearchSearchCursor( sortForSearchAfter, sortValues ) )
+				.orElse( null );
 	}
 
 	boolean hasHits() {
 		return hasHits;
 	}
+
+	String scrollId() {
+		return scrollId;
+	}
 }
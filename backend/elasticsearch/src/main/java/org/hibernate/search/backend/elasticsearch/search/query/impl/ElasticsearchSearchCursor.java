@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchCursor;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+final class ElasticsearchSearchCursor implements SearchCursor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String EXTERNAL_FORM_PREFIX = "elasticsearch:";
+	private static final String SORT_PROPERTY = "sort";
+	private static final String VALUES_PROPERTY = "values";
+
+	/**
+	 * @param externalForm The external form of a cursor, as returned by {@link #toExternalForm()}.
+	 * @return The corresponding cursor, or {@code null} if the external form was not produced by the Elasticsearch backend.
+	 * @throws org.hibernate.search.util.common.SearchException If the external form is malformed.
+	 */
+	static ElasticsearchSearchCursor fromExternalFormOrNull(String externalForm) {
+		if ( !externalForm.startsWith( EXTERNAL_FORM_PREFIX ) ) {
+			return null;
+		}
+		try {
+			byte[] bytes = Base64.getUrlDecoder().decode( externalForm.substring( EXTERNAL_FORM_PREFIX.length() ) );
+			JsonObject json = new JsonParser().parse( new String( bytes, StandardCharsets.UTF_8 ) ).getAsJsonObject();
+			JsonElement sort = json.get( SORT_PROPERTY );
+			JsonElement sortValues = json.get( VALUES_PROPERTY );
+			if ( sort == null || !sort.isJsonArray() || sortValues == null || !sortValues.isJsonArray() ) {
+				throw new IllegalArgumentException( "Missing '" + SORT_PROPERTY + "' or '" + VALUES_PROPERTY + "' array" );
+			}
+			return new ElasticsearchSearchCursor( sort.getAsJsonArray(), sortValues.getAsJsonArray() );
+		}
+		catch (RuntimeException e) {
+			throw log.malformedSearchCursor( externalForm, e.getMessage(), e );
+		}
+	}
+
+	private final JsonArray sort;
+	private final JsonArray sortValues;
+
+	ElasticsearchSearchCursor(JsonArray sort, JsonArray sortValues) {
+		this.sort = sort;
+		this.sortValues = sortValues;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "sort=" + sort
+				+ ", sortValues=" + sortValues
+				+ "]";
+	}
+
+	@Override
+	public String toExternalForm() {
+		JsonObject json = new JsonObject();
+		json.add( SORT_PROPERTY, sort );
+		json.add( VALUES_PROPERTY, sortValues );
+		return EXTERNAL_FORM_PREFIX + Base64.getUrlEncoder().withoutPadding()
+				.encodeToString( json.toString().getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	boolean isCompatibleWith(JsonArray otherSort) {
+		return sortValues.size() == otherSort.size() && sort.equals( otherSort );
+	}
+
+	JsonArray sortValues() {
+		return sortValues;
+	}
+}
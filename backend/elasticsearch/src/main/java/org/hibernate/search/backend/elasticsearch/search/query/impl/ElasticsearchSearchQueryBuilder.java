@@ -26,6 +26,7 @@
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.DistanceSortKey;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.backend.elasticsearch.search.query.RequestCacheStrategyName;
 import org.hibernate.search.backend.elasticsearch.search.timeout.impl.ElasticsearchTimeoutManager;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
@@ -63,6 +64,8 @@
 	private final LoadingContextBuilder<?, ?, ?> loadingContextBuilder;
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 	private final Integer scrollTimeout;
+	private final boolean scrollPrefetchEnabled;
+	private final RequestCacheStrategyName requestCacheStrategy;
 
 	private final Set<String> routingKeys;
 	private JsonObject jsonPredicate;
@@ -74,6 +77,8 @@
 	private boolean exceptionOnTimeout;
 	private Long totalHitCountThreshold;
 	private ElasticsearchSearchRequestTransformer requestTransformer;
+	private Boolean requestCache;
+	private String preference;
 
 	public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
@@ -83,7 +88,8 @@ public ElasticsearchSearchQueryBuilder(
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			Integer scrollTimeout) {
+			Integer scrollTimeout, boolean scrollPrefetchEnabled,
+			RequestCacheStrategyName requestCacheStrategy, String defaultPreference) {
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
@@ -96,6 +102,9 @@ public ElasticsearchSearchQueryBuilder(
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
 		this.scrollTimeout = scrollTimeout;
+		this.scrollPrefetchEnabled = scrollPrefetchEnabled;
+		this.requestCacheStrategy = requestCacheStrategy;
+		this.preference = defaultPreference;
 	}
 
 	@Override
@@ -175,6 +184,15 @@ public void requestTransformer(ElasticsearchSearchRequestTransformer transformer
 		this.requestTransformer = transformer;
 	}
 
+	public void requestCache(boolean enabled) {
+		this.requestCache = enabled;
+	}
+
+	public void preference(String preference) {
+		Contracts.assertNotNull( preference, "preference" );
+		this.preference = preference;
+	}
+
 	@Override
 	public ElasticsearchSearchQuery<H> build() {
 		JsonObject payload = new JsonObject();
@@ -232,10 +250,30 @@ public ElasticsearchSearchQuery<H> build() {
 		return new ElasticsearchSearchQueryImpl<>(
 				workFactory, queryOrchestrator,
 				searchContext, sessionContext, loadingContext, routingKeys,
-				payload, requestTransformer,
+				payload, withDocumentIdTieBreaker( payload ), requestTransformer,
 				searchResultExtractor,
 				timeoutManager,
-				scrollTimeout, totalHitCountThreshold
+				scrollTimeout, scrollPrefetchEnabled, totalHitCountThreshold,
+				requestCacheStrategy, requestCache, preference
 		);
 	}
+
+	private JsonObject withDocumentIdTieBreaker(JsonObject payload) {
+		JsonArray sortForSearchAfter = new JsonArray();
+		if ( jsonSort != null ) {
+			sortForSearchAfter.addAll( jsonSort );
+		}
+		else {
+			// Same as the implicit sort applied by Elasticsearch when no sort is defined.
+			sortForSearchAfter.add( "_score" );
+		}
+		sortForSearchAfter.add( searchContext.searchSyntax().getDocumentIdTieBreakerSort() );
+
+		JsonObject payloadForSearchAfter = new JsonObject();
+		for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+			payloadForSearchAfter.add( entry.getKey(), entry.getValue() );
+		}
+		payloadForSearchAfter.add( "sort", sortForSearchAfter );
+		return payloadForSearchAfter;
+	}
 }
@@ -22,6 +22,7 @@
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
+import org.hibernate.search.backend.elasticsearch.search.query.RequestCacheStrategyName;
 import org.hibernate.search.backend.elasticsearch.search.timeout.impl.ElasticsearchTimeoutManager;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
@@ -35,12 +36,16 @@
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.ExternalFormSearchCursor;
+import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
@@ -62,10 +67,15 @@
 	private final LoadingContext<?, ?> loadingContext;
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
+	private final JsonObject payloadForSearchAfter;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final Integer scrollTimeout;
+	private final boolean scrollPrefetchEnabled;
 	private final Long totalHitCountThreshold;
+	private final RequestCacheStrategyName requestCacheStrategy;
+	private final Boolean requestCache;
+	private final String preference;
 
 	private ElasticsearchTimeoutManager timeoutManager;
 
@@ -75,10 +85,12 @@
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
 			Set<String> routingKeys,
-			JsonObject payload,
+			JsonObject payload, JsonObject payloadForSearchAfter,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			ElasticsearchTimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
+			ElasticsearchTimeoutManager timeoutManager, Integer scrollTimeout, boolean scrollPrefetchEnabled,
+			Long totalHitCountThreshold,
+			RequestCacheStrategyName requestCacheStrategy, Boolean requestCache, String preference) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.searchContext = searchContext;
@@ -86,11 +98,16 @@
 		this.loadingContext = loadingContext;
 		this.routingKeys = routingKeys;
 		this.payload = payload;
+		this.payloadForSearchAfter = payloadForSearchAfter;
 		this.requestTransformer = requestTransformer;
 		this.searchResultExtractor = searchResultExtractor;
 		this.timeoutManager = timeoutManager;
 		this.scrollTimeout = scrollTimeout;
+		this.scrollPrefetchEnabled = scrollPrefetchEnabled;
 		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.requestCacheStrategy = requestCacheStrategy;
+		this.requestCache = requestCache;
+		this.preference = preference;
 	}
 
 	@Override
@@ -113,8 +130,10 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 		timeoutManager.start();
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
-				.paging( defaultedLimit( limit, offset ), offset )
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder( payload )
+				.paging( defaultedLimit, offset )
+				.requestCache( requestCache( defaultedLimit ) )
 				.totalHitCountThreshold( totalHitCountThreshold )
 				.build();
 
@@ -132,11 +151,56 @@ public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 		return result;
 	}
 
+	@Override
+	public ElasticsearchSearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		JsonArray sortForSearchAfter = payloadForSearchAfter.getAsJsonArray( "sort" );
+		JsonArray searchAfter = null;
+		if ( cursor != null ) {
+			ElasticsearchSearchCursor elasticsearchCursor;
+			if ( cursor instanceof ElasticsearchSearchCursor ) {
+				elasticsearchCursor = (ElasticsearchSearchCursor) cursor;
+			}
+			else if ( cursor instanceof ExternalFormSearchCursor ) {
+				elasticsearchCursor = ElasticsearchSearchCursor.fromExternalFormOrNull( cursor.toExternalForm() );
+			}
+			else {
+				elasticsearchCursor = null;
+			}
+			if ( elasticsearchCursor == null || !elasticsearchCursor.isCompatibleWith( sortForSearchAfter ) ) {
+				throw log.invalidSearchCursor( cursor );
+			}
+			searchAfter = elasticsearchCursor.sortValues();
+		}
+
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, null );
+		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> builder = searchWorkBuilder( payloadForSearchAfter )
+				.paging( defaultedLimit, null )
+				.requestCache( requestCache( defaultedLimit ) )
+				.totalHitCountThreshold( totalHitCountThreshold );
+		if ( searchAfter != null ) {
+			builder.searchAfter( searchAfter );
+		}
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = builder.build();
+
+		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit( work ) )
+				/*
+				 * WARNING: the following call must run in the user thread.
+				 * See fetch(Integer, Integer).
+				 */
+				.loadBlocking( sortForSearchAfter );
+		timeoutManager.stop();
+		return result;
+	}
+
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		timeoutManager.start();
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
-				.paging( defaultedLimit( limit, offset ), offset )
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder( payload )
+				.paging( defaultedLimit, offset )
+				.requestCache( requestCache( defaultedLimit ) )
 				.disableTrackTotalHits()
 				.build();
 
@@ -170,6 +234,7 @@ public long fetchTotalHitCount() {
 		}
 		builder.query( filteredPayload )
 				.routingKeys( routingKeys )
+				.preference( preference )
 				.timeout( timeoutManager )
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
@@ -184,11 +249,11 @@ public long fetchTotalHitCount() {
 	public ElasticsearchSearchScroll<H> scroll(int chunkSize) {
 		String scrollTimeoutString = this.scrollTimeout + "s";
 
-		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder()
+		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder( payload )
 				.scrolling( chunkSize, scrollTimeoutString );
 
 		return new ElasticsearchSearchScrollImpl<>( queryOrchestrator, workFactory, searchResultExtractor,
-				scrollTimeoutString, firstScroll, timeoutManager );
+				scrollTimeoutString, scrollPrefetchEnabled, firstScroll, timeoutManager );
 	}
 
 	@Override
@@ -219,14 +284,15 @@ public JsonObject explain(String typeName, Object id) {
 		return doExplain( index, id );
 	}
 
-	private SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder() {
+	private SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder(JsonObject requestPayload) {
 		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> builder =
-				workFactory.search( payload, searchResultExtractor );
+				workFactory.search( requestPayload, searchResultExtractor );
 		for ( ElasticsearchSearchIndexContext index : searchContext.indexes().elements() ) {
 			builder.index( index.names().getRead() );
 		}
 		builder
 				.routingKeys( routingKeys )
+				.preference( preference )
 				.timeout( timeoutManager )
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
@@ -234,6 +300,25 @@ private SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilde
 		return builder;
 	}
 
+	private Boolean requestCache(Integer limit) {
+		if ( requestCache != null ) {
+			// Explicitly set on this query
+			return requestCache;
+		}
+		switch ( requestCacheStrategy ) {
+			case NO_HITS:
+				return limit != null && limit == 0 ? Boolean.TRUE : null;
+			case ALWAYS:
+				return Boolean.TRUE;
+			case NEVER:
+				return Boolean.FALSE;
+			case INDEX_DEFAULT:
+				return null;
+			default:
+				throw new AssertionFailure( "Unexpected request cache strategy: " + requestCacheStrategy );
+		}
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
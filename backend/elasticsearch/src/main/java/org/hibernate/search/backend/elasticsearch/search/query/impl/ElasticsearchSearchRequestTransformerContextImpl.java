@@ -85,6 +85,8 @@ public ElasticsearchRequest apply(ElasticsearchSearchRequestTransformer transfor
 		ElasticsearchRequest.Builder builder = ElasticsearchRequest.builder( originalRequest.method() );
 
 		builder.wholeEncodedPath( path );
+		builder.lane( originalRequest.lane() );
+		builder.idempotent( originalRequest.idempotent() );
 
 		Map<String, String> parameters = potentiallyTransformedParametersMap != null
 				? potentiallyTransformedParametersMap : originalRequest.parameters();
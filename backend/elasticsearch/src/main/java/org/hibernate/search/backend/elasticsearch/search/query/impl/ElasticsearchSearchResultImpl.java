@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
@@ -24,8 +25,10 @@
 	private final String scrollId;
 
 	ElasticsearchSearchResultImpl(JsonObject responseBody, SearchResultTotal resultTotal, List<H> hits,
-			Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut, String scrollId) {
-		super( resultTotal, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut );
+			Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut, String scrollId,
+			SearchCursor nextPageCursor) {
+		super( resultTotal, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut,
+				nextPageCursor );
 		this.responseBody = responseBody;
 		this.scrollId = scrollId;
 	}
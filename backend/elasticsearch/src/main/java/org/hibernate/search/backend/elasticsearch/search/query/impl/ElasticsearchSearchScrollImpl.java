@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
@@ -23,27 +25,43 @@
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final String scrollTimeoutString;
+	private final boolean prefetchEnabled;
 	private final SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstScroll;
 	private final ElasticsearchTimeoutManager timeoutManager;
 
 	private String scrollId;
+	private CompletableFuture<ElasticsearchLoadableSearchResult<H>> nextChunk;
 
 	public ElasticsearchSearchScrollImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			String scrollTimeoutString,
+			String scrollTimeoutString, boolean prefetchEnabled,
 			SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstScroll,
 			ElasticsearchTimeoutManager timeoutManager) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.searchResultExtractor = searchResultExtractor;
 		this.scrollTimeoutString = scrollTimeoutString;
+		this.prefetchEnabled = prefetchEnabled;
 		this.firstScroll = firstScroll;
 		this.timeoutManager = timeoutManager;
 	}
 
 	@Override
 	public void close() {
+		if ( nextChunk != null ) {
+			// Wait for the prefetched chunk, if any, so that we clear the latest scroll id.
+			try {
+				ElasticsearchLoadableSearchResult<H> prefetched = Futures.unwrappedExceptionJoin( nextChunk );
+				if ( prefetched.scrollId() != null ) {
+					scrollId = prefetched.scrollId();
+				}
+			}
+			catch (RuntimeException e) {
+				// Ignore: this chunk was never requested by the user, and we still need to clear the scroll.
+			}
+			nextChunk = null;
+		}
 		if ( scrollId != null ) {
 			Futures.unwrappedExceptionJoin( queryOrchestrator.submit( workFactory.clearScroll( scrollId ).build() ) );
 		}
@@ -53,21 +71,38 @@ public void close() {
 	public ElasticsearchSearchScrollResult<H> next() {
 		timeoutManager.start();
 
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> scroll = ( scrollId == null ) ? firstScroll.build() :
-				workFactory.scroll( scrollId, scrollTimeoutString, searchResultExtractor, timeoutManager )
-						.build();
+		CompletableFuture<ElasticsearchLoadableSearchResult<H>> chunk;
+		if ( nextChunk != null ) {
+			chunk = nextChunk;
+			nextChunk = null;
+		}
+		else {
+			chunk = queryOrchestrator.submit( scrollId == null ? firstScroll.build() : scrollWork( scrollId ) );
+		}
 
-		ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( scroll ) );
-		ElasticsearchSearchResultImpl<H> searchResult = loadableSearchResult.loadBlocking();
+		ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin( chunk );
 
-		scrollId = searchResult.scrollId();
+		scrollId = loadableSearchResult.scrollId();
 		if ( scrollId == null ) {
 			throw new AssertionFailure( "Elasticsearch response lacked a value for scroll id" );
 		}
 
+		// Fetch the next chunk from Elasticsearch while entities of this chunk are being loaded,
+		// so that the caller doesn't have to wait for both sequentially.
+		// With a hard timeout, the next request would be bound to the deadline of this call: don't prefetch.
+		if ( prefetchEnabled && loadableSearchResult.hasHits() && !timeoutManager.hasHardTimeout() ) {
+			nextChunk = queryOrchestrator.submit( scrollWork( scrollId ) );
+		}
+
+		ElasticsearchSearchResultImpl<H> searchResult = loadableSearchResult.loadBlocking();
+
 		timeoutManager.stop();
 
 		return new ElasticsearchSearchScrollResultImpl<>( loadableSearchResult.hasHits(), searchResult.hits(),
 				searchResult.took(), searchResult.timedOut() );
 	}
+
+	private NonBulkableWork<ElasticsearchLoadableSearchResult<H>> scrollWork(String scrollId) {
+		return workFactory.scroll( scrollId, scrollTimeoutString, searchResultExtractor, timeoutManager ).build();
+	}
 }
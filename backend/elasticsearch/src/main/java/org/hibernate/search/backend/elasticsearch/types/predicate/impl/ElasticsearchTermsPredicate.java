@@ -0,0 +1,105 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.predicate.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.impl.AbstractElasticsearchCodecAwareSearchFieldQueryElementFactory;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchValueFieldContext;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.AbstractElasticsearchSingleFieldPredicate;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.PredicateRequestContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.spi.TermsPredicateBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+
+public class ElasticsearchTermsPredicate extends AbstractElasticsearchSingleFieldPredicate {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonObjectAccessor TERMS_ACCESSOR = JsonAccessor.root().property( "terms" ).asObject();
+
+	private final JsonArray values;
+
+	ElasticsearchTermsPredicate(Builder<?> builder) {
+		super( builder );
+		values = builder.values;
+	}
+
+	@Override
+	protected JsonObject doToJsonQuery(PredicateRequestContext context, JsonObject outerObject,
+			JsonObject innerObject) {
+		// The inner object already holds options such as the boost: the values sit right next to them.
+		innerObject.add( absoluteFieldPath, values );
+
+		TERMS_ACCESSOR.set( outerObject, innerObject );
+		return outerObject;
+	}
+
+	public static class Factory<F>
+			extends AbstractElasticsearchCodecAwareSearchFieldQueryElementFactory<TermsPredicateBuilder, F> {
+		public Factory(ElasticsearchFieldCodec<F> codec) {
+			super( codec );
+		}
+
+		@Override
+		public TermsPredicateBuilder create(ElasticsearchSearchContext searchContext,
+				ElasticsearchSearchValueFieldContext<F> field) {
+			return new Builder<>( codec, searchContext, field );
+		}
+	}
+
+	static class Builder<F> extends AbstractBuilder implements TermsPredicateBuilder {
+
+		private final ElasticsearchSearchValueFieldContext<F> field;
+		private final ElasticsearchFieldCodec<F> codec;
+
+		private JsonArray values;
+
+		Builder(ElasticsearchFieldCodec<F> codec, ElasticsearchSearchContext searchContext,
+				ElasticsearchSearchValueFieldContext<F> field) {
+			super( searchContext, field );
+			this.field = field;
+			this.codec = codec;
+		}
+
+		@Override
+		public void values(Collection<?> values, ValueConvert convert) {
+			DslConverter<?, ? extends F> dslToIndexConverter = field.type().dslConverter( convert );
+			this.values = new JsonArray( values.size() );
+			for ( Object value : values ) {
+				try {
+					F converted = dslToIndexConverter.convertUnknown( value,
+							searchContext.toDocumentFieldValueConvertContext() );
+					this.values.add( codec.encode( converted ) );
+				}
+				catch (RuntimeException e) {
+					throw log.cannotConvertDslParameter(
+							e.getMessage(), e, EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+					);
+				}
+			}
+		}
+
+		@Override
+		public SearchPredicate build() {
+			return new ElasticsearchTermsPredicate( this );
+		}
+	}
+}
@@ -24,6 +24,8 @@ public interface CountWorkBuilder extends ElasticsearchWorkBuilder<NonBulkableWo
 
 	CountWorkBuilder routingKeys(Set<String> routingKeys);
 
+	CountWorkBuilder preference(String preference);
+
 	CountWorkBuilder requestTransformer(Function<ElasticsearchRequest, ElasticsearchRequest> requestTransformer);
 
 	CountWorkBuilder timeout(ElasticsearchTimeoutManager timeoutManager);
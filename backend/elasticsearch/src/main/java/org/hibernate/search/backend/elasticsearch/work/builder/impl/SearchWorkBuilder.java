@@ -14,6 +14,8 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 
+import com.google.gson.JsonArray;
+
 
 public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<NonBulkableWork<R>> {
 
@@ -21,10 +23,14 @@
 
 	SearchWorkBuilder<R> paging(Integer limit, Integer offset);
 
+	SearchWorkBuilder<R> searchAfter(JsonArray sortValues);
+
 	SearchWorkBuilder<R> scrolling(int scrollSize, String scrollTimeout);
 
 	SearchWorkBuilder<R> routingKeys(Set<String> routingKeys);
 
+	SearchWorkBuilder<R> preference(String preference);
+
 	SearchWorkBuilder<R> requestTransformer(Function<ElasticsearchRequest, ElasticsearchRequest> requestTransformer);
 
 	SearchWorkBuilder<R> timeout(ElasticsearchTimeoutManager timeoutManager);
@@ -32,4 +38,6 @@
 	SearchWorkBuilder<R> disableTrackTotalHits();
 
 	SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold);
+
+	SearchWorkBuilder<R> requestCache(Boolean requestCache);
 }
@@ -9,6 +9,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSerialWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
@@ -20,6 +21,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.engine.backend.work.execution.spi.ParallelWorkBuilder;
 
 import com.google.gson.JsonObject;
 
@@ -33,6 +35,7 @@
 	private final String tenantId;
 	private final EntityReferenceFactory<R> entityReferenceFactory;
 	private final DocumentRefreshStrategy refreshStrategy;
+	private final ParallelWorkBuilder<SingleDocumentIndexingWork> parallelWorkBuilder;
 
 	private final List<SingleDocumentIndexingWork> works = new ArrayList<>();
 
@@ -41,13 +44,17 @@ public ElasticsearchIndexIndexingPlan(ElasticsearchWorkBuilderFactory builderFac
 			WorkExecutionIndexManagerContext indexManagerContext,
 			BackendSessionContext sessionContext,
 			EntityReferenceFactory<R> entityReferenceFactory,
-			DocumentRefreshStrategy refreshStrategy) {
+			DocumentRefreshStrategy refreshStrategy,
+			Executor documentBuildingExecutorOrNull) {
 		this.builderFactory = builderFactory;
 		this.orchestrator = orchestrator;
 		this.indexManagerContext = indexManagerContext;
 		this.tenantId = sessionContext.tenantIdentifier();
 		this.entityReferenceFactory = entityReferenceFactory;
 		this.refreshStrategy = refreshStrategy;
+		this.parallelWorkBuilder = documentBuildingExecutorOrNull != null && sessionContext.entityAccessThreadSafe()
+				? new ParallelWorkBuilder<>( documentBuildingExecutorOrNull )
+				: null;
 	}
 
 	@Override
@@ -81,14 +88,18 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 	@Override
 	public void process() {
 		/*
-		 * Nothing to do: we can't execute anything more
+		 * Documents must be built before this method returns,
+		 * because entities may no longer be accessible afterwards.
+		 * Apart from that, we can't execute anything more
 		 * without sending a request to the cluster.
 		 */
+		buildPendingWorks();
 	}
 
 	@Override
 	public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport() {
 		try {
+			buildPendingWorks();
 			ElasticsearchIndexIndexingPlanExecution<R> execution = new ElasticsearchIndexIndexingPlanExecution<>(
 					orchestrator, entityReferenceFactory,
 					new ArrayList<>( works ) // Copy the list, as we're going to clear it below
@@ -102,26 +113,44 @@ public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport()
 
 	@Override
 	public void discard() {
+		if ( parallelWorkBuilder != null ) {
+			parallelWorkBuilder.discard();
+		}
 		works.clear();
 	}
 
 	private void index(DocumentReferenceProvider referenceProvider,
 			DocumentContributor documentContributor) {
+		if ( parallelWorkBuilder != null ) {
+			// The work will be built later, along with other works, but will keep its position in the list.
+			parallelWorkBuilder.add( works, () -> buildIndexWork( referenceProvider, documentContributor ) );
+		}
+		else {
+			collect( buildIndexWork( referenceProvider, documentContributor ) );
+		}
+	}
+
+	private SingleDocumentIndexingWork buildIndexWork(DocumentReferenceProvider referenceProvider,
+			DocumentContributor documentContributor) {
 		String id = referenceProvider.identifier();
 		String elasticsearchId = indexManagerContext.toElasticsearchId( tenantId, id );
 		String routingKey = referenceProvider.routingKey();
 
 		JsonObject document = indexManagerContext.createDocument( tenantId, id, documentContributor );
 
-		collect(
-				builderFactory.index(
-						indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
-						indexManagerContext.getElasticsearchIndexWriteName(),
-						elasticsearchId, routingKey, document
-				)
-						.refresh( refreshStrategy )
-						.build()
-		);
+		return builderFactory.index(
+				indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
+				indexManagerContext.getElasticsearchIndexWriteName(),
+				elasticsearchId, routingKey, document
+		)
+				.refresh( refreshStrategy )
+				.build();
+	}
+
+	private void buildPendingWorks() {
+		if ( parallelWorkBuilder != null ) {
+			parallelWorkBuilder.buildAll();
+		}
 	}
 
 	private void collect(SingleDocumentIndexingWork work) {
@@ -27,6 +27,7 @@
 	private final String entityTypeName;
 	private final Object entityIdentifier;
 	private final String documentIdentifier;
+	private final Object documentKey;
 
 	private final DocumentRefreshStrategy refreshStrategy;
 
@@ -37,6 +38,7 @@ protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.entityTypeName = builder.entityTypeName;
 		this.entityIdentifier = builder.entityIdentifier;
 		this.documentIdentifier = builder.documentIdentifier;
+		this.documentKey = builder.buildDocumentKey();
 		this.refreshStrategy = builder.refreshStrategy;
 	}
 
@@ -55,6 +57,11 @@ public Object getEntityIdentifier() {
 		return entityIdentifier;
 	}
 
+	@Override
+	public Object getDocumentKey() {
+		return documentKey;
+	}
+
 	@Override
 	public DocumentRefreshStrategy getRefreshStrategy() {
 		return refreshStrategy;
@@ -108,6 +115,8 @@ public B refresh(DocumentRefreshStrategy refreshStrategy) {
 			return (B) this;
 		}
 
+		protected abstract Object buildDocumentKey();
+
 		protected abstract JsonObject buildBulkableActionMetadata();
 
 		protected abstract JsonObject buildBulkableActionBody();
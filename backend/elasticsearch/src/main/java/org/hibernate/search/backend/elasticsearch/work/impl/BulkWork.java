@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
@@ -56,11 +57,16 @@ public Builder refresh(DocumentRefreshStrategy refreshStrategy) {
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
+					.lane( ElasticsearchRequestLane.INDEXING )
 					.pathComponent( Paths._BULK );
 			switch ( refreshStrategy ) {
 				case FORCE:
 					builder.param( "refresh", true );
 					break;
+				case WAIT_FOR:
+					// Wait for the next periodic refresh instead of forcing one.
+					builder.param( "refresh", "wait_for" );
+					break;
 				case NONE:
 					break;
 			}
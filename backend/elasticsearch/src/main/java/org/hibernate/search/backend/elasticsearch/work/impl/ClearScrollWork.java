@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.ClearScrollWorkBuilder;
@@ -42,6 +43,7 @@ protected ElasticsearchRequest buildRequest() {
 
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.delete()
+					.lane( ElasticsearchRequestLane.SEARCH )
 					.pathComponent( Paths._SEARCH )
 					.pathComponent( Paths.SCROLL )
 					.body( body );
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.search.timeout.impl.ElasticsearchTimeoutManager;
@@ -39,6 +40,7 @@ public static class Builder extends AbstractBuilder<Builder> implements CountWor
 		private final List<URLEncodedString> indexNames = new ArrayList<>();
 		private JsonObject query;
 		private Set<String> routingKeys;
+		private String preference;
 		private ElasticsearchTimeoutManager timeoutManager;
 
 		public Builder() {
@@ -63,6 +65,12 @@ public Builder routingKeys(Set<String> routingKeys) {
 			return this;
 		}
 
+		@Override
+		public Builder preference(String preference) {
+			this.preference = preference;
+			return this;
+		}
+
 		@Override
 		public CountWorkBuilder timeout(ElasticsearchTimeoutManager timeoutManager) {
 			this.timeoutManager = timeoutManager;
@@ -73,6 +81,8 @@ public CountWorkBuilder timeout(ElasticsearchTimeoutManager timeoutManager) {
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.get()
+							.lane( ElasticsearchRequestLane.SEARCH )
+							.idempotent( true )
 							.multiValuedPathComponent( indexNames );
 
 			builder.pathComponent( Paths._COUNT );
@@ -85,6 +95,10 @@ protected ElasticsearchRequest buildRequest() {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
+			if ( preference != null ) {
+				builder.param( "preference", preference );
+			}
+
 			if ( timeoutManager.hasHardTimeout() ) {
 				// soft timeout has no meaning for a count work
 				builder.requestDeadline( timeoutManager );
@@ -12,6 +12,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
@@ -75,6 +76,7 @@ public DeleteByQueryWorkBuilder routingKeys(Collection<String> routingKeys) {
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
+					.lane( ElasticsearchRequestLane.INDEXING )
 					.pathComponent( indexName )
 					/*
 					 * Ignore conflicts: if we wrote to a document concurrently,
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.Arrays;
+
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.DeleteWorkBuilder;
 
@@ -50,6 +52,12 @@ private Builder(String entityTypeName, Object entityIdentifier,
 			this.routingKey = routingKey;
 		}
 
+		@Override
+		protected Object buildDocumentKey() {
+			// Documents with the same identifier but different routing keys are distinct documents
+			return Arrays.asList( indexName.original, routingKey, documentIdentifier );
+		}
+
 		@Override
 		protected JsonObject buildBulkableActionMetadata() {
 			JsonObject delete = new JsonObject();
@@ -10,6 +10,7 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
@@ -83,6 +84,8 @@ public Builder routingKeys(Set<String> routingKeys) {
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.get()
+					.lane( ElasticsearchRequestLane.SEARCH )
+					.idempotent( true )
 					.pathComponent( indexName );
 			if ( typeName != null ) { // ES6.x and below only
 				builder.pathComponent( typeName )
@@ -11,6 +11,7 @@
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.FlushWorkBuilder;
@@ -51,7 +52,8 @@ public Builder index(URLEncodedString indexName) {
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
-					ElasticsearchRequest.post();
+					ElasticsearchRequest.post()
+					.lane( ElasticsearchRequestLane.INDEXING );
 
 			if ( !indexNames.isEmpty() ) {
 				builder.multiValuedPathComponent( indexNames );
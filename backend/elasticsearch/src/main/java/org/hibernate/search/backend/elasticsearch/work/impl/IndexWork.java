@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.Arrays;
+
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 
@@ -52,6 +54,12 @@ private Builder(String entityTypeName, Object entityIdentifier, URLEncodedString
 			this.document = document;
 		}
 
+		@Override
+		protected Object buildDocumentKey() {
+			// Documents with the same identifier but different routing keys are distinct documents
+			return Arrays.asList( indexName.original, routingKey, documentIdentifier );
+		}
+
 		@Override
 		protected JsonObject buildBulkableActionMetadata() {
 			JsonObject index = new JsonObject();
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.search.timeout.impl.ElasticsearchTimeoutManager;
@@ -57,6 +58,7 @@ protected ElasticsearchRequest buildRequest() {
 
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
+					.lane( ElasticsearchRequestLane.SEARCH )
 					.pathComponent( Paths._SEARCH )
 					.pathComponent( Paths.SCROLL )
 					.body( body );
@@ -7,10 +7,12 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
@@ -20,6 +22,8 @@
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
@@ -81,9 +85,12 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Long totalHitCountThreshold;
 		private Integer from;
 		private Integer size;
+		private JsonArray searchAfter;
 		private Integer scrollSize;
 		private String scrollTimeout;
 		private Set<String> routingKeys;
+		private String preference;
+		private Boolean requestCache;
 		private ElasticsearchTimeoutManager timeoutManager;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
@@ -108,6 +115,12 @@ public Builder<R> paging(Integer limit, Integer offset) {
 			return this;
 		}
 
+		@Override
+		public Builder<R> searchAfter(JsonArray sortValues) {
+			this.searchAfter = sortValues;
+			return this;
+		}
+
 		@Override
 		public Builder<R> scrolling(int scrollSize, String scrollTimeout) {
 			this.scrollSize = scrollSize;
@@ -121,6 +134,18 @@ public SearchWorkBuilder<R> routingKeys(Set<String> routingKeys) {
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<R> preference(String preference) {
+			this.preference = preference;
+			return this;
+		}
+
+		@Override
+		public SearchWorkBuilder<R> requestCache(Boolean requestCache) {
+			this.requestCache = requestCache;
+			return this;
+		}
+
 		@Override
 		public SearchWorkBuilder<R> timeout(ElasticsearchTimeoutManager timeoutManager) {
 			this.timeoutManager = timeoutManager;
@@ -149,11 +174,24 @@ public SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold)
 
 		@Override
 		protected ElasticsearchRequest buildRequest() {
+			JsonObject body = payload;
+			if ( searchAfter != null ) {
+				// The payload is shared between executions of the same query: add search_after to a copy.
+				body = new JsonObject();
+				for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+					body.add( entry.getKey(), entry.getValue() );
+				}
+				body.add( "search_after", searchAfter );
+			}
+
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
+					.lane( ElasticsearchRequestLane.SEARCH )
+					// Sending the same request twice would open two scroll contexts
+					.idempotent( scrollTimeout == null )
 					.multiValuedPathComponent( indexes )
 					.pathComponent( Paths._SEARCH )
-					.body( payload );
+					.body( body );
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -172,6 +210,15 @@ protected ElasticsearchRequest buildRequest() {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
+			if ( preference != null ) {
+				builder.param( "preference", preference );
+			}
+
+			// The request cache cannot be used with scrolls
+			if ( requestCache != null && scrollTimeout == null ) {
+				builder.param( "request_cache", requestCache );
+			}
+
 			if ( trackTotalHits != null ) {
 				if ( trackTotalHits && totalHitCountThreshold != null ) {
 					// total hits is tracked but a with a limited precision
@@ -12,4 +12,12 @@ public interface SingleDocumentIndexingWork extends IndexingWork<Void> {
 
 	Object getEntityIdentifier();
 
+	/**
+	 * @return A key identifying the document targeted by this work:
+	 * two works with equal keys target the same document in the same index.
+	 * Since single-document works always replace or remove the whole document,
+	 * a work makes any previous work with the same key redundant.
+	 */
+	Object getDocumentKey();
+
 }
@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
+
+import org.junit.Test;
+
+public class ElasticsearchClientLaneTest {
+
+	private final List<CompletableFuture<String>> sentRequests = new ArrayList<>();
+
+	@Test
+	public void noLimit() {
+		ElasticsearchClientLane lane = new ElasticsearchClientLane( ElasticsearchRequestLane.INDEXING,
+				Optional.empty(), Optional.empty(), null, Runnable::run );
+
+		CompletableFuture<String> result1 = lane.execute( this::send );
+		CompletableFuture<String> result2 = lane.execute( this::send );
+		CompletableFuture<String> result3 = lane.execute( this::send );
+		assertThat( sentRequests ).hasSize( 3 );
+
+		sentRequests.get( 1 ).complete( "2" );
+		assertThat( result1 ).isNotDone();
+		assertThat( result2 ).isCompletedWithValue( "2" );
+		assertThat( result3 ).isNotDone();
+		assertThat( lane.queuedRequestCount() ).isZero();
+	}
+
+	@Test
+	public void limit() {
+		ElasticsearchClientLane lane = new ElasticsearchClientLane( ElasticsearchRequestLane.INDEXING,
+				Optional.of( 2 ), Optional.empty(), null, Runnable::run );
+
+		CompletableFuture<String> result1 = lane.execute( this::send );
+		CompletableFuture<String> result2 = lane.execute( this::send );
+		CompletableFuture<String> result3 = lane.execute( this::send );
+		CompletableFuture<String> result4 = lane.execute( this::send );
+		// Only two requests are sent, the others are queued
+		assertThat( sentRequests ).hasSize( 2 );
+
+		sentRequests.get( 1 ).complete( "2" );
+		assertThat( result2 ).isCompletedWithValue( "2" );
+		// A slot was released: the first queued request is sent
+		assertThat( sentRequests ).hasSize( 3 );
+
+		sentRequests.get( 0 ).completeExceptionally( new RuntimeException( "Some message" ) );
+		assertThat( result1 ).isCompletedExceptionally();
+		// Failures release slots too
+		assertThat( sentRequests ).hasSize( 4 );
+
+		sentRequests.get( 2 ).complete( "3" );
+		sentRequests.get( 3 ).complete( "4" );
+		assertThat( result3 ).isCompletedWithValue( "3" );
+		assertThat( result4 ).isCompletedWithValue( "4" );
+		assertThat( lane.queuedRequestCount() ).isEqualTo( 2 );
+
+		// All slots are available again
+		lane.execute( this::send );
+		lane.execute( this::send );
+		assertThat( sentRequests ).hasSize( 6 );
+		assertThat( lane.queuedRequestCount() ).isEqualTo( 2 );
+	}
+
+	private CompletableFuture<String> send() {
+		CompletableFuture<String> future = new CompletableFuture<>();
+		sentRequests.add( future );
+		return future;
+	}
+
+}
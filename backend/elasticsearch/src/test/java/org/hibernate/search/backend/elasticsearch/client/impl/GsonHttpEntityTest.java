@@ -164,6 +164,35 @@ public void getContent() throws IOException {
 		}
 	}
 
+	@Test
+	public void getContent_thenProduceContentAndWriteTo() throws IOException {
+		// Reading the content, e.g. for request signing, retains it: later writes must replay the same bytes.
+		assertThat( doGetContent( gsonEntity ) )
+				.isEqualTo( expectedPayloadString );
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			assertThat( doProduceContent( gsonEntity, Integer.MAX_VALUE ) )
+					.isEqualTo( expectedPayloadString );
+			assertThat( doProduceContent( gsonEntity, 100 ) )
+					.isEqualTo( expectedPayloadString );
+			assertThat( doWriteTo( gsonEntity ) )
+					.isEqualTo( expectedPayloadString );
+			assertThat( doGetContent( gsonEntity ) )
+					.isEqualTo( expectedPayloadString );
+			assertThat( gsonEntity.getContentLength() )
+					.isEqualTo( expectedContentLength );
+		}
+	}
+
+	@Test
+	public void produceContent_thenGetContent() throws IOException {
+		assertThat( doProduceContent( gsonEntity, 100 ) )
+				.isEqualTo( expectedPayloadString );
+		assertThat( doGetContent( gsonEntity ) )
+				.isEqualTo( expectedPayloadString );
+		assertThat( doProduceContent( gsonEntity, 5 ) )
+				.isEqualTo( expectedPayloadString );
+	}
+
 	private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			ContentEncoder contentEncoder = new OutputStreamContentEncoder( outputStream, pushBackPeriod );
@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+
+public class LatencyAwareNodeSelectorTest {
+
+	private final HttpHost host1 = new HttpHost( "host1", 9200 );
+	private final HttpHost host2 = new HttpHost( "host2", 9200 );
+	private final HttpHost host3 = new HttpHost( "host3", 9200 );
+
+	private final LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector();
+
+	@Test
+	public void outstandingRequests() {
+		// Without latency samples, nodes are selected by number of outstanding requests
+		LatencyAwareNodeSelector.Selection selection1 = select( null );
+		LatencyAwareNodeSelector.Selection selection2 = select( null );
+		LatencyAwareNodeSelector.Selection selection3 = select( null );
+		assertThat( Arrays.asList( selection1.selectedHost(), selection2.selectedHost(), selection3.selectedHost() ) )
+				.containsExactlyInAnyOrder( host1, host2, host3 );
+	}
+
+	@Test
+	public void latency() {
+		LatencyAwareNodeSelector.Selection selection1 = select( null );
+		LatencyAwareNodeSelector.Selection selection2 = select( null );
+		LatencyAwareNodeSelector.Selection selection3 = select( null );
+		complete( selection1, 1_000_000L );
+		complete( selection2, 50_000_000L );
+		complete( selection3, 2_000_000L );
+		HttpHost slowHost = selection2.selectedHost();
+
+		// The slow node is avoided, even with a few outstanding requests on the other nodes
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( select( null ).selectedHost() ).isNotEqualTo( slowHost );
+		}
+	}
+
+	@Test
+	public void excludedHost() {
+		LatencyAwareNodeSelector.Selection selection1 = select( null );
+		LatencyAwareNodeSelector.Selection selection2 = select( null );
+		LatencyAwareNodeSelector.Selection selection3 = select( null );
+		complete( selection1, 1_000_000L );
+		complete( selection2, 1_000_000L );
+		complete( selection3, 1_000_000L );
+
+		for ( int i = 0; i < 10; i++ ) {
+			LatencyAwareNodeSelector.Selection selection = select( host1 );
+			assertThat( selection.selectedHost() ).isNotEqualTo( host1 );
+			complete( selection, 1_000_000L );
+		}
+	}
+
+	@Test
+	public void excludedHost_onlyNode() {
+		List<Node> nodes = new ArrayList<>( Arrays.asList( new Node( host1 ) ) );
+		LatencyAwareNodeSelector.Selection selection = selector.newSelection( host1 );
+		selector.withSelection( selection, () -> selector.select( nodes ) );
+		// The excluded host is better than nothing
+		assertThat( selection.selectedHost() ).isEqualTo( host1 );
+		assertThat( nodes ).hasSize( 1 );
+	}
+
+	@Test
+	public void removedNode() {
+		complete( select( null ), 1_000_000L );
+		assertThat( selector.toString() ).contains( host3.toString() );
+
+		// host3 was removed, e.g. by discovery
+		List<Node> nodes = new ArrayList<>( Arrays.asList( new Node( host1 ), new Node( host2 ) ) );
+		LatencyAwareNodeSelector.Selection selection = selector.newSelection( null );
+		selector.withSelection( selection, () -> selector.select( nodes ) );
+		assertThat( selection.selectedHost() ).isIn( host1, host2 );
+		assertThat( selector.toString() )
+				.contains( host1.toString(), host2.toString() )
+				.doesNotContain( host3.toString() );
+	}
+
+	private LatencyAwareNodeSelector.Selection select(HttpHost excludedHost) {
+		List<Node> nodes = new ArrayList<>( Arrays.asList( new Node( host1 ), new Node( host2 ), new Node( host3 ) ) );
+		LatencyAwareNodeSelector.Selection selection = selector.newSelection( excludedHost );
+		selector.withSelection( selection, () -> selector.select( nodes ) );
+		assertThat( nodes ).hasSize( 1 );
+		assertThat( nodes.get( 0 ).getHost() ).isEqualTo( selection.selectedHost() );
+		return selection;
+	}
+
+	private void complete(LatencyAwareNodeSelector.Selection selection, long latencyNanos) {
+		selector.onRequestCompleted( selection, latencyNanos );
+	}
+
+}
@@ -13,7 +13,10 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
+import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -197,6 +200,74 @@ public void newSequenceBetweenBatches() {
 		checkComplete( processor );
 	}
 
+	@Test
+	public void coalescing() {
+		CompletableFuture<Void> sequenceFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchBatchedWorkProcessor processor =
+				new ElasticsearchBatchedWorkProcessor( sequenceBuilderMock, bulkerMock );
+		verifyAll();
+
+		resetAll();
+		bulkerMock.reset();
+		sequenceBuilderMock.init( anyObject() );
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		// Single-document works are only bulked at the end of the batch
+		resetAll();
+		SingleDocumentIndexingWork work1 = singleDocumentWork( 1, "1", DocumentRefreshStrategy.NONE );
+		SingleDocumentIndexingWork work2 = singleDocumentWork( 2, "2", DocumentRefreshStrategy.NONE );
+		SingleDocumentIndexingWork work3 = singleDocumentWork( 3, "1", DocumentRefreshStrategy.NONE );
+		SingleDocumentIndexingWork work4 = singleDocumentWork( 4, "1", DocumentRefreshStrategy.FORCE );
+		replayAll();
+		CompletableFuture<Void> returnedWork1Future = processor.submit( work1 );
+		CompletableFuture<Void> returnedWork2Future = processor.submit( work2 );
+		CompletableFuture<Void> returnedWork3Future = processor.submit( work3 );
+		CompletableFuture<Void> returnedWork4Future = processor.submit( work4 );
+		verifyAll();
+
+		// work3 supersedes work1, but work4 cannot supersede work3 because it requires a different refresh
+		CompletableFuture<Void> work2Future = new CompletableFuture<>();
+		CompletableFuture<Void> work3Future = new CompletableFuture<>();
+		CompletableFuture<Void> work4Future = new CompletableFuture<>();
+		resetAll();
+		expect( bulkerMock.add( work3 ) ).andReturn( work3Future );
+		expect( bulkerMock.add( work2 ) ).andReturn( work2Future );
+		expect( bulkerMock.add( work4 ) ).andReturn( work4Future );
+		expect( sequenceBuilderMock.build() ).andReturn( sequenceFuture );
+		bulkerMock.finalizeBulkWork();
+		replayAll();
+		CompletableFuture<Void> batchFuture = processor.endBatch();
+		verifyAll();
+		assertThat( batchFuture ).isPending();
+		assertThat( returnedWork1Future ).isPending();
+		Assertions.assertThat( processor.coalescedWorkCount() ).isEqualTo( 1L );
+
+		resetAll();
+		replayAll();
+		work3Future.complete( null );
+		verifyAll();
+		assertThat( returnedWork1Future ).isSuccessful();
+		assertThat( returnedWork3Future ).isSuccessful();
+		assertThat( returnedWork2Future ).isPending();
+		assertThat( returnedWork4Future ).isPending();
+
+		resetAll();
+		replayAll();
+		work2Future.complete( null );
+		work4Future.complete( null );
+		sequenceFuture.complete( null );
+		verifyAll();
+		assertThat( returnedWork2Future ).isSuccessful();
+		assertThat( returnedWork4Future ).isSuccessful();
+		assertThat( batchFuture ).isSuccessful();
+
+		checkComplete( processor );
+	}
+
 	private void checkComplete(ElasticsearchBatchedWorkProcessor processor) {
 		resetAll();
 		replayAll();
@@ -207,4 +278,12 @@ private void checkComplete(ElasticsearchBatchedWorkProcessor processor) {
 	private <T> BulkableWork<T> bulkableWork(int index) {
 		return createStrictMock( "bulkableWork" + index, BulkableWork.class );
 	}
+
+	private SingleDocumentIndexingWork singleDocumentWork(int index, String documentKey,
+			DocumentRefreshStrategy refreshStrategy) {
+		SingleDocumentIndexingWork work = createMock( "singleDocumentWork" + index, SingleDocumentIndexingWork.class );
+		expect( work.getDocumentKey() ).andStubReturn( documentKey );
+		expect( work.getRefreshStrategy() ).andStubReturn( refreshStrategy );
+		return work;
+	}
 }
@@ -111,6 +111,22 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to build documents in parallel when executing large indexing plans.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to no value, meaning documents are built sequentially, in the thread executing the indexing plan.
+	 * <p>
+	 * Documents are only built in parallel when the mapper declares that entities can safely be accessed
+	 * from multiple threads, which the Hibernate ORM mapper only does when explicitly enabled.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String DOCUMENT_BUILDING_THREAD_POOL_SIZE = "document_building.thread_pool.size";
+
 	/**
 	 * @deprecated Use {@link LuceneIndexSettings.DirectoryRadicals} instead.
 	 */
@@ -12,11 +12,16 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
 import org.hibernate.search.engine.cfg.BackendSettings;
 import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.NRTCachingDirectory;
 import org.apache.lucene.util.InfoStream;
 
 /**
@@ -48,7 +53,7 @@ private LuceneIndexSettings() {
 	/**
 	 * The filesystem root the directory.
 	 * <p>
-	 * Only available for the "local-filesystem" directory type.
+	 * Only available for the "local-filesystem" and "local-filesystem-replica" directory types.
 	 * <p>
 	 * Expects a String representing a path to an existing directory accessible in read and write mode, such as "local-filesystem".
 	 * <p>
@@ -70,7 +75,7 @@ private LuceneIndexSettings() {
 	/**
 	 * The filesystem access strategy for the directory.
 	 * <p>
-	 * Only available for the "local-filesystem" directory type.
+	 * Only available for the "local-filesystem" and "local-filesystem-replica" directory types.
 	 * <p>
 	 * Expects a {@link FileSystemAccessStrategyName} value, or a String representation of such value.
 	 * <p>
@@ -79,6 +84,106 @@ private LuceneIndexSettings() {
 	public static final String DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY;
 
+	/**
+	 * The extensions of index files that should be loaded into physical memory as soon as they are opened,
+	 * so that the first queries after startup or after a refresh don't have to wait for disk reads.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type,
+	 * with the {@link FileSystemAccessStrategyName#MMAP "mmap"} filesystem access strategy.
+	 * <p>
+	 * Preloading large files takes time and memory:
+	 * this should be restricted to files holding data that queries access often,
+	 * such as doc values ({@code dvd}) or norms ({@code nvd}).
+	 * <p>
+	 * Expects either a String containing multiple file extensions separated by commas (','),
+	 * or a {@code Collection<String>} containing such file extensions.
+	 * <p>
+	 * Defaults to no value, meaning no file is preloaded.
+	 *
+	 * @see MMapDirectory#setPreload(boolean)
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_PRELOAD =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_PRELOAD;
+
+	/**
+	 * Whether small, newly flushed segments should be cached in memory
+	 * instead of being written to the filesystem immediately.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * When enabled, the directory is wrapped in a {@link NRTCachingDirectory}:
+	 * segments are written to the filesystem when they are merged or committed.
+	 * This reduces filesystem I/O when the index is refreshed frequently,
+	 * at the cost of a bounded amount of memory.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_ENABLED}.
+	 *
+	 * @see NRTCachingDirectory
+	 */
+	public static final String DIRECTORY_NRT_CACHING_ENABLED =
+			DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHING_ENABLED;
+
+	/**
+	 * The maximum size of merged segments that may be cached in memory,
+	 * when {@link #DIRECTORY_NRT_CACHING_ENABLED NRT caching} is enabled.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * Expects a positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE}.
+	 *
+	 * @see NRTCachingDirectory#NRTCachingDirectory(org.apache.lucene.store.Directory, double, double)
+	 */
+	public static final String DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE =
+			DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHING_MAX_MERGE_SIZE;
+
+	/**
+	 * The maximum total size of segments cached in memory,
+	 * when {@link #DIRECTORY_NRT_CACHING_ENABLED NRT caching} is enabled.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * Expects a positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE}.
+	 *
+	 * @see NRTCachingDirectory#NRTCachingDirectory(org.apache.lucene.store.Directory, double, double)
+	 */
+	public static final String DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE =
+			DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHING_MAX_CACHED_SIZE;
+
+	/**
+	 * The filesystem root of the primary indexes to copy commits from.
+	 * <p>
+	 * Only available for the "local-filesystem-replica" directory type, for which it is mandatory.
+	 * <p>
+	 * Expects a String representing a path to an existing directory accessible in read mode,
+	 * generally the {@link #DIRECTORY_ROOT root} of the "local-filesystem" directory on the primary node,
+	 * exposed through a shared filesystem.
+	 * <p>
+	 * Commits will be copied from directory {@code <source>/<index name>}.
+	 */
+	public static final String DIRECTORY_REPLICA_SOURCE = DIRECTORY_PREFIX + DirectoryRadicals.REPLICA_SOURCE;
+
+	/**
+	 * How much time may pass between two checks for new commits in the primary index.
+	 * <p>
+	 * Only available for the "local-filesystem-replica" directory type.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_REPLICA_REFRESH_INTERVAL}.
+	 */
+	public static final String DIRECTORY_REPLICA_REFRESH_INTERVAL =
+			DIRECTORY_PREFIX + DirectoryRadicals.REPLICA_REFRESH_INTERVAL;
+
 	/**
 	 * The prefix for I/O-related property keys.
 	 */
@@ -146,6 +251,44 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index readers should be warmed up before they are made available to search queries.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * or for the "local-filesystem-replica" directory type.
+	 * <p>
+	 * When enabled, the doc values and norms of each new segment are read entirely,
+	 * and its terms are opened, before the first reader exposing that segment is used by search queries.
+	 * Segments resulting from a merge are warmed up right after the merge, in the merge thread.
+	 * Also, the index reader is opened and warmed up when Hibernate Search starts,
+	 * instead of when the first search query is executed.
+	 * <p>
+	 * This makes startup and refreshes slower, but avoids slow queries right after those events.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_WARMUP_ENABLED}.
+	 */
+	public static final String IO_WARMUP_ENABLED = IO_PREFIX + IORadicals.WARMUP_ENABLED;
+
+	/**
+	 * A custom warmer to execute against each new index reader before it is made available to search queries.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * or for the "local-filesystem-replica" directory type.
+	 * <p>
+	 * Custom warmers are executed regardless of {@link #IO_WARMUP_ENABLED},
+	 * and are generally used to execute representative queries, sorts or aggregations.
+	 * Setting a custom warmer also causes the index reader to be opened and warmed up
+	 * when Hibernate Search starts.
+	 * <p>
+	 * Expects a reference to a bean of type {@link IndexReaderWarmer}.
+	 * <p>
+	 * Defaults to no value, meaning no custom warmer.
+	 */
+	public static final String IO_WARMUP_WARMER = IO_PREFIX + IORadicals.WARMUP_WARMER;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -189,6 +332,34 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_WRITER_INFOSTREAM = IO_WRITER_PREFIX + WriterRadicals.INFOSTREAM;
 
+	/**
+	 * The field to sort the index on, i.e. the field documents are sorted on within each segment,
+	 * see {@link IndexWriterConfig#setIndexSort(Sort)}.
+	 * <p>
+	 * Expects the absolute path of a sortable, numeric or date/time field that is not located in a nested document,
+	 * such as {@code "publicationDate"}.
+	 * <p>
+	 * When the index is sorted, search queries whose sort is equivalent to the index sort
+	 * and which do not require an exact total hit count
+	 * can stop collecting hits from each segment as soon as enough hits were found.
+	 * <p>
+	 * Changing this setting requires re-creating the index.
+	 * <p>
+	 * Default is no value, meaning the index is not sorted.
+	 *
+	 * @see #IO_WRITER_SORT_ORDER
+	 */
+	public static final String IO_WRITER_SORT_FIELD = IO_WRITER_PREFIX + WriterRadicals.SORT_FIELD;
+
+	/**
+	 * The order to sort the index in, when {@link #IO_WRITER_SORT_FIELD a sort field} is set.
+	 * <p>
+	 * Expects a {@link SortOrder} value, or a String representation of such value: {@code "asc"} or {@code "desc"}.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_WRITER_SORT_ORDER}.
+	 */
+	public static final String IO_WRITER_SORT_ORDER = IO_WRITER_PREFIX + WriterRadicals.SORT_ORDER;
+
 	/**
 	 * The prefix for property keys related to merge.
 	 */
@@ -313,6 +484,23 @@ private LuceneIndexSettings() {
 	 */
 	public static final String SHARDS = "shards";
 
+	/**
+	 * The maximum number of tenant indexes kept open at the same time.
+	 * <p>
+	 * Only available for the "index-per-tenant" multi-tenancy strategy.
+	 * When opening the index of a tenant would exceed this number,
+	 * the index of the least recently used tenant is closed first.
+	 * It will be re-opened the next time that tenant is used.
+	 * Indexes that are still in use, e.g. by an ongoing search or by an indexing plan that was not executed yet,
+	 * are only closed once they are no longer in use.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * No default: tenant indexes are never closed until Hibernate Search shuts down.
+	 */
+	public static final String MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES = "multi_tenancy.max_open_tenant_indexes";
+
 	/**
 	 * The prefix for indexing-related property keys.
 	 */
@@ -421,6 +609,12 @@ private DirectoryRadicals() {
 		public static final String ROOT = "root";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
+		public static final String FILESYSTEM_ACCESS_PRELOAD = "filesystem_access.preload";
+		public static final String NRT_CACHING_ENABLED = "nrt_caching.enabled";
+		public static final String NRT_CACHING_MAX_MERGE_SIZE = "nrt_caching.max_merge_size";
+		public static final String NRT_CACHING_MAX_CACHED_SIZE = "nrt_caching.max_cached_size";
+		public static final String REPLICA_SOURCE = "replica.source";
+		public static final String REPLICA_REFRESH_INTERVAL = "replica.refresh_interval";
 	}
 
 	/**
@@ -434,6 +628,8 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String WARMUP_ENABLED = "warmup.enabled";
+		public static final String WARMUP_WARMER = "warmup.warmer";
 	}
 
 	/**
@@ -447,6 +643,8 @@ private WriterRadicals() {
 		public static final String MAX_BUFFERED_DOCS = "max_buffered_docs";
 		public static final String RAM_BUFFER_SIZE = "ram_buffer_size";
 		public static final String INFOSTREAM = "infostream";
+		public static final String SORT_FIELD = "sort.field";
+		public static final String SORT_ORDER = "sort.order";
 
 	}
 
@@ -504,10 +702,16 @@ private Defaults() {
 		public static final String DIRECTORY_ROOT = ".";
 		public static final FileSystemAccessStrategyName DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 				FileSystemAccessStrategyName.AUTO;
+		public static final boolean DIRECTORY_NRT_CACHING_ENABLED = false;
+		public static final int DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE = 5;
+		public static final int DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE = 60;
+		public static final int DIRECTORY_REPLICA_REFRESH_INTERVAL = 1000;
 		public static final String SHARDING_STRATEGY = "none";
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_WARMUP_ENABLED = false;
+		public static final SortOrder IO_WRITER_SORT_ORDER = SortOrder.ASC;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 	}
@@ -163,7 +163,12 @@ private <F> void addValue(LuceneIndexSchemaValueFieldNode<F> node, F value) {
 			checkNoValueYetForSingleValued( absolutePath );
 		}
 
-		type.codec().addToDocument( this, absolutePath, value );
+		if ( type.docValuesUpdatableInPlace() && !node.multiValuedInRoot() ) {
+			type.codec().addUpdatableInPlaceToDocument( this, absolutePath, value );
+		}
+		else {
+			type.codec().addToDocument( this, absolutePath, value );
+		}
 	}
 
 	private DocumentElement addObject(LuceneIndexSchemaObjectFieldNode node, boolean nullObject) {
@@ -6,10 +6,18 @@
  */
 package org.hibernate.search.backend.lucene.document.impl;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
 
 
 public class LuceneIndexEntry implements Iterable<Document> {
@@ -31,6 +39,33 @@ public Iterator<Document> iterator() {
 		return documents.iterator();
 	}
 
+	/**
+	 * @param fieldReferences References to fields.
+	 * @return The doc values to pass to {@link org.apache.lucene.index.IndexWriter#updateDocValues(org.apache.lucene.index.Term, Field...)}
+	 * in order to update the given fields in place,
+	 * or {@code null} if some of these fields cannot be updated in place,
+	 * because they are indexed or stored, have no value, or belong to nested documents.
+	 */
+	public Field[] docValuesForInPlaceUpdateOrNull(Collection<? extends IndexFieldReference<?>> fieldReferences) {
+		if ( documents.size() != 1 ) {
+			// Nested documents: we would need to update several documents.
+			return null;
+		}
+		Document document = documents.get( 0 );
+		Field[] result = new Field[fieldReferences.size()];
+		int i = 0;
+		for ( IndexFieldReference<?> fieldReference : fieldReferences ) {
+			String absolutePath = ( (LuceneIndexFieldReference<?>) fieldReference ).getSchemaNode().absolutePath();
+			IndexableField[] fields = document.getFields( absolutePath );
+			if ( fields.length != 1 || !( fields[0] instanceof Field ) || !isDocValuesOnly( fields[0].fieldType() ) ) {
+				return null;
+			}
+			result[i] = (Field) fields[0];
+			++i;
+		}
+		return result;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
@@ -41,4 +76,11 @@ public String toString() {
 				.append( "]" );
 		return sb.toString();
 	}
+
+	private static boolean isDocValuesOnly(IndexableFieldType fieldType) {
+		DocValuesType docValuesType = fieldType.docValuesType();
+		return ( DocValuesType.NUMERIC == docValuesType || DocValuesType.BINARY == docValuesType )
+				&& IndexOptions.NONE == fieldType.indexOptions()
+				&& !fieldType.stored();
+	}
 }
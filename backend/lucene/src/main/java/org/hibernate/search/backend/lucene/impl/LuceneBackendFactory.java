@@ -20,6 +20,7 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.multitenancy.impl.IndexPerTenantMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -124,6 +125,8 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 				return new NoMultiTenancyStrategy();
 			case DISCRIMINATOR:
 				return new DiscriminatorMultiTenancyStrategy();
+			case INDEX_PER_TENANT:
+				return new IndexPerTenantMultiTenancyStrategy();
 			default:
 				throw new AssertionFailure( String.format(
 						Locale.ROOT, "Unsupported multi-tenancy strategy '%1$s'.",
@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.lucene.index.impl.NoShardingStrategy;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalFileSystemDirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalFileSystemReplicaDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalHeapDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -30,6 +31,10 @@ public void configure(BeanConfigurationContext context) {
 				DirectoryProvider.class, LocalFileSystemDirectoryProvider.NAME,
 				beanResolver -> BeanHolder.of( new LocalFileSystemDirectoryProvider() )
 		);
+		context.define(
+				DirectoryProvider.class, LocalFileSystemReplicaDirectoryProvider.NAME,
+				beanResolver -> BeanHolder.of( new LocalFileSystemReplicaDirectoryProvider() )
+		);
 		context.define(
 				DirectoryProvider.class, LocalHeapDirectoryProvider.NAME,
 				beanResolver -> BeanHolder.of( new LocalHeapDirectoryProvider() )
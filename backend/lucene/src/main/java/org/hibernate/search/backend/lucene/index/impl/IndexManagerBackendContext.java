@@ -6,20 +6,27 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Locale;
+import java.util.Optional;
+
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaValueFieldNode;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWorkProcessor;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
@@ -31,6 +38,8 @@
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryBuilder;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexIndexer;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexIndexingPlan;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexWorkspace;
@@ -38,6 +47,7 @@
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.document.model.spi.IndexFieldFilter;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
@@ -48,22 +58,55 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
+import org.hibernate.search.util.common.impl.StringHelper;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.similarities.Similarity;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<IOStrategyName> IO_STRATEGY =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_STRATEGY )
 					.as( IOStrategyName.class, IOStrategyName::of )
 					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
 					.build();
 
+	private static final OptionalConfigurationProperty<String> IO_WRITER_SORT_FIELD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_SORT_FIELD )
+					.asString()
+					.build();
+
+	private static final ConfigurationProperty<SortOrder> IO_WRITER_SORT_ORDER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_SORT_ORDER )
+					.as( SortOrder.class, IndexManagerBackendContext::parseSortOrder )
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_SORT_ORDER )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> IO_WARMUP_ENABLED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WARMUP_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WARMUP_ENABLED )
+					.build();
+
+	private static final OptionalConfigurationProperty<BeanReference<? extends IndexReaderWarmer>> IO_WARMUP_WARMER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WARMUP_WARMER )
+					.asBeanReference( IndexReaderWarmer.class )
+					.build();
+
 	private final LuceneBackend backendAPI;
 	private final EventContext eventContext;
 
@@ -118,7 +161,8 @@ public <R> IndexIndexingPlan<R> createIndexingPlan(
 				indexEntryFactory,
 				sessionContext,
 				entityReferenceFactory,
-				commitStrategy, refreshStrategy
+				commitStrategy, refreshStrategy,
+				threads.getDocumentBuildingExecutorOrNull()
 		);
 	}
 
@@ -181,6 +225,10 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
+	boolean isIndexPerTenant() {
+		return multiTenancyStrategy.isIndexPerTenant();
+	}
+
 	LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 		return new LuceneIndexEntryFactory( model, multiTenancyStrategy );
 	}
@@ -199,19 +247,24 @@ LuceneIndexSchemaManager createSchemaManager(SchemaManagementIndexManagerContext
 		return new LuceneIndexSchemaManager( workFactory, context );
 	}
 
-	Shard createShard(LuceneIndexModel model, EventContext shardEventContext, DirectoryHolder directoryHolder,
-			IOStrategy ioStrategy, ConfigurationPropertySource propertySource) {
+	Shard createShard(LuceneIndexModel model, Optional<String> shardId, EventContext shardEventContext,
+			DirectoryHolder directoryHolder, IOStrategy ioStrategy, ConfigurationPropertySource propertySource,
+			BeanResolver beanResolver) {
 		LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 		LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
 		IndexAccessorImpl indexAccessor = null;
 		String indexName = model.hibernateSearchName();
-		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
-				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
-		);
+		Sort indexSort = createIndexSortOrNull( model, propertySource );
+		IndexReaderWarmup readerWarmup = createIndexReaderWarmup( indexName, shardId, shardEventContext,
+				propertySource, beanResolver );
 
 		try {
+			IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
+					similarity, model.getIndexingAnalyzer(), indexSort, readerWarmup.mergedSegmentWarmerOrNull(),
+					propertySource, shardEventContext
+			);
 			indexAccessor = ioStrategy.createIndexAccessor(
-					indexName, shardEventContext, directoryHolder, writerConfigSource
+					indexName, shardEventContext, directoryHolder, writerConfigSource, readerWarmup
 			);
 			managementOrchestrator = createIndexManagementOrchestrator( shardEventContext, indexAccessor );
 			indexingOrchestrator = createIndexingOrchestrator( shardEventContext, indexAccessor );
@@ -223,13 +276,57 @@ Shard createShard(LuceneIndexModel model, EventContext shardEventContext, Direct
 			return shard;
 		}
 		catch (RuntimeException e) {
+			// No need to stop the orchestrators, we didn't start them
+			// The index accessor, if it exists, takes care of closing the reader warmup
 			new SuppressingCloser( e )
-					// No need to stop the orchestrators, we didn't start them
-					.push( indexAccessor );
+					.push( indexAccessor != null ? indexAccessor : readerWarmup );
 			throw e;
 		}
 	}
 
+	private IndexReaderWarmup createIndexReaderWarmup(String indexName, Optional<String> shardId,
+			EventContext shardEventContext, ConfigurationPropertySource propertySource, BeanResolver beanResolver) {
+		boolean segmentWarmupEnabled = IO_WARMUP_ENABLED.get( propertySource );
+		BeanHolder<? extends IndexReaderWarmer> warmerHolder =
+				IO_WARMUP_WARMER.getAndMap( propertySource, beanResolver::resolve ).orElse( null );
+		return new IndexReaderWarmup( shardEventContext, indexName, shardId, segmentWarmupEnabled, warmerHolder );
+	}
+
+	private Sort createIndexSortOrNull(LuceneIndexModel model, ConfigurationPropertySource propertySource) {
+		Optional<String> sortFieldPath = IO_WRITER_SORT_FIELD.get( propertySource );
+		if ( !sortFieldPath.isPresent() ) {
+			return null;
+		}
+		String absoluteFieldPath = sortFieldPath.get();
+		SortOrder order = IO_WRITER_SORT_ORDER.get( propertySource );
+		LuceneIndexSchemaValueFieldNode<?> field =
+				model.getFieldNode( absoluteFieldPath, IndexFieldFilter.INCLUDED_ONLY );
+		if ( field == null ) {
+			throw log.unknownFieldForIndexSort( absoluteFieldPath, model.getEventContext() );
+		}
+		LuceneFieldCodec<?> codec = field.type().codec();
+		SortField sortField = null;
+		if ( field.nestedDocumentPath() == null && codec instanceof AbstractLuceneNumericFieldCodec ) {
+			sortField = ( (AbstractLuceneNumericFieldCodec<?, ?>) codec ).createIndexSortField(
+					absoluteFieldPath, field.type().docValuesUpdatableInPlace() && !field.multiValuedInRoot(),
+					SortOrder.DESC == order
+			);
+		}
+		if ( sortField == null ) {
+			throw log.invalidFieldForIndexSort( absoluteFieldPath, model.getEventContext() );
+		}
+		return new Sort( sortField );
+	}
+
+	private static SortOrder parseSortOrder(String value) {
+		return StringHelper.parseDiscreteValues(
+				SortOrder.values(),
+				order -> order.name().toLowerCase( Locale.ROOT ),
+				log::invalidIndexSortOrder,
+				value
+		);
+	}
+
 	private LuceneParallelWorkOrchestratorImpl createIndexManagementOrchestrator(EventContext eventContext,
 			IndexAccessorImpl indexAccessor) {
 		return new LuceneParallelWorkOrchestratorImpl(
@@ -244,9 +341,7 @@ private LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext
 			IndexAccessorImpl indexAccessor) {
 		return new LuceneSerialWorkOrchestratorImpl(
 				"Lucene indexing orchestrator for " + eventContext.render(),
-				new LuceneBatchedWorkProcessor(
-						eventContext, indexAccessor
-				),
+				eventContext, indexAccessor,
 				threads,
 				failureHandler
 		);
@@ -47,6 +47,7 @@ void start(ConfigurationPropertySource propertySource) {
 			indexAccessor.start();
 			managementOrchestrator.start( propertySource );
 			indexingOrchestrator.start( propertySource );
+			indexAccessor.warmUpIfEnabled();
 		}
 		catch (IOException | RuntimeException e) {
 			new SuppressingCloser( e )
@@ -74,6 +75,10 @@ void stop() throws IOException {
 		}
 	}
 
+	void createIndexIfMissing() {
+		indexAccessor.createIndexIfMissing();
+	}
+
 	DirectoryReader openReader() throws IOException {
 		return indexAccessor.getIndexReader();
 	}
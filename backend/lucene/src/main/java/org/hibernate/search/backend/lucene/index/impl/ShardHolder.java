@@ -7,17 +7,26 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexLease;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
@@ -25,20 +34,41 @@
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<Integer> MAX_OPEN_TENANT_INDEXES =
+			ConfigurationProperty.forKey( LuceneIndexSettings.MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES )
+					.asInteger()
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
-	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	// Only used with the index-per-tenant multi-tenancy strategy: shards are created lazily, one per tenant.
+	private final Map<String, TenantShard> tenantShards = new ConcurrentHashMap<>();
+	// Only used with the index-per-tenant multi-tenancy strategy: number of leases held on each tenant's index.
+	// Guarded by the monitor of this object.
+	private final Map<String, Integer> tenantUsers = new HashMap<>();
+	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new CopyOnWriteArrayList<>();
+
+	private ShardingStrategyInitializationContextImpl tenantShardInitializationContext;
+	private ConfigurationPropertySource propertySource;
+	private int maxOpenTenantShards = Integer.MAX_VALUE;
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -57,6 +87,17 @@ void start(IndexManagerStartContext startContext) {
 			ShardingStrategyInitializationContextImpl initializationContext =
 					new ShardingStrategyInitializationContextImpl( backendContext, model, startContext, propertySource );
 			this.shardingStrategyHolder = initializationContext.create( shards );
+			if ( backendContext.isIndexPerTenant() ) {
+				this.tenantShardInitializationContext = initializationContext;
+				this.propertySource = propertySource;
+				this.maxOpenTenantShards = MAX_OPEN_TENANT_INDEXES.getAndMap( propertySource, value -> {
+					if ( value <= 0 ) {
+						throw log.invalidMaxOpenTenantIndexes( value );
+					}
+					return value;
+				} )
+						.orElse( Integer.MAX_VALUE );
+			}
 
 			if ( startContext.failureCollector().hasFailure() ) {
 				// At least one shard creation failed; abort and don't even try to start shards.
@@ -78,9 +119,10 @@ void start(IndexManagerStartContext startContext) {
 	}
 
 	CompletableFuture<?> preStop() {
-		CompletableFuture<?>[] futures = new CompletableFuture[shards.size()];
+		Collection<Shard> allShards = allShards();
+		CompletableFuture<?>[] futures = new CompletableFuture[allShards.size()];
 		int i = 0;
-		for ( Shard shard : shards.values() ) {
+		for ( Shard shard : allShards ) {
 			futures[i] = shard.preStop();
 			i++;
 		}
@@ -89,16 +131,23 @@ CompletableFuture<?> preStop() {
 
 	void stop() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
-			closer.pushAll( Shard::stop, shards.values() );
+			closer.pushAll( Shard::stop, allShards() );
 			shards.clear();
+			tenantShards.clear();
 			managementOrchestrators.clear();
 		}
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
+	public void openIndexReaders(String tenantId, Set<String> routingKeys, DirectoryReaderCollector readerCollector)
+			throws IOException {
 		String mappedTypeName = model.mappedTypeName();
-		Collection<Shard> enabledShards = toShards( routingKeys );
+		if ( tenantShardInitializationContext != null ) {
+			// The readers will only be released when the multi-reader is closed:
+			// the index must stay open until then.
+			readerCollector.collect( acquireIndexes( tenantId ) );
+		}
+		Collection<Shard> enabledShards = toShards( tenantId, routingKeys );
 		for ( Shard shard : enabledShards ) {
 			readerCollector.collect( mappedTypeName, shard.openReader() );
 		}
@@ -115,13 +164,26 @@ public String getMappedTypeName() {
 	}
 
 	@Override
-	public LuceneSerialWorkOrchestrator getIndexingOrchestrator(String documentId, String routingKey) {
-		return toShard( documentId, routingKey ).getIndexingOrchestrator();
+	public IndexLease acquireIndexes(String tenantId) {
+		if ( tenantShardInitializationContext == null ) {
+			// Indexes are only closed on shutdown
+			return IndexLease.NONE;
+		}
+		synchronized ( this ) {
+			tenantUsers.merge( tenantId, 1, Integer::sum );
+		}
+		return new TenantIndexLease( tenantId );
 	}
 
 	@Override
-	public List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(Set<String> routingKeys) {
-		Collection<Shard> enabledShards = toShards( routingKeys );
+	public LuceneSerialWorkOrchestrator getIndexingOrchestrator(String tenantId, String documentId,
+			String routingKey) {
+		return toShard( tenantId, documentId, routingKey ).getIndexingOrchestrator();
+	}
+
+	@Override
+	public List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(String tenantId, Set<String> routingKeys) {
+		Collection<Shard> enabledShards = toShards( tenantId, routingKeys );
 		List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
 		for ( Shard shard : enabledShards ) {
 			orchestrators.add( shard.getManagementOrchestrator() );
@@ -135,10 +197,28 @@ public List<LuceneParallelWorkOrchestrator> getAllManagementOrchestrators() {
 	}
 
 	public List<Shard> getShardsForTests() {
-		return new ArrayList<>( shards.values() );
+		return new ArrayList<>( allShards() );
+	}
+
+	private Collection<Shard> allShards() {
+		if ( tenantShards.isEmpty() ) {
+			return shards.values();
+		}
+		List<Shard> allShards = new ArrayList<>( shards.values() );
+		for ( TenantShard tenantShard : tenantShards.values() ) {
+			allShards.add( tenantShard.shard );
+		}
+		return allShards;
 	}
 
-	private Collection<Shard> toShards(Set<String> routingKeys) {
+	private Collection<Shard> toShards(String tenantId, Set<String> routingKeys) {
+		if ( tenantShardInitializationContext != null ) {
+			// One index per tenant => target the index of the current tenant only.
+			// Don't create that index if it doesn't exist: there is nothing to read or manage in that case.
+			Shard shard = tenantShard( tenantId, false );
+			return shard == null ? Collections.emptyList() : Collections.singletonList( shard );
+		}
+
 		if ( shardingStrategyHolder == null || routingKeys.isEmpty() ) {
 			// No sharding or no routing key => target all shards
 			return shards.values();
@@ -153,7 +233,11 @@ private Collection<Shard> toShards(Set<String> routingKeys) {
 		return enabledShards;
 	}
 
-	private Shard toShard(String documentId, String routingKey) {
+	private Shard toShard(String tenantId, String documentId, String routingKey) {
+		if ( tenantShardInitializationContext != null ) {
+			return tenantShard( tenantId, true );
+		}
+
 		if ( shardingStrategyHolder == null ) {
 			// Sharding is disabled: there's only one shard
 			return shards.values().iterator().next();
@@ -162,4 +246,132 @@ private Shard toShard(String documentId, String routingKey) {
 		String shardId = shardingStrategyHolder.get().toShardIdentifier( documentId, routingKey );
 		return shards.get( shardId );
 	}
+
+	private Shard tenantShard(String tenantId, boolean createIfMissing) {
+		TenantShard tenantShard = tenantShards.get( tenantId );
+		if ( tenantShard == null ) {
+			return openTenantShard( tenantId, createIfMissing );
+		}
+		tenantShard.markUsed();
+		return tenantShard.shard;
+	}
+
+	private synchronized Shard openTenantShard(String tenantId, boolean createIfMissing) {
+		TenantShard tenantShard = tenantShards.get( tenantId );
+		if ( tenantShard != null ) {
+			// Another thread opened the shard in the meantime
+			tenantShard.markUsed();
+			return tenantShard.shard;
+		}
+
+		Shard shard = createIfMissing
+				? tenantShardInitializationContext.createTenantShard( tenantId )
+				: tenantShardInitializationContext.createTenantShardIfIndexMayExist( tenantId );
+		if ( shard == null ) {
+			// Reading from a tenant that was never indexed
+			return null;
+		}
+
+		// Close the indexes of other tenants before opening this one, so that we don't exceed the maximum.
+		// This happens while holding the lock, so a tenant whose index is being closed cannot be re-opened concurrently.
+		// Indexes that are still in use cannot be closed: if all of them are, we exceed the maximum temporarily,
+		// and the extra indexes will be closed as soon as they are released.
+		closeUnusedTenantShardsWhileMoreThan( maxOpenTenantShards - 1 );
+
+		// On failure, the shard takes care of releasing its resources
+		shard.start( propertySource );
+		try {
+			// The index of each tenant is created as soon as the tenant is first used,
+			// so that tenants can be added at runtime without any schema management operation.
+			shard.createIndexIfMissing();
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e ).push( Shard::stop, shard );
+			throw e;
+		}
+		managementOrchestrators.add( shard.getManagementOrchestrator() );
+		tenantShards.put( tenantId, new TenantShard( shard ) );
+		return shard;
+	}
+
+	private synchronized void release(String tenantId) {
+		tenantUsers.computeIfPresent( tenantId, (ignored, users) -> users > 1 ? users - 1 : null );
+		// Close the indexes that could not be closed while they were in use
+		closeUnusedTenantShardsWhileMoreThan( maxOpenTenantShards );
+	}
+
+	// Must be called while holding the lock
+	private void closeUnusedTenantShardsWhileMoreThan(int max) {
+		while ( tenantShards.size() > max ) {
+			if ( !closeLeastRecentlyUsedTenantShard() ) {
+				// All open indexes are in use
+				return;
+			}
+		}
+	}
+
+	// Must be called while holding the lock
+	private boolean closeLeastRecentlyUsedTenantShard() {
+		Map.Entry<String, TenantShard> leastRecentlyUsed = null;
+		for ( Map.Entry<String, TenantShard> entry : tenantShards.entrySet() ) {
+			if ( tenantUsers.containsKey( entry.getKey() ) ) {
+				// In use: cannot be closed
+				continue;
+			}
+			if ( leastRecentlyUsed == null
+					|| entry.getValue().lastUsedNanos - leastRecentlyUsed.getValue().lastUsedNanos < 0 ) {
+				leastRecentlyUsed = entry;
+			}
+		}
+		if ( leastRecentlyUsed == null ) {
+			return false;
+		}
+		String tenantId = leastRecentlyUsed.getKey();
+		Shard shard = leastRecentlyUsed.getValue().shard;
+
+		tenantShards.remove( tenantId );
+		managementOrchestrators.remove( shard.getManagementOrchestrator() );
+		try {
+			// Execute pending indexing works before closing the index
+			Futures.unwrappedExceptionJoin( shard.preStop() );
+			shard.stop();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCloseEvictedTenantIndex( tenantId, e.getMessage(),
+					EventContexts.fromIndexNameAndShardId( model.hibernateSearchName(), Optional.of( tenantId ) ), e );
+		}
+		return true;
+	}
+
+	private final class TenantIndexLease implements IndexLease {
+		private final String tenantId;
+		private boolean released = false;
+
+		private TenantIndexLease(String tenantId) {
+			this.tenantId = tenantId;
+		}
+
+		@Override
+		public void close() {
+			if ( released ) {
+				return;
+			}
+			released = true;
+			release( tenantId );
+		}
+	}
+
+	private static final class TenantShard {
+		private final Shard shard;
+		private volatile long lastUsedNanos;
+
+		private TenantShard(Shard shard) {
+			this.shard = shard;
+			markUsed();
+		}
+
+		private void markUsed() {
+			lastUsedNanos = System.nanoTime();
+		}
+	}
 }
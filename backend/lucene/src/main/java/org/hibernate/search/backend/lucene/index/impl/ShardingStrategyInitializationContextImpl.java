@@ -102,6 +102,15 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 
 		shardingStrategyHolder.get().initialize( this );
 
+		if ( backendContext.isIndexPerTenant() ) {
+			if ( shardIdentifiers != null ) {
+				shardingStrategyHolder.close();
+				throw log.shardingNotSupportedWithIndexPerTenant( EventContexts.fromIndexName( indexName() ) );
+			}
+			// Each tenant gets its own shard, created lazily => no shard at bootstrap
+			return null;
+		}
+
 		if ( shardIdentifiers == null ) {
 			// Sharding is disabled => single shard
 			contributeShardWithSilentFailure( shardCollector, Optional.empty() );
@@ -121,7 +130,47 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 		return shardingStrategyHolder;
 	}
 
+	/**
+	 * Creates the shard of a single tenant, used when each tenant has its own index.
+	 * <p>
+	 * Unlike shards created at bootstrap, tenant shards are created lazily,
+	 * so failures are propagated to the caller instead of being collected.
+	 *
+	 * @param tenantId The tenant identifier, used as the shard identifier.
+	 * @return The created shard, not started yet.
+	 */
+	Shard createTenantShard(String tenantId) {
+		return createShard( Optional.of( tenantId ), false );
+	}
+
+	/**
+	 * Creates the shard of a single tenant, but only if the index of that tenant may already exist.
+	 * <p>
+	 * Used when reading, so that reading from the index of a tenant that was never indexed
+	 * doesn't create a directory.
+	 *
+	 * @param tenantId The tenant identifier, used as the shard identifier.
+	 * @return The created shard, not started yet, or {@code null} if the index of that tenant doesn't exist.
+	 */
+	Shard createTenantShardIfIndexMayExist(String tenantId) {
+		return createShard( Optional.of( tenantId ), true );
+	}
+
 	private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector, Optional<String> shardId) {
+		try {
+			Shard shard = createShard( shardId, false );
+			shardCollector.put( shardId.orElse( null ), shard );
+		}
+		catch (RuntimeException e) {
+			ContextualFailureCollector failureCollector = startContext.failureCollector();
+			if ( shardId.isPresent() ) {
+				failureCollector = failureCollector.withContext( EventContexts.fromShardId( shardId.get() ) );
+			}
+			failureCollector.add( e );
+		}
+	}
+
+	private Shard createShard(Optional<String> shardId, boolean onlyIfIndexMayExist) {
 		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( indexName(), shardId );
 		ConfigurationPropertySource shardPropertySource =
 				shardId.isPresent() ?
@@ -131,25 +180,23 @@ private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector,
 
 		DirectoryHolder directoryHolder = null;
 		try ( BeanHolder<? extends DirectoryProvider> directoryProviderHolder =
-				DIRECTORY_TYPE.getAndTransform( shardPropertySource, startContext.beanResolver()::resolve ) ) {
+				DIRECTORY_TYPE.getAndTransform( shardPropertySource, beanResolver()::resolve ) ) {
 			DirectoryCreationContext context = new DirectoryCreationContextImpl( shardEventContext,
 					indexName(), shardId, beanResolver(), shardPropertySource.withMask( "directory" ) );
 			directoryHolder = directoryProviderHolder.get().createDirectoryHolder( context );
+			if ( onlyIfIndexMayExist && !directoryHolder.mayContainIndex() ) {
+				// The directory holder wasn't started, so it doesn't hold any resource yet
+				return null;
+			}
 
 			IOStrategy ioStrategy = backendContext.createIOStrategy( shardPropertySource );
 
-			Shard shard = backendContext.createShard( model, shardEventContext, directoryHolder, ioStrategy,
-					shardPropertySource );
-			shardCollector.put( shardId.orElse( null ), shard );
+			return backendContext.createShard( model, shardId, shardEventContext, directoryHolder, ioStrategy,
+					shardPropertySource, beanResolver() );
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e ).push( directoryHolder );
-
-			ContextualFailureCollector failureCollector = startContext.failureCollector();
-			if ( shardId.isPresent() ) {
-				failureCollector = failureCollector.withContext( EventContexts.fromShardId( shardId.get() ) );
-			}
-			failureCollector.add( e );
+			throw e;
 		}
 	}
 }
@@ -19,6 +19,7 @@
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.LockObtainFailedException;
 import org.apache.lucene.util.Version;
 
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaValueFieldNode;
@@ -615,4 +616,92 @@ SearchException differentImplementationClassForQueryElement(@FormatWith(ClassFor
 			+ " %2$s")
 	void deprecatedFileSystemAccessStrategy(String accessStrategyName,
 			@FormatWith(EventContextFormatter.class) EventContext eventContext);
+
+	@Message(id = ID_OFFSET_2 + 139,
+			value = "Missing value for property '%2$s'. The directory type '%1$s' requires this property to be set.")
+	SearchException missingPropertyValueForDirectoryType(String directoryType, String propertyKey);
+
+	@Message(id = ID_OFFSET_2 + 140,
+			value = "Cannot write to this index: it is a read-only replica of another index."
+					+ " Index changes must be sent to the primary node. %1$s")
+	LockObtainFailedException cannotWriteToReplica(@FormatWith(EventContextFormatter.class) EventContext eventContext);
+
+	@Message(id = ID_OFFSET_2 + 141,
+			value = "Unable to copy the latest commit of the primary index: %1$s")
+	SearchException unableToReplicateIndex(String causeMessage, @Param EventContext context, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 142,
+			value = "Invalid index sort order: '%1$s'. Valid orders are: %2$s.")
+	SearchException invalidIndexSortOrder(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 143,
+			value = "Unable to sort the index on field '%1$s': this field does not exist.")
+	SearchException unknownFieldForIndexSort(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 144,
+			value = "Unable to sort the index on field '%1$s':"
+					+ " index sorting is only available for sortable numeric or date/time fields"
+					+ " that are not located in a nested document.")
+	SearchException invalidFieldForIndexSort(String absoluteFieldPath, @Param EventContext context);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 145,
+			value = "Warmed up the initial index reader in %1$s (%2$d segments). %3$s")
+	void warmedUpInitialIndexReader(@FormatWith(DurationInSecondsAndFractionsFormatter.class) Duration duration,
+			int segmentCount, @FormatWith(EventContextFormatter.class) EventContext context);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 146,
+			value = "Warmed up a refreshed index reader in %1$s (%2$d new segments). %3$s")
+	void warmedUpIndexReader(@FormatWith(DurationInSecondsAndFractionsFormatter.class) Duration duration,
+			int newSegmentCount, @FormatWith(EventContextFormatter.class) EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 147,
+			value = "Unable to warm up the index reader: %1$s"
+					+ " The reader will be used regardless, but the first queries may be slower. %2$s")
+	void unableToWarmUpIndexReader(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 148,
+			value = "Unable to preload index files with extensions %1$s: preloading is only available"
+					+ " with the filesystem access strategy '%2$s', but the current strategy is '%3$s'.")
+	SearchException preloadRequiresMMapFileSystemAccessStrategy(List<String> extensions,
+			String expectedAccessStrategyName, String actualAccessStrategyName, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 149,
+			value = "Invalid search cursor: '%1$s'."
+					+ " A cursor can only be used with the query that produced it, or with an identical query.")
+	SearchException invalidSearchCursor(Object cursor);
+
+	@Message(id = ID_OFFSET_2 + 150,
+			value = "Invalid tenant identifier: '%1$s'."
+					+ " With the 'index-per-tenant' multi-tenancy strategy, tenant identifiers are used in directory names"
+					+ " and must only contain letters, digits, '_', '-' and '.', and must not start with '.'.")
+	SearchException invalidTenantIdForIndexPerTenant(String tenantId, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 151,
+			value = "Unable to enable sharding: sharding is not supported with the 'index-per-tenant' multi-tenancy strategy.")
+	SearchException shardingNotSupportedWithIndexPerTenant(@Param EventContext context);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 152,
+			value = "Skipped %1$d indexing works superseded by later works on the same documents in the same batch"
+					+ " (%2$d since startup). %3$s")
+	void coalescedIndexingWorks(int batchCount, long totalCount,
+			@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 153,
+			value = "Invalid search cursor: '%1$s'. The cursor is malformed: %2$s")
+	SearchException malformedSearchCursor(String externalForm, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 154,
+			value = "Invalid maximum number of open tenant indexes: '%1$s'. The value must be strictly positive.")
+	SearchException invalidMaxOpenTenantIndexes(int value);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 155,
+			value = "Unable to close the index of tenant '%1$s' after it was evicted: %2$s %3$s")
+	void unableToCloseEvictedTenantIndex(String tenantId, String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Throwable cause);
 }
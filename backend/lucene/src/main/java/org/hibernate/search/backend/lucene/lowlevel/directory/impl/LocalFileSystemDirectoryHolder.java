@@ -8,7 +8,9 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -17,7 +19,10 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FileSwitchDirectory;
 import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.NRTCachingDirectory;
 
 final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 
@@ -26,15 +31,20 @@ final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 	private final Path directoryPath;
 	private final FileSystemAccessStrategy accessStrategy;
 	private final Supplier<LockFactory> lockFactorySupplier;
+	private final Set<String> preloadedExtensions;
+	private final NRTCachingSettings nrtCachingSettings;
 	private final EventContext eventContext;
 
 	private Directory directory;
 
 	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy,
-			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
+			Supplier<LockFactory> lockFactorySupplier, Set<String> preloadedExtensions,
+			NRTCachingSettings nrtCachingSettings, EventContext eventContext) {
 		this.directoryPath = directoryPath;
 		this.accessStrategy = accessStrategy;
 		this.lockFactorySupplier = lockFactorySupplier;
+		this.preloadedExtensions = preloadedExtensions;
+		this.nrtCachingSettings = nrtCachingSettings;
 		this.eventContext = eventContext;
 	}
 
@@ -47,7 +57,30 @@ public void start() throws IOException {
 			throw log.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
 		}
 
-		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		LockFactory lockFactory = lockFactorySupplier.get();
+		Directory fileSystemDirectory = accessStrategy.createDirectory( directoryPath, lockFactory );
+		if ( !preloadedExtensions.isEmpty() ) {
+			// Files with the given extensions are loaded into physical memory as soon as they are opened;
+			// other files are mapped as usual and only loaded when accessed.
+			MMapDirectory preloadingDirectory = new MMapDirectory( directoryPath, lockFactory );
+			preloadingDirectory.setPreload( true );
+			fileSystemDirectory = new FileSwitchDirectory( preloadedExtensions,
+					preloadingDirectory, fileSystemDirectory, true );
+		}
+		if ( nrtCachingSettings != null ) {
+			// Newly flushed segments stay in memory until they are merged or committed,
+			// so frequent refreshes don't result in lots of tiny files being written to disk.
+			this.directory = new NRTCachingDirectory( fileSystemDirectory,
+					nrtCachingSettings.maxMergeSizeMB, nrtCachingSettings.maxCachedMB );
+		}
+		else {
+			this.directory = fileSystemDirectory;
+		}
+	}
+
+	@Override
+	public boolean mayContainIndex() {
+		return Files.isDirectory( directoryPath );
 	}
 
 	@Override
@@ -9,6 +9,9 @@
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -43,6 +46,30 @@ public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
 					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<List<String>> FILESYSTEM_ACCESS_PRELOAD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_PRELOAD )
+					.asString().multivalued()
+					.withDefault( Collections.emptyList() )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> NRT_CACHING_ENABLED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHING_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHING_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHING_MAX_MERGE_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHING_MAX_MERGE_SIZE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHING_MAX_CACHED_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHING_MAX_CACHED_SIZE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE )
+					.build();
+
 	@Override
 	@SuppressWarnings("deprecation")
 	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
@@ -54,6 +81,12 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 					context.eventContext() );
 		}
 		FileSystemAccessStrategy accessStrategy = FileSystemAccessStrategy.get( accessStrategyName );
+		List<String> preloadedExtensions = FILESYSTEM_ACCESS_PRELOAD.get( propertySource );
+		if ( !preloadedExtensions.isEmpty() && !FileSystemAccessStrategyName.MMAP.equals( accessStrategyName ) ) {
+			throw log.preloadRequiresMMapFileSystemAccessStrategy( preloadedExtensions,
+					FileSystemAccessStrategyName.MMAP.externalRepresentation(),
+					accessStrategyName.externalRepresentation(), context.eventContext() );
+		}
 		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
 				.orElseGet( () -> FSLockFactory::getDefault );
 
@@ -63,8 +96,17 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 			directoryPath = directoryPath.resolve( shardId.get() );
 		}
 
+		NRTCachingSettings nrtCachingSettings = null;
+		if ( NRT_CACHING_ENABLED.get( propertySource ) ) {
+			nrtCachingSettings = new NRTCachingSettings(
+					NRT_CACHING_MAX_MERGE_SIZE.get( propertySource ),
+					NRT_CACHING_MAX_CACHED_SIZE.get( propertySource )
+			);
+		}
+
 		return new LocalFileSystemDirectoryHolder(
-				directoryPath, accessStrategy, lockFactorySupplier, context.eventContext()
+				directoryPath, accessStrategy, lockFactorySupplier, new HashSet<>( preloadedExtensions ),
+				nrtCachingSettings, context.eventContext()
 		);
 	}
 
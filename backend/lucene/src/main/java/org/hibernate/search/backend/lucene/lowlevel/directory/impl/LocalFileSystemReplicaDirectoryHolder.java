@@ -0,0 +1,226 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.IndexNotFoundException;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.Lock;
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.NoLockFactory;
+
+/**
+ * A holder for a local directory that is kept in sync with the latest commit of a primary index.
+ * <p>
+ * Segment files are immutable, so only files that are missing locally are copied;
+ * the segments file is copied last, under a temporary name, then renamed,
+ * so that readers never see a partially copied commit.
+ * <p>
+ * The local directory is read-only: any attempt to obtain the write lock will fail.
+ */
+public final class LocalFileSystemReplicaDirectoryHolder implements DirectoryHolder {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String PENDING_FILE_PREFIX = "pending_";
+
+	private final Path directoryPath;
+	private final Path sourcePath;
+	private final FileSystemAccessStrategy accessStrategy;
+	private final int refreshInterval;
+	private final EventContext eventContext;
+
+	private Directory sourceDirectory;
+	private Directory directory;
+
+	private String lastCopiedSegmentsFileName;
+
+	LocalFileSystemReplicaDirectoryHolder(Path directoryPath, Path sourcePath,
+			FileSystemAccessStrategy accessStrategy, int refreshInterval, EventContext eventContext) {
+		this.directoryPath = directoryPath;
+		this.sourcePath = sourcePath;
+		this.accessStrategy = accessStrategy;
+		this.refreshInterval = refreshInterval;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public void start() throws IOException {
+		try {
+			FileSystemUtils.initializeWriteableDirectory( directoryPath );
+		}
+		catch (Exception e) {
+			throw log.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
+		}
+
+		this.sourceDirectory = accessStrategy.createDirectory( sourcePath, NoLockFactory.INSTANCE );
+		this.directory = accessStrategy.createDirectory( directoryPath, new ReplicaLockFactory( eventContext ) );
+
+		try {
+			copyLatestCommit();
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToReplicateIndex( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public boolean mayContainIndex() {
+		// The replica is a copy of the primary index: if the primary doesn't exist, there is nothing to copy
+		return Files.isDirectory( sourcePath );
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( Directory::close, directory );
+			closer.push( Directory::close, sourceDirectory );
+		}
+		directory = null;
+		sourceDirectory = null;
+	}
+
+	@Override
+	public Directory get() {
+		return directory;
+	}
+
+	/**
+	 * @return How much time may pass between two calls to {@link #copyLatestCommit()}, in milliseconds.
+	 */
+	public int refreshInterval() {
+		return refreshInterval;
+	}
+
+	/**
+	 * Copy the latest commit of the primary index to the local directory, if it wasn't copied already.
+	 *
+	 * @return {@code true} if a new commit was copied, {@code false} otherwise,
+	 * for example if the primary index doesn't exist yet
+	 * or if the commit was deleted by the primary while it was being copied
+	 * (in which case the next call will copy the newer commit).
+	 * @throws IOException If copying fails.
+	 */
+	public synchronized boolean copyLatestCommit() throws IOException {
+		SegmentInfos commit;
+		try {
+			commit = SegmentInfos.readLatestCommit( sourceDirectory );
+		}
+		catch (IndexNotFoundException | NoSuchFileException e) {
+			// The primary didn't create the index yet, or it's committing right now.
+			return false;
+		}
+
+		String segmentsFileName = commit.getSegmentsFileName();
+		if ( segmentsFileName.equals( lastCopiedSegmentsFileName ) ) {
+			// Nothing new.
+			return false;
+		}
+
+		Set<String> localFiles = new HashSet<>( Arrays.asList( directory.listAll() ) );
+		Collection<String> commitFiles = commit.files( false );
+		List<String> copiedFiles = new ArrayList<>();
+		String pendingSegmentsFileName = PENDING_FILE_PREFIX + segmentsFileName;
+		try {
+			if ( isUpToDate( segmentsFileName, localFiles ) ) {
+				// Copied before a restart: the segments file is always copied last,
+				// so the other files of this commit are there too.
+				lastCopiedSegmentsFileName = segmentsFileName;
+				return false;
+			}
+			for ( String fileName : commitFiles ) {
+				if ( isUpToDate( fileName, localFiles ) ) {
+					continue;
+				}
+				if ( localFiles.contains( fileName ) ) {
+					// Left over from an interrupted copy, or from an older index with the same name.
+					directory.deleteFile( fileName );
+				}
+				directory.copyFrom( sourceDirectory, fileName, fileName, IOContext.READONCE );
+				copiedFiles.add( fileName );
+			}
+			if ( localFiles.contains( pendingSegmentsFileName ) ) {
+				directory.deleteFile( pendingSegmentsFileName );
+			}
+			directory.copyFrom( sourceDirectory, segmentsFileName, pendingSegmentsFileName, IOContext.READONCE );
+		}
+		catch (NoSuchFileException e) {
+			// The primary deleted this commit while we were copying it: we'll copy the next one.
+			return false;
+		}
+		copiedFiles.add( pendingSegmentsFileName );
+		directory.sync( copiedFiles );
+		directory.rename( pendingSegmentsFileName, segmentsFileName );
+		directory.syncMetaData();
+		lastCopiedSegmentsFileName = segmentsFileName;
+
+		deleteObsoleteFiles( commit );
+
+		return true;
+	}
+
+	private boolean isUpToDate(String fileName, Set<String> localFiles) throws IOException {
+		if ( !localFiles.contains( fileName )
+				|| directory.fileLength( fileName ) != sourceDirectory.fileLength( fileName ) ) {
+			return false;
+		}
+		try ( IndexInput localInput = directory.openInput( fileName, IOContext.READONCE );
+				IndexInput sourceInput = sourceDirectory.openInput( fileName, IOContext.READONCE ) ) {
+			return CodecUtil.retrieveChecksum( localInput ) == CodecUtil.retrieveChecksum( sourceInput );
+		}
+		catch (CorruptIndexException e) {
+			// Most likely a partially copied file.
+			return false;
+		}
+	}
+
+	private void deleteObsoleteFiles(SegmentInfos latestCommit) throws IOException {
+		Set<String> filesToKeep = new HashSet<>( latestCommit.files( true ) );
+		for ( String fileName : directory.listAll() ) {
+			if ( !filesToKeep.contains( fileName ) ) {
+				// Readers that are still open on older commits will keep access to these files,
+				// either because the OS allows it or because the directory will retry deletion later.
+				directory.deleteFile( fileName );
+			}
+		}
+	}
+
+	private static final class ReplicaLockFactory extends LockFactory {
+		private final EventContext eventContext;
+
+		private ReplicaLockFactory(EventContext eventContext) {
+			this.eventContext = eventContext;
+		}
+
+		@Override
+		public Lock obtainLock(Directory dir, String lockName) throws IOException {
+			throw log.cannotWriteToReplica( eventContext );
+		}
+	}
+}
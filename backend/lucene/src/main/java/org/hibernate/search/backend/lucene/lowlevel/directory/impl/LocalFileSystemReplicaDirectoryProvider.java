@@ -0,0 +1,85 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A provider of directories that are read-only replicas of a "local-filesystem" directory
+ * written to by another node.
+ * <p>
+ * The replica periodically copies the latest commit of the primary index to a local directory,
+ * and index readers are then reopened on that copy.
+ */
+public class LocalFileSystemReplicaDirectoryProvider implements DirectoryProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final String NAME = "local-filesystem-replica";
+
+	private static final ConfigurationProperty<Path> ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.ROOT )
+					.as( Path.class, Paths::get )
+					.withDefault( () -> Paths.get( LuceneIndexSettings.Defaults.DIRECTORY_ROOT ) )
+					.build();
+
+	private static final OptionalConfigurationProperty<Path> REPLICA_SOURCE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.REPLICA_SOURCE )
+					.as( Path.class, Paths::get )
+					.build();
+
+	private static final ConfigurationProperty<Integer> REPLICA_REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.REPLICA_REFRESH_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_REPLICA_REFRESH_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<FileSystemAccessStrategyName> FILESYSTEM_ACCESS_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY )
+					.as( FileSystemAccessStrategyName.class, FileSystemAccessStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
+					.build();
+
+	@Override
+	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
+		ConfigurationPropertySource propertySource = context.configurationPropertySource();
+		Path directoryRoot = ROOT.get( propertySource ).toAbsolutePath();
+		Path sourceRoot = REPLICA_SOURCE.getOrThrow(
+				propertySource,
+				key -> log.missingPropertyValueForDirectoryType( NAME, key )
+		).toAbsolutePath();
+		int refreshInterval = REPLICA_REFRESH_INTERVAL.get( propertySource );
+		FileSystemAccessStrategy accessStrategy = FileSystemAccessStrategy.get( FILESYSTEM_ACCESS_STRATEGY.get( propertySource ) );
+
+		Path directoryPath = directoryRoot.resolve( context.indexName() );
+		Path sourcePath = sourceRoot.resolve( context.indexName() );
+		Optional<String> shardId = context.shardId();
+		if ( shardId.isPresent() ) {
+			directoryPath = directoryPath.resolve( shardId.get() );
+			sourcePath = sourcePath.resolve( shardId.get() );
+		}
+
+		return new LocalFileSystemReplicaDirectoryHolder(
+				directoryPath, sourcePath, accessStrategy, refreshInterval, context.eventContext()
+		);
+	}
+
+}
@@ -29,6 +29,12 @@ public void start() {
 		this.directory = new ByteBuffersDirectory( lockFactory );
 	}
 
+	@Override
+	public boolean mayContainIndex() {
+		// The directory is created empty when this holder is started
+		return directory != null;
+	}
+
 	@Override
 	public void close() throws IOException {
 		if ( directory != null ) {
@@ -41,4 +41,18 @@ public interface DirectoryHolder extends Closeable {
 	 */
 	Directory get();
 
+	/**
+	 * Checks whether the directory may already contain an index, without allocating any resource.
+	 * <p>
+	 * This method is called before {@link #start()},
+	 * to avoid creating directories when only reading from an index that may not exist,
+	 * for example when searching the index of a tenant that was never indexed.
+	 *
+	 * @return {@code false} if the directory definitely doesn't contain an index yet,
+	 * {@code true} otherwise. Defaults to {@code true}.
+	 */
+	default boolean mayContainIndex() {
+		return true;
+	}
+
 }
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
@@ -39,7 +40,8 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 
 	@Override
 	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+			IndexWriterProvider indexWriterProvider, IndexReaderWarmup readerWarmup) {
+		// Readers are not shared, so there's no point warming them up.
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
 
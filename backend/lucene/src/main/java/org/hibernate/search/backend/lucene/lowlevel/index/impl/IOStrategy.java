@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalFileSystemReplicaDirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReplicaIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -26,15 +29,25 @@ protected IOStrategy(BackendThreads threads, FailureHandler failureHandler) {
 	}
 
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource,
+			IndexReaderWarmup readerWarmup) {
 		IndexWriterProvider indexWriterProvider = null;
 		IndexReaderProvider indexReaderProvider = null;
 		try {
 			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			if ( directoryHolder instanceof LocalFileSystemReplicaDirectoryHolder ) {
+				// Replicas are never written to locally, so readers cannot rely on the index writer.
+				indexReaderProvider = new ReplicaIndexReaderProvider(
+						eventContext, (LocalFileSystemReplicaDirectoryHolder) directoryHolder,
+						readerWarmup, threads, failureHandler
+				);
+			}
+			else {
+				indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider, readerWarmup );
+			}
 			return new IndexAccessorImpl(
 					eventContext,
-					directoryHolder, indexWriterProvider, indexReaderProvider
+					directoryHolder, indexWriterProvider, indexReaderProvider, readerWarmup
 			);
 		}
 		catch (RuntimeException e) {
@@ -50,6 +63,6 @@ abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventCo
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource);
 
 	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider);
+			IndexWriterProvider indexWriterProvider, IndexReaderWarmup readerWarmup);
 
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 
@@ -51,6 +52,14 @@ public interface IndexAccessor {
 	 */
 	void refresh();
 
+	/**
+	 * Waits for the underlying index readers to include all changes applied so far,
+	 * without forcing a refresh.
+	 *
+	 * @return A future that completes when all changes applied so far are visible to index readers.
+	 */
+	CompletableFuture<?> waitForRefresh();
+
 	/**
 	 * Merge segments files.
 	 */
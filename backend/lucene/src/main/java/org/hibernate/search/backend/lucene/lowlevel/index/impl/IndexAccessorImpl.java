@@ -8,11 +8,14 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalFileSystemReplicaDirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
@@ -37,31 +40,63 @@ public class IndexAccessorImpl implements AutoCloseable, IndexAccessor {
 	private final DirectoryHolder directoryHolder;
 	private final IndexWriterProvider indexWriterProvider;
 	private final IndexReaderProvider indexReaderProvider;
+	private final IndexReaderWarmup readerWarmup;
+	private final boolean replica;
 
 	public IndexAccessorImpl(EventContext eventContext,
 			DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider) {
+			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider,
+			IndexReaderWarmup readerWarmup) {
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
 		this.indexWriterProvider = indexWriterProvider;
 		this.indexReaderProvider = indexReaderProvider;
+		this.readerWarmup = readerWarmup;
+		this.replica = directoryHolder instanceof LocalFileSystemReplicaDirectoryHolder;
 	}
 
 	public void start() throws IOException {
 		directoryHolder.start();
 	}
 
+	/**
+	 * Opens the index reader eagerly if warmup is enabled,
+	 * so that the first search queries don't have to wait for the reader to be opened and warmed up.
+	 */
+	public void warmUpIfEnabled() {
+		if ( !readerWarmup.isEnabled() ) {
+			return;
+		}
+		try {
+			if ( !DirectoryReader.indexExists( directoryHolder.get() ) ) {
+				// Nothing to warm up: the index will be created later, empty.
+				return;
+			}
+			indexReaderProvider.getOrCreate().decRef();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToWarmUpIndexReader( e.getMessage(), eventContext, e );
+		}
+	}
+
 	@Override
 	public void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( IndexWriterProvider::clear, indexWriterProvider );
 			closer.push( IndexReaderProvider::clear, indexReaderProvider );
 			closer.push( DirectoryHolder::close, directoryHolder );
+			closer.push( IndexReaderWarmup::close, readerWarmup );
 		}
 	}
 
 	@Override
 	public void createIndexIfMissing() {
+		if ( replica ) {
+			// Replicas cannot write to their directory: the index is created by the primary,
+			// and will be copied along with the first commit of the primary.
+			// Until then, searches will simply not return any hit.
+			return;
+		}
 		try {
 			Directory directory = directoryHolder.get();
 
@@ -96,6 +131,10 @@ public void validateIndexExists() {
 
 	@Override
 	public void dropIndexIfExisting() {
+		if ( replica ) {
+			// Replicas only hold a copy of the primary index, which is dropped through the primary.
+			return;
+		}
 		try {
 			// Ensure no one is using the directory
 			clear();
@@ -144,6 +183,11 @@ public void refresh() {
 		indexReaderProvider.refresh();
 	}
 
+	@Override
+	public CompletableFuture<?> waitForRefresh() {
+		return indexReaderProvider.waitForRefresh();
+	}
+
 	@Override
 	public void mergeSegments() {
 		try {
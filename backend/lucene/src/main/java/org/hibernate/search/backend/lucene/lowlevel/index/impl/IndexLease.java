@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+/**
+ * A lease on the indexes targeted by an operation,
+ * preventing them from being closed until the lease is released.
+ * <p>
+ * Indexes are normally only closed on shutdown,
+ * but with the index-per-tenant multi-tenancy strategy,
+ * the index of a tenant may be closed at runtime to open the index of another tenant.
+ */
+public interface IndexLease extends AutoCloseable {
+
+	/**
+	 * A lease for indexes that are only closed on shutdown.
+	 */
+	IndexLease NONE = () -> { };
+
+	/**
+	 * Releases this lease. Subsequent calls have no effect.
+	 */
+	@Override
+	void close();
+
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.query.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -15,10 +17,12 @@
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.join.BitSetProducer;
 import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.search.join.ToChildBlockJoinQuery;
+import org.apache.lucene.util.BytesRef;
 
 public class Queries {
 
@@ -65,15 +69,14 @@ public static Query term(String absoluteFieldPath, String value) {
 		return new TermQuery( new Term( absoluteFieldPath, value ) );
 	}
 
-	public static Query anyTerm(String absoluteFieldPath, Set<String> values) {
-		BooleanQuery.Builder queryBuilder = new BooleanQuery.Builder();
-		for ( String routingKey : values ) {
-			queryBuilder.add(
-					new TermQuery( new Term( absoluteFieldPath, routingKey ) ),
-					Occur.SHOULD
-			);
+	public static Query anyTerm(String absoluteFieldPath, Collection<String> values) {
+		List<BytesRef> terms = new ArrayList<>( values.size() );
+		for ( String value : values ) {
+			terms.add( new BytesRef( value ) );
 		}
-		return queryBuilder.build();
+		// TermInSetQuery is not subject to the maximum clause count of boolean queries,
+		// and rewrites itself to a boolean query when there are only a few terms.
+		return new TermInSetQuery( absoluteFieldPath, terms );
 	}
 
 	public static BitSetProducer parentFilter(String parentNestedDocumentPath) {
@@ -6,10 +6,18 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexLease;
+
 import org.apache.lucene.index.DirectoryReader;
 
 public interface DirectoryReaderCollector {
 
 	void collect(String mappedTypeName, DirectoryReader directoryReader);
 
+	/**
+	 * @param lease A lease on the indexes the collected readers were opened from,
+	 * to release once the readers are closed.
+	 */
+	void collect(IndexLease lease);
+
 }
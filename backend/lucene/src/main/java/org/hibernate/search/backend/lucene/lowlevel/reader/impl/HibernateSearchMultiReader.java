@@ -20,6 +20,7 @@
 import org.apache.lucene.index.MultiReader;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexLease;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -40,7 +41,8 @@ public class HibernateSearchMultiReader extends MultiReader {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	public static HibernateSearchMultiReader open(Set<String> indexNames,
-			Collection<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts,
+			String tenantId, Set<String> routingKeys) {
 		if ( indexManagerContexts.isEmpty() ) {
 			return null;
 		}
@@ -48,13 +50,14 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 			Builder builder = new Builder();
 			try {
 				for ( ReadIndexManagerContext indexManagerContext : indexManagerContexts ) {
-					indexManagerContext.openIndexReaders( routingKeys, builder );
+					indexManagerContext.openIndexReaders( tenantId, routingKeys, builder );
 				}
 				return builder.build();
 			}
 			catch (IOException | RuntimeException e) {
 				new SuppressingCloser( e )
-						.pushAll( builder.directoryReaders );
+						.pushAll( builder.directoryReaders )
+						.pushAll( IndexLease::close, builder.leases );
 				throw log.failureOnMultiReaderRefresh(
 						EventContexts.fromIndexNames( indexNames ), e
 				);
@@ -63,12 +66,15 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 	}
 
 	private final List<DirectoryReader> directoryReaders;
+	private final List<IndexLease> leases;
 	private final IndexReaderMetadataResolver metadataResolver;
 
-	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, IndexReaderMetadataResolver metadataResolver) throws IOException {
+	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, List<IndexLease> leases,
+			IndexReaderMetadataResolver metadataResolver) throws IOException {
 		// If this flag isn't set to true, the MultiReader will increase the usage counter!
 		super( toReaderArray( directoryReaders ), true );
 		this.directoryReaders = directoryReaders;
+		this.leases = leases;
 		this.metadataResolver = metadataResolver;
 	}
 
@@ -89,6 +95,8 @@ protected synchronized void doClose() throws IOException {
 			 * If the reader is not shared, this is equivalent to closing the reader.
 			 */
 			closer.pushAll( DirectoryReader::decRef, directoryReaders );
+			// Only release the indexes once we're done with their readers
+			closer.pushAll( IndexLease::close, leases );
 		}
 		if ( debugEnabled ) {
 			log.trace( "MultiReader closed." );
@@ -102,6 +110,7 @@ private static IndexReader[] toReaderArray(List<DirectoryReader> directoryReader
 	public static class Builder implements DirectoryReaderCollector {
 		private final List<DirectoryReader> directoryReaders = new ArrayList<>();
 		private final Map<DirectoryReader, String> mappedTypeNameByDirectoryReader = new HashMap<>();
+		private final List<IndexLease> leases = new ArrayList<>();
 
 		private Builder() {
 		}
@@ -112,10 +121,15 @@ public void collect(String mappedTypeName, DirectoryReader directoryReader) {
 			mappedTypeNameByDirectoryReader.put( directoryReader, mappedTypeName );
 		}
 
+		@Override
+		public void collect(IndexLease lease) {
+			leases.add( lease );
+		}
+
 		HibernateSearchMultiReader build() throws IOException {
 			IndexReaderMetadataResolver metadataResolver =
 					new IndexReaderMetadataResolver( mappedTypeNameByDirectoryReader );
-			return new HibernateSearchMultiReader( directoryReaders, metadataResolver );
+			return new HibernateSearchMultiReader( directoryReaders, leases, metadataResolver );
 		}
 	}
 }
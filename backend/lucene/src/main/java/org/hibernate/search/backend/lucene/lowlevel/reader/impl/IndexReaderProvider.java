@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -25,6 +26,15 @@ public interface IndexReaderProvider {
 	 */
 	void refresh();
 
+	/**
+	 * Wait for the index reader returned by {@link #getOrCreate()}
+	 * to provide a view of the index that includes all changes applied before this method was called,
+	 * without forcing a refresh.
+	 *
+	 * @return A future that completes when changes applied before this method was called are visible to readers.
+	 */
+	CompletableFuture<?> waitForRefresh();
+
 	/**
 	 * @return A ready-to-use index reader, with its reference count already increased.
 	 * Callers are responsible for calling {@link DirectoryReader#decRef()} when they are done with the index reader.
@@ -0,0 +1,292 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmupContext;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * Warms up index readers before they are made available to search queries.
+ * <p>
+ * Each segment is only warmed up once, when it first appears in a reader
+ * or, for segments resulting from a merge, right after the merge,
+ * in the merge thread.
+ */
+public final class IndexReaderWarmup implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final String indexName;
+	private final Optional<String> shardId;
+	private final boolean segmentWarmupEnabled;
+	private final BeanHolder<? extends IndexReaderWarmer> warmerHolder;
+
+	private final Set<IndexReader.CacheKey> warmedSegmentCoreKeys = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * @param eventContext The event context to use for logs.
+	 * @param indexName The name of the index.
+	 * @param shardId The identifier of the shard, if relevant.
+	 * @param segmentWarmupEnabled Whether doc values, norms and terms of new segments should be loaded.
+	 * @param warmerHolder A holder for a custom warmer, or {@code null}.
+	 */
+	public IndexReaderWarmup(EventContext eventContext, String indexName, Optional<String> shardId,
+			boolean segmentWarmupEnabled, BeanHolder<? extends IndexReaderWarmer> warmerHolder) {
+		this.eventContext = eventContext;
+		this.indexName = indexName;
+		this.shardId = shardId;
+		this.segmentWarmupEnabled = segmentWarmupEnabled;
+		this.warmerHolder = warmerHolder;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "segmentWarmupEnabled=" + segmentWarmupEnabled
+				+ ", warmer=" + ( warmerHolder == null ? null : warmerHolder.get() )
+				+ "]";
+	}
+
+	@Override
+	public void close() {
+		if ( warmerHolder != null ) {
+			warmerHolder.close();
+		}
+	}
+
+	public boolean isEnabled() {
+		return segmentWarmupEnabled || warmerHolder != null;
+	}
+
+	/**
+	 * @return A warmer to pass to {@link org.apache.lucene.index.IndexWriterConfig#setMergedSegmentWarmer(IndexWriter.IndexReaderWarmer)},
+	 * or {@code null} if merged segments should not be warmed up.
+	 */
+	public IndexWriter.IndexReaderWarmer mergedSegmentWarmerOrNull() {
+		return segmentWarmupEnabled ? this::warmMergedSegment : null;
+	}
+
+	/**
+	 * Warms up a new reader, before it is made available to search queries.
+	 * <p>
+	 * Failures are logged, but never propagated: an index reader that was not warmed up
+	 * is still perfectly usable, just slower.
+	 *
+	 * @param reader The new reader.
+	 * @param initial Whether this is the first reader opened for this index.
+	 */
+	public void warm(DirectoryReader reader, boolean initial) {
+		if ( !isEnabled() ) {
+			return;
+		}
+
+		long start = System.nanoTime();
+		List<LeafReaderContext> newLeaves = new ArrayList<>();
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			if ( markAsWarmed( leaf.reader() ) ) {
+				newLeaves.add( leaf );
+			}
+		}
+
+		try {
+			if ( segmentWarmupEnabled ) {
+				for ( LeafReaderContext leaf : newLeaves ) {
+					warmSegment( leaf.reader() );
+				}
+			}
+			if ( warmerHolder != null ) {
+				warmerHolder.get().warm( new WarmupContext( reader, newLeaves ) );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToWarmUpIndexReader( e.getMessage(), eventContext, e );
+			return;
+		}
+
+		Duration duration = Duration.ofNanos( System.nanoTime() - start );
+		if ( initial ) {
+			log.warmedUpInitialIndexReader( duration, newLeaves.size(), eventContext );
+		}
+		else {
+			log.warmedUpIndexReader( duration, newLeaves.size(), eventContext );
+		}
+	}
+
+	private void warmMergedSegment(LeafReader reader) {
+		if ( !markAsWarmed( reader ) ) {
+			return;
+		}
+		try {
+			warmSegment( reader );
+		}
+		catch (IOException | RuntimeException e) {
+			// Don't let warmup failures abort the merge.
+			log.unableToWarmUpIndexReader( e.getMessage(), eventContext, e );
+		}
+	}
+
+	private boolean markAsWarmed(LeafReader reader) {
+		IndexReader.CacheHelper cacheHelper = reader.getCoreCacheHelper();
+		if ( cacheHelper == null ) {
+			// We can't track this segment: warm it up every time, just in case.
+			return true;
+		}
+		IndexReader.CacheKey key = cacheHelper.getKey();
+		if ( !warmedSegmentCoreKeys.add( key ) ) {
+			return false;
+		}
+		cacheHelper.addClosedListener( warmedSegmentCoreKeys::remove );
+		return true;
+	}
+
+	/*
+	 * Reads all doc values and norms of the segment, and opens the terms of each indexed field,
+	 * so that the first sorts and aggregations don't have to load them from disk.
+	 * Similar to org.apache.lucene.index.SimpleMergedSegmentWarmer,
+	 * except that values are actually read instead of just opening the iterators.
+	 */
+	private static void warmSegment(LeafReader reader) throws IOException {
+		for ( FieldInfo info : reader.getFieldInfos() ) {
+			String field = info.name;
+			if ( info.getIndexOptions() != IndexOptions.NONE ) {
+				reader.terms( field );
+				if ( info.hasNorms() ) {
+					warm( reader.getNormValues( field ) );
+				}
+			}
+			switch ( info.getDocValuesType() ) {
+				case NUMERIC:
+					warm( reader.getNumericDocValues( field ) );
+					break;
+				case BINARY:
+					warm( reader.getBinaryDocValues( field ) );
+					break;
+				case SORTED:
+					warm( reader.getSortedDocValues( field ) );
+					break;
+				case SORTED_NUMERIC:
+					warm( reader.getSortedNumericDocValues( field ) );
+					break;
+				case SORTED_SET:
+					warm( reader.getSortedSetDocValues( field ) );
+					break;
+				case NONE:
+				default:
+					break;
+			}
+		}
+	}
+
+	private static void warm(NumericDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.longValue();
+		}
+	}
+
+	private static void warm(BinaryDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.binaryValue();
+		}
+	}
+
+	private static void warm(SortedDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.ordValue();
+		}
+	}
+
+	private static void warm(SortedNumericDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			for ( int i = 0; i < values.docValueCount(); i++ ) {
+				values.nextValue();
+			}
+		}
+	}
+
+	private static void warm(SortedSetDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			long ord = values.nextOrd();
+			while ( ord != SortedSetDocValues.NO_MORE_ORDS ) {
+				ord = values.nextOrd();
+			}
+		}
+	}
+
+	private class WarmupContext implements IndexReaderWarmupContext {
+		private final IndexSearcher indexSearcher;
+		private final List<LeafReaderContext> newLeaves;
+
+		private WarmupContext(DirectoryReader reader, List<LeafReaderContext> newLeaves) {
+			this.indexSearcher = new IndexSearcher( reader );
+			this.newLeaves = newLeaves;
+		}
+
+		@Override
+		public String indexName() {
+			return indexName;
+		}
+
+		@Override
+		public Optional<String> shardId() {
+			return shardId;
+		}
+
+		@Override
+		public IndexSearcher indexSearcher() {
+			return indexSearcher;
+		}
+
+		@Override
+		public List<LeafReaderContext> newLeaves() {
+			return newLeaves;
+		}
+	}
+}
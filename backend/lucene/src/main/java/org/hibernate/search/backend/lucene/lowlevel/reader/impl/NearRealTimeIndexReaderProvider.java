@@ -7,8 +7,14 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 
 import org.apache.lucene.index.DirectoryReader;
@@ -24,28 +30,60 @@
  * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
+ * <p>
+ * Threads {@link #waitForRefresh() waiting for a refresh} are released as soon as a fresh reader is published,
+ * be it because a search requested a reader after the current one expired,
+ * or because of a refresh scheduled for when the current reader expires.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
 	private final IndexWriterProvider indexWriterProvider;
+	private final IndexReaderWarmup readerWarmup;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final BackendThreads threads;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
+	/**
+	 * Futures waiting for a fresh reader to be published, or an empty list.
+	 * Guarded by {@code this}.
+	 */
+	private final List<CompletableFuture<Void>> refreshWaiters = new ArrayList<>();
+	/**
+	 * The refresh scheduled to release refresh waiters, or null.
+	 * Guarded by {@code this}.
+	 */
+	private ScheduledFuture<?> scheduledRefresh;
+
 	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+			IndexReaderWarmup readerWarmup, TimingSource timingSource, int refreshInterval,
+			BackendThreads threads) {
 		this.indexWriterProvider = indexWriterProvider;
+		this.readerWarmup = readerWarmup;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.threads = threads;
 	}
 
 	@Override
-	public synchronized void clear() throws IOException {
-		setCurrentReaderEntry( null );
+	public void clear() throws IOException {
+		List<CompletableFuture<Void>> releasedWaiters = new ArrayList<>();
+		try {
+			synchronized ( this ) {
+				setCurrentReaderEntry( null );
+				// The next reader will be opened from the latest state of the index writer.
+				drainRefreshWaiters( releasedWaiters );
+			}
+		}
+		finally {
+			for ( CompletableFuture<Void> waiter : releasedWaiters ) {
+				waiter.complete( null );
+			}
+		}
 	}
 
 	@Override
@@ -59,6 +97,34 @@ public void refresh() {
 		entry.forceRefresh();
 	}
 
+	@Override
+	public CompletableFuture<?> waitForRefresh() {
+		if ( refreshInterval == 0 ) {
+			// The freshness of the reader is checked upon every search: changes are already visible.
+			return CompletableFuture.completedFuture( null );
+		}
+
+		synchronized ( this ) {
+			IndexReaderEntry entry = currentReaderEntry;
+			if ( entry == null ) {
+				// The next reader will be opened from the latest state of the index writer.
+				return CompletableFuture.completedFuture( null );
+			}
+
+			CompletableFuture<Void> waiter = new CompletableFuture<>();
+			refreshWaiters.add( waiter );
+			if ( scheduledRefresh == null ) {
+				// Don't rely on searches to publish a fresh reader:
+				// there may not be any search before a long time.
+				long delay = Math.max( 0L, entry.expiration - timingSource.monotonicTimeEstimate() );
+				scheduledRefresh = threads.getWriteExecutor().schedule(
+						this::refreshInBackground, delay, TimeUnit.MILLISECONDS
+				);
+			}
+			return waiter;
+		}
+	}
+
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
 		IndexReaderEntry entry = currentReaderEntry;
@@ -75,14 +141,47 @@ public DirectoryReader getOrCreate() throws IOException {
 			}
 		}
 
-		return getFreshIndexReader().reader;
+		List<CompletableFuture<Void>> releasedWaiters = new ArrayList<>();
+		try {
+			return getFreshIndexReader( releasedWaiters ).reader;
+		}
+		finally {
+			// Complete futures outside of the lock, since completing them may trigger arbitrary actions.
+			for ( CompletableFuture<Void> waiter : releasedWaiters ) {
+				waiter.complete( null );
+			}
+		}
 	}
 
-	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
+	private void refreshInBackground() {
+		List<CompletableFuture<Void>> releasedWaiters = new ArrayList<>();
+		Throwable throwable = null;
+		try {
+			getFreshIndexReader( releasedWaiters ).reader.decRef();
+		}
+		catch (IOException | RuntimeException e) {
+			throwable = e;
+			synchronized ( this ) {
+				drainRefreshWaiters( releasedWaiters );
+			}
+		}
+		for ( CompletableFuture<Void> waiter : releasedWaiters ) {
+			if ( throwable == null ) {
+				waiter.complete( null );
+			}
+			else {
+				waiter.completeExceptionally( throwable );
+			}
+		}
+	}
+
+	private synchronized IndexReaderEntry getFreshIndexReader(List<CompletableFuture<Void>> releasedWaiters)
+			throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		IndexReaderEntry freshEntry;
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
+			readerWarmup.warm( newReader, true );
 			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
 		}
 		else {
@@ -92,6 +191,7 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 				freshEntry = oldEntry;
 			}
 			else {
+				readerWarmup.warm( newReaderOrNull, false );
 				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
 			}
 		}
@@ -100,6 +200,10 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 			setCurrentReaderEntry( freshEntry );
 		}
 
+		// The published reader is up-to-date with the index writer:
+		// any change applied before waiters started waiting is visible.
+		drainRefreshWaiters( releasedWaiters );
+
 		// At this point the reference count is at least one, for the holder.
 		// Let's also increment the reference for the caller.
 		freshEntry.reader.incRef();
@@ -107,6 +211,15 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		return freshEntry;
 	}
 
+	private synchronized void drainRefreshWaiters(List<CompletableFuture<Void>> releasedWaiters) {
+		if ( scheduledRefresh != null ) {
+			scheduledRefresh.cancel( false );
+			scheduledRefresh = null;
+		}
+		releasedWaiters.addAll( refreshWaiters );
+		refreshWaiters.clear();
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
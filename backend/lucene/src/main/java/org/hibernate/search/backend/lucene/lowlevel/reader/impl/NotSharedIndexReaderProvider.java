@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 
@@ -34,6 +35,12 @@ public void refresh() {
 		// Nothing to do
 	}
 
+	@Override
+	public CompletableFuture<?> waitForRefresh() {
+		// A new reader is opened for every search: changes are always visible.
+		return CompletableFuture.completedFuture( null );
+	}
+
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
 		return DirectoryReader.open( directoryHolder.get() );
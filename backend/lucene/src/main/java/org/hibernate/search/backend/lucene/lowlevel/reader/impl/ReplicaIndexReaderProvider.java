@@ -0,0 +1,180 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalFileSystemReplicaDirectoryHolder;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+/**
+ * An index reader provider for read-only replicas,
+ * opening index readers from a directory that periodically receives copies of the commits of a primary index.
+ * <p>
+ * The index reader is instantiated once and shared among all threads,
+ * until a new commit is copied, at which point it is atomically replaced with a reopened reader.
+ */
+public class ReplicaIndexReaderProvider implements IndexReaderProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final LocalFileSystemReplicaDirectoryHolder directoryHolder;
+	private final IndexReaderWarmup readerWarmup;
+	private final BackendThreads threads;
+	private final FailureHandler failureHandler;
+
+	/**
+	 * Current open IndexReader, or null when closed.
+	 */
+	private volatile DirectoryReader currentReader = null;
+
+	/**
+	 * Reader on an empty index, used until the primary index is first copied, or null.
+	 */
+	private DirectoryReader emptyReader = null;
+
+	private ScheduledFuture<?> replicationTask;
+
+	public ReplicaIndexReaderProvider(EventContext eventContext,
+			LocalFileSystemReplicaDirectoryHolder directoryHolder, IndexReaderWarmup readerWarmup,
+			BackendThreads threads, FailureHandler failureHandler) {
+		this.eventContext = eventContext;
+		this.directoryHolder = directoryHolder;
+		this.readerWarmup = readerWarmup;
+		this.threads = threads;
+		this.failureHandler = failureHandler;
+	}
+
+	@Override
+	public synchronized void clear() throws IOException {
+		if ( replicationTask != null ) {
+			replicationTask.cancel( false );
+			replicationTask = null;
+		}
+		setCurrentReader( null );
+		if ( emptyReader != null ) {
+			emptyReader.decRef();
+			emptyReader = null;
+		}
+	}
+
+	@Override
+	public void refresh() {
+		try {
+			replicate();
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToReplicateIndex( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> waitForRefresh() {
+		// Replicas only see committed changes, and replicating the latest commit is cheap when nothing changed:
+		// just replicate immediately.
+		refresh();
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public DirectoryReader getOrCreate() throws IOException {
+		DirectoryReader reader = currentReader;
+
+		// Optimistic locking to avoid synchronization
+		if ( reader != null && reader.tryIncRef() ) {
+			return reader;
+		}
+
+		return getOrCreateSynchronized();
+	}
+
+	private synchronized DirectoryReader getOrCreateSynchronized() throws IOException {
+		if ( replicationTask == null ) {
+			int refreshInterval = directoryHolder.refreshInterval();
+			replicationTask = threads.getWriteExecutor().scheduleWithFixedDelay(
+					this::replicateInBackground, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS
+			);
+		}
+		if ( currentReader == null ) {
+			if ( !DirectoryReader.indexExists( directoryHolder.get() ) ) {
+				// The primary index wasn't created, or wasn't copied yet:
+				// don't fail, just behave as if the index was empty until the next replication.
+				DirectoryReader reader = getOrCreateEmptyReader();
+				reader.incRef();
+				return reader;
+			}
+			DirectoryReader newReader = DirectoryReader.open( directoryHolder.get() );
+			readerWarmup.warm( newReader, true );
+			setCurrentReader( newReader );
+		}
+
+		// At this point the reference count is at least one, for the provider.
+		// Let's also increment the reference for the caller.
+		currentReader.incRef();
+
+		return currentReader;
+	}
+
+	private DirectoryReader getOrCreateEmptyReader() throws IOException {
+		if ( emptyReader == null ) {
+			Directory emptyDirectory = new ByteBuffersDirectory();
+			new IndexWriter( emptyDirectory, new IndexWriterConfig( AnalyzerConstants.KEYWORD_ANALYZER ) ).close();
+			emptyReader = DirectoryReader.open( emptyDirectory );
+		}
+		return emptyReader;
+	}
+
+	private synchronized void replicate() throws IOException {
+		if ( !directoryHolder.copyLatestCommit() || currentReader == null ) {
+			// Nothing changed, or no reader to reopen: the next reader will be opened on the latest commit anyway.
+			return;
+		}
+		DirectoryReader newReaderOrNull = DirectoryReader.openIfChanged( currentReader );
+		if ( newReaderOrNull != null ) {
+			readerWarmup.warm( newReaderOrNull, false );
+			setCurrentReader( newReaderOrNull );
+		}
+	}
+
+	private void replicateInBackground() {
+		try {
+			replicate();
+		}
+		catch (Throwable t) {
+			FailureContext.Builder failureContextBuilder = FailureContext.builder();
+			failureContextBuilder.throwable( log.unableToReplicateIndex( t.getMessage(), eventContext, t ) );
+			failureContextBuilder.failingOperation( "Index replication" );
+			failureHandler.handle( failureContextBuilder.build() );
+		}
+	}
+
+	private synchronized void setCurrentReader(DirectoryReader newReader) throws IOException {
+		DirectoryReader oldReader = currentReader;
+		currentReader = newReader;
+		if ( oldReader != null ) {
+			// Make sure to close the old reader as soon as no user thread is using it.
+			oldReader.decRef();
+		}
+	}
+}
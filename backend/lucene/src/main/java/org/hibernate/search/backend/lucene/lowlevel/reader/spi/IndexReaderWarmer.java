@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.spi;
+
+import java.io.IOException;
+
+/**
+ * A component warming up index readers before they are used by search queries,
+ * so that the first queries after startup or after a refresh don't pay for cold caches.
+ * <p>
+ * Implementations are typically expected to execute a few representative queries, sorts or aggregations
+ * against the new reader.
+ * <p>
+ * Warmers may be invoked in parallel by independent threads for different indexes or shards.
+ * Implementations must thus be thread-safe.
+ */
+public interface IndexReaderWarmer {
+
+	/**
+	 * Warms up a new index reader.
+	 * <p>
+	 * Called before the reader is made available to search queries,
+	 * so this method should complete quickly.
+	 * Failures are logged and do not prevent the reader from being used.
+	 *
+	 * @param context The warmup context, giving access to the new reader.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	void warm(IndexReaderWarmupContext context) throws IOException;
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.spi;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+public interface IndexReaderWarmupContext {
+
+	/**
+	 * @return The name of the index in Hibernate Search.
+	 */
+	String indexName();
+
+	/**
+	 * @return The identifier of the index shard, if relevant.
+	 */
+	Optional<String> shardId();
+
+	/**
+	 * @return A searcher on the new index reader.
+	 */
+	IndexSearcher indexSearcher();
+
+	/**
+	 * @return The segments of the new index reader that were not warmed up yet,
+	 * i.e. that did not exist in previously warmed up readers.
+	 * Warmers that only care about segment-level data structures may restrict their work to these segments.
+	 */
+	List<LeafReaderContext> newLeaves();
+
+}
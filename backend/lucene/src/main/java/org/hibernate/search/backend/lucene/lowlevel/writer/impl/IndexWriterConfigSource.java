@@ -12,8 +12,10 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.similarities.Similarity;
 
 /**
@@ -29,25 +31,40 @@
  */
 public class IndexWriterConfigSource {
 
-	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer,
+	/**
+	 * @param similarity The similarity to use.
+	 * @param analyzer The analyzer to use.
+	 * @param indexSort The sort to apply to segments, or {@code null} not to sort segments.
+	 * @param mergedSegmentWarmer The warmer to apply to merged segments, or {@code null} not to warm them up.
+	 * @param propertySource The source of other index writer settings.
+	 * @param eventContext The event context, for logging.
+	 * @return A config source.
+	 */
+	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer, Sort indexSort,
+			IndexWriter.IndexReaderWarmer mergedSegmentWarmer,
 			ConfigurationPropertySource propertySource, EventContext eventContext) {
 		List<IndexWriterSettingValue<?>> values = IndexWriterSettings.extractAll( propertySource, eventContext );
-		return new IndexWriterConfigSource( similarity, analyzer, values );
+		return new IndexWriterConfigSource( similarity, analyzer, indexSort, mergedSegmentWarmer, values );
 	}
 
 	private final Similarity similarity;
 	private final Analyzer analyzer;
+	private final Sort indexSort;
+	private final IndexWriter.IndexReaderWarmer mergedSegmentWarmer;
 	private final List<IndexWriterSettingValue<?>> values;
 
-	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, List<IndexWriterSettingValue<?>> values) {
+	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, Sort indexSort,
+			IndexWriter.IndexReaderWarmer mergedSegmentWarmer, List<IndexWriterSettingValue<?>> values) {
 		this.similarity = similarity;
 		this.analyzer = analyzer;
+		this.indexSort = indexSort;
+		this.mergedSegmentWarmer = mergedSegmentWarmer;
 		this.values = values;
 	}
 
 	@Override
 	public String toString() {
-		return "IndexWriterConfigSource{" + analyzer + "," + values + '}';
+		return "IndexWriterConfigSource{" + analyzer + "," + indexSort + "," + values + '}';
 	}
 
 	/**
@@ -57,6 +74,12 @@ public String toString() {
 	public IndexWriterConfig createIndexWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
 		writerConfig.setSimilarity( similarity );
+		if ( indexSort != null ) {
+			writerConfig.setIndexSort( indexSort );
+		}
+		if ( mergedSegmentWarmer != null ) {
+			writerConfig.setMergedSegmentWarmer( mergedSegmentWarmer );
+		}
 		for ( IndexWriterSettingValue<?> value : values ) {
 			value.applySetting( writerConfig );
 		}
@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 
+import org.apache.lucene.document.Field;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
@@ -24,6 +25,17 @@ public interface IndexWriterDelegator {
 
 	long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException;
 
+	long updateDocValues(Term term, Field... updates) throws IOException;
+
+	/**
+	 * @param term A term identifying documents,
+	 * in the same way as the terms passed to {@link #updateDocuments(Term, Iterable)} or {@link #deleteDocuments(Term)}.
+	 * @return {@code true} if at least one live document matches the given term,
+	 * taking into account changes that were not committed yet.
+	 * @throws IOException If the lookup fails.
+	 */
+	boolean hasDocument(Term term) throws IOException;
+
 	long deleteDocuments(Term term) throws IOException;
 
 	long deleteDocuments(Query query) throws IOException;
@@ -8,7 +8,9 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -22,11 +24,14 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.document.Field;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -35,6 +40,8 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final int MAX_TRACKED_DOCUMENT_WRITES = 10_000;
+
 	private final IndexWriter delegate;
 	private final EventContext eventContext;
 	private final TimingSource timingSource;
@@ -44,6 +51,22 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final SingletonTask delayedCommitTask;
 	private final Object commitLock = new Object();
 
+	private final Object documentLookupLock = new Object();
+	// Guarded by documentLookupLock
+	private DirectoryReader documentLookupReader;
+	/*
+	 * Reopening the document lookup reader flushes a new segment,
+	 * so we avoid it by keeping track of writes executed since the reader was opened:
+	 * for each document written by id, whether it exists after the write.
+	 * Lookups only fall back to reopening the reader when that information is not enough.
+	 */
+	private final Map<Term, Boolean> documentWritesSinceLookupReader = new ConcurrentHashMap<>();
+	// True when documents may have been deleted without being tracked,
+	// or when too many writes were tracked: the reader must be reopened before use.
+	private volatile boolean documentLookupReaderOutdated = false;
+	// True when documents may have been added without being tracked: the reader may miss some documents.
+	private volatile boolean documentLookupReaderIncomplete = false;
+
 	private long commitExpiration;
 
 	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
@@ -74,22 +97,61 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 
 	@Override
 	public long addDocuments(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return delegate.addDocuments( docs );
+		long sequenceNumber = delegate.addDocuments( docs );
+		documentLookupReaderIncomplete = true;
+		return sequenceNumber;
 	}
 
 	@Override
 	public long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return delegate.updateDocuments( term, docs );
+		long sequenceNumber = delegate.updateDocuments( term, docs );
+		trackDocumentWrite( term, true );
+		return sequenceNumber;
+	}
+
+	@Override
+	public long updateDocValues(Term term, Field... updates) throws IOException {
+		return delegate.updateDocValues( term, updates );
+	}
+
+	@Override
+	public boolean hasDocument(Term term) throws IOException {
+		if ( !documentLookupReaderOutdated ) {
+			Boolean existsAfterLastWrite = documentWritesSinceLookupReader.get( term );
+			if ( existsAfterLastWrite != null ) {
+				return existsAfterLastWrite;
+			}
+		}
+		synchronized (documentLookupLock) {
+			if ( documentLookupReader == null || documentLookupReaderOutdated ) {
+				refreshDocumentLookupReader();
+			}
+			else if ( documentLookupReaderHasDocument( term ) ) {
+				return true;
+			}
+			else if ( !documentLookupReaderIncomplete ) {
+				return false;
+			}
+			else {
+				// The document may have been added after the reader was opened.
+				refreshDocumentLookupReader();
+			}
+			return documentLookupReaderHasDocument( term );
+		}
 	}
 
 	@Override
 	public long deleteDocuments(Term term) throws IOException {
-		return delegate.deleteDocuments( term );
+		long sequenceNumber = delegate.deleteDocuments( term );
+		trackDocumentWrite( term, false );
+		return sequenceNumber;
 	}
 
 	@Override
 	public long deleteDocuments(Query query) throws IOException {
-		return delegate.deleteDocuments( query );
+		long sequenceNumber = delegate.deleteDocuments( query );
+		documentLookupReaderOutdated = true;
+		return sequenceNumber;
 	}
 
 	public void mergeSegments() throws IOException {
@@ -140,6 +202,10 @@ public IndexWriter getDelegateForTests() {
 	void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( SingletonTask::stop, delayedCommitTask );
+			synchronized (documentLookupLock) {
+				closer.push( DirectoryReader::close, documentLookupReader );
+				documentLookupReader = null;
+			}
 			// Avoid problems with closing while a (delayed) commit is in progress:
 			// Lucene throws an exception in that case.
 			synchronized (commitLock) {
@@ -171,6 +237,41 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 		failureHandler.handle( failureContext );
 	}
 
+	private void trackDocumentWrite(Term term, boolean exists) {
+		// Track the write after it was executed, so that it's either tracked or visible to a reader opened concurrently.
+		documentWritesSinceLookupReader.put( term, exists );
+		if ( documentWritesSinceLookupReader.size() > MAX_TRACKED_DOCUMENT_WRITES ) {
+			// Stop accumulating writes: the next lookup will reopen the reader and start over.
+			documentLookupReaderOutdated = true;
+		}
+	}
+
+	// Must be called while holding documentLookupLock
+	private void refreshDocumentLookupReader() throws IOException {
+		// Reset tracking before reopening, so that writes executed concurrently are not lost:
+		// they will either be tracked again or be visible to the new reader.
+		documentLookupReaderOutdated = false;
+		documentLookupReaderIncomplete = false;
+		documentWritesSinceLookupReader.clear();
+		if ( documentLookupReader == null ) {
+			documentLookupReader = DirectoryReader.open( delegate );
+		}
+		else {
+			// Near-real-time reopening: only changed segments are reloaded.
+			DirectoryReader newReader = DirectoryReader.openIfChanged( documentLookupReader, delegate );
+			if ( newReader != null ) {
+				documentLookupReader.close();
+				documentLookupReader = newReader;
+			}
+		}
+	}
+
+	// Must be called while holding documentLookupLock
+	private boolean documentLookupReaderHasDocument(Term term) throws IOException {
+		// Don't rely on docFreq(), which ignores deletions.
+		return new IndexSearcher( documentLookupReader ).count( new TermQuery( term ) ) > 0;
+	}
+
 	private void doCommit() {
 		try {
 			synchronized (commitLock) {
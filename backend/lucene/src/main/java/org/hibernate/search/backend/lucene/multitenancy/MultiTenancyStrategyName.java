@@ -22,7 +22,16 @@ public enum MultiTenancyStrategyName {
 	/**
 	 * The multi-tenancy information is stored in the index as a discriminator field.
 	 */
-	DISCRIMINATOR("discriminator");
+	DISCRIMINATOR("discriminator"),
+
+	/**
+	 * The documents of each tenant are stored in a dedicated index,
+	 * created lazily the first time the tenant is used.
+	 * <p>
+	 * Queries only target the index of the current tenant, without any filter,
+	 * and purging the documents of a tenant only affects the index of that tenant.
+	 */
+	INDEX_PER_TENANT("index-per-tenant");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.multitenancy.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.regex.Pattern;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.reporting.EventContext;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.search.Query;
+
+public class IndexPerTenantMultiTenancyStrategy implements MultiTenancyStrategy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// The tenant ID ends up in directory names: only allow characters that are safe on every filesystem.
+	private static final Pattern VALID_TENANT_ID = Pattern.compile( "[A-Za-z0-9_\\-][A-Za-z0-9_.\\-]*" );
+
+	@Override
+	public boolean isMultiTenancySupported() {
+		return true;
+	}
+
+	@Override
+	public boolean isIndexPerTenant() {
+		return true;
+	}
+
+	@Override
+	public void contributeToIndexedDocument(Document document, String tenantId) {
+		// No need to add anything to documents, the tenant is implied by the index the document is stored in
+	}
+
+	@Override
+	public Query filterOrNull(String tenantId) {
+		// Each index only contains documents of a single tenant: no filter necessary.
+		return null;
+	}
+
+	@Override
+	public void checkTenantId(String tenantId, EventContext backendContext) {
+		if ( tenantId == null ) {
+			throw log.multiTenancyEnabledButNoTenantIdProvided( backendContext );
+		}
+		if ( !VALID_TENANT_ID.matcher( tenantId ).matches() ) {
+			throw log.invalidTenantIdForIndexPerTenant( tenantId, backendContext );
+		}
+	}
+}
@@ -22,6 +22,14 @@ public interface MultiTenancyStrategy {
 	 */
 	boolean isMultiTenancySupported();
 
+	/**
+	 * Indicates if each tenant gets its own index.
+	 *
+	 * @return {@code true} if documents of each tenant are stored in a dedicated directory,
+	 * in which case shards are created lazily for each tenant, {@code false} otherwise.
+	 */
+	boolean isIndexPerTenant();
+
 	/**
 	 * Contributes additional information to the indexed document.
 	 *
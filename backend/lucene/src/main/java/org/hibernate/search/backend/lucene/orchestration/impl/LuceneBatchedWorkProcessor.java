@@ -6,37 +6,69 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
+import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 /**
- * A thread-safe component responsible for applying write works to an index writer.
+ * A component responsible for applying write works to an index writer.
+ * <p>
+ * Single-document works submitted within a batch are only executed when the batch ends,
+ * so that works made redundant by a later work on the same document (e.g. an update followed by a delete)
+ * can be skipped. The futures of skipped works are completed with the outcome of the work that superseded them.
+ * <p>
+ * Batches are not thread-safe: a given instance must only be used by one executor.
+ * Methods that may be called outside of a batch, such as {@link #forceCommit()}, are thread-safe.
  * <p>
  * Ported from Search 5's LuceneBackendQueueTask, in particular.
  */
 public class LuceneBatchedWorkProcessor implements BatchedWorkProcessor {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
 	private final IndexAccessor indexAccessor;
 	private final IndexAccessorWorkExecutionContext context;
 
+	// Works pending execution in the current batch, in submission order
+	private final List<PendingWork> pendingWorks = new ArrayList<>();
+	// The last pending work for each document
+	private final Map<Object, PendingWork> lastPendingWorkByDocument = new HashMap<>();
+	private int batchCoalescedWorkCount = 0;
+	private final LongAdder coalescedWorkCount = new LongAdder();
+
 	public LuceneBatchedWorkProcessor(EventContext eventContext,
 			IndexAccessor indexAccessor) {
+		this.eventContext = eventContext;
 		this.indexAccessor = indexAccessor;
 		this.context = new IndexAccessorWorkExecutionContext( eventContext, indexAccessor );
 	}
 
 	@Override
 	public void beginBatch() {
-		// Nothing to do
+		batchCoalescedWorkCount = 0;
 	}
 
 	@Override
 	public CompletableFuture<?> endBatch() {
+		executePendingWorks();
+		if ( batchCoalescedWorkCount > 0 ) {
+			coalescedWorkCount.add( batchCoalescedWorkCount );
+			log.coalescedIndexingWorks( batchCoalescedWorkCount, coalescedWorkCount.sum(), eventContext );
+		}
 		try {
 			indexAccessor.commitOrDelay();
 		}
@@ -70,6 +102,87 @@ public <T> T submit(IndexManagementWork<T> work) {
 	}
 
 	public <T> T submit(IndexingWork<T> work) {
+		// Preserve the order of execution
+		executePendingWorks();
+		return execute( work );
+	}
+
+	/**
+	 * Submits a work for execution in the current batch.
+	 * <p>
+	 * Execution may be delayed until the end of the batch, or skipped entirely
+	 * if a later work in the same batch supersedes this one;
+	 * either way, the given future will be completed after execution.
+	 *
+	 * @param work The work to execute.
+	 * @param future The future to complete with the result of the work.
+	 * @param <T> The type of results returned by the work.
+	 */
+	@SuppressWarnings("unchecked") // Single-document works always return a Long
+	public <T> void submit(IndexingWork<T> work, CompletableFuture<T> future) {
+		if ( work instanceof SingleDocumentIndexingWork ) {
+			submitSingleDocumentWork( (SingleDocumentIndexingWork) work, (CompletableFuture<Long>) future );
+			return;
+		}
+		try {
+			future.complete( submit( work ) );
+		}
+		catch (RuntimeException e) {
+			future.completeExceptionally( e );
+		}
+	}
+
+	/**
+	 * @return The total number of works that were skipped so far
+	 * because a later work in the same batch superseded them.
+	 */
+	public long coalescedWorkCount() {
+		return coalescedWorkCount.sum();
+	}
+
+	private void submitSingleDocumentWork(SingleDocumentIndexingWork work, CompletableFuture<Long> future) {
+		Object documentKey = work.getDocumentKey();
+		PendingWork previous = lastPendingWorkByDocument.get( documentKey );
+		if ( previous != null && work.supersedesPreviousWorks() ) {
+			// Works on other documents are independent and works on this document were all submitted before,
+			// so it's safe to execute this work in place of the previous one.
+			previous.work = work;
+			previous.futures.add( future );
+			++batchCoalescedWorkCount;
+			return;
+		}
+		PendingWork pending = new PendingWork( work, future );
+		pendingWorks.add( pending );
+		lastPendingWorkByDocument.put( documentKey, pending );
+	}
+
+	private void executePendingWorks() {
+		if ( pendingWorks.isEmpty() ) {
+			return;
+		}
+		try {
+			for ( PendingWork pending : pendingWorks ) {
+				try {
+					Long result = execute( pending.work );
+					for ( CompletableFuture<Long> future : pending.futures ) {
+						future.complete( result );
+					}
+				}
+				catch (RuntimeException e) {
+					// Subsequent works must be executed regardless of previous failures in the same batch
+					for ( CompletableFuture<Long> future : pending.futures ) {
+						future.completeExceptionally( e );
+					}
+				}
+			}
+		}
+		finally {
+			pendingWorks.clear();
+			lastPendingWorkByDocument.clear();
+		}
+	}
+
+	private <T> T execute(IndexingWork<T> work) {
 		try {
 			return work.execute( context );
 		}
@@ -97,4 +210,19 @@ public void forceRefresh() {
 		indexAccessor.refresh();
 	}
 
+	// Note this may be called outside of a batch
+	public CompletableFuture<?> waitForRefresh() {
+		return indexAccessor.waitForRefresh();
+	}
+
+	private static final class PendingWork {
+		private SingleDocumentIndexingWork work;
+		private final List<CompletableFuture<Long>> futures = new ArrayList<>( 1 );
+
+		private PendingWork(SingleDocumentIndexingWork work, CompletableFuture<Long> future) {
+			this.work = work;
+			this.futures.add( future );
+		}
+	}
+
 }
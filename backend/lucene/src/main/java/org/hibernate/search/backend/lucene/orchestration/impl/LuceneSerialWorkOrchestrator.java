@@ -40,4 +40,13 @@ default <T> void submit(CompletableFuture<T> future, IndexingWork<T> work) {
 	 */
 	void forceRefreshInCurrentThread();
 
+	/**
+	 * Wait for all changes applied so far to become visible to index readers, without forcing a refresh.
+	 * <p>
+	 * This method does not block: it returns a future that completes upon the next periodic refresh.
+	 *
+	 * @return A future that completes when all changes applied so far are visible to index readers.
+	 */
+	CompletableFuture<?> waitForRefresh();
+
 }
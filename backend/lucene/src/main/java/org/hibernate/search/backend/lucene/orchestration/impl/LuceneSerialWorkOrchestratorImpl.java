@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
@@ -17,6 +18,7 @@
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 public class LuceneSerialWorkOrchestratorImpl
 		extends AbstractWorkOrchestrator<LuceneBatchedWork<?>>
@@ -34,24 +36,31 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private final EventContext eventContext;
+	private final IndexAccessor indexAccessor;
+	// Only used for operations executed outside of batches
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
 	private BatchingExecutor<LuceneBatchedWorkProcessor>[] executors;
+	private LuceneBatchedWorkProcessor[] executorProcessors;
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
-	 * @param processor A processor to use in the background thread.
+	 * @param eventContext The event context of the index.
+	 * @param indexAccessor The index accessor to apply works to.
 	 * @param threads The threads for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
 	 */
 	public LuceneSerialWorkOrchestratorImpl(
-			String name, LuceneBatchedWorkProcessor processor,
+			String name, EventContext eventContext, IndexAccessor indexAccessor,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( name );
-		this.processor = processor;
+		this.eventContext = eventContext;
+		this.indexAccessor = indexAccessor;
+		this.processor = new LuceneBatchedWorkProcessor( eventContext, indexAccessor );
 		this.threads = threads;
 		this.failureHandler = failureHandler;
 	}
@@ -66,6 +75,11 @@ public void forceRefreshInCurrentThread() {
 		processor.forceRefresh();
 	}
 
+	@Override
+	public CompletableFuture<?> waitForRefresh() {
+		return processor.waitForRefresh();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // We aren't allowed to create generic arrays, so we have to use a raw type here.
 	protected void doStart(ConfigurationPropertySource propertySource) {
@@ -73,10 +87,15 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueSize = QUEUE_SIZE.get( propertySource );
 
 		executors = new BatchingExecutor[queueCount];
+		executorProcessors = new LuceneBatchedWorkProcessor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
+			// Processors hold the works pending coalescing in the current batch, so they are not thread-safe:
+			// create one per executor.
+			// Works on a given document always end up in the same executor, so coalescing is not affected.
+			executorProcessors[i] = new LuceneBatchedWorkProcessor( eventContext, indexAccessor );
 			executors[i] = new BatchingExecutor<>(
 					name() + " - " + i,
-					processor,
+					executorProcessors[i],
 					queueSize,
 					true,
 					failureHandler
@@ -88,6 +107,20 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		}
 	}
 
+	/**
+	 * @return The total number of works that were skipped so far
+	 * because a later work on the same document in the same batch superseded them.
+	 */
+	public long coalescedWorkCount() {
+		long count = 0L;
+		if ( executorProcessors != null ) {
+			for ( LuceneBatchedWorkProcessor executorProcessor : executorProcessors ) {
+				count += executorProcessor.coalescedWorkCount();
+			}
+		}
+		return count;
+	}
+
 	@Override
 	protected void doSubmit(LuceneBatchedWork<?> work) throws InterruptedException {
 		SimpleHashFunction.pick( executors, work.getQueuingKey() )
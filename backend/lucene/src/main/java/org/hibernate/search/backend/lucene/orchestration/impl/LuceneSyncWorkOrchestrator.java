@@ -24,11 +24,11 @@
 public interface LuceneSyncWorkOrchestrator {
 
 	default <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work) {
-		return submit( indexNames, indexManagerContexts, routingKeys, work, null );
+			String tenantId, Set<String> routingKeys, ReadWork<T> work) {
+		return submit( indexNames, indexManagerContexts, tenantId, routingKeys, work, null );
 	}
 
 	<T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work, HibernateSearchMultiReader indexReader);
+			String tenantId, Set<String> routingKeys, ReadWork<T> work, HibernateSearchMultiReader indexReader);
 
 }
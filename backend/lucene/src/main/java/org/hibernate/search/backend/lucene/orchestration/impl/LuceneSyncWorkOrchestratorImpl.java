@@ -44,10 +44,10 @@ public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity) {
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work,
+			String tenantId, Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader
+				similarity, indexNames, indexManagerContexts, tenantId, routingKeys, work, indexReader
 		);
 		Throwable throwable = null;
 		try {
@@ -104,14 +104,15 @@ protected void doStop() {
 
 		WorkExecution(Similarity similarity, Set<String> indexNames,
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, ReadWork<T> work,
+				String tenantId, Set<String> routingKeys, ReadWork<T> work,
 				HibernateSearchMultiReader indexReader) {
 			this.similarity = similarity;
 			this.indexNames = indexNames;
 			this.work = work;
 
 			if ( indexReader == null ) {
-				this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+				this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts,
+						tenantId, routingKeys );
 				this.closeIndexReader = true;
 			}
 			else {
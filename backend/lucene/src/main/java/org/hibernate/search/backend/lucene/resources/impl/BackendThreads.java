@@ -25,10 +25,16 @@ public class BackendThreads {
 					.asInteger()
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> DOCUMENT_BUILDING_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.DOCUMENT_BUILDING_THREAD_POOL_SIZE )
+					.asInteger()
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService writeExecutor;
+	private ExecutorService documentBuildingExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -48,11 +54,16 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.writeExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+
+		this.documentBuildingExecutor = DOCUMENT_BUILDING_THREAD_POOL_SIZE.get( propertySource )
+				.map( size -> threadPoolProvider.newFixedThreadPool( size, prefix + " - Document building thread" ) )
+				.orElse( null );
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( ExecutorService::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, documentBuildingExecutor );
 		}
 	}
 
@@ -66,6 +77,14 @@ public ScheduledExecutorService getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to build documents in parallel, or {@code null} if documents must be built sequentially.
+	 */
+	public ExecutorService getDocumentBuildingExecutorOrNull() {
+		checkStarted();
+		return documentBuildingExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
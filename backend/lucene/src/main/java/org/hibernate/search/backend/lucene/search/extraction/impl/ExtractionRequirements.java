@@ -9,6 +9,7 @@
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
@@ -16,12 +17,18 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
 import org.hibernate.search.backend.lucene.search.timeout.impl.LuceneTimeoutManager;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
 
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopScoreDocCollector;
@@ -44,6 +51,7 @@ private ExtractionRequirements(Builder builder) {
 	}
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luceneQuery, Sort sort,
+			FieldDoc after,
 			IndexReaderMetadataResolver metadataResolver, int maxDocs, LuceneTimeoutManager timeoutManager,
 			int totalHitCountThreshold)
 			throws IOException {
@@ -71,7 +79,8 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
 				topDocsCollector = TopFieldCollector.create(
-						sort, maxDocs, totalHitCountThreshold
+						useIndexSortIfEquivalent( indexSearcher.getIndexReader(), sort ), maxDocs, after,
+						totalHitCountThreshold
 				);
 			}
 			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
@@ -99,6 +108,65 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 		);
 	}
 
+	/*
+	 * Lucene can stop collecting a segment early when the query sort is a prefix of the index sort,
+	 * but it detects that situation by comparing sort fields for equality,
+	 * and our sort fields generally do not equal index sort fields:
+	 * they either rely on custom comparators, or sort on sorted numeric doc values
+	 * while the index sort relies on (single-valued) numeric doc values.
+	 * Thus, when our sort is equivalent to a prefix of the index sort, we use the index sort fields instead.
+	 */
+	private static Sort useIndexSortIfEquivalent(IndexReader indexReader, Sort sort) {
+		Sort indexSort = getCommonIndexSortOrNull( indexReader );
+		if ( indexSort == null ) {
+			return sort;
+		}
+		SortField[] sortFields = sort.getSort();
+		SortField[] indexSortFields = indexSort.getSort();
+		if ( sortFields.length > indexSortFields.length ) {
+			return sort;
+		}
+		SortField[] result = new SortField[sortFields.length];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			if ( !isEquivalent( sortFields[i], indexSortFields[i] ) ) {
+				return sort;
+			}
+			result[i] = indexSortFields[i];
+		}
+		return new Sort( result );
+	}
+
+	private static Sort getCommonIndexSortOrNull(IndexReader indexReader) {
+		Sort result = null;
+		for ( LeafReaderContext leafContext : indexReader.leaves() ) {
+			Sort leafIndexSort = leafContext.reader().getMetaData().getSort();
+			if ( leafIndexSort == null || result != null && !result.equals( leafIndexSort ) ) {
+				return null;
+			}
+			result = leafIndexSort;
+		}
+		return result;
+	}
+
+	private static boolean isEquivalent(SortField sortField, SortField indexSortField) {
+		if ( sortField.equals( indexSortField ) ) {
+			return true;
+		}
+		if ( !indexSortField.getField().equals( sortField.getField() )
+				|| indexSortField.getReverse() != sortField.getReverse() ) {
+			return false;
+		}
+		if ( sortField instanceof SortedNumericSortField ) {
+			// Sorting a single-valued field through sorted numeric doc values
+			return SortField.Type.LONG == ( (SortedNumericSortField) sortField ).getNumericType()
+					&& SortField.Type.LONG == indexSortField.getType()
+					&& Objects.equals( sortField.getMissingValue(), indexSortField.getMissingValue() );
+		}
+		FieldComparatorSource comparatorSource = sortField.getComparatorSource();
+		return comparatorSource instanceof LuceneFieldComparatorSource
+				&& ( (LuceneFieldComparatorSource) comparatorSource ).isEquivalentTo( indexSortField );
+	}
+
 	private boolean isDescendingScoreSort(Sort sort) {
 		SortField[] fields = sort.getSort();
 		return fields.length == 1 && isDescendingScoreSort( fields[0] );
@@ -10,6 +10,7 @@
 import java.util.List;
 
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentIdentifierValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
@@ -17,11 +18,7 @@
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.predicate.spi.MatchIdPredicateBuilder;
 
-import org.apache.lucene.index.Term;
-import org.apache.lucene.search.BooleanClause.Occur;
-import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
-import org.apache.lucene.search.TermQuery;
 
 public class LuceneMatchIdPredicate extends AbstractLuceneSearchPredicate {
 
@@ -41,15 +38,7 @@ public void checkNestableWithin(String expectedParentNestedPath) {
 
 	@Override
 	protected Query doToQuery(PredicateRequestContext context) {
-		BooleanQuery.Builder builder = new BooleanQuery.Builder();
-		for ( String value : values ) {
-			builder.add( termQuery( value ), Occur.SHOULD );
-		}
-		return builder.build();
-	}
-
-	private TermQuery termQuery( String value ) {
-		return new TermQuery( new Term( MetadataFields.idFieldName(), value ) );
+		return Queries.anyTerm( MetadataFields.idFieldName(), values );
 	}
 
 	static class Builder extends AbstractBuilder implements MatchIdPredicateBuilder {
@@ -25,10 +25,13 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.FromDocumentFieldValueConvertContextImpl;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.SearchCursor;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocs;
 
 public class LuceneExtractableSearchResult<H> {
@@ -60,6 +63,27 @@ public LuceneLoadableSearchResult<H> extract() throws IOException {
 	}
 
 	public LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusive) throws IOException {
+		return doExtract( startInclusive, endExclusive, null );
+	}
+
+	/**
+	 * Extracts all collected hits, along with a cursor pointing after the last extracted hit.
+	 *
+	 * @param sortForSearchAfter The sort used to collect hits, ending with a tie-breaker.
+	 * @return The loadable search result.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	public LuceneLoadableSearchResult<H> extractWithNextPageCursor(Sort sortForSearchAfter) throws IOException {
+		return doExtract( 0, Integer.MAX_VALUE, sortForSearchAfter );
+	}
+
+	public int hitSize() {
+		TopDocs topDocs = luceneCollectors.getTopDocs();
+		return ( topDocs == null ) ? 0 : topDocs.scoreDocs.length;
+	}
+
+	private LuceneLoadableSearchResult<H> doExtract(int startInclusive, int endExclusive, Sort sortForSearchAfter)
+			throws IOException {
 		TopDocs topDocs = luceneCollectors.getTopDocs();
 		if ( topDocs == null ) {
 			startInclusive = 0;
@@ -79,21 +103,24 @@ public LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusiv
 		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
 				Collections.emptyMap() : extractAggregations();
 
+		SearchCursor nextPageCursor = null;
+		if ( sortForSearchAfter != null && !extractedData.isEmpty() ) {
+			// Extraction may have stopped early because of a timeout: point to the last hit actually extracted.
+			FieldDoc lastHit = (FieldDoc) topDocs.scoreDocs[startInclusive + extractedData.size() - 1];
+			nextPageCursor = LuceneSearchCursor.of( sortForSearchAfter, lastHit );
+		}
+
 		return new LuceneLoadableSearchResult<>(
 				convertContext, rootProjection,
 				luceneCollectors.getResultTotal(), luceneCollectors.getTopDocs(),
 				extractedData, extractedAggregations, projectionHitMapper,
 				timeoutManager.tookTime(),
 				timeoutManager.isTimedOut(),
-				timeoutManager
+				timeoutManager,
+				nextPageCursor
 		);
 	}
 
-	public int hitSize() {
-		TopDocs topDocs = luceneCollectors.getTopDocs();
-		return ( topDocs == null ) ? 0 : topDocs.scoreDocs.length;
-	}
-
 	private List<Object> extractHits(ProjectionHitMapper<?, ?> projectionHitMapper, int startInclusive,
 			int endExclusive) {
 		TopDocs topDocs = luceneCollectors.getTopDocs();
@@ -21,6 +21,7 @@
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 
 import org.apache.lucene.search.TopDocs;
@@ -49,13 +50,15 @@
 	private final Duration took;
 	private final Boolean timedOut;
 	private final LuceneTimeoutManager timeoutManager;
+	private final SearchCursor nextPageCursor;
 
 	LuceneLoadableSearchResult(FromDocumentFieldValueConvertContext convertContext,
 			LuceneSearchProjection<?, H> rootProjection,
 			SearchResultTotal resultTotal, TopDocs topDocs, List<Object> extractedData,
 			Map<AggregationKey<?>, ?> extractedAggregations,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
-			Duration took, boolean timedOut, LuceneTimeoutManager timeoutManager) {
+			Duration took, boolean timedOut, LuceneTimeoutManager timeoutManager,
+			SearchCursor nextPageCursor) {
 		this.convertContext = convertContext;
 		this.rootProjection = rootProjection;
 		this.resultTotal = resultTotal;
@@ -66,6 +69,7 @@
 		this.took = took;
 		this.timedOut = timedOut;
 		this.timeoutManager = timeoutManager;
+		this.nextPageCursor = nextPageCursor;
 	}
 
 	LuceneSearchResult<H> loadBlocking() {
@@ -101,6 +105,7 @@ LuceneSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new LuceneSearchResultImpl<>( resultTotal, loadedHits, extractedAggregations, took, timedOut, topDocs );
+		return new LuceneSearchResultImpl<>( resultTotal, loadedHits, extractedAggregations, took, timedOut, topDocs,
+				nextPageCursor );
 	}
 }
@@ -0,0 +1,194 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchCursor;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.util.BytesRef;
+
+final class LuceneSearchCursor implements SearchCursor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String EXTERNAL_FORM_PREFIX = "lucene:";
+	private static final int EXTERNAL_FORM_VERSION = 1;
+
+	private static final byte TYPE_NULL = 0;
+	private static final byte TYPE_INTEGER = 1;
+	private static final byte TYPE_LONG = 2;
+	private static final byte TYPE_FLOAT = 3;
+	private static final byte TYPE_DOUBLE = 4;
+	private static final byte TYPE_BYTES = 5;
+
+	static LuceneSearchCursor of(Sort sort, FieldDoc lastHit) {
+		Object[] sortValues = new Object[lastHit.fields.length];
+		for ( int i = 0; i < sortValues.length; i++ ) {
+			Object value = lastHit.fields[i];
+			// Comparators may re-use BytesRef instances: copy them, since the cursor may outlive the collector.
+			sortValues[i] = value instanceof BytesRef ? BytesRef.deepCopyOf( (BytesRef) value ) : value;
+		}
+		return new LuceneSearchCursor( signature( sort ), sortValues );
+	}
+
+	/**
+	 * @param externalForm The external form of a cursor, as returned by {@link #toExternalForm()}.
+	 * @return The corresponding cursor, or {@code null} if the external form was not produced by the Lucene backend.
+	 * @throws org.hibernate.search.util.common.SearchException If the external form is malformed.
+	 */
+	static LuceneSearchCursor fromExternalFormOrNull(String externalForm) {
+		if ( !externalForm.startsWith( EXTERNAL_FORM_PREFIX ) ) {
+			return null;
+		}
+		try {
+			byte[] bytes = Base64.getUrlDecoder().decode( externalForm.substring( EXTERNAL_FORM_PREFIX.length() ) );
+			DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes ) );
+			int version = input.readInt();
+			if ( version != EXTERNAL_FORM_VERSION ) {
+				throw new IOException( "Unsupported version: " + version );
+			}
+			String sortSignature = input.readUTF();
+			Object[] sortValues = new Object[input.readInt()];
+			for ( int i = 0; i < sortValues.length; i++ ) {
+				sortValues[i] = readValue( input );
+			}
+			if ( input.available() > 0 ) {
+				throw new IOException( "Unexpected trailing bytes" );
+			}
+			return new LuceneSearchCursor( sortSignature, sortValues );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.malformedSearchCursor( externalForm, e.getMessage(), e );
+		}
+	}
+
+	private final String sortSignature;
+	private final Object[] sortValues;
+
+	private LuceneSearchCursor(String sortSignature, Object[] sortValues) {
+		this.sortSignature = sortSignature;
+		this.sortValues = sortValues;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "sort=" + sortSignature
+				+ ", sortValues=" + Arrays.toString( sortValues )
+				+ "]";
+	}
+
+	@Override
+	public String toExternalForm() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			output.writeInt( EXTERNAL_FORM_VERSION );
+			output.writeUTF( sortSignature );
+			output.writeInt( sortValues.length );
+			for ( Object value : sortValues ) {
+				writeValue( output, value );
+			}
+		}
+		catch (IOException e) {
+			throw new AssertionFailure( "Unexpected failure while writing to memory", e );
+		}
+		return EXTERNAL_FORM_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString( bytes.toByteArray() );
+	}
+
+	boolean isCompatibleWith(Sort sort) {
+		return sortValues.length == sort.getSort().length
+				&& sortSignature.equals( signature( sort ) );
+	}
+
+	FieldDoc toFieldDoc() {
+		// Lucene uses the doc ID of the "after" hit to break ties,
+		// but the sort already includes a tie-breaker on the document identifier,
+		// and Lucene doc IDs are not stable across index readers anyway.
+		// Using the highest possible doc ID ensures only hits sorting strictly after the cursor are collected.
+		return new FieldDoc( Integer.MAX_VALUE, Float.NaN, sortValues.clone() );
+	}
+
+	private static String signature(Sort sort) {
+		StringJoiner joiner = new StringJoiner( "," );
+		for ( SortField sortField : sort.getSort() ) {
+			joiner.add( sortField.getField() + ":" + sortField.getType() + ( sortField.getReverse() ? ":desc" : ":asc" ) );
+		}
+		return joiner.toString();
+	}
+
+	private static void writeValue(DataOutputStream output, Object value) throws IOException {
+		if ( value == null ) {
+			output.writeByte( TYPE_NULL );
+		}
+		else if ( value instanceof Integer ) {
+			output.writeByte( TYPE_INTEGER );
+			output.writeInt( (Integer) value );
+		}
+		else if ( value instanceof Long ) {
+			output.writeByte( TYPE_LONG );
+			output.writeLong( (Long) value );
+		}
+		else if ( value instanceof Float ) {
+			output.writeByte( TYPE_FLOAT );
+			output.writeFloat( (Float) value );
+		}
+		else if ( value instanceof Double ) {
+			output.writeByte( TYPE_DOUBLE );
+			output.writeDouble( (Double) value );
+		}
+		else if ( value instanceof BytesRef ) {
+			BytesRef bytesRef = (BytesRef) value;
+			output.writeByte( TYPE_BYTES );
+			output.writeInt( bytesRef.length );
+			output.write( bytesRef.bytes, bytesRef.offset, bytesRef.length );
+		}
+		else {
+			throw new AssertionFailure( "Unexpected sort value type: " + value.getClass() );
+		}
+	}
+
+	private static Object readValue(DataInputStream input) throws IOException {
+		byte type = input.readByte();
+		switch ( type ) {
+			case TYPE_NULL:
+				return null;
+			case TYPE_INTEGER:
+				return input.readInt();
+			case TYPE_LONG:
+				return input.readLong();
+			case TYPE_FLOAT:
+				return input.readFloat();
+			case TYPE_DOUBLE:
+				return input.readDouble();
+			case TYPE_BYTES:
+				int length = input.readInt();
+				if ( length < 0 || length > input.available() ) {
+					throw new IOException( "Invalid length: " + length );
+				}
+				byte[] bytes = new byte[length];
+				input.readFully( bytes );
+				return new BytesRef( bytes );
+			default:
+				throw new IOException( "Unknown value type: " + type );
+		}
+	}
+}
@@ -236,7 +236,7 @@ public LuceneSearchQuery<H> build() {
 				routingKeys,
 				timeoutManager,
 				definitiveLuceneQuery,
-				luceneSort,
+				luceneSort, requestContext.getLuceneSortForSearchAfter(),
 				searcher, totalHitCountThreshold
 		);
 	}
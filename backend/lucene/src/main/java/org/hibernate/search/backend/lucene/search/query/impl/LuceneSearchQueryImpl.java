@@ -29,12 +29,15 @@
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.ExternalFormSearchCursor;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 
@@ -52,6 +55,7 @@
 	private final Set<String> routingKeys;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
+	private final Sort luceneSortForSearchAfter;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
 	private final Long totalHitCountThreshold;
 
@@ -63,7 +67,7 @@
 			LoadingContext<?, ?> loadingContext,
 			Set<String> routingKeys,
 			LuceneTimeoutManager timeoutManager,
-			Query luceneQuery, Sort luceneSort,
+			Query luceneQuery, Sort luceneSort, Sort luceneSortForSearchAfter,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
 			Long totalHitCountThreshold) {
 		this.queryOrchestrator = queryOrchestrator;
@@ -75,6 +79,7 @@
 		this.timeoutManager = timeoutManager;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
+		this.luceneSortForSearchAfter = luceneSortForSearchAfter;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
@@ -101,6 +106,12 @@ public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
 		return doFetch( offset, limit, false );
 	}
 
+	@Override
+	public LuceneSearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		FieldDoc after = cursor == null ? null : toFieldDoc( cursor );
+		return doSearch( workFactory.searchAfter( searcher, after, limit, totalHitCountThreshold( false ) ) );
+	}
+
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		return doFetch( offset, limit, true ).hits();
@@ -119,8 +130,9 @@ public long fetchTotalHitCount() {
 	public LuceneSearchScroll<H> scroll(int chunkSize) {
 		Set<String> indexNames = searchContext.indexes().indexNames();
 		HibernateSearchMultiReader indexReader = HibernateSearchMultiReader.open(
-				indexNames, searchContext.indexes().elements(), routingKeys );
-		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, searchContext, routingKeys, timeoutManager,
+				indexNames, searchContext.indexes().elements(), sessionContext.tenantIdentifier(), routingKeys );
+		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, searchContext,
+				sessionContext.tenantIdentifier(), routingKeys, timeoutManager,
 				searcher, indexReader, chunkSize
 		);
 	}
@@ -174,10 +186,11 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 	}
 
 	private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean skipTotalHitCount) {
+		return doSearch( workFactory.search( searcher, offset, limit, totalHitCountThreshold( skipTotalHitCount ) ) );
+	}
+
+	private LuceneSearchResult<H> doSearch(ReadWork<LuceneLoadableSearchResult<H>> work) {
 		timeoutManager.start();
-		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit,
-				totalHitCountThreshold( skipTotalHitCount )
-		);
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
 				 * WARNING: the following call must run in the user thread.
@@ -206,6 +219,7 @@ private <T> T doSubmit(ReadWork<T> work) {
 		return queryOrchestrator.submit(
 				searchContext.indexes().indexNames(),
 				searchContext.indexes().elements(),
+				sessionContext.tenantIdentifier(),
 				routingKeys,
 				work
 		);
@@ -222,6 +236,23 @@ private int totalHitCountThreshold(boolean skipTotalHitCount) {
 		return Math.toIntExact( totalHitCountThreshold );
 	}
 
+	private FieldDoc toFieldDoc(SearchCursor cursor) {
+		LuceneSearchCursor luceneCursor;
+		if ( cursor instanceof LuceneSearchCursor ) {
+			luceneCursor = (LuceneSearchCursor) cursor;
+		}
+		else if ( cursor instanceof ExternalFormSearchCursor ) {
+			luceneCursor = LuceneSearchCursor.fromExternalFormOrNull( cursor.toExternalForm() );
+		}
+		else {
+			luceneCursor = null;
+		}
+		if ( luceneCursor == null || !luceneCursor.isCompatibleWith( luceneSortForSearchAfter ) ) {
+			throw log.invalidSearchCursor( cursor );
+		}
+		return luceneCursor.toFieldDoc();
+	}
+
 	private String toDocumentId(LuceneSearchIndexContext index, Object id) {
 		ToDocumentIdentifierValueConverter<?> converter = index.idDslConverter();
 		ToDocumentIdentifierValueConvertContext convertContext =
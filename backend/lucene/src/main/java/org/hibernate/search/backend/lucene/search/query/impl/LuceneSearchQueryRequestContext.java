@@ -6,11 +6,15 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.util.Arrays;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 
 /**
  * The context holding all the useful information pertaining to the Lucene search query,
@@ -18,10 +22,14 @@
  */
 class LuceneSearchQueryRequestContext {
 
+	private static final SortField DOCUMENT_ID_TIE_BREAKER_SORT_FIELD =
+			new SortField( MetadataFields.idFieldName(), SortField.Type.STRING_VAL );
+
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
+	private final Sort luceneSortForSearchAfter;
 
 	LuceneSearchQueryRequestContext(
 			BackendSessionContext sessionContext,
@@ -32,6 +40,7 @@ class LuceneSearchQueryRequestContext {
 		this.loadingContext = loadingContext;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
+		this.luceneSortForSearchAfter = withDocumentIdTieBreaker( luceneSort );
 	}
 
 	BackendSessionContext getSessionContext() {
@@ -50,4 +59,23 @@ Sort getLuceneSort() {
 		return luceneSort;
 	}
 
+	/**
+	 * @return The sort to use when fetching hits after a cursor:
+	 * same as {@link #getLuceneSort()}, but with a final sort on the document identifier,
+	 * so that the position of each hit is fully determined by its sort values.
+	 */
+	Sort getLuceneSortForSearchAfter() {
+		return luceneSortForSearchAfter;
+	}
+
+	private static Sort withDocumentIdTieBreaker(Sort sort) {
+		if ( sort == null ) {
+			return new Sort( SortField.FIELD_SCORE, DOCUMENT_ID_TIE_BREAKER_SORT_FIELD );
+		}
+		SortField[] sortFields = sort.getSort();
+		SortField[] result = Arrays.copyOf( sortFields, sortFields.length + 1 );
+		result[sortFields.length] = DOCUMENT_ID_TIE_BREAKER_SORT_FIELD;
+		return new Sort( result );
+	}
+
 }
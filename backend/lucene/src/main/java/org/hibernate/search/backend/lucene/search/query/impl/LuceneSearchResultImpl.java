@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
@@ -23,8 +24,8 @@
 	private final TopDocs topDocs;
 
 	LuceneSearchResultImpl(SearchResultTotal resultTotal, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
-			Duration took, Boolean timedOut, TopDocs topDocs) {
-		super( resultTotal, hits, aggregationResults, took, timedOut );
+			Duration took, Boolean timedOut, TopDocs topDocs, SearchCursor nextPageCursor) {
+		super( resultTotal, hits, aggregationResults, took, timedOut, nextPageCursor );
 		this.topDocs = topDocs;
 	}
 
@@ -34,6 +34,7 @@
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSearchContext searchContext;
+	private final String tenantId;
 	private final Set<String> routingKeys;
 	private final LuceneTimeoutManager timeoutManager;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
@@ -48,13 +49,14 @@
 
 	public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchContext searchContext,
-			Set<String> routingKeys,
+			String tenantId, Set<String> routingKeys,
 			LuceneTimeoutManager timeoutManager,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
 			HibernateSearchMultiReader indexReader, int chunkSize) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.searchContext = searchContext;
+		this.tenantId = tenantId;
 		this.routingKeys = routingKeys;
 		this.timeoutManager = timeoutManager;
 		this.searcher = searcher;
@@ -120,7 +122,7 @@ private <T> T doSubmitWithIndexReader(ReadWork<T> work, HibernateSearchMultiRead
 		return queryOrchestrator.submit(
 				searchContext.indexes().indexNames(),
 				searchContext.indexes().elements(),
-				routingKeys,
+				tenantId, routingKeys,
 				work, indexReader
 		);
 	}
@@ -25,6 +25,7 @@
 
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 
@@ -85,6 +86,29 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 		return extractableSearchResult.extract( 0, maxDocs );
 	}
 
+	@Override
+	public LuceneLoadableSearchResult<H> searchAfter(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			FieldDoc after, Integer limit, int totalHitCountThreshold) throws IOException {
+		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
+
+		// No need to take an offset into account: the collector skips hits located before "after" on its own.
+		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), 0, limit );
+		LuceneCollectors luceneCollectors = extractionRequirements.createCollectors(
+				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSortForSearchAfter(), after,
+				metadataResolver, maxDocs, timeoutManager, totalHitCountThreshold
+		);
+		luceneCollectors.collectMatchingDocs( 0, limit );
+
+		LuceneExtractableSearchResult<H> extractableSearchResult = new LuceneExtractableSearchResult<>(
+				requestContext, indexSearcher,
+				luceneCollectors,
+				rootProjection, aggregations, timeoutManager
+		);
+
+		return extractableSearchResult.extractWithNextPageCursor( requestContext.getLuceneSortForSearchAfter() );
+	}
+
 	@Override
 	public LuceneExtractableSearchResult<H> scroll(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver, int limit) throws IOException {
@@ -169,7 +193,7 @@ private LuceneCollectors prefetchMatchingDocs(IndexSearcher indexSearcher,
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
 			int maxDocs, int totalHitCountThreshold) throws IOException {
 		return extractionRequirements.createCollectors(
-				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(), null,
 				metadataResolver, maxDocs, timeoutManager, totalHitCountThreshold
 		);
 	}
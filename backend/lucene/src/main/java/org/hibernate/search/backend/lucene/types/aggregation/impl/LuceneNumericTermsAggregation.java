@@ -23,6 +23,7 @@
 import org.apache.lucene.facet.FacetResult;
 import org.apache.lucene.facet.Facets;
 import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
@@ -64,10 +65,8 @@ SortedSet<E> collectFirstTerms(IndexReader reader, boolean descending, int limit
 		TreeSet<E> collectedTerms = new TreeSet<>( descending ? termComparator.reversed() : termComparator );
 		for ( LeafReaderContext leaf : reader.leaves() ) {
 			final LeafReader atomicReader = leaf.reader();
-			SortedNumericDocValues docValues = atomicReader.getSortedNumericDocValues( absoluteFieldPath );
-			if ( docValues == null ) {
-				continue;
-			}
+			// Single-valued fields may use numeric doc values instead of sorted numeric doc values
+			SortedNumericDocValues docValues = DocValues.getSortedNumeric( atomicReader, absoluteFieldPath );
 			while ( docValues.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
 				for ( int i = 0; i < docValues.docValueCount(); i++ ) {
 					E term = numericDomain.sortedDocValueToTerm( docValues.nextValue() );
@@ -9,6 +9,10 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
+
 public abstract class AbstractLuceneNumericFieldCodec<F, E extends Number>
 		implements LuceneStandardFieldCodec<F, E> {
 
@@ -27,6 +31,17 @@ public AbstractLuceneNumericFieldCodec(Indexing indexing, DocValues docValues, S
 
 	@Override
 	public final void addToDocument(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, F value) {
+		doAddToDocument( documentBuilder, absoluteFieldPath, value, false );
+	}
+
+	@Override
+	public final void addUpdatableInPlaceToDocument(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
+			F value) {
+		doAddToDocument( documentBuilder, absoluteFieldPath, value, true );
+	}
+
+	private void doAddToDocument(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, F value,
+			boolean updatableInPlace) {
 		if ( value == null && indexNullAsValue != null ) {
 			value = indexNullAsValue;
 		}
@@ -44,7 +59,14 @@ public final void addToDocument(LuceneDocumentBuilder documentBuilder, String ab
 		}
 
 		if ( DocValues.ENABLED == docValues ) {
-			documentBuilder.addField( domain.createSortedDocValuesField( absoluteFieldPath, encodedValue ) );
+			if ( updatableInPlace && isDocValuesOnly() ) {
+				// Doc values are the only representation of this value:
+				// use single-valued doc values, which can be updated in place.
+				documentBuilder.addField( domain.createDocValuesField( absoluteFieldPath, encodedValue ) );
+			}
+			else {
+				documentBuilder.addField( domain.createSortedDocValuesField( absoluteFieldPath, encodedValue ) );
+			}
 		}
 		else {
 			// For the "exists" predicate
@@ -64,10 +86,43 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		return getClass() == obj.getClass();
 	}
 
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param updatableInPlace Whether the field is single-valued in the root document
+	 * and configured to have doc values updatable in place.
+	 * @param reverse Whether to sort in descending order.
+	 * @return A sort field suitable for {@link org.apache.lucene.index.IndexWriterConfig#setIndexSort(org.apache.lucene.search.Sort) index sorting},
+	 * consistent with the doc values added to documents by this codec
+	 * and sorting documents the same way as the default field sort (missing values last),
+	 * or {@code null} if this field does not have doc values.
+	 */
+	public SortField createIndexSortField(String absoluteFieldPath, boolean updatableInPlace, boolean reverse) {
+		if ( DocValues.ENABLED != docValues ) {
+			return null;
+		}
+		LuceneNumericDomain<E> domain = getDomain();
+		SortField sortField;
+		if ( updatableInPlace && isDocValuesOnly() ) {
+			sortField = new SortField( absoluteFieldPath, SortField.Type.LONG, reverse );
+		}
+		else {
+			sortField = new SortedNumericSortField( absoluteFieldPath, SortField.Type.LONG, reverse,
+					reverse ? SortedNumericSelector.Type.MAX : SortedNumericSelector.Type.MIN );
+		}
+		// Use the same placeholder as field sorts for documents without a value
+		E missingValue = reverse ? domain.getMinValue() : domain.getMaxValue();
+		sortField.setMissingValue( domain.termToSortedDocValue( missingValue ) );
+		return sortField;
+	}
+
 	public abstract F decode(E encoded);
 
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	private boolean isDocValuesOnly() {
+		return Indexing.DISABLED == indexing && Storage.DISABLED == storage;
+	}
+
 	abstract void addStoredToDocument(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
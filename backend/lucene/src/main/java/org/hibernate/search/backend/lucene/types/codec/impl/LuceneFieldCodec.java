@@ -30,6 +30,23 @@
 	 */
 	void addToDocument(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, F value);
 
+	/**
+	 * Encode the given value in the document by adding new fields to the Lucene document,
+	 * knowing that no other value will ever be added to the same document for this field,
+	 * and that the field was explicitly configured to have doc values updatable in place.
+	 * <p>
+	 * Codecs may take advantage of this to use an encoding that can be updated in place,
+	 * such as {@link org.apache.lucene.index.DocValuesType#NUMERIC numeric doc values}.
+	 * By default, this simply calls {@link #addToDocument(LuceneDocumentBuilder, String, Object)}.
+	 *
+	 * @param documentBuilder The document builder.
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param value The value to encode.
+	 */
+	default void addUpdatableInPlaceToDocument(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath, F value) {
+		addToDocument( documentBuilder, absoluteFieldPath, value );
+	}
+
 	/**
 	 * Extract the value from the given stored field.
 	 * <p>
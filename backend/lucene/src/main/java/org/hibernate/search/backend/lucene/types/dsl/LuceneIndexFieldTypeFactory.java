@@ -6,6 +6,17 @@
  */
 package org.hibernate.search.backend.lucene.types.dsl;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+
 import org.hibernate.search.backend.lucene.search.predicate.dsl.LuceneSearchPredicateFactory;
 import org.hibernate.search.backend.lucene.search.sort.dsl.LuceneSearchSortFactory;
 import org.hibernate.search.engine.backend.types.dsl.IndexFieldTypeFactory;
@@ -20,6 +31,57 @@
 
 public interface LuceneIndexFieldTypeFactory extends IndexFieldTypeFactory {
 
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Integer> asInteger();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Long> asLong();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Boolean> asBoolean();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Byte> asByte();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Short> asShort();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Float> asFloat();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Double> asDouble();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, LocalDate> asLocalDate();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, LocalDateTime> asLocalDateTime();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, LocalTime> asLocalTime();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Instant> asInstant();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, ZonedDateTime> asZonedDateTime();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Year> asYear();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, YearMonth> asYearMonth();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, MonthDay> asMonthDay();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, OffsetDateTime> asOffsetDateTime();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, OffsetTime> asOffsetTime();
+
 	/**
 	 * Define a native field type.
 	 * <p>
@@ -13,4 +13,20 @@
 public interface LuceneStandardIndexFieldTypeOptionsStep<S extends LuceneStandardIndexFieldTypeOptionsStep<?, F>, F>
 		extends StandardIndexFieldTypeOptionsStep<S, F> {
 
+	/**
+	 * @param docValuesUpdatableInPlace Whether doc values of this field should be encoded
+	 * so that they can be updated in place, without reindexing the whole document,
+	 * when this field is the only one that changed in a document.
+	 * <p>
+	 * Only has an effect on single-valued, numeric, temporal or boolean fields
+	 * that are neither searchable nor projectable, but are sortable or aggregable.
+	 * Ignored in all other cases.
+	 * <p>
+	 * Changing this option changes the format of the index:
+	 * indexes must be dropped and fully reindexed after enabling or disabling it.
+	 * Defaults to {@code false}.
+	 * @return {@code this}, for method chaining.
+	 */
+	S docValuesUpdatableInPlace(boolean docValuesUpdatableInPlace);
+
 }
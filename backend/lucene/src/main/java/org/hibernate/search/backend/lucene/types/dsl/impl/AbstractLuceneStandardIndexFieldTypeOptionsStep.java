@@ -55,6 +55,12 @@ public S aggregable(Aggregable aggregable) {
 		return thisAsS();
 	}
 
+	@Override
+	public S docValuesUpdatableInPlace(boolean docValuesUpdatableInPlace) {
+		builder.docValuesUpdatableInPlace( docValuesUpdatableInPlace );
+		return thisAsS();
+	}
+
 	@Override
 	public abstract LuceneIndexValueFieldType<F> toIndexFieldType();
 
@@ -25,6 +25,7 @@
 import org.hibernate.search.backend.lucene.types.converter.LuceneFieldContributor;
 import org.hibernate.search.backend.lucene.types.converter.LuceneFieldValueExtractor;
 import org.hibernate.search.backend.lucene.types.dsl.LuceneIndexFieldTypeFactory;
+import org.hibernate.search.backend.lucene.types.dsl.LuceneStandardIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.IndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.ScaledNumberIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
@@ -129,87 +130,87 @@ public StringIndexFieldTypeOptionsStep<?> asString() {
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Integer> asInteger() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Integer> asInteger() {
 		return new LuceneIntegerIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Long> asLong() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Long> asLong() {
 		return new LuceneLongIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Boolean> asBoolean() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Boolean> asBoolean() {
 		return new LuceneBooleanIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Byte> asByte() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Byte> asByte() {
 		return new LuceneByteIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Short> asShort() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Short> asShort() {
 		return new LuceneShortIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Float> asFloat() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Float> asFloat() {
 		return new LuceneFloatIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Double> asDouble() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Double> asDouble() {
 		return new LuceneDoubleIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, LocalDate> asLocalDate() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, LocalDate> asLocalDate() {
 		return new LuceneLocalDateIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, LocalDateTime> asLocalDateTime() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, LocalDateTime> asLocalDateTime() {
 		return new LuceneLocalDateTimeIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, LocalTime> asLocalTime() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, LocalTime> asLocalTime() {
 		return new LuceneLocalTimeIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Instant> asInstant() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Instant> asInstant() {
 		return new LuceneInstantIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, ZonedDateTime> asZonedDateTime() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, ZonedDateTime> asZonedDateTime() {
 		return new LuceneZonedDateTimeIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Year> asYear() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Year> asYear() {
 		return new LuceneYearIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, YearMonth> asYearMonth() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, YearMonth> asYearMonth() {
 		return new LuceneYearMonthIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, MonthDay> asMonthDay() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, MonthDay> asMonthDay() {
 		return new LuceneMonthDayIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, OffsetDateTime> asOffsetDateTime() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, OffsetDateTime> asOffsetDateTime() {
 		return new LuceneOffsetDateTimeIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, OffsetTime> asOffsetTime() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, OffsetTime> asOffsetTime() {
 		return new LuceneOffsetTimeIndexFieldTypeOptionsStep( this );
 	}
 
@@ -39,6 +39,7 @@
 	private final boolean sortable;
 	private final boolean projectable;
 	private final boolean aggregable;
+	private final boolean docValuesUpdatableInPlace;
 
 	private final Map<SearchQueryElementTypeKey<?>, LuceneSearchFieldQueryElementFactory<?, F>> queryElementFactories;
 
@@ -60,6 +61,7 @@ private LuceneIndexValueFieldType(Builder<F> builder) {
 		this.sortable = builder.sortable;
 		this.projectable = builder.projectable;
 		this.aggregable = builder.aggregable;
+		this.docValuesUpdatableInPlace = builder.docValuesUpdatableInPlace;
 		this.queryElementFactories = builder.queryElementFactories;
 		this.indexingAnalyzerOrNormalizer = builder.indexingAnalyzerOrNormalizer();
 		this.searchAnalyzerOrNormalizer = builder.searchAnalyzer != null ? builder.searchAnalyzer
@@ -110,6 +112,10 @@ public boolean aggregable() {
 		return aggregable;
 	}
 
+	public boolean docValuesUpdatableInPlace() {
+		return docValuesUpdatableInPlace;
+	}
+
 	@Override
 	public Class<?> dslArgumentClass() {
 		return dslConverter.valueType();
@@ -184,6 +190,7 @@ public Analyzer searchAnalyzerOrNormalizer() {
 		private boolean sortable;
 		private boolean projectable;
 		private boolean aggregable;
+		private boolean docValuesUpdatableInPlace;
 
 		private final Map<SearchQueryElementTypeKey<?>, LuceneSearchFieldQueryElementFactory<?, F>>
 				queryElementFactories = new HashMap<>();
@@ -231,6 +238,10 @@ public void aggregable(boolean aggregable) {
 			this.aggregable = aggregable;
 		}
 
+		public void docValuesUpdatableInPlace(boolean docValuesUpdatableInPlace) {
+			this.docValuesUpdatableInPlace = docValuesUpdatableInPlace;
+		}
+
 		public <T> void queryElementFactory(SearchQueryElementTypeKey<T> key,
 				LuceneSearchFieldQueryElementFactory<T, F> factory) {
 			queryElementFactories.put( key, factory );
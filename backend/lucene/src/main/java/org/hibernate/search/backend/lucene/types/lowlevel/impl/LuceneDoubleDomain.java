@@ -20,6 +20,7 @@
 import org.hibernate.search.util.common.data.Range;
 
 import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.facet.Facets;
 import org.apache.lucene.facet.FacetsCollector;
@@ -68,6 +69,11 @@ public Query createExactQuery(String absoluteFieldPath, Double value) {
 		return DoublePoint.newExactQuery( absoluteFieldPath, value );
 	}
 
+	@Override
+	public Query createSetQuery(String absoluteFieldPath, Collection<Double> values) {
+		return DoublePoint.newSetQuery( absoluteFieldPath, values );
+	}
+
 	@Override
 	public Query createRangeQuery(String absoluteFieldPath, Double lowerLimit, Double upperLimit) {
 		return DoublePoint.newRangeQuery(
@@ -80,6 +86,11 @@ public Double sortedDocValueToTerm(long longValue) {
 		return NumericUtils.sortableLongToDouble( longValue );
 	}
 
+	@Override
+	public long termToSortedDocValue(Double term) {
+		return NumericUtils.doubleToSortableLong( term );
+	}
+
 	@Override
 	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider) throws IOException {
@@ -122,6 +133,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Doubl
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.doubleToSortableLong( numericValue ) );
 	}
 
+	@Override
+	public IndexableField createDocValuesField(String absoluteFieldPath, Double numericValue) {
+		return new NumericDocValuesField( absoluteFieldPath, NumericUtils.doubleToSortableLong( numericValue ) );
+	}
+
 	@Override
 	public FieldComparator.NumericComparator<Double> createFieldComparator(String fieldName, int numHits,
 			MultiValueMode multiValueMode, Double missingValue, NestedDocsProvider nestedDocsProvider) {
@@ -17,6 +17,7 @@
 import org.hibernate.search.util.common.data.Range;
 
 import org.apache.lucene.document.FloatPoint;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.facet.Facets;
 import org.apache.lucene.facet.FacetsCollector;
@@ -69,6 +70,11 @@ public Query createExactQuery(String absoluteFieldPath, Float value) {
 		return FloatPoint.newExactQuery( absoluteFieldPath, value );
 	}
 
+	@Override
+	public Query createSetQuery(String absoluteFieldPath, Collection<Float> values) {
+		return FloatPoint.newSetQuery( absoluteFieldPath, values );
+	}
+
 	@Override
 	public Query createRangeQuery(String absoluteFieldPath, Float lowerLimit, Float upperLimit) {
 		return FloatPoint.newRangeQuery(
@@ -81,6 +87,11 @@ public Float sortedDocValueToTerm(long longValue) {
 		return NumericUtils.sortableIntToFloat( (int) longValue );
 	}
 
+	@Override
+	public long termToSortedDocValue(Float term) {
+		return NumericUtils.floatToSortableInt( term );
+	}
+
 	@Override
 	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider) throws IOException {
@@ -123,6 +134,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Float
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.floatToSortableInt( numericValue ) );
 	}
 
+	@Override
+	public IndexableField createDocValuesField(String absoluteFieldPath, Float numericValue) {
+		return new NumericDocValuesField( absoluteFieldPath, NumericUtils.floatToSortableInt( numericValue ) );
+	}
+
 	@Override
 	public FieldComparator.NumericComparator<Float> createFieldComparator(String fieldname, int numHits,
 			MultiValueMode multiValueMode, Float missingValue, NestedDocsProvider nestedDocsProvider) {
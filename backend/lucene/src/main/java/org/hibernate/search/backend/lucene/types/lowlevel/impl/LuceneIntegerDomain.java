@@ -16,6 +16,7 @@
 import org.hibernate.search.util.common.data.Range;
 
 import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.facet.Facets;
 import org.apache.lucene.facet.FacetsCollector;
@@ -67,6 +68,11 @@ public Query createExactQuery(String absoluteFieldPath, Integer value) {
 		return IntPoint.newExactQuery( absoluteFieldPath, value );
 	}
 
+	@Override
+	public Query createSetQuery(String absoluteFieldPath, Collection<Integer> values) {
+		return IntPoint.newSetQuery( absoluteFieldPath, values );
+	}
+
 	@Override
 	public Query createRangeQuery(String absoluteFieldPath, Integer lowerLimit, Integer upperLimit) {
 		return IntPoint.newRangeQuery(
@@ -79,6 +85,11 @@ public Integer sortedDocValueToTerm(long longValue) {
 		return (int) longValue;
 	}
 
+	@Override
+	public long termToSortedDocValue(Integer term) {
+		return term;
+	}
+
 	@Override
 	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider) throws IOException {
@@ -115,6 +126,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Integ
 		return new SortedNumericDocValuesField( absoluteFieldPath, numericValue.longValue() );
 	}
 
+	@Override
+	public IndexableField createDocValuesField(String absoluteFieldPath, Integer numericValue) {
+		return new NumericDocValuesField( absoluteFieldPath, numericValue.longValue() );
+	}
+
 	@Override
 	public FieldComparator.NumericComparator<Integer> createFieldComparator(String fieldName, int numHits,
 			MultiValueMode multiValueMode, Integer missingValue, NestedDocsProvider nestedDocsProvider) {
@@ -16,6 +16,7 @@
 import org.hibernate.search.util.common.data.Range;
 
 import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.facet.Facets;
 import org.apache.lucene.facet.FacetsCollector;
@@ -67,6 +68,11 @@ public Query createExactQuery(String absoluteFieldPath, Long value) {
 		return LongPoint.newExactQuery( absoluteFieldPath, value );
 	}
 
+	@Override
+	public Query createSetQuery(String absoluteFieldPath, Collection<Long> values) {
+		return LongPoint.newSetQuery( absoluteFieldPath, values );
+	}
+
 	@Override
 	public Query createRangeQuery(String absoluteFieldPath, Long lowerLimit, Long upperLimit) {
 		return LongPoint.newRangeQuery(
@@ -79,6 +85,11 @@ public Long sortedDocValueToTerm(long longValue) {
 		return longValue;
 	}
 
+	@Override
+	public long termToSortedDocValue(Long term) {
+		return term;
+	}
+
 	@Override
 	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider) throws IOException {
@@ -115,6 +126,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Long
 		return new SortedNumericDocValuesField( absoluteFieldPath, numericValue );
 	}
 
+	@Override
+	public IndexableField createDocValuesField(String absoluteFieldPath, Long numericValue) {
+		return new NumericDocValuesField( absoluteFieldPath, numericValue );
+	}
+
 	@Override
 	public FieldComparator.NumericComparator<Long> createFieldComparator(String fieldName, int numHits,
 			MultiValueMode multiValueMode, Long missingValue, NestedDocsProvider nestedDocsProvider) {
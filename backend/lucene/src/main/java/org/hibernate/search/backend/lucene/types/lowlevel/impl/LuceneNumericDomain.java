@@ -34,10 +34,25 @@
 
 	Query createExactQuery(String absoluteFieldPath, E value);
 
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param values The values to match.
+	 * @return A query matching documents whose field has any of the given values,
+	 * with a cost that does not grow with the number of values as fast as a disjunction of exact queries would.
+	 */
+	Query createSetQuery(String absoluteFieldPath, Collection<E> values);
+
 	Query createRangeQuery(String absoluteFieldPath, E lowerLimit, E upperLimit);
 
 	E sortedDocValueToTerm(long longValue);
 
+	/**
+	 * @param term A value.
+	 * @return The representation of this value in doc values, i.e. the reverse of {@link #sortedDocValueToTerm(long)}.
+	 * The natural order of the returned longs is the same as the order of the corresponding values.
+	 */
+	long termToSortedDocValue(E term);
+
 	Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider) throws IOException;
 
@@ -49,6 +64,13 @@ Facets createRangeFacetCounts(String absoluteFieldPath,
 
 	IndexableField createSortedDocValuesField(String absoluteFieldPath, E numericValue);
 
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param numericValue The value.
+	 * @return A single-valued doc values field, encoded the same way as {@link #createSortedDocValuesField(String, Number)}.
+	 */
+	IndexableField createDocValuesField(String absoluteFieldPath, E numericValue);
+
 	FieldComparator.NumericComparator<E> createFieldComparator(String absoluteFieldPath, int numHits,
 			MultiValueMode multiValueMode, E missingValue, NestedDocsProvider nestedDocsProvider);
 }
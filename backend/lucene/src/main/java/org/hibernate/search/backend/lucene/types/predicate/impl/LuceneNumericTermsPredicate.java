@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.predicate.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.search.impl.AbstractLuceneCodecAwareSearchFieldQueryElementFactory;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchValueFieldContext;
+import org.hibernate.search.backend.lucene.search.predicate.impl.AbstractLuceneLeafSingleFieldPredicate;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.spi.TermsPredicateBuilder;
+
+import org.apache.lucene.search.Query;
+
+public class LuceneNumericTermsPredicate extends AbstractLuceneLeafSingleFieldPredicate {
+
+	private LuceneNumericTermsPredicate(Builder<?, ?> builder) {
+		super( builder );
+	}
+
+	public static class Factory<F, E extends Number>
+			extends AbstractLuceneCodecAwareSearchFieldQueryElementFactory<TermsPredicateBuilder, F, AbstractLuceneNumericFieldCodec<F, E>> {
+		public Factory(AbstractLuceneNumericFieldCodec<F, E> codec) {
+			super( codec );
+		}
+
+		@Override
+		public Builder<F, E> create(LuceneSearchContext searchContext, LuceneSearchValueFieldContext<F> field) {
+			return new Builder<>( codec, searchContext, field );
+		}
+	}
+
+	private static class Builder<F, E extends Number> extends AbstractBuilder<F> implements TermsPredicateBuilder {
+		private final AbstractLuceneNumericFieldCodec<F, E> codec;
+
+		private List<E> terms;
+
+		private Builder(AbstractLuceneNumericFieldCodec<F, E> codec, LuceneSearchContext searchContext,
+				LuceneSearchValueFieldContext<F> field) {
+			super( searchContext, field );
+			this.codec = codec;
+		}
+
+		@Override
+		public void values(Collection<?> values, ValueConvert convert) {
+			this.terms = new ArrayList<>( values.size() );
+			for ( Object value : values ) {
+				terms.add( convertAndEncode( codec, value, convert ) );
+			}
+		}
+
+		@Override
+		public SearchPredicate build() {
+			return new LuceneNumericTermsPredicate( this );
+		}
+
+		@Override
+		protected Query buildQuery() {
+			// Point set queries are not subject to the maximum clause count of boolean queries,
+			// and visit the points tree only once for all values.
+			return codec.getDomain().createSetQuery( absoluteFieldPath, terms );
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.predicate.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.lucene.search.impl.AbstractLuceneCodecAwareSearchFieldQueryElementFactory;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchValueFieldContext;
+import org.hibernate.search.backend.lucene.search.predicate.impl.AbstractLuceneLeafSingleFieldPredicate;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStandardFieldCodec;
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.spi.TermsPredicateBuilder;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Query;
+
+public class LuceneTextTermsPredicate extends AbstractLuceneLeafSingleFieldPredicate {
+
+	private LuceneTextTermsPredicate(Builder<?> builder) {
+		super( builder );
+	}
+
+	public static class Factory<F>
+			extends AbstractLuceneCodecAwareSearchFieldQueryElementFactory<TermsPredicateBuilder, F, LuceneStandardFieldCodec<F, String>> {
+		public Factory(LuceneStandardFieldCodec<F, String> codec) {
+			super( codec );
+		}
+
+		@Override
+		public Builder<F> create(LuceneSearchContext searchContext, LuceneSearchValueFieldContext<F> field) {
+			return new Builder<>( codec, searchContext, field );
+		}
+	}
+
+	private static class Builder<F> extends AbstractBuilder<F> implements TermsPredicateBuilder {
+		private final LuceneStandardFieldCodec<F, String> codec;
+
+		private List<String> terms;
+
+		private Builder(LuceneStandardFieldCodec<F, String> codec, LuceneSearchContext searchContext,
+				LuceneSearchValueFieldContext<F> field) {
+			super( searchContext, field );
+			this.codec = codec;
+		}
+
+		@Override
+		public void values(Collection<?> values, ValueConvert convert) {
+			this.terms = new ArrayList<>( values.size() );
+			for ( Object value : values ) {
+				terms.add( normalize( convertAndEncode( codec, value, convert ) ) );
+			}
+		}
+
+		@Override
+		public SearchPredicate build() {
+			return new LuceneTextTermsPredicate( this );
+		}
+
+		@Override
+		protected Query buildQuery() {
+			return Queries.anyTerm( absoluteFieldPath, terms );
+		}
+
+		private String normalize(String value) {
+			if ( value == null ) {
+				return null;
+			}
+			Analyzer searchAnalyzerOrNormalizer = field.type().searchAnalyzerOrNormalizer();
+			return searchAnalyzerOrNormalizer.normalize( absoluteFieldPath, value ).utf8ToString();
+		}
+	}
+}
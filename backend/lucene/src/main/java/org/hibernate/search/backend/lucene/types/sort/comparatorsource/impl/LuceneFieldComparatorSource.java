@@ -10,6 +10,7 @@
 
 import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public abstract class LuceneFieldComparatorSource extends FieldComparatorSource {
 
@@ -27,6 +28,16 @@ public String getNestedDocumentPath() {
 		return nestedDocumentPath;
 	}
 
+	/**
+	 * @param indexSortField A sort field the index is sorted on,
+	 * targeting the same field and in the same order as the sort using this comparator source.
+	 * @return {@code true} if sorting with this comparator source is guaranteed to yield the same order
+	 * as sorting with the given index sort field, {@code false} otherwise.
+	 */
+	public boolean isEquivalentTo(SortField indexSortField) {
+		return false;
+	}
+
 	public void setOriginalParentQuery(Query luceneQuery) {
 		this.nestedDocsProvider = new NestedDocsProvider( nestedDocumentPath, luceneQuery, filter );
 	}
@@ -10,6 +10,9 @@
 
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 
 public class LuceneNumericFieldComparatorSource<E extends Number> extends LuceneFieldComparatorSource {
@@ -29,4 +32,22 @@ public LuceneNumericFieldComparatorSource(String nestedDocumentPath, LuceneNumer
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		return numericDomain.createFieldComparator( fieldname, numHits, sortMode, missingValue, nestedDocsProvider );
 	}
+
+	@Override
+	public boolean isEquivalentTo(SortField indexSortField) {
+		if ( nestedDocumentPath != null || filter != null || missingValue == null ) {
+			return false;
+		}
+		Long encodedMissingValue = numericDomain.termToSortedDocValue( missingValue );
+		if ( !encodedMissingValue.equals( indexSortField.getMissingValue() ) ) {
+			return false;
+		}
+		if ( indexSortField instanceof SortedNumericSortField ) {
+			SortedNumericSelector.Type selector = ( (SortedNumericSortField) indexSortField ).getSelector();
+			return MultiValueMode.MIN == sortMode && SortedNumericSelector.Type.MIN == selector
+					|| MultiValueMode.MAX == sortMode && SortedNumericSelector.Type.MAX == selector;
+		}
+		// Single-valued doc values: the sort mode is irrelevant.
+		return SortField.Type.LONG == indexSortField.getType();
+	}
 }
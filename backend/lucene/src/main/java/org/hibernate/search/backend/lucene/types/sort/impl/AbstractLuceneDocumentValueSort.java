@@ -37,9 +37,16 @@ public abstract class AbstractLuceneDocumentValueSort extends AbstractLuceneReve
 
 	protected AbstractLuceneDocumentValueSort(AbstractBuilder builder) {
 		super( builder );
-		LuceneFieldComparatorSource fieldComparatorSource = builder.toFieldComparatorSource();
-		sortField = new SortField( builder.absoluteFieldPath, fieldComparatorSource, order == SortOrder.DESC );
-		nestedFieldSort = builder.nestedDocumentPath != null ? fieldComparatorSource : null;
+		SortField nativeSortField = builder.toNativeSortFieldOrNull();
+		if ( nativeSortField != null ) {
+			sortField = nativeSortField;
+			nestedFieldSort = null;
+		}
+		else {
+			LuceneFieldComparatorSource fieldComparatorSource = builder.toFieldComparatorSource();
+			sortField = new SortField( builder.absoluteFieldPath, fieldComparatorSource, order == SortOrder.DESC );
+			nestedFieldSort = builder.nestedDocumentPath != null ? fieldComparatorSource : null;
+		}
 	}
 
 	@Override
@@ -84,6 +91,15 @@ public void filter(SearchPredicate filter) {
 
 		protected abstract LuceneFieldComparatorSource toFieldComparatorSource();
 
+		/**
+		 * @return A sort field relying exclusively on Lucene's built-in comparators,
+		 * which are cheaper than our custom comparators and benefit from Lucene's own optimizations,
+		 * or {@code null} if this sort requires a custom comparator (multi-valued or nested fields in particular).
+		 */
+		protected SortField toNativeSortFieldOrNull() {
+			return null;
+		}
+
 		protected final MultiValueMode getMultiValueMode() {
 			MultiValueMode multiValueMode;
 			if ( mode == null ) {
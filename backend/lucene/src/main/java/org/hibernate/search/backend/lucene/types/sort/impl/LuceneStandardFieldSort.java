@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchValueFieldContext;
 import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStandardFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
 import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneNumericFieldComparatorSource;
 import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneTextFieldComparatorSource;
@@ -28,6 +29,10 @@
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.SortedSetSelector;
+import org.apache.lucene.search.SortedSetSortField;
 import org.apache.lucene.util.BytesRef;
 
 public class LuceneStandardFieldSort extends AbstractLuceneDocumentValueSort {
@@ -117,6 +122,15 @@ else if ( missingValue == SortMissingValue.MISSING_LAST ) {
 			}
 			return effectiveMissingValue;
 		}
+
+		/**
+		 * @return {@code true} if this field has at most one value per document in every targeted index,
+		 * and no nested document is involved, in which case the sort mode is irrelevant
+		 * and Lucene's built-in comparators can be used.
+		 */
+		protected final boolean isSingleValuedInRoot() {
+			return nestedDocumentPath == null && !field.multiValuedInRoot();
+		}
 	}
 
 	public static class NumericFieldFactory<F, E extends Number>
@@ -143,6 +157,21 @@ protected LuceneFieldComparatorSource toFieldComparatorSource() {
 			return new LuceneNumericFieldComparatorSource<>( nestedDocumentPath, codec.getDomain(),
 					(E) getEffectiveMissingValue(), getMultiValueMode(), getNestedFilter() );
 		}
+
+		@Override
+		protected SortField toNativeSortFieldOrNull() {
+			if ( !isSingleValuedInRoot() ) {
+				return null;
+			}
+			LuceneNumericDomain<E> domain = codec.getDomain();
+			boolean reverse = order == SortOrder.DESC;
+			// Single-valued fields may be indexed with either numeric or sorted numeric doc values
+			// depending on the index; sorted numeric sort fields handle both.
+			SortField sortField = new SortedNumericSortField( absoluteFieldPath, SortField.Type.LONG, reverse,
+					reverse ? SortedNumericSelector.Type.MAX : SortedNumericSelector.Type.MIN );
+			sortField.setMissingValue( domain.termToSortedDocValue( (E) getEffectiveMissingValue() ) );
+			return sortField;
+		}
 	}
 
 	public static class TextFieldFactory<F>
@@ -189,6 +218,19 @@ protected LuceneFieldComparatorSource toFieldComparatorSource() {
 					getMultiValueMode(), getNestedFilter() );
 		}
 
+		@Override
+		protected SortField toNativeSortFieldOrNull() {
+			if ( !isSingleValuedInRoot()
+					// Lucene's built-in comparators cannot replace missing values with an arbitrary term
+					|| missingValue != SortMissingValue.MISSING_FIRST && missingValue != SortMissingValue.MISSING_LAST ) {
+				return null;
+			}
+			SortField sortField = new SortedSetSortField( absoluteFieldPath, order == SortOrder.DESC,
+					SortedSetSelector.Type.MIN );
+			sortField.setMissingValue( getEffectiveMissingValue() );
+			return sortField;
+		}
+
 		private BytesRef normalize(String value) {
 			if ( value == null ) {
 				return null;
@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexLease;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
@@ -95,27 +96,39 @@ public CompletableFuture<?> delete(DocumentReferenceProvider referenceProvider,
 
 	private <T> CompletableFuture<T> submit(String documentId, String routingKey, IndexingWork<T> work,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
-		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.getIndexingOrchestrator( documentId, routingKey );
+		// The index must not be closed before the work is submitted
+		try ( IndexLease indexLease = indexManagerContext.acquireIndexes( tenantId ) ) {
+			// Route the work to the appropriate shard
+			LuceneSerialWorkOrchestrator orchestrator =
+					indexManagerContext.getIndexingOrchestrator( tenantId, documentId, routingKey );
+			return submit( orchestrator, work, commitStrategy, refreshStrategy );
+		}
+	}
 
+	private <T> CompletableFuture<T> submit(LuceneSerialWorkOrchestrator orchestrator, IndexingWork<T> work,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
 		CompletableFuture<T> futureForOrchestrator = new CompletableFuture<>();
 		CompletableFuture<T> futureForCaller;
 
 		boolean needsCommit = DocumentCommitStrategy.FORCE.equals( commitStrategy );
 		boolean needsRefresh = DocumentRefreshStrategy.FORCE.equals( refreshStrategy );
-		if ( needsCommit || needsRefresh ) {
+		boolean needsWaitForRefresh = DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy );
+		if ( needsCommit || needsRefresh || needsWaitForRefresh ) {
 			// Add the handler to the future *before* submitting the works,
 			// so as to be sure that the commit/refresh is executed in the background,
 			// not in the current thread.
 			// It's important because we don't want to block the current thread.
-			futureForCaller = futureForOrchestrator.thenApply( result -> {
+			futureForCaller = futureForOrchestrator.thenCompose( result -> {
 				if ( needsCommit ) {
 					orchestrator.forceCommitInCurrentThread();
 				}
 				if ( needsRefresh ) {
 					orchestrator.forceRefreshInCurrentThread();
 				}
-				return result;
+				else if ( needsWaitForRefresh ) {
+					return orchestrator.waitForRefresh().thenApply( ignored -> result );
+				}
+				return CompletableFuture.completedFuture( result );
 			} );
 		}
 		else {
@@ -7,17 +7,22 @@
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexLease;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -25,6 +30,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.engine.backend.work.execution.spi.ParallelWorkBuilder;
 
 public class LuceneIndexIndexingPlan<R> implements IndexIndexingPlan<R> {
 
@@ -35,15 +41,19 @@
 	private final EntityReferenceFactory<R> entityReferenceFactory;
 	private final DocumentCommitStrategy commitStrategy;
 	private final DocumentRefreshStrategy refreshStrategy;
+	private final ParallelWorkBuilder<SingleDocumentIndexingWork> parallelWorkBuilder;
 
 	private final Map<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> worksByOrchestrator = new HashMap<>();
+	// Prevents the orchestrators in worksByOrchestrator from being closed until the works are submitted
+	private IndexLease indexLease;
 
 	public LuceneIndexIndexingPlan(LuceneWorkFactory factory,
 			WorkExecutionIndexManagerContext indexManagerContext,
 			LuceneIndexEntryFactory indexEntryFactory,
 			BackendSessionContext sessionContext,
 			EntityReferenceFactory<R> entityReferenceFactory,
-			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
+			Executor documentBuildingExecutorOrNull) {
 		this.factory = factory;
 		this.indexEntryFactory = indexEntryFactory;
 		this.indexManagerContext = indexManagerContext;
@@ -51,6 +61,9 @@ public LuceneIndexIndexingPlan(LuceneWorkFactory factory,
 		this.entityReferenceFactory = entityReferenceFactory;
 		this.commitStrategy = commitStrategy;
 		this.refreshStrategy = refreshStrategy;
+		this.parallelWorkBuilder = documentBuildingExecutorOrNull != null && sessionContext.entityAccessThreadSafe()
+				? new ParallelWorkBuilder<>( documentBuildingExecutorOrNull )
+				: null;
 	}
 
 	@Override
@@ -59,12 +72,14 @@ public void add(DocumentReferenceProvider referenceProvider,
 		String id = referenceProvider.identifier();
 		String routingKey = referenceProvider.routingKey();
 
-		LuceneIndexEntry indexEntry = indexEntryFactory.create( tenantId, id, routingKey, documentContributor );
+		collectToBuild( id, routingKey, () -> {
+			LuceneIndexEntry indexEntry = indexEntryFactory.create( tenantId, id, routingKey, documentContributor );
 
-		collect( id, routingKey, factory.add(
-				tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
-				id, indexEntry
-		) );
+			return factory.add(
+					tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
+					id, indexEntry
+			);
+		} );
 	}
 
 	@Override
@@ -73,12 +88,30 @@ public void update(DocumentReferenceProvider referenceProvider,
 		String id = referenceProvider.identifier();
 		String routingKey = referenceProvider.routingKey();
 
-		LuceneIndexEntry indexEntry = indexEntryFactory.create( tenantId, id, routingKey, documentContributor );
+		collectToBuild( id, routingKey, () -> {
+			LuceneIndexEntry indexEntry = indexEntryFactory.create( tenantId, id, routingKey, documentContributor );
 
-		collect( id, routingKey, factory.update(
-				tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
-				id, indexEntry
-		) );
+			return factory.update(
+					tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
+					id, indexEntry
+			);
+		} );
+	}
+
+	@Override
+	public void update(DocumentReferenceProvider referenceProvider,
+			DocumentContributor documentContributor, Collection<? extends IndexFieldReference<?>> dirtyFields) {
+		String id = referenceProvider.identifier();
+		String routingKey = referenceProvider.routingKey();
+
+		collectToBuild( id, routingKey, () -> {
+			LuceneIndexEntry indexEntry = indexEntryFactory.create( tenantId, id, routingKey, documentContributor );
+
+			return factory.update(
+					tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
+					id, indexEntry, dirtyFields
+			);
+		} );
 	}
 
 	@Override
@@ -94,12 +127,16 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 
 	@Override
 	public void process() {
-		// Nothing to do: we only have to send the works to the orchestrator
+		// Documents must be built before this method returns,
+		// because entities may no longer be accessible afterwards.
+		// Apart from that, we only have to send the works to the orchestrator.
+		buildPendingWorks();
 	}
 
 	@Override
 	public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport() {
 		try {
+			buildPendingWorks();
 			List<CompletableFuture<IndexIndexingPlanExecutionReport<R>>> shardReportFutures = new ArrayList<>();
 			for ( Map.Entry<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> entry : worksByOrchestrator.entrySet() ) {
 				LuceneSerialWorkOrchestrator orchestrator = entry.getKey();
@@ -115,23 +152,61 @@ public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport()
 		}
 		finally {
 			worksByOrchestrator.clear();
+			releaseIndexes();
 		}
 	}
 
 	@Override
 	public void discard() {
+		if ( parallelWorkBuilder != null ) {
+			parallelWorkBuilder.discard();
+		}
 		worksByOrchestrator.clear();
+		releaseIndexes();
+	}
+
+	private void releaseIndexes() {
+		if ( indexLease != null ) {
+			indexLease.close();
+			indexLease = null;
+		}
+	}
+
+	private void buildPendingWorks() {
+		if ( parallelWorkBuilder != null ) {
+			parallelWorkBuilder.buildAll();
+		}
+	}
+
+	private void collectToBuild(String documentId, String routingKey,
+			Supplier<SingleDocumentIndexingWork> workBuilder) {
+		List<SingleDocumentIndexingWork> works = getWorks( documentId, routingKey );
+		if ( parallelWorkBuilder != null ) {
+			// The work will be built later, along with other works, but will keep its position in the list.
+			parallelWorkBuilder.add( works, workBuilder );
+		}
+		else {
+			works.add( workBuilder.get() );
+		}
 	}
 
 	private void collect(String documentId, String routingKey, SingleDocumentIndexingWork work) {
+		getWorks( documentId, routingKey ).add( work );
+	}
+
+	private List<SingleDocumentIndexingWork> getWorks(String documentId, String routingKey) {
+		if ( indexLease == null ) {
+			indexLease = indexManagerContext.acquireIndexes( tenantId );
+		}
 		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.getIndexingOrchestrator( documentId, routingKey );
+		LuceneSerialWorkOrchestrator orchestrator =
+				indexManagerContext.getIndexingOrchestrator( tenantId, documentId, routingKey );
 
 		List<SingleDocumentIndexingWork> works = worksByOrchestrator.get( orchestrator );
 		if ( works == null ) {
 			works = new ArrayList<>();
 			worksByOrchestrator.put( orchestrator, works );
 		}
-		works.add( work );
+		return works;
 	}
 }
@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
@@ -65,7 +66,8 @@ CompletableFuture<IndexIndexingPlanExecutionReport<R>> execute() {
 		CompletableFuture<IndexIndexingPlanExecutionReport<R>> reportFuture = CompletableFuture.allOf( futures )
 				// We don't care about the throwable, as it comes from a work and
 				// work failures are handled in onAllWorksFinished
-				.handle( (result, throwable) -> onAllWorksFinished() );
+				.handle( (result, throwable) -> onAllWorksFinished() )
+				.thenCompose( Function.identity() );
 
 		for ( int i = 0; i < works.size(); i++ ) {
 			CompletableFuture<Long> future = futures[i];
@@ -76,19 +78,21 @@ CompletableFuture<IndexIndexingPlanExecutionReport<R>> execute() {
 		return reportFuture;
 	}
 
-	private IndexIndexingPlanExecutionReport<R> onAllWorksFinished() {
-		Throwable commitOrRefreshThrowable = null;
+	private CompletableFuture<IndexIndexingPlanExecutionReport<R>> onAllWorksFinished() {
+		CompletableFuture<?> refreshFuture;
 		try {
-			commitOrRefreshAsNecessary();
+			refreshFuture = commitOrRefreshAsNecessary();
 		}
 		catch (RuntimeException e) {
-			commitOrRefreshThrowable = e;
+			return CompletableFuture.completedFuture( buildReport( e ) );
 		}
 
-		return buildReport( commitOrRefreshThrowable );
+		return refreshFuture.handle( (result, throwable) -> buildReport(
+				throwable == null ? null : Futures.getThrowableNow( refreshFuture )
+		) );
 	}
 
-	private void commitOrRefreshAsNecessary() {
+	private CompletableFuture<?> commitOrRefreshAsNecessary() {
 		if ( DocumentCommitStrategy.FORCE == commitStrategy ) {
 			// In case of failure, just propagate the exception.
 			// We'll skip the refresh, but that's okay: the underlying writers/readers are reset anyway.
@@ -98,6 +102,12 @@ private void commitOrRefreshAsNecessary() {
 		if ( DocumentRefreshStrategy.FORCE == refreshStrategy ) {
 			orchestrator.forceRefreshInCurrentThread();
 		}
+		else if ( DocumentRefreshStrategy.WAIT_FOR == refreshStrategy ) {
+			// Don't block the current thread: the report will be built when the changes become visible.
+			return orchestrator.waitForRefresh();
+		}
+
+		return CompletableFuture.completedFuture( null );
 	}
 
 	private IndexIndexingPlanExecutionReport<R> buildReport(Throwable commitOrRefreshThrowable) {
@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexLease;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
@@ -32,13 +34,13 @@ public LuceneIndexWorkspace(LuceneWorkFactory factory,
 
 	@Override
 	public CompletableFuture<?> mergeSegments() {
-		return doSubmit( indexManagerContext.getAllManagementOrchestrators(), factory.mergeSegments(), false );
+		return doSubmit( Collections.emptySet(), factory.mergeSegments(), false );
 	}
 
 	@Override
 	public CompletableFuture<?> purge(Set<String> routingKeys) {
 		return doSubmit(
-				indexManagerContext.getManagementOrchestrators( routingKeys ),
+				routingKeys,
 				factory.deleteAll( sessionContext.tenantIdentifier(), routingKeys ),
 				true
 		);
@@ -46,12 +48,22 @@ public CompletableFuture<?> purge(Set<String> routingKeys) {
 
 	@Override
 	public CompletableFuture<?> flush() {
-		return doSubmit( indexManagerContext.getAllManagementOrchestrators(), factory.flush(), false );
+		return doSubmit( Collections.emptySet(), factory.flush(), false );
 	}
 
 	@Override
 	public CompletableFuture<?> refresh() {
-		return doSubmit( indexManagerContext.getAllManagementOrchestrators(), factory.refresh(), false );
+		return doSubmit( Collections.emptySet(), factory.refresh(), false );
+	}
+
+	private <T> CompletableFuture<?> doSubmit(Set<String> routingKeys, IndexManagementWork<T> work, boolean commit) {
+		String tenantId = sessionContext.tenantIdentifier();
+		// The indexes must not be closed before the works are submitted
+		try ( IndexLease indexLease = indexManagerContext.acquireIndexes( tenantId ) ) {
+			// Without routing keys, this targets all shards of the index,
+			// or only the index of the current tenant with the index-per-tenant multi-tenancy strategy.
+			return doSubmit( indexManagerContext.getManagementOrchestrators( tenantId, routingKeys ), work, commit );
+		}
 	}
 
 	private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> orchestrators,
@@ -9,6 +9,7 @@
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexLease;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 
@@ -29,9 +30,14 @@ public interface WorkExecutionIndexManagerContext {
 
 	String getMappedTypeName();
 
-	LuceneSerialWorkOrchestrator getIndexingOrchestrator(String documentId, String routingKey);
+	/**
+	 * @param tenantId The tenant identifier.
+	 * @return A lease on the indexes of the given tenant.
+	 * Orchestrators must only be retrieved and submitted works while holding such a lease.
+	 */
+	IndexLease acquireIndexes(String tenantId);
 
-	List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(Set<String> routingKeys);
+	LuceneSerialWorkOrchestrator getIndexingOrchestrator(String tenantId, String documentId, String routingKey);
 
-	List<LuceneParallelWorkOrchestrator> getAllManagementOrchestrators();
+	List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(String tenantId, Set<String> routingKeys);
 }
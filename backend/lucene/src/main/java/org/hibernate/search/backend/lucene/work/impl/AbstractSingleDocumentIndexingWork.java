@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.util.Arrays;
+
 public abstract class AbstractSingleDocumentIndexingWork extends AbstractIndexingWork<Long>
 		implements SingleDocumentIndexingWork {
 
@@ -45,6 +47,18 @@ public Object getEntityIdentifier() {
 		return entityIdentifier;
 	}
 
+	@Override
+	public Object getDocumentKey() {
+		// Routing keys are irrelevant here: works are executed against a single shard,
+		// and the document identifier is unique within a shard (for a given tenant).
+		return Arrays.asList( tenantId, documentIdentifier );
+	}
+
+	@Override
+	public boolean supersedesPreviousWorks() {
+		return false;
+	}
+
 	@Override
 	public String getQueuingKey() {
 		return documentIdentifier;
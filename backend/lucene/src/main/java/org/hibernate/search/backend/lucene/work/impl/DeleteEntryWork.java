@@ -32,6 +32,12 @@ public class DeleteEntryWork extends AbstractSingleDocumentIndexingWork {
 		this.filter = filter;
 	}
 
+	@Override
+	public boolean supersedesPreviousWorks() {
+		// Deletes the document regardless of its previous state.
+		return true;
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
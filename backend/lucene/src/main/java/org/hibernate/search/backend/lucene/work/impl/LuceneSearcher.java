@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.lucene.search.timeout.impl.LuceneTimeoutManager;
 
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 
@@ -20,6 +21,9 @@
 	R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
 			int offset, Integer limit, int totalHitCountThreshold) throws IOException;
 
+	R searchAfter(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
+			FieldDoc after, Integer limit, int totalHitCountThreshold) throws IOException;
+
 	ER scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver, int limit) throws IOException;
 
 	int count(IndexSearcher indexSearcher) throws IOException;
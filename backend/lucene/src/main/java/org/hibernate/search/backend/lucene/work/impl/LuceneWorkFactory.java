@@ -6,11 +6,14 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.util.Collection;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.Query;
 
 
@@ -34,12 +37,18 @@ SingleDocumentIndexingWork add(String tenantId, String entityTypeName, Object en
 	SingleDocumentIndexingWork update(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier, LuceneIndexEntry indexEntry);
 
+	SingleDocumentIndexingWork update(String tenantId, String entityTypeName, Object entityIdentifier,
+			String documentIdentifier, LuceneIndexEntry indexEntry,
+			Collection<? extends IndexFieldReference<?>> dirtyFields);
+
 	SingleDocumentIndexingWork delete(String tenantId, String entityTypeName, Object entityIdentifier, String id);
 
 	IndexManagementWork<?> deleteAll(String tenantId, Set<String> routingKeys);
 
 	<R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Integer limit, int totalHitCountThreshold);
 
+	<R> ReadWork<R> searchAfter(LuceneSearcher<R, ?> searcher, FieldDoc after, Integer limit, int totalHitCountThreshold);
+
 	<ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int limit);
 
 	ReadWork<Integer> count(LuceneSearcher<?, ?> searcher);
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.work.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -14,8 +15,11 @@
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 
+import org.apache.lucene.document.Field;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 
@@ -72,6 +76,24 @@ public SingleDocumentIndexingWork update(String tenantId, String entityTypeName,
 				documentIdentifier, filter, indexEntry );
 	}
 
+	@Override
+	public SingleDocumentIndexingWork update(String tenantId, String entityTypeName, Object entityIdentifier,
+			String documentIdentifier, LuceneIndexEntry indexEntry,
+			Collection<? extends IndexFieldReference<?>> dirtyFields) {
+		Query filter = multiTenancyStrategy.filterOrNull( tenantId );
+		// With multi-tenancy, the document identifier alone does not identify a single document:
+		// we can't update doc values in place.
+		if ( filter == null ) {
+			Field[] docValues = indexEntry.docValuesForInPlaceUpdateOrNull( dirtyFields );
+			if ( docValues != null ) {
+				return new UpdateDocValuesWork( tenantId, entityTypeName, entityIdentifier,
+						documentIdentifier, docValues, indexEntry );
+			}
+		}
+		return new UpdateEntryWork( tenantId, entityTypeName, entityIdentifier,
+				documentIdentifier, filter, indexEntry );
+	}
+
 	@Override
 	public SingleDocumentIndexingWork delete(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier) {
@@ -98,6 +120,12 @@ public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Int
 		return new SearchWork<>( searcher, offset, limit, totalHitCountThreshold );
 	}
 
+	@Override
+	public <R> ReadWork<R> searchAfter(LuceneSearcher<R, ?> searcher, FieldDoc after, Integer limit,
+			int totalHitCountThreshold) {
+		return new SearchAfterWork<>( searcher, after, limit, totalHitCountThreshold );
+	}
+
 	@Override
 	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int limit) {
 		return new ScrollWork<>( searcher, limit );
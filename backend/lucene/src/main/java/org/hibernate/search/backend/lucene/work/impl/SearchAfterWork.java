@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+
+
+public class SearchAfterWork<R> implements ReadWork<R> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSearcher<R, ?> searcher;
+
+	private final FieldDoc after;
+	private final Integer limit;
+	private final int totalHitCountThreshold;
+
+	SearchAfterWork(LuceneSearcher<R, ?> searcher,
+			FieldDoc after, Integer limit,
+			int totalHitCountThreshold) {
+		this.after = after;
+		this.limit = limit;
+		this.searcher = searcher;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
+	@Override
+	public R execute(ReadWorkExecutionContext context) {
+		try {
+			IndexSearcher indexSearcher = context.createSearcher();
+
+			return searcher.searchAfter(
+					indexSearcher, context.getIndexReaderMetadataResolver(), after, limit, totalHitCountThreshold
+			);
+		}
+		catch (IOException e) {
+			throw log.ioExceptionOnQueryExecution( searcher.getLuceneQueryForExceptions(), context.getEventContext(), e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "searcher=" ).append( searcher )
+				.append( ", after=" ).append( after )
+				.append( ", limit=" ).append( limit )
+				.append( ", totalHitCountThreshold=" ).append( totalHitCountThreshold )
+				.append( "]" );
+		return sb.toString();
+	}
+}
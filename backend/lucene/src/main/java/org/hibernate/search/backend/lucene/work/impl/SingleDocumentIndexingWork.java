@@ -13,4 +13,17 @@ public interface SingleDocumentIndexingWork extends IndexingWork<Long> {
 
 	Object getEntityIdentifier();
 
+	/**
+	 * @return A key identifying the document targeted by this work:
+	 * two works with equal keys target the same document in the same index.
+	 */
+	Object getDocumentKey();
+
+	/**
+	 * @return {@code true} if this work entirely replaces or removes the targeted document,
+	 * regardless of its previous state,
+	 * making any previous work on the same document redundant.
+	 */
+	boolean supersedesPreviousWorks();
+
 }
@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.Term;
+
+/**
+ * A work updating some doc values of a document in place, without rebuilding the document.
+ * <p>
+ * Only relevant when the document is known not to have changed in any other way.
+ */
+public class UpdateDocValuesWork extends AbstractSingleDocumentIndexingWork {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Field[] docValues;
+
+	private final LuceneIndexEntry indexEntry;
+
+	UpdateDocValuesWork(String tenantId, String entityTypeName, Object entityIdentifier,
+			String documentIdentifier, Field[] docValues, LuceneIndexEntry indexEntry) {
+		super( "updateDocValues", tenantId, entityTypeName, entityIdentifier, documentIdentifier );
+		this.docValues = docValues;
+		this.indexEntry = indexEntry;
+	}
+
+	@Override
+	public Long execute(IndexingWorkExecutionContext context) {
+		try {
+			IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
+			Term idTerm = new Term( MetadataFields.idFieldName(), documentIdentifier );
+			if ( !indexWriterDelegator.hasDocument( idTerm ) ) {
+				// Updating doc values of a missing document would silently do nothing:
+				// the document must be indexed from scratch.
+				return indexWriterDelegator.updateDocuments( idTerm, indexEntry );
+			}
+			try {
+				return indexWriterDelegator.updateDocValues( idTerm, docValues );
+			}
+			catch (IllegalArgumentException e) {
+				// Lucene refuses to update doc values of fields that no document in the index has a value for yet.
+				// Nothing was written: just rebuild the whole document.
+				return indexWriterDelegator.updateDocuments( idTerm, indexEntry );
+			}
+		}
+		catch (IOException e) {
+			throw log.unableToIndexEntry( tenantId, entityTypeName, entityIdentifier, context.getEventContext(), e );
+		}
+	}
+
+}
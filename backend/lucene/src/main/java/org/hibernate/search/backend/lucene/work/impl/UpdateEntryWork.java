@@ -36,6 +36,12 @@ public class UpdateEntryWork extends AbstractSingleDocumentIndexingWork {
 		this.indexEntry = indexEntry;
 	}
 
+	@Override
+	public boolean supersedesPreviousWorks() {
+		// Deletes the previous version of the document, if any.
+		return true;
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
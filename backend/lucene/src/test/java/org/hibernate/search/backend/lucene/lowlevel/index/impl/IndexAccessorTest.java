@@ -11,9 +11,11 @@
 import static org.easymock.EasyMock.expectLastCall;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderWarmup;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -37,10 +39,14 @@ public class IndexAccessorTest extends EasyMockSupport {
 	private IndexWriterProvider indexWriterProviderMock = createStrictMock( IndexWriterProvider.class );
 	private IndexWriterDelegatorImpl indexWriterDelegatorMock = createStrictMock( IndexWriterDelegatorImpl.class );
 	private DirectoryReader indexReaderMock = createStrictMock( DirectoryReader.class );
+	private IndexReaderWarmup disabledReaderWarmup = new IndexReaderWarmup(
+			indexEventContext, INDEX_NAME, Optional.empty(), false, null
+	);
 
 	private IndexAccessorImpl accessor = new IndexAccessorImpl(
 			indexEventContext, directoryHolderMock,
-			indexWriterProviderMock, indexReaderProviderMock
+			indexWriterProviderMock, indexReaderProviderMock,
+			disabledReaderWarmup
 	);
 
 	@Before
@@ -181,6 +187,15 @@ public void getIndexReader() throws IOException {
 		verifyAll();
 	}
 
+	@Test
+	public void warmUpIfEnabled_disabled() {
+		resetAll();
+		// Warmup disabled => the directory is not inspected and no reader is opened
+		replayAll();
+		accessor.warmUpIfEnabled();
+		verifyAll();
+	}
+
 	@Test
 	public void cleanUpAfterFailure() throws IOException {
 		Throwable exception = new RuntimeException( "Some message" );
@@ -0,0 +1,135 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+
+public class IndexWriterDelegatorImplTest {
+
+	private static final String ID_FIELD = "id";
+
+	private final ByteBuffersDirectory directory = new ByteBuffersDirectory();
+	private FlushCountingIndexWriter indexWriter;
+	private IndexWriterDelegatorImpl delegator;
+
+	@Before
+	public void setUp() throws IOException {
+		indexWriter = new FlushCountingIndexWriter( directory );
+		delegator = new IndexWriterDelegatorImpl( indexWriter, EventContexts.fromIndexName( "index" ),
+				null, null, 0, null, null );
+		delegator.updateDocuments( id( "1" ), document( "1", 1L ) );
+		delegator.updateDocuments( id( "2" ), document( "2", 2L ) );
+		delegator.commit();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		delegator.close();
+		directory.close();
+	}
+
+	@Test
+	public void hasDocument_repeatedUpdates_noFlush() throws IOException {
+		// Opens the lookup reader
+		assertThat( delegator.hasDocument( id( "3" ) ) ).isFalse();
+		int flushCount = indexWriter.flushCount;
+
+		for ( long i = 0; i < 10; i++ ) {
+			assertThat( delegator.hasDocument( id( "1" ) ) ).isTrue();
+			delegator.updateDocValues( id( "1" ), new NumericDocValuesField( "counter", i ) );
+			assertThat( delegator.hasDocument( id( "2" ) ) ).isTrue();
+			delegator.updateDocuments( id( "2" ), document( "2", i ) );
+		}
+		assertThat( delegator.hasDocument( id( "3" ) ) ).isFalse();
+
+		// The writes above are known to the delegator: the lookup reader was not reopened.
+		assertThat( indexWriter.flushCount ).isEqualTo( flushCount );
+	}
+
+	@Test
+	public void hasDocument_deletedById() throws IOException {
+		assertThat( delegator.hasDocument( id( "1" ) ) ).isTrue();
+
+		delegator.deleteDocuments( id( "1" ) );
+		assertThat( delegator.hasDocument( id( "1" ) ) ).isFalse();
+
+		delegator.updateDocuments( id( "1" ), document( "1", 1L ) );
+		assertThat( delegator.hasDocument( id( "1" ) ) ).isTrue();
+	}
+
+	@Test
+	public void hasDocument_deletedByQuery() throws IOException {
+		delegator.updateDocuments( id( "1" ), document( "1", 1L ) );
+		assertThat( delegator.hasDocument( id( "1" ) ) ).isTrue();
+		assertThat( delegator.hasDocument( id( "2" ) ) ).isTrue();
+
+		delegator.deleteDocuments( new TermQuery( id( "1" ) ) );
+		delegator.deleteDocuments( new TermQuery( id( "2" ) ) );
+		assertThat( delegator.hasDocument( id( "1" ) ) ).isFalse();
+		assertThat( delegator.hasDocument( id( "2" ) ) ).isFalse();
+	}
+
+	@Test
+	public void hasDocument_added() throws IOException {
+		assertThat( delegator.hasDocument( id( "3" ) ) ).isFalse();
+
+		delegator.addDocuments( document( "3", 3L ) );
+		assertThat( delegator.hasDocument( id( "3" ) ) ).isTrue();
+		int flushCount = indexWriter.flushCount;
+
+		// Documents known to the reader do not require reopening it, even after an addition
+		delegator.addDocuments( document( "4", 4L ) );
+		assertThat( delegator.hasDocument( id( "1" ) ) ).isTrue();
+		assertThat( indexWriter.flushCount ).isEqualTo( flushCount );
+	}
+
+	private static Term id(String id) {
+		return new Term( ID_FIELD, id );
+	}
+
+	private static List<Document> document(String id, long counter) {
+		Document document = new Document();
+		document.add( new StringField( ID_FIELD, id, Field.Store.NO ) );
+		document.add( new NumericDocValuesField( "counter", counter ) );
+		return Collections.singletonList( document );
+	}
+
+	private static class FlushCountingIndexWriter extends IndexWriter {
+		private int flushCount = 0;
+
+		FlushCountingIndexWriter(ByteBuffersDirectory directory) throws IOException {
+			super( directory, new IndexWriterConfig( new StandardAnalyzer() ) );
+		}
+
+		@Override
+		protected void doAfterFlush() throws IOException {
+			super.doAfterFlush();
+			++flushCount;
+		}
+	}
+}
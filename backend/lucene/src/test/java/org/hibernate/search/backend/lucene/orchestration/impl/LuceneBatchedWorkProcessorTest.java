@@ -14,11 +14,13 @@
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWorkExecutionContext;
+import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.assertj.core.api.Assertions;
@@ -110,6 +112,87 @@ public void error_workExecute() throws IOException {
 		checkCompleteWithNothingToCommit();
 	}
 
+	@Test
+	public void coalescing() {
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		resetAll();
+		SingleDocumentIndexingWork add1 = createSingleDocumentWorkMock( "add1", "1", false );
+		SingleDocumentIndexingWork update2 = createSingleDocumentWorkMock( "update2", "2", true );
+		SingleDocumentIndexingWork update1 = createSingleDocumentWorkMock( "update1", "1", true );
+		SingleDocumentIndexingWork delete1 = createSingleDocumentWorkMock( "delete1", "1", true );
+		CompletableFuture<Long> add1Future = new CompletableFuture<>();
+		CompletableFuture<Long> update2Future = new CompletableFuture<>();
+		CompletableFuture<Long> update1Future = new CompletableFuture<>();
+		CompletableFuture<Long> delete1Future = new CompletableFuture<>();
+
+		// Works are only executed at the end of the batch
+		replayAll();
+		processor.submit( add1, add1Future );
+		processor.submit( update2, update2Future );
+		processor.submit( update1, update1Future );
+		processor.submit( delete1, delete1Future );
+		verifyAll();
+		assertThat( add1Future ).isNotDone();
+
+		// Only the last work on each document is executed
+		resetAll();
+		expect( delete1.execute( EasyMock.anyObject() ) ).andReturn( 1L );
+		expect( update2.execute( EasyMock.anyObject() ) ).andReturn( 2L );
+		indexAccessorMock.commitOrDelay();
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+
+		// ... but the futures of superseded works are completed too
+		assertThat( add1Future ).isCompletedWithValue( 1L );
+		assertThat( update1Future ).isCompletedWithValue( 1L );
+		assertThat( delete1Future ).isCompletedWithValue( 1L );
+		assertThat( update2Future ).isCompletedWithValue( 2L );
+		assertThat( processor.coalescedWorkCount() ).isEqualTo( 2L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	public void coalescing_error() {
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		resetAll();
+		SingleDocumentIndexingWork add1 = createSingleDocumentWorkMock( "add1", "1", false );
+		SingleDocumentIndexingWork update1 = createSingleDocumentWorkMock( "update1", "1", true );
+		CompletableFuture<Long> add1Future = new CompletableFuture<>();
+		CompletableFuture<Long> update1Future = new CompletableFuture<>();
+
+		replayAll();
+		processor.submit( add1, add1Future );
+		processor.submit( update1, update1Future );
+		verifyAll();
+
+		// A failure of the superseding work is propagated to the futures of superseded works
+		RuntimeException workException = new RuntimeException( "Some message" );
+		resetAll();
+		expect( update1.execute( EasyMock.anyObject() ) ).andThrow( workException );
+		expect( update1.getInfo() ).andReturn( "update1" );
+		indexAccessorMock.cleanUpAfterFailure( workException, "update1" );
+		indexAccessorMock.commitOrDelay();
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+
+		assertThat( add1Future ).isCompletedExceptionally();
+		assertThat( update1Future ).isCompletedExceptionally();
+		Assertions.assertThatThrownBy( add1Future::join ).hasCause( workException );
+
+		checkCompleteWithNothingToCommit();
+	}
+
 	@Test
 	public void forceCommit() {
 		resetAll();
@@ -238,6 +321,14 @@ private <T> IndexingWork<T> createWorkMock() {
 		return workMock;
 	}
 
+	private SingleDocumentIndexingWork createSingleDocumentWorkMock(String name, String documentId,
+			boolean supersedesPreviousWorks) {
+		SingleDocumentIndexingWork workMock = createMock( name, SingleDocumentIndexingWork.class );
+		expect( workMock.getDocumentKey() ).andStubReturn( documentId );
+		expect( workMock.supersedesPreviousWorks() ).andStubReturn( supersedesPreviousWorks );
+		return workMock;
+	}
+
 	private String workInfo(int index) {
 		return "work_" + index;
 	}
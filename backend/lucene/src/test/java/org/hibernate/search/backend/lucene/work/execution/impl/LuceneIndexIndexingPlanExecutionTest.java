@@ -119,6 +119,10 @@ public void success() {
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			orchestratorMock.forceRefreshInCurrentThread();
 		}
+		else if ( DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy ) ) {
+			EasyMock.<CompletableFuture<?>>expect( orchestratorMock.waitForRefresh() )
+					.andReturn( CompletableFuture.completedFuture( null ) );
+		}
 		replayAll();
 		work3FutureCapture.getValue().complete( work3Result );
 		verifyAll();
@@ -184,6 +188,10 @@ public void failure_work() {
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			orchestratorMock.forceRefreshInCurrentThread();
 		}
+		else if ( DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy ) ) {
+			EasyMock.<CompletableFuture<?>>expect( orchestratorMock.waitForRefresh() )
+					.andReturn( CompletableFuture.completedFuture( null ) );
+		}
 		expectWorkGetInfo( 0 );
 		replayAll();
 		work3FutureCapture.getValue().complete( work3Result );
@@ -260,6 +268,10 @@ public void failure_multipleWorks() {
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			orchestratorMock.forceRefreshInCurrentThread();
 		}
+		else if ( DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy ) ) {
+			EasyMock.<CompletableFuture<?>>expect( orchestratorMock.waitForRefresh() )
+					.andReturn( CompletableFuture.completedFuture( null ) );
+		}
 		expectWorkGetInfo( 0, 2 );
 		replayAll();
 		work4FutureCapture.getValue().complete( work4Result );
@@ -339,6 +351,10 @@ public void failure_multipleWorksAndCreateEntityReference() {
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			orchestratorMock.forceRefreshInCurrentThread();
 		}
+		else if ( DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy ) ) {
+			EasyMock.<CompletableFuture<?>>expect( orchestratorMock.waitForRefresh() )
+					.andReturn( CompletableFuture.completedFuture( null ) );
+		}
 		expectFailingWorkGetInfo( 0, entityReferenceFactoryException );
 		expectWorkGetInfo( 2 );
 		replayAll();
@@ -499,6 +515,76 @@ public void failure_refresh() {
 	}
 
 
+	@Test
+	public void failure_waitForRefresh() {
+		Assume.assumeTrue(
+				"This test only makes sense when waiting for a refresh",
+				DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy )
+		);
+
+		Long work1Result = 42L;
+		Long work2Result = 41L;
+
+		// Work futures: we will complete them
+		Capture<CompletableFuture<Long>> work1FutureCapture = Capture.newInstance();
+		Capture<CompletableFuture<Long>> work2FutureCapture = Capture.newInstance();
+
+		// Refresh future: we will complete it
+		CompletableFuture<?> refreshFuture = new CompletableFuture<>();
+
+		// Plan future: we will test it
+		CompletableFuture<IndexIndexingPlanExecutionReport<StubEntityReference>> planExecutionFuture;
+
+		resetAll();
+		LuceneIndexIndexingPlanExecution<StubEntityReference> execution = new LuceneIndexIndexingPlanExecution<>(
+				orchestratorMock,
+				entityReferenceFactoryMock,
+				commitStrategy, DocumentRefreshStrategy.WAIT_FOR,
+				createWorkMocks( 2 )
+		);
+		replayAll();
+		verifyAll();
+
+		resetAll();
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
+		replayAll();
+		planExecutionFuture = execution.execute();
+		verifyAll();
+
+		resetAll();
+		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
+			orchestratorMock.forceCommitInCurrentThread();
+		}
+		EasyMock.<CompletableFuture<?>>expect( orchestratorMock.waitForRefresh() ).andReturn( refreshFuture );
+		replayAll();
+		work1FutureCapture.getValue().complete( work1Result );
+		work2FutureCapture.getValue().complete( work2Result );
+		verifyAll();
+		// The report is only built once the changes are visible
+		FutureAssert.assertThat( planExecutionFuture ).isPending();
+
+		// Fail while waiting for the refresh
+		RuntimeException refreshException = new RuntimeException( "Some message" );
+		resetAll();
+		expectWorkGetInfo( 0, 1 );
+		replayAll();
+		refreshFuture.completeExceptionally( refreshException );
+		verifyAll();
+
+		FutureAssert.assertThat( planExecutionFuture ).isSuccessful( report -> {
+			assertThat( report ).isNotNull();
+			SoftAssertions.assertSoftly( softly -> {
+				softly.assertThat( report.throwable() ).containsSame( refreshException );
+				softly.assertThat( report.failingEntityReferences() )
+						.containsExactly(
+								// All entities, even if their work succeeded
+								entityReference( 0 ), entityReference( 1 )
+						);
+			} );
+		} );
+	}
+
 	@Test
 	public void failure_workAndCommit() {
 		Assume.assumeTrue(
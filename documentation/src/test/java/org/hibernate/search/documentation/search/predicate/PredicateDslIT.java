@@ -9,6 +9,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 import javax.persistence.EntityManagerFactory;
@@ -484,6 +485,21 @@ public void score() {
 		} );
 	}
 
+	@Test
+	public void terms() {
+		withinSearchSession( searchSession -> {
+			// tag::terms[]
+			List<Book> hits = searchSession.search( Book.class )
+					.where( f -> f.terms().field( "pageCount" )
+							.matchingAny( Arrays.asList( 206, 222, 300 ) ) )
+					.fetchHits( 20 );
+			// end::terms[]
+			assertThat( hits )
+					.extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK2_ID, BOOK4_ID );
+		} );
+	}
+
 	@Test
 	public void range() {
 		withinSearchSession( searchSession -> {
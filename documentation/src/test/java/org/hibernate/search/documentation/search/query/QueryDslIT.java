@@ -25,6 +25,7 @@
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.search.documentation.testsupport.BackendConfigurations;
 import org.hibernate.search.documentation.testsupport.DocumentationSetupHelper;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
@@ -251,6 +252,34 @@ public void pagination() {
 		} );
 	}
 
+	@Test
+	public void paginationAfterCursor() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			List<Integer> collectedIds = new ArrayList<>();
+			// tag::fetching-pagination-cursor[]
+			SearchQuery<Book> query = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.toQuery();
+			SearchCursor cursor = null; // <1>
+			do {
+				SearchResult<Book> result = query.fetchAfter( cursor, 3 ); // <2>
+				for ( Book hit : result.hits() ) {
+					// ... do something with the hits ...
+					// end::fetching-pagination-cursor[]
+					collectedIds.add( hit.getId() );
+					// tag::fetching-pagination-cursor[]
+				}
+				cursor = result.nextPageCursor().orElse( null ); // <3>
+			}
+			while ( cursor != null );
+			// end::fetching-pagination-cursor[]
+
+			assertThat( collectedIds )
+					.containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+		} );
+	}
+
 	@Test
 	public void scrolling() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
@@ -19,4 +19,12 @@ public interface BackendSessionContext {
 
 	String tenantIdentifier();
 
+	/**
+	 * @return {@code true} if entities of this session can safely be accessed from multiple threads concurrently,
+	 * which allows backends to build documents in parallel; {@code false} otherwise.
+	 */
+	default boolean entityAccessThreadSafe() {
+		return false;
+	}
+
 }
@@ -27,6 +27,19 @@ public enum DocumentRefreshStrategy {
 	 * force a refresh of the corresponding shard to make the updated document searchable immediately,
 	 * and wait for that refresh to finish.
 	 */
-	FORCE
+	FORCE,
+	/**
+	 * After a change to an indexed document,
+	 * wait for the change to become searchable,
+	 * without forcing a refresh of the corresponding shard:
+	 * the change will become searchable upon the next periodic refresh.
+	 * <p>
+	 * This provides the same guarantees as {@link #FORCE},
+	 * i.e. the updated document is searchable when the operation completes,
+	 * but takes longer to complete, depending on the refresh interval of the backend and index.
+	 * In exchange, it avoids the large number of small refreshes (and small segments)
+	 * caused by {@link #FORCE} under concurrent write load.
+	 */
+	WAIT_FOR
 
 }
@@ -6,8 +6,10 @@
  */
 package org.hibernate.search.engine.backend.work.execution.spi;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.util.common.impl.Throwables;
 
 /**
@@ -41,6 +43,28 @@
 	 */
 	void update(DocumentReferenceProvider documentReferenceProvider, DocumentContributor documentContributor);
 
+	/**
+	 * Update a document in the index, knowing that only the given fields may have changed.
+	 * <p>
+	 * Implementations may take advantage of this information to update the given fields in place
+	 * instead of rebuilding the whole document,
+	 * for example when these fields only have doc values.
+	 * Regardless, as with {@link #update(DocumentReferenceProvider, DocumentContributor)},
+	 * the document is added if it's absent from the index.
+	 * <p>
+	 * By default, this simply calls {@link #update(DocumentReferenceProvider, DocumentContributor)}.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to update.
+	 * @param documentContributor A contributor to the document, adding fields to the indexed document.
+	 * It must contribute the whole document, as implementations may decide to rebuild the document anyway.
+	 * @param dirtyFields References to the fields whose value may have changed.
+	 * The value of any other field is assumed to be unchanged.
+	 */
+	default void update(DocumentReferenceProvider documentReferenceProvider, DocumentContributor documentContributor,
+			Collection<? extends IndexFieldReference<?>> dirtyFields) {
+		update( documentReferenceProvider, documentContributor );
+	}
+
 	/**
 	 * Delete a document from the index.
 	 *
@@ -0,0 +1,151 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.work.execution.spi;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * A helper for indexing plans, building works (and thus documents) for multiple entities in parallel.
+ * <p>
+ * Works are not built when {@link #add(List, Supplier) added}, but only when {@link #buildAll()} is called;
+ * built works are then put into the lists they were added to, at the position they were added at,
+ * so that the order of works is the same as if they had been built sequentially.
+ * <p>
+ * This class is mutable and not thread-safe: each indexing plan must use its own instance.
+ *
+ * @param <W> The type of works.
+ */
+public final class ParallelWorkBuilder<W> {
+
+	private final Executor executor;
+
+	private final List<PendingBuild<W>> pendingBuilds = new ArrayList<>();
+
+	/**
+	 * @param executor The executor to build works in.
+	 * Must not be the executor running the threads that call {@link #buildAll()}, to avoid deadlocks.
+	 */
+	public ParallelWorkBuilder(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Reserves a slot at the end of the given list, to be filled with the built work upon {@link #buildAll()}.
+	 *
+	 * @param target The list to add the built work to.
+	 * @param builder The builder for the work. May be called from a different thread.
+	 */
+	public void add(List<W> target, Supplier<? extends W> builder) {
+		pendingBuilds.add( new PendingBuild<>( target, target.size(), builder ) );
+		target.add( null );
+	}
+
+	/**
+	 * Builds all pending works in parallel, waits for all of them to be built,
+	 * and puts them into the lists they were added to.
+	 *
+	 * @throws RuntimeException If a work could not be built.
+	 * Works that could be built are still put into the lists they were added to,
+	 * and slots of works that could not be built are removed.
+	 */
+	public void buildAll() {
+		if ( pendingBuilds.isEmpty() ) {
+			return;
+		}
+		try {
+			if ( pendingBuilds.size() == 1 ) {
+				// Not worth involving another thread.
+				pendingBuilds.get( 0 ).buildInCurrentThread();
+				return;
+			}
+
+			List<CompletableFuture<? extends W>> futures = new ArrayList<>( pendingBuilds.size() );
+			for ( PendingBuild<W> pendingBuild : pendingBuilds ) {
+				futures.add( CompletableFuture.supplyAsync( pendingBuild.builder, executor ) );
+			}
+
+			Throwable failure = null;
+			for ( int i = 0; i < pendingBuilds.size(); i++ ) {
+				try {
+					pendingBuilds.get( i ).fill( Futures.unwrappedExceptionJoin( futures.get( i ) ) );
+				}
+				catch (RuntimeException | Error e) {
+					if ( failure == null ) {
+						failure = e;
+					}
+					else {
+						failure.addSuppressed( e );
+					}
+				}
+			}
+
+			if ( failure != null ) {
+				removeEmptySlots();
+				if ( failure instanceof Error ) {
+					throw (Error) failure;
+				}
+				throw (RuntimeException) failure;
+			}
+		}
+		finally {
+			pendingBuilds.clear();
+		}
+	}
+
+	/**
+	 * Discards all pending builds, without removing the corresponding slots from their lists.
+	 * <p>
+	 * Only to be called when the lists are discarded as well.
+	 */
+	public void discard() {
+		pendingBuilds.clear();
+	}
+
+	private void removeEmptySlots() {
+		Map<List<W>, Boolean> targets = new IdentityHashMap<>();
+		for ( PendingBuild<W> pendingBuild : pendingBuilds ) {
+			if ( targets.put( pendingBuild.target, Boolean.TRUE ) == null ) {
+				pendingBuild.target.removeIf( Objects::isNull );
+			}
+		}
+	}
+
+	private static final class PendingBuild<W> {
+		private final List<W> target;
+		private final int index;
+		private final Supplier<? extends W> builder;
+
+		private PendingBuild(List<W> target, int index, Supplier<? extends W> builder) {
+			this.target = target;
+			this.index = index;
+			this.builder = builder;
+		}
+
+		void buildInCurrentThread() {
+			try {
+				fill( builder.get() );
+			}
+			catch (RuntimeException | Error e) {
+				target.remove( index );
+				throw e;
+			}
+		}
+
+		void fill(W work) {
+			target.set( index, work );
+		}
+	}
+}
@@ -130,6 +130,19 @@ public interface SearchPredicateFactory {
 	 */
 	ExistsPredicateFieldStep<?> exists();
 
+	/**
+	 * Match documents where a given field has any of the given values.
+	 * <p>
+	 * Values are matched exactly against the indexed terms, without analysis.
+	 * Unlike a boolean predicate with one "match" clause per value,
+	 * this predicate remains efficient with thousands of values
+	 * and is not subject to limits on the number of boolean clauses.
+	 *
+	 * @return The initial step of a DSL where the "terms" predicate can be defined.
+	 * @see TermsPredicateFieldStep
+	 */
+	TermsPredicateFieldStep<?> terms();
+
 	/**
 	 * Access the different types of spatial predicates.
 	 *
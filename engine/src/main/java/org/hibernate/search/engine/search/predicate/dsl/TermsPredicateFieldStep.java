@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+
+/**
+ * The initial step in a "terms" predicate definition, where the target field can be set.
+ *
+ * @param <N> The type of the next step.
+ */
+public interface TermsPredicateFieldStep<N extends TermsPredicateMatchingStep<?>> {
+
+	/**
+	 * Target the given field in the "terms" predicate.
+	 *
+	 * @param absoluteFieldPath The absolute path (from the document root) of the targeted field.
+	 * @return The next step.
+	 */
+	N field(String absoluteFieldPath);
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+import java.util.Collection;
+
+import org.hibernate.search.engine.search.common.ValueConvert;
+
+/**
+ * The step in a "terms" predicate definition where the values to match can be set.
+ *
+ * @param <N> The type of the next step.
+ */
+public interface TermsPredicateMatchingStep<N extends TermsPredicateOptionsStep<?>> {
+
+	/**
+	 * Require the targeted field to match any of the given values.
+	 * <p>
+	 * Values are matched exactly against the indexed terms: they are not analyzed.
+	 *
+	 * @param values The values to match.
+	 * The signature of this method defines this parameter as a collection of {@link Object},
+	 * but each value should be of the type of the targeted field, or of the type of the field
+	 * as indexed if {@link ValueConvert#NO} is used.
+	 * @return The next step.
+	 */
+	default N matchingAny(Collection<?> values) {
+		return matchingAny( values, ValueConvert.YES );
+	}
+
+	/**
+	 * Require the targeted field to match any of the given values.
+	 * <p>
+	 * Values are matched exactly against the indexed terms: they are not analyzed.
+	 *
+	 * @param values The values to match.
+	 * @param convert Controls how the {@code values} should be converted before Hibernate Search attempts to interpret them as field values.
+	 * See {@link ValueConvert} for more information.
+	 * @return The next step.
+	 */
+	N matchingAny(Collection<?> values, ValueConvert convert);
+
+}
@@ -23,6 +23,7 @@
 import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
 import org.hibernate.search.engine.search.predicate.dsl.SimpleQueryStringPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.SpatialPredicateInitialStep;
+import org.hibernate.search.engine.search.predicate.dsl.TermsPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.WildcardPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.spi.SearchPredicateDslContext;
 
@@ -92,6 +93,11 @@ public ExistsPredicateFieldStep<?> exists() {
 		return new ExistsPredicateFieldStepImpl( dslContext );
 	}
 
+	@Override
+	public TermsPredicateFieldStep<?> terms() {
+		return new TermsPredicateFieldStepImpl( dslContext );
+	}
+
 	@Override
 	public SpatialPredicateInitialStep spatial() {
 		return new SpatialPredicateInitialStepImpl( dslContext );
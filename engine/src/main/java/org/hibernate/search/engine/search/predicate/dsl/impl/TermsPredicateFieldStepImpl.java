@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.dsl.impl;
+
+import java.util.Collection;
+
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.TermsPredicateFieldStep;
+import org.hibernate.search.engine.search.predicate.dsl.TermsPredicateMatchingStep;
+import org.hibernate.search.engine.search.predicate.dsl.TermsPredicateOptionsStep;
+import org.hibernate.search.engine.search.predicate.dsl.spi.AbstractPredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.spi.SearchPredicateDslContext;
+import org.hibernate.search.engine.search.predicate.spi.TermsPredicateBuilder;
+import org.hibernate.search.util.common.impl.Contracts;
+
+
+final class TermsPredicateFieldStepImpl
+		extends AbstractPredicateFinalStep
+		implements TermsPredicateFieldStep<TermsPredicateMatchingStep<?>>,
+				TermsPredicateMatchingStep<TermsPredicateOptionsStep<?>>,
+				TermsPredicateOptionsStep<TermsPredicateOptionsStep<?>> {
+
+	private TermsPredicateBuilder builder;
+
+	TermsPredicateFieldStepImpl(SearchPredicateDslContext<?> dslContext) {
+		super( dslContext );
+	}
+
+	@Override
+	public TermsPredicateMatchingStep<?> field(String absoluteFieldPath) {
+		this.builder = dslContext.builderFactory().terms( absoluteFieldPath );
+		return this;
+	}
+
+	@Override
+	public TermsPredicateOptionsStep<?> matchingAny(Collection<?> values, ValueConvert convert) {
+		Contracts.assertNotNullNorEmpty( values, "values" );
+		builder.values( values, convert );
+		return this;
+	}
+
+	@Override
+	public TermsPredicateOptionsStep<?> boost(float boost) {
+		this.builder.boost( boost );
+		return this;
+	}
+
+	@Override
+	public TermsPredicateOptionsStep<?> constantScore() {
+		this.builder.constantScore();
+		return this;
+	}
+
+	@Override
+	protected SearchPredicate build() {
+		return builder.build();
+	}
+}
@@ -22,6 +22,7 @@
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactoryExtensionIfSupportedStep;
 import org.hibernate.search.engine.search.predicate.dsl.SimpleQueryStringPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.SpatialPredicateInitialStep;
+import org.hibernate.search.engine.search.predicate.dsl.TermsPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.WildcardPredicateFieldStep;
 
 /**
@@ -92,6 +93,11 @@ public ExistsPredicateFieldStep<?> exists() {
 		return delegate.exists();
 	}
 
+	@Override
+	public TermsPredicateFieldStep<?> terms() {
+		return delegate.terms();
+	}
+
 	@Override
 	public SpatialPredicateInitialStep spatial() {
 		return delegate.spatial();
@@ -48,6 +48,8 @@
 
 	ExistsPredicateBuilder exists(String absoluteFieldPath);
 
+	TermsPredicateBuilder terms(String absoluteFieldPath);
+
 	SpatialWithinCirclePredicateBuilder spatialWithinCircle(String absoluteFieldPath);
 
 	SpatialWithinPolygonPredicateBuilder spatialWithinPolygon(String absoluteFieldPath);
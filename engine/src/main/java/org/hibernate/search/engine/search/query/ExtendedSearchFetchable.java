@@ -23,6 +23,9 @@
 	@Override
 	R fetch(Integer offset, Integer limit);
 
+	@Override
+	R fetchAfter(SearchCursor cursor, Integer limit);
+
 	@Override
 	R fetchAll();
 
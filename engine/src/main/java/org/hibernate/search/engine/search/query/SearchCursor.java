@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import org.hibernate.search.engine.search.query.spi.ExternalFormSearchCursor;
+
+/**
+ * An opaque pointer to a position in the hits of a query,
+ * used to fetch the hits located right after that position.
+ * <p>
+ * Cursors are built from the sort values of a hit,
+ * which means that, unlike offsets, they remain efficient no matter how deep the pagination goes:
+ * the backend only needs to collect the hits that sort after the cursor,
+ * instead of collecting and then skipping all the hits before the requested page.
+ * <p>
+ * Cursors can only be obtained through {@link SearchResult#nextPageCursor()},
+ * or by {@link #parse(String) parsing} the {@link #toExternalForm() external form} of such a cursor,
+ * and are only valid for the query that produced them, or an identical query
+ * (same predicate, same sorts, same targeted indexes).
+ *
+ * @see SearchFetchable#fetchAfter(SearchCursor, Integer)
+ */
+public interface SearchCursor {
+
+	/**
+	 * @return A string representation of this cursor,
+	 * suitable for passing to a client (e.g. in a URL) and then back to {@link #parse(String)}.
+	 * The external form only contains URL-safe characters.
+	 * It does not change from one JVM to another, but may change between versions of Hibernate Search.
+	 */
+	String toExternalForm();
+
+	/**
+	 * @param externalForm The {@link #toExternalForm() external form} of a cursor.
+	 * @return A cursor that can be passed to {@link SearchFetchable#fetchAfter(SearchCursor, Integer)}.
+	 * The external form is only decoded when the cursor is used:
+	 * cursors that are malformed, or that were produced by another backend or another query,
+	 * are reported at that point.
+	 * @throws IllegalArgumentException If the given external form is {@code null} or empty.
+	 */
+	static SearchCursor parse(String externalForm) {
+		return new ExternalFormSearchCursor( externalForm );
+	}
+
+}
@@ -51,6 +51,34 @@
 	 */
 	SearchResult<H> fetch(Integer offset, Integer limit);
 
+	/**
+	 * Execute the query and return the {@link SearchResult},
+	 * including only hits located after the given {@code cursor} and limiting to {@code limit} hits.
+	 * <p>
+	 * This is an alternative to {@link #fetch(Integer, Integer) offset-based pagination}
+	 * that remains efficient when paginating deep into the hits:
+	 * pass {@code null} as the cursor to fetch the first page,
+	 * then pass the {@link SearchResult#nextPageCursor() cursor of each page} to fetch the next one.
+	 * <p>
+	 * In order to guarantee that hits are ordered consistently from one page to the next,
+	 * the sorts of the query are complemented with a final sort on the document identifier.
+	 * As a result, hits that are equal according to the sorts of the query
+	 * may be returned in a different order than with {@link #fetch(Integer, Integer)}.
+	 *
+	 * @param cursor The cursor returned by {@link SearchResult#nextPageCursor()} for the previous page,
+	 * or {@code null} to fetch the first page.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return The {@link SearchResult}.
+	 * @throws SearchException If something goes wrong while executing the query,
+	 * or if the cursor was not produced by an identical query.
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * and was reached while executing the query.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	SearchResult<H> fetchAfter(SearchCursor cursor, Integer limit);
+
 	/**
 	 * Execute the query and return the hits as a {@link List},
 	 * limiting to {@code limit} hits.
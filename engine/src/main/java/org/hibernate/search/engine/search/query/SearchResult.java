@@ -8,6 +8,7 @@
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
@@ -54,6 +55,14 @@ default List<H> getHits() {
 		return hits();
 	}
 
+	/**
+	 * @return A cursor pointing right after the last hit of this result,
+	 * to be passed to {@link SearchFetchable#fetchAfter(SearchCursor, Integer)} in order to fetch the next page.
+	 * Empty if this result contains no hits, or if it was not produced by
+	 * {@link SearchFetchable#fetchAfter(SearchCursor, Integer)}.
+	 */
+	Optional<SearchCursor> nextPageCursor();
+
 	/**
 	 * @param key The key previously used to register the aggregation during query building.
 	 * @param <A> The type of result for this aggregation.
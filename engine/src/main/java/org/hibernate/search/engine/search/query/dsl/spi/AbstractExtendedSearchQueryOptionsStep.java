@@ -9,6 +9,7 @@
 import org.hibernate.search.engine.search.aggregation.dsl.SearchAggregationFactory;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
@@ -54,6 +55,11 @@ public R fetch(Integer offset, Integer limit) {
 		return toQuery().fetch( offset, limit );
 	}
 
+	@Override
+	public R fetchAfter(SearchCursor cursor, Integer limit) {
+		return toQuery().fetchAfter( cursor, limit );
+	}
+
 	@Override
 	public SC scroll(int chunkSize) {
 		return toQuery().scroll( chunkSize );
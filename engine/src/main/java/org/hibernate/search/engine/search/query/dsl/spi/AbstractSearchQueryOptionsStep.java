@@ -15,6 +15,7 @@
 
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.predicate.dsl.impl.SearchPredicateDslContextImpl;
 import org.hibernate.search.engine.search.sort.SearchSort;
@@ -182,6 +183,11 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		return toQuery().fetch( offset, limit );
 	}
 
+	@Override
+	public SearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		return toQuery().fetchAfter( cursor, limit );
+	}
+
 	@Override
 	public List<H> fetchAllHits() {
 		return toQuery().fetchAllHits();
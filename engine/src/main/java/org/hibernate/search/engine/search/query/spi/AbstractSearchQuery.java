@@ -11,6 +11,7 @@
 import java.util.Optional;
 
 import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -43,6 +44,9 @@ public R fetch(Integer limit) {
 	@Override
 	public abstract R fetch(Integer offset, Integer limit);
 
+	@Override
+	public abstract R fetchAfter(SearchCursor cursor, Integer limit);
+
 	@Override
 	public List<H> fetchAllHits() {
 		return fetchHits( null, null );
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import org.hibernate.search.engine.search.query.SearchCursor;
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * A cursor parsed from its {@link SearchCursor#toExternalForm() external form}.
+ * <p>
+ * Backends are expected to decode the external form when the cursor is passed to a query.
+ */
+public final class ExternalFormSearchCursor implements SearchCursor {
+
+	private final String externalForm;
+
+	public ExternalFormSearchCursor(String externalForm) {
+		Contracts.assertNotNullNorEmpty( externalForm, "externalForm" );
+		this.externalForm = externalForm;
+	}
+
+	@Override
+	public String toString() {
+		return externalForm;
+	}
+
+	@Override
+	public String toExternalForm() {
+		return externalForm;
+	}
+
+}
@@ -10,10 +10,12 @@
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.StringJoiner;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -27,6 +29,7 @@
 	private final Map<AggregationKey<?>, ?> aggregationResults;
 	private final Duration took;
 	private final boolean timedOut;
+	private final SearchCursor nextPageCursor;
 
 	public SimpleSearchResult(boolean hitExact, long hitCount, List<H> hits,
 			Map<AggregationKey<?>, ?> aggregationResults, Duration took, Boolean timedOut) {
@@ -37,11 +40,17 @@ public SimpleSearchResult(boolean hitExact, long hitCount, List<H> hits,
 
 	public SimpleSearchResult(SearchResultTotal resultTotal, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
 			Duration took, Boolean timedOut) {
+		this( resultTotal, hits, aggregationResults, took, timedOut, null );
+	}
+
+	public SimpleSearchResult(SearchResultTotal resultTotal, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			Duration took, Boolean timedOut, SearchCursor nextPageCursor) {
 		this.resultTotal = resultTotal;
 		this.hits = hits;
 		this.aggregationResults = aggregationResults;
 		this.took = took;
 		this.timedOut = ( timedOut != null ) && timedOut;
+		this.nextPageCursor = nextPageCursor;
 	}
 
 	@Override
@@ -54,6 +63,11 @@ public List<H> hits() {
 		return hits;
 	}
 
+	@Override
+	public Optional<SearchCursor> nextPageCursor() {
+		return Optional.ofNullable( nextPageCursor );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // The type of aggregation results must be consistent with the type of keys, by contract
 	public <T> T aggregation(AggregationKey<T> key) {
@@ -82,6 +96,7 @@ public String toString() {
 				.add( "aggregationResults=" + aggregationResults )
 				.add( "took=" + took )
 				.add( "timedOut=" + timedOut )
+				.add( "nextPageCursor=" + nextPageCursor )
 				.toString();
 	}
 }
@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.work.execution.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ParallelWorkBuilderTest {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+
+	@After
+	public void shutdownExecutor() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void preservesOrder() {
+		ParallelWorkBuilder<String> builder = new ParallelWorkBuilder<>( executor );
+		List<String> list1 = new ArrayList<>();
+		List<String> list2 = new ArrayList<>();
+
+		for ( int i = 0; i < 100; i++ ) {
+			String value = String.valueOf( i );
+			List<String> target = i % 2 == 0 ? list1 : list2;
+			if ( i % 10 == 0 ) {
+				// Works that don't need building are added directly
+				target.add( value );
+			}
+			else {
+				builder.add( target, () -> value );
+			}
+		}
+		assertThat( list1 ).hasSize( 50 ).contains( "0", "10" );
+
+		builder.buildAll();
+
+		List<String> expected1 = new ArrayList<>();
+		List<String> expected2 = new ArrayList<>();
+		for ( int i = 0; i < 100; i++ ) {
+			( i % 2 == 0 ? expected1 : expected2 ).add( String.valueOf( i ) );
+		}
+		assertThat( list1 ).containsExactlyElementsOf( expected1 );
+		assertThat( list2 ).containsExactlyElementsOf( expected2 );
+	}
+
+	@Test
+	public void failure() {
+		ParallelWorkBuilder<String> builder = new ParallelWorkBuilder<>( executor );
+		List<String> list = new ArrayList<>();
+		RuntimeException exception = new RuntimeException( "Some message" );
+
+		builder.add( list, () -> "0" );
+		builder.add( list, () -> {
+			throw exception;
+		} );
+		list.add( "2" );
+		builder.add( list, () -> "3" );
+
+		assertThatThrownBy( builder::buildAll ).isSameAs( exception );
+
+		// Works that could be built are kept, works that couldn't are removed
+		assertThat( list ).containsExactly( "0", "2", "3" );
+
+		// Pending builds were cleared
+		builder.buildAll();
+		assertThat( list ).containsExactly( "0", "2", "3" );
+	}
+
+}
@@ -18,6 +18,7 @@
 import static org.hibernate.search.util.impl.test.JsonHelper.assertJsonEquals;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,6 +38,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchHttpClientConfigurer;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequestLane;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
@@ -445,6 +447,143 @@ public void try_multipleHosts_failover_fault() throws Exception {
 		}
 	}
 
+	@Test
+	public void multipleHosts_latencyAware() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 ).withFixedDelay( 500 ) ) );
+		wireMockRule2.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient(
+				properties -> {
+					properties.accept( ElasticsearchBackendSettings.HOSTS, httpHostAndPortFor( wireMockRule1, wireMockRule2 ) );
+					properties.accept( ElasticsearchBackendSettings.NODE_SELECTION_LATENCY_AWARE, true );
+				}
+		) ) {
+			// Nodes without latency samples are tried until each node has been sampled at least once
+			for ( int i = 0; i < 20
+					&& wireMockRule2.findAll( postRequestedFor( urlPathMatching( "/myIndex/myType" ) ) ).isEmpty(); i++ ) {
+				ElasticsearchResponse result = doPost( client, "/myIndex/myType", payload );
+				assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+			}
+			wireMockRule2.verify( 1, postRequestedFor( urlPathMatching( "/myIndex/myType" ) ) );
+
+			wireMockRule1.resetRequests();
+			wireMockRule2.resetRequests();
+
+			for ( int i = 0; i < 10; i++ ) {
+				ElasticsearchResponse result = doPost( client, "/myIndex/myType", payload );
+				assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+			}
+
+			// Must not use the slow node anymore
+			wireMockRule1.verify( 0, postRequestedFor( urlPathMatching( "/myIndex/myType" ) ) );
+			wireMockRule2.verify( 10, postRequestedFor( urlPathMatching( "/myIndex/myType" ) ) );
+		}
+	}
+
+	@Test
+	public void multipleHosts_hedging() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/_search" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 ) ) );
+		wireMockRule2.stubFor( post( urlPathMatching( "/myIndex/_search" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient(
+				properties -> {
+					properties.accept( ElasticsearchBackendSettings.HOSTS, httpHostAndPortFor( wireMockRule1, wireMockRule2 ) );
+					properties.accept( ElasticsearchBackendSettings.LANES_SEARCH_HEDGING_PERCENTILE, 90 );
+					// A single connection per node: a slow request that is not cancelled would block the next ones.
+					properties.accept( ElasticsearchBackendSettings.MAX_CONNECTIONS_PER_ROUTE, 1 );
+				}
+		) ) {
+			// Hedging only starts once enough latencies have been recorded
+			for ( int i = 0; i < 100; i++ ) {
+				ElasticsearchResponse result = doSearch( client, "/myIndex/_search", payload );
+				assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+			}
+
+			wireMockRule1.resetRequests();
+			wireMockRule2.resetRequests();
+			wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/_search" ) )
+					.withRequestBody( equalToJson( payload ) )
+					.willReturn( elasticsearchResponse().withStatus( 200 ).withFixedDelay( 10_000 ) ) );
+
+			// Nodes are selected in turn, so at least one of these requests is first sent to the slow node
+			for ( int i = 0; i < 2; i++ ) {
+				long start = System.nanoTime();
+				ElasticsearchResponse result = doSearch( client, "/myIndex/_search", payload );
+				assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+				// The duplicate sent to the other node wins
+				assertThat( Duration.ofNanos( System.nanoTime() - start ) )
+						.isLessThan( Duration.ofMillis( 5_000 ) );
+			}
+			assertThat( wireMockRule1.findAll( postRequestedFor( urlPathMatching( "/myIndex/_search" ) ) ) ).isNotEmpty();
+			assertThat( wireMockRule2.findAll( postRequestedFor( urlPathMatching( "/myIndex/_search" ) ) ) ).isNotEmpty();
+
+			wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/_search" ) )
+					.withRequestBody( equalToJson( payload ) )
+					.willReturn( elasticsearchResponse().withStatus( 200 ) ) );
+
+			// The slow attempt was cancelled, freeing the only connection to the slow node
+			long start = System.nanoTime();
+			for ( int i = 0; i < 4; i++ ) {
+				ElasticsearchResponse result = doPost( client, "/myIndex/_search", payload );
+				assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+			}
+			assertThat( Duration.ofNanos( System.nanoTime() - start ) )
+					.isLessThan( Duration.ofMillis( 5_000 ) );
+		}
+	}
+
+	@Test
+	public void multipleHosts_hedging_maxConcurrentRequests() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/_search" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 ) ) );
+		wireMockRule2.stubFor( post( urlPathMatching( "/myIndex/_search" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 ) ) );
+
+		try ( ElasticsearchClientImplementor client = createClient(
+				properties -> {
+					properties.accept( ElasticsearchBackendSettings.HOSTS, httpHostAndPortFor( wireMockRule1, wireMockRule2 ) );
+					properties.accept( ElasticsearchBackendSettings.LANES_SEARCH_HEDGING_PERCENTILE, 90 );
+					properties.accept( ElasticsearchBackendSettings.LANES_SEARCH_MAX_CONCURRENT_REQUESTS, 1 );
+				}
+		) ) {
+			// Hedging only starts once enough latencies have been recorded
+			for ( int i = 0; i < 100; i++ ) {
+				ElasticsearchResponse result = doSearch( client, "/myIndex/_search", payload );
+				assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+			}
+
+			wireMockRule1.resetRequests();
+			wireMockRule2.resetRequests();
+			wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/_search" ) )
+					.withRequestBody( equalToJson( payload ) )
+					.willReturn( elasticsearchResponse().withStatus( 200 ).withFixedDelay( 1_000 ) ) );
+			wireMockRule2.stubFor( post( urlPathMatching( "/myIndex/_search" ) )
+					.withRequestBody( equalToJson( payload ) )
+					.willReturn( elasticsearchResponse().withStatus( 200 ).withFixedDelay( 1_000 ) ) );
+
+			ElasticsearchResponse result = doSearch( client, "/myIndex/_search", payload );
+			assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+
+			// The duplicate had to wait for the only slot of the lane, and was no longer needed when it got it
+			assertThat( wireMockRule1.findAll( postRequestedFor( urlPathMatching( "/myIndex/_search" ) ) ).size()
+					+ wireMockRule2.findAll( postRequestedFor( urlPathMatching( "/myIndex/_search" ) ) ).size() )
+					.isEqualTo( 1 );
+		}
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-2449")
 	public void discovery_http() throws Exception {
@@ -684,6 +823,16 @@ private ElasticsearchResponse doPost(ElasticsearchClient client, String path, St
 		}
 	}
 
+	private ElasticsearchResponse doSearch(ElasticsearchClient client, String path, String payload) {
+		try {
+			return client.submit( buildRequest( ElasticsearchRequest.post()
+					.lane( ElasticsearchRequestLane.SEARCH ).idempotent( true ), path, payload ) ).join();
+		}
+		catch (RuntimeException e) {
+			throw new AssertionFailure( "Unexpected exception during search: " + e.getMessage(), e );
+		}
+	}
+
 	private ElasticsearchRequest buildRequest(ElasticsearchRequest.Builder builder, String path, String payload) {
 		for ( String pathComponent : path.split( "/" ) ) {
 			if ( !pathComponent.isEmpty() ) {
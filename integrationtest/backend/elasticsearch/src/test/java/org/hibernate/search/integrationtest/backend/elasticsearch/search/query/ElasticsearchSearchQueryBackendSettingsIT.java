@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.search.query.RequestCacheStrategyName;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Test the search query parameters set through backend settings:
+ * request cache strategy and default preference.
+ */
+public class ElasticsearchSearchQueryBackendSettingsIT {
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ElasticsearchClientSpy clientSpy = new ElasticsearchClientSpy();
+
+	@Test
+	public void requestCacheStrategy_noHits() {
+		setup( ElasticsearchBackendSettings.SEARCH_REQUEST_CACHE_STRATEGY, RequestCacheStrategyName.NO_HITS );
+
+		SearchQuery<?> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( defaultReadAlias( index.name() ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "request_cache", true )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetch( 0 );
+	}
+
+	@Test
+	public void requestCacheStrategy_never_overriddenByQuery() {
+		setup( ElasticsearchBackendSettings.SEARCH_REQUEST_CACHE_STRATEGY, "never" );
+
+		SearchQuery<?> query = index.createScope().query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( defaultReadAlias( index.name() ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "request_cache", false )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchAll();
+
+		query = index.createScope().query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.requestCache( true )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( defaultReadAlias( index.name() ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "request_cache", true )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchAll();
+	}
+
+	@Test
+	public void preference() {
+		String preference = "_local";
+		setup( ElasticsearchBackendSettings.SEARCH_PREFERENCE, preference );
+
+		SearchQuery<?> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( defaultReadAlias( index.name() ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "preference", preference )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchAll();
+	}
+
+	private void setup(String propertyName, Object propertyValue) {
+		setupHelper.start()
+				.withBackendProperty(
+						ElasticsearchBackendSpiSettings.CLIENT_FACTORY, clientSpy.factoryReference()
+				)
+				.withBackendProperty( propertyName, propertyValue )
+				.withIndex( index )
+				.setup();
+	}
+
+	private static class IndexBinding {
+		IndexBinding(IndexSchemaElement root) {
+			root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Locale;
+
+import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchCursor;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.dialect.ElasticsearchTestDialect;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Test the content of Elasticsearch search queries executed with
+ * {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAfter(SearchCursor, Integer)}.
+ */
+public class ElasticsearchSearchQueryFetchAfterIT {
+
+	private static final int DOCUMENT_COUNT = 10;
+	private static final int PAGE_SIZE = 3;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ElasticsearchClientSpy clientSpy = new ElasticsearchClientSpy();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty(
+						ElasticsearchBackendSpiSettings.CLIENT_FACTORY, clientSpy.factoryReference()
+				)
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	@Test
+	public void searchAfter() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+
+		// First page: no search_after
+		SearchCursor cursor = query.fetchAfter( null, PAGE_SIZE ).nextPageCursor().get();
+
+		// Next page: search_after holds the sort values of the last hit, including the tie-breaker
+		JsonArray expectedSearchAfter = new JsonArray();
+		expectedSearchAfter.add( PAGE_SIZE - 1 );
+		expectedSearchAfter.add( tieBreakerValue( docId( PAGE_SIZE - 1 ) ) );
+		JsonObject expectedBody = new JsonObject();
+		expectedBody.add( "search_after", expectedSearchAfter );
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( defaultReadAlias( index.name() ) )
+						.pathComponent( Paths._SEARCH )
+						.param( "size", PAGE_SIZE )
+						.body( expectedBody )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		assertThat( query.fetchAfter( cursor, PAGE_SIZE ).hits() )
+				.extracting( DocumentReference::id )
+				.containsExactly( docId( 3 ), docId( 4 ), docId( 5 ) );
+		clientSpy.verifyExpectationsMet();
+
+		// Same request when the cursor goes through its external form
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( defaultReadAlias( index.name() ) )
+						.pathComponent( Paths._SEARCH )
+						.param( "size", PAGE_SIZE )
+						.body( expectedBody )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		assertThat( query.fetchAfter( SearchCursor.parse( cursor.toExternalForm() ), PAGE_SIZE ).hits() )
+				.extracting( DocumentReference::id )
+				.containsExactly( docId( 3 ), docId( 4 ), docId( 5 ) );
+	}
+
+	private static String tieBreakerValue(String documentId) {
+		// Elasticsearch 5.6 sorts on _uid, whose values are prefixed with the type name.
+		return ElasticsearchTestDialect.get().getTypeNameForMappingAndBulkApi()
+				.map( typeName -> typeName.original + "#" + documentId )
+				.orElse( documentId );
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
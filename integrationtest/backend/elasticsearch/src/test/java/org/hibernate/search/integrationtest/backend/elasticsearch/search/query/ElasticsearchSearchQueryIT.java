@@ -9,6 +9,7 @@
 import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
 import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.encodeName;
 
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
 import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
@@ -145,6 +146,76 @@ public void routing() {
 		query.fetchAll();
 	}
 
+	@Test
+	public void requestCache() {
+		StubMappingScope scope = index.createScope();
+
+		SearchQuery<?> query = scope.query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.requestCache( true )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( readAlias )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "request_cache", true )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchAll();
+	}
+
+	@Test
+	public void preference() {
+		StubMappingScope scope = index.createScope();
+
+		String preference = "someSessionId";
+
+		SearchQuery<?> query = scope.query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.preference( preference )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( readAlias )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "preference", preference )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchAll();
+	}
+
+	@Test
+	public void preference_count() {
+		StubMappingScope scope = index.createScope();
+
+		String preference = "someSessionId";
+
+		SearchQuery<?> query = scope.query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.preference( preference )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.get()
+						.pathComponent( readAlias )
+						.pathComponent( Paths._COUNT )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "preference", preference )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchTotalHitCount();
+	}
+
 	@Test
 	public void trackTotalHits_fetch() {
 		Assume.assumeTrue(
@@ -0,0 +1,255 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the prefetching of the next chunk of Elasticsearch scrolls,
+ * see {@link ElasticsearchBackendSettings#SCROLL_PREFETCH_ENABLED}.
+ */
+public class ElasticsearchSearchScrollPrefetchIT {
+
+	private static final int DOCUMENT_COUNT = 5;
+	private static final int CHUNK_SIZE = 2;
+
+	private static final String FAILURE_MESSAGE = "Simulated failure for scroll prefetch";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ElasticsearchClientSpy clientSpy = new ElasticsearchClientSpy();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void disabledByDefault() {
+		setup( null );
+
+		try ( SearchScroll<DocumentReference> scroll = scroll() ) {
+			clientSpy.expectNext( searchRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD );
+			// No scroll request in-between: nothing is prefetched
+			clientSpy.expectNext( clearScrollRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD );
+
+			assertThat( ids( scroll.next() ) ).containsExactly( docId( 0 ), docId( 1 ) );
+		}
+		clientSpy.verifyExpectationsMet();
+	}
+
+	@Test
+	public void ordering() {
+		setup( true );
+
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = scroll() ) {
+			clientSpy.expectNext( searchRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD );
+			clientSpy.expectNext( scrollRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD );
+			List<String> chunk = ids( scroll.next() );
+			// The request for the second chunk was sent before the caller asked for it
+			clientSpy.verifyExpectationsMet();
+			assertThat( chunk ).containsExactly( docId( 0 ), docId( 1 ) );
+			ids.addAll( chunk );
+
+			clientSpy.expectNext( scrollRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD );
+			chunk = ids( scroll.next() );
+			clientSpy.verifyExpectationsMet();
+			assertThat( chunk ).containsExactly( docId( 2 ), docId( 3 ) );
+			ids.addAll( chunk );
+
+			clientSpy.expectNext( scrollRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD );
+			chunk = ids( scroll.next() );
+			clientSpy.verifyExpectationsMet();
+			assertThat( chunk ).containsExactly( docId( 4 ) );
+			ids.addAll( chunk );
+		}
+
+		// No duplicates, no omissions
+		assertThat( ids ).containsExactly( docId( 0 ), docId( 1 ), docId( 2 ), docId( 3 ), docId( 4 ) );
+	}
+
+	@Test
+	public void lastChunk() {
+		setup( true );
+
+		try ( SearchScroll<DocumentReference> scroll = scroll() ) {
+			scroll.next();
+			scroll.next();
+			SearchScrollResult<DocumentReference> result = scroll.next();
+			assertThat( result.hasHits() ).isTrue();
+			assertThat( ids( result ) ).containsExactly( docId( 4 ) );
+
+			// The empty, last chunk was prefetched: nothing is sent until the scroll is closed
+			clientSpy.expectNext( clearScrollRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD );
+			result = scroll.next();
+			assertThat( result.hasHits() ).isFalse();
+			assertThat( result.hits() ).isEmpty();
+		}
+		clientSpy.verifyExpectationsMet();
+	}
+
+	@Test
+	public void close_pendingPrefetch() throws Exception {
+		setup( true );
+
+		CompletableFuture<Void> prefetchReleased = new CompletableFuture<>();
+		SearchScroll<DocumentReference> scroll = scroll();
+		clientSpy.expectNext( searchRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD );
+		clientSpy.expectNext( scrollRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD,
+				response -> prefetchReleased.thenCompose( ignored -> response ) );
+		clientSpy.expectNext( clearScrollRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD );
+
+		assertThat( ids( scroll.next() ) ).containsExactly( docId( 0 ), docId( 1 ) );
+
+		CompletableFuture<Void> closed = CompletableFuture.runAsync( scroll::close );
+		// Closing waits for the pending prefetch...
+		assertThatThrownBy( () -> closed.get( 500, TimeUnit.MILLISECONDS ) )
+				.isInstanceOf( TimeoutException.class );
+
+		// ... then clears the scroll
+		prefetchReleased.complete( null );
+		closed.get( 10, TimeUnit.SECONDS );
+		clientSpy.verifyExpectationsMet();
+	}
+
+	@Test
+	public void prefetchFailure() {
+		setup( true );
+
+		try ( SearchScroll<DocumentReference> scroll = scroll() ) {
+			clientSpy.expectNext( searchRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD );
+			clientSpy.expectNext( scrollRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD,
+					failWith( new SimulatedFailure( FAILURE_MESSAGE ) ) );
+			clientSpy.expectNext( clearScrollRequest(), ElasticsearchRequestAssertionMode.PATH_AND_METHOD );
+
+			// The failure of the prefetched request does not affect the current chunk...
+			assertThat( ids( scroll.next() ) ).containsExactly( docId( 0 ), docId( 1 ) );
+
+			// ... but is reported to the caller when it asks for the next chunk
+			assertThatThrownBy( scroll::next )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( FAILURE_MESSAGE )
+					.hasRootCauseInstanceOf( SimulatedFailure.class );
+		}
+		// The scroll can still be cleared
+		clientSpy.verifyExpectationsMet();
+	}
+
+	private void setup(Boolean prefetchEnabled) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.start()
+				.withBackendProperty(
+						ElasticsearchBackendSpiSettings.CLIENT_FACTORY, clientSpy.factoryReference()
+				)
+				.withIndex( index );
+		if ( prefetchEnabled != null ) {
+			setupContext.withBackendProperty( ElasticsearchBackendSettings.SCROLL_PREFETCH_ENABLED, prefetchEnabled );
+		}
+		setupContext.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	private SearchScroll<DocumentReference> scroll() {
+		return index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.scroll( CHUNK_SIZE );
+	}
+
+	private ElasticsearchRequest searchRequest() {
+		return ElasticsearchRequest.post()
+				.pathComponent( defaultReadAlias( index.name() ) )
+				.pathComponent( Paths._SEARCH )
+				.build();
+	}
+
+	private static ElasticsearchRequest scrollRequest() {
+		return ElasticsearchRequest.post()
+				.pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL )
+				.build();
+	}
+
+	private static ElasticsearchRequest clearScrollRequest() {
+		return ElasticsearchRequest.delete()
+				.pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL )
+				.build();
+	}
+
+	private static Function<CompletableFuture<ElasticsearchResponse>, CompletableFuture<ElasticsearchResponse>> failWith(
+			RuntimeException failure) {
+		return response -> response.thenCompose( ignored -> {
+			CompletableFuture<ElasticsearchResponse> failed = new CompletableFuture<>();
+			failed.completeExceptionally( failure );
+			return failed;
+		} );
+	}
+
+	private static List<String> ids(SearchScrollResult<DocumentReference> result) {
+		List<String> ids = new ArrayList<>();
+		for ( DocumentReference hit : result.hits() ) {
+			ids.add( hit.id() );
+		}
+		return ids;
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+}
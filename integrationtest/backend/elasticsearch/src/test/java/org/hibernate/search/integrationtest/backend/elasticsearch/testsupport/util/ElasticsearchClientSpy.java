@@ -10,6 +10,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientFactoryImpl;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
@@ -79,9 +80,21 @@ public BeanReference<ElasticsearchClientFactory> factoryReference() {
 	}
 
 	public void expectNext(ElasticsearchRequest request, ElasticsearchRequestAssertionMode assertionMode) {
+		expectNext( request, assertionMode, Function.identity() );
+	}
+
+	/**
+	 * @param request The expected request.
+	 * @param assertionMode How to compare the actual request to the expected one.
+	 * @param responseTransformer A function applied to the future response of the actual client,
+	 * e.g. to delay or fail the response.
+	 */
+	public void expectNext(ElasticsearchRequest request, ElasticsearchRequestAssertionMode assertionMode,
+			Function<CompletableFuture<ElasticsearchResponse>, CompletableFuture<ElasticsearchResponse>> responseTransformer) {
 		expectations.expectInOrder( new ElasticsearchClientSubmitCall(
 				request,
-				assertionMode
+				assertionMode,
+				responseTransformer
 		) );
 	}
 
@@ -124,7 +137,7 @@ public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest requ
 					// If there was an expectation, check it is met and forward the request to the actual client
 					(expectedCall, actualCall) -> {
 						expectedCall.verify( actualCall );
-						return () -> delegate.submit( request );
+						return () -> expectedCall.transformResponse( delegate.submit( request ) );
 					},
 					// If there wasn't any expectation, just forward the request to the actual client
 					call -> delegate.submit( request )
@@ -9,8 +9,11 @@
 import static org.hibernate.search.util.impl.test.JsonHelper.assertJsonEquals;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.util.impl.integrationtest.common.rule.Call;
 
 import com.google.gson.Gson;
@@ -25,15 +28,17 @@ class ElasticsearchClientSubmitCall extends Call<ElasticsearchClientSubmitCall>
 
 	private final ElasticsearchRequest request;
 	private final ElasticsearchRequestAssertionMode assertionMode;
+	private final Function<CompletableFuture<ElasticsearchResponse>, CompletableFuture<ElasticsearchResponse>> responseTransformer;
 
 	ElasticsearchClientSubmitCall(ElasticsearchRequest request) {
-		this.request = request;
-		this.assertionMode = null;
+		this( request, null, Function.identity() );
 	}
 
-	ElasticsearchClientSubmitCall(ElasticsearchRequest request, ElasticsearchRequestAssertionMode assertionMode) {
+	ElasticsearchClientSubmitCall(ElasticsearchRequest request, ElasticsearchRequestAssertionMode assertionMode,
+			Function<CompletableFuture<ElasticsearchResponse>, CompletableFuture<ElasticsearchResponse>> responseTransformer) {
 		this.request = request;
 		this.assertionMode = assertionMode;
+		this.responseTransformer = responseTransformer;
 	}
 
 	@Override
@@ -78,6 +83,10 @@ void verify(ElasticsearchClientSubmitCall actualCall) {
 		} );
 	}
 
+	CompletableFuture<ElasticsearchResponse> transformResponse(CompletableFuture<ElasticsearchResponse> response) {
+		return responseTransformer.apply( response );
+	}
+
 	private String toComparableJson(List<JsonObject> bodyParts) {
 		JsonArray array = new JsonArray( bodyParts.size() );
 		for ( JsonObject bodyPart : bodyParts ) {
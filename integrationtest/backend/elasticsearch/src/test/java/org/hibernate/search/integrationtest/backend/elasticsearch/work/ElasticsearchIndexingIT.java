@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.work;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultWriteAlias;
 import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.encodeName;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
@@ -18,6 +19,8 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.configuration.StubSingleIndexLayoutStrategy;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
@@ -25,6 +28,7 @@
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.dialect.ElasticsearchTestDialect;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -136,6 +140,54 @@ public void addUpdateDelete_routing() {
 		clientSpy.verifyExpectationsMet();
 	}
 
+	@Test
+	public void refreshStrategy() {
+		Gson gson = new Gson();
+		JsonObject expectedMetadata = gson.fromJson( "{'index':{'_index': '" + writeAlias + "',"
+				+ dialect.getTypeNameForMappingAndBulkApi().map( name -> "'_type': '" + name + "'," ).orElse( "" )
+				+ "'_id': '1'}}", JsonObject.class );
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().string, "text1" );
+		} );
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._BULK )
+						.param( "refresh", true )
+						.body( expectedMetadata )
+						.body( new JsonObject() ) // We don't care about the document
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		plan.execute().join();
+		clientSpy.verifyExpectationsMet();
+
+		plan = index.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.WAIT_FOR );
+		plan.add( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().string, "text2" );
+		} );
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._BULK )
+						.param( "refresh", "wait_for" )
+						.body( expectedMetadata )
+						.body( new JsonObject() ) // We don't care about the document
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		plan.execute().join();
+		clientSpy.verifyExpectationsMet();
+
+		// Elasticsearch only responds once the change is visible, without any explicit refresh
+		assertThat( index.createScope().query()
+				.where( f -> f.match().field( "string" ).matching( "text2" ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( 1 );
+	}
+
 	private static class IndexBinding {
 		final IndexFieldReference<String> string;
 
@@ -30,8 +30,10 @@
 
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FileSwitchDirectory;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NRTCachingDirectory;
 
 public class LuceneLocalFileSystemDirectoryIT extends AbstractBuiltInDirectoryIT {
 
@@ -124,6 +126,52 @@ public void filesystemAccessStrategy_invalid() {
 				);
 	}
 
+	@Test
+	public void nrtCaching_enabled() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_NRT_CACHING_ENABLED, true )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE, 1 )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE, 10 ) );
+
+		checkIndexingAndQuerying();
+
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		assertThat( luceneIndexManager.getShardsForTests() )
+				.extracting( Shard::getIndexAccessorForTests )
+				.extracting( IndexAccessorImpl::getDirectoryForTests )
+				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( NRTCachingDirectory.class ) );
+	}
+
+	@Test
+	public void preload() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "mmap" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_PRELOAD, "dvd,nvd,cfs" ) );
+
+		checkIndexingAndQuerying();
+
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		assertThat( luceneIndexManager.getShardsForTests() )
+				.extracting( Shard::getIndexAccessorForTests )
+				.extracting( IndexAccessorImpl::getDirectoryForTests )
+				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( FileSwitchDirectory.class ) );
+	}
+
+	@Test
+	public void preload_invalidFileSystemAccessStrategy() {
+		Assertions.assertThatThrownBy( () -> setup( c -> c
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "nio" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_PRELOAD, "dvd" ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildFailureReportPattern()
+						.indexContext( index.name() )
+						.failure(
+								"Unable to preload index files with extensions [dvd]",
+								"only available with the filesystem access strategy 'mmap'",
+								"the current strategy is 'nio'"
+						)
+						.build()
+				);
+	}
+
 	@Override
 	protected Object getDirectoryType() {
 		return "local-filesystem";
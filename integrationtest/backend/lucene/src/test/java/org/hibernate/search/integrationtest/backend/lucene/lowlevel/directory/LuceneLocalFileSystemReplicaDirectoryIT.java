@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.directory;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LuceneLocalFileSystemReplicaDirectoryIT {
+
+	private static final String INDEX_NAME = "indexName";
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper primarySetupHelper = new SearchSetupHelper();
+
+	@Rule
+	public final SearchSetupHelper replicaSetupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> primaryIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+	private final SimpleMappedIndex<IndexBinding> replicaIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+
+	@Test
+	public void replication() throws IOException {
+		String primaryRoot = temporaryFolder.newFolder( "primary" ).getAbsolutePath();
+		String replicaRoot = temporaryFolder.newFolder( "replica" ).getAbsolutePath();
+
+		primarySetupHelper.start()
+				.withIndex( primaryIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, primaryRoot )
+				.setup();
+
+		index( "1", "text 1" );
+
+		replicaSetupHelper.start()
+				.withIndex( replicaIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem-replica" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, replicaRoot )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_REPLICA_SOURCE, primaryRoot )
+				.setup();
+
+		// The latest commit is copied on startup
+		assertThat( replicaIndex.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1" );
+
+		index( "2", "text 2" );
+
+		// Refreshing copies the latest commit and reopens the index reader
+		replicaIndex.createWorkspace().refresh().join();
+		assertThat( replicaIndex.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1", "2" );
+
+		// Replicas are read-only
+		IndexIndexingPlan<?> replicaPlan = replicaIndex.createIndexingPlan();
+		replicaPlan.add( referenceProvider( "3" ), document -> {
+			document.addValue( replicaIndex.binding().string, "text 3" );
+		} );
+		assertThatThrownBy( () -> replicaPlan.execute().join() )
+				.hasStackTraceContaining( "read-only replica" );
+	}
+
+	@Test
+	public void primaryCreatedAfterReplica() throws IOException {
+		String primaryRoot = temporaryFolder.newFolder( "primary" ).getAbsolutePath();
+		String replicaRoot = temporaryFolder.newFolder( "replica" ).getAbsolutePath();
+
+		// The replica does not attempt to create the index, which would fail since it is read-only
+		replicaSetupHelper.start()
+				.withIndex( replicaIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem-replica" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, replicaRoot )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_REPLICA_SOURCE, primaryRoot )
+				.setup();
+
+		// Until the primary index is copied, the replica behaves as if the index was empty
+		assertThat( replicaIndex.query().where( f -> f.matchAll() ).toQuery() )
+				.hasNoHits();
+
+		primarySetupHelper.start()
+				.withIndex( primaryIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, primaryRoot )
+				.setup();
+
+		index( "1", "text 1" );
+
+		replicaIndex.createWorkspace().refresh().join();
+		assertThat( replicaIndex.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1" );
+	}
+
+	private void index(String id, String text) {
+		IndexIndexingPlan<?> plan = primaryIndex.createIndexingPlan();
+		plan.add( referenceProvider( id ), document -> {
+			document.addValue( primaryIndex.binding().string, text );
+		} );
+		plan.execute().join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field(
+					"string",
+					f -> f.asString()
+			)
+					.toReference();
+		}
+	}
+}
@@ -9,6 +9,8 @@
 import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -26,6 +28,7 @@
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
 
 @RunWith(Parameterized.class)
@@ -159,6 +162,34 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
 		assertThat( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyWaitFor() {
+		setup( null, NON_ZERO_DELAY );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		// This opens a reader that will be considered fresh until the end of the refresh interval
+		assertThat( query ).hasNoHits();
+		long readerOpeningTime = System.nanoTime();
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.WAIT_FOR // This will wait for the next refresh, without forcing it
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// The refresh was not forced: indexing only finished when the reader expired
+		Assertions.assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - readerOpeningTime ) )
+				.isGreaterThanOrEqualTo( NON_ZERO_DELAY / 2 );
+
+		// Readers should be up-to-date immediately after indexing finishes
+		assertThat( query ).hasTotalHitCount( 1 );
+	}
+
 	@Test
 	public void ioStrategyDebug() {
 		setup( "debug", null );
@@ -0,0 +1,129 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmupContext;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.test.rule.StaticCounters;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.search.MatchAllDocsQuery;
+
+public class LuceneIndexReaderWarmupIT {
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public StaticCounters staticCounters = new StaticCounters();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void customWarmer() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_WARMUP_ENABLED, true )
+				.withBackendProperty( LuceneIndexSettings.IO_WARMUP_WARMER, CountingWarmer.class )
+				.setup();
+
+		assertThat( staticCounters.get( CountingWarmer.CONSTRUCTOR_COUNTER_KEY ) ).isEqualTo( 1 );
+
+		addDocument( "1", 1L );
+		// The first query opens a reader, which gets warmed up before it's used.
+		SearchResultAssert.assertThat( index.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		int warmupCountAfterFirstQuery = staticCounters.get( CountingWarmer.WARM_COUNTER_KEY );
+		assertThat( warmupCountAfterFirstQuery ).isGreaterThanOrEqualTo( 1 );
+		assertThat( staticCounters.get( CountingWarmer.NEW_LEAF_COUNTER_KEY ) ).isGreaterThanOrEqualTo( 1 );
+
+		// Changes to the index lead to a new reader, which must be warmed up too.
+		addDocument( "2", 2L );
+		SearchResultAssert.assertThat( index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.toQuery() )
+				.hasDocRefHitsExactOrder( index.typeName(), "2", "1" );
+		assertThat( staticCounters.get( CountingWarmer.WARM_COUNTER_KEY ) ).isGreaterThan( warmupCountAfterFirstQuery );
+
+		// Without changes, the reader is re-used and doesn't need to be warmed up again.
+		int warmupCountAfterSecondQuery = staticCounters.get( CountingWarmer.WARM_COUNTER_KEY );
+		SearchResultAssert.assertThat( index.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasTotalHitCount( 2 );
+		assertThat( staticCounters.get( CountingWarmer.WARM_COUNTER_KEY ) ).isEqualTo( warmupCountAfterSecondQuery );
+	}
+
+	@Test
+	public void segmentWarmupOnly() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_WARMUP_ENABLED, true )
+				.setup();
+
+		addDocument( "1", 1L );
+		addDocument( "2", 2L );
+		SearchResultAssert.assertThat( index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).asc() )
+				.toQuery() )
+				.hasDocRefHitsExactOrder( index.typeName(), "1", "2" );
+	}
+
+	private void addDocument(String id, long number) {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan();
+		plan.add( referenceProvider( id ), document -> {
+			document.addValue( index.binding().text, "text " + id );
+			document.addValue( index.binding().number, number );
+		} );
+		plan.execute().join();
+	}
+
+	public static class CountingWarmer implements IndexReaderWarmer {
+		private static final StaticCounters.Key CONSTRUCTOR_COUNTER_KEY = StaticCounters.createKey();
+		private static final StaticCounters.Key WARM_COUNTER_KEY = StaticCounters.createKey();
+		private static final StaticCounters.Key NEW_LEAF_COUNTER_KEY = StaticCounters.createKey();
+
+		public CountingWarmer() {
+			StaticCounters.get().increment( CONSTRUCTOR_COUNTER_KEY );
+		}
+
+		@Override
+		public void warm(IndexReaderWarmupContext context) throws IOException {
+			StaticCounters.get().increment( WARM_COUNTER_KEY );
+			StaticCounters.get().add( NEW_LEAF_COUNTER_KEY, context.newLeaves().size() );
+			assertThat( context.shardId() ).isEmpty();
+			context.indexSearcher().search( new MatchAllDocsQuery(), 10 );
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+		final IndexFieldReference<Long> number;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+			number = root.field( "number", f -> f.asLong().sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
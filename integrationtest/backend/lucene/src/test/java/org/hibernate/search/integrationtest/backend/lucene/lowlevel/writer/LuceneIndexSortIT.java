@@ -0,0 +1,172 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.SortField;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test sorting of index segments, which allows sorted queries to terminate early.
+ */
+public class LuceneIndexSortIT {
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void defaults() {
+		setup( properties -> { } );
+
+		assertThat( luceneIndexManager().getShardsForTests() )
+				.extracting( Shard::getIndexAccessorForTests )
+				.extracting( IndexAccessorImpl::getWriterForTests )
+				.extracting( IndexWriter::getConfig )
+				.allSatisfy( config -> assertThat( config.getIndexSort() ).isNull() );
+	}
+
+	@Test
+	public void custom() {
+		setup( properties -> {
+			properties.accept( LuceneIndexSettings.IO_WRITER_SORT_FIELD, "timestamp" );
+			properties.accept( LuceneIndexSettings.IO_WRITER_SORT_ORDER, "desc" );
+		} );
+
+		assertThat( luceneIndexManager().getShardsForTests() )
+				.extracting( Shard::getIndexAccessorForTests )
+				.extracting( IndexAccessorImpl::getWriterForTests )
+				.extracting( IndexWriter::getConfig )
+				.allSatisfy( config -> {
+					assertThat( config.getIndexSort() ).isNotNull();
+					SortField[] sortFields = config.getIndexSort().getSort();
+					assertThat( sortFields ).hasSize( 1 );
+					assertThat( sortFields[0].getField() ).isEqualTo( "timestamp" );
+					assertThat( sortFields[0].getReverse() ).isTrue();
+				} );
+
+		initData();
+
+		// Sorting on the index sort with a total hit count threshold allows Lucene to stop collecting early;
+		// the results must be the same regardless.
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "timestamp" ).desc() )
+				.totalHitCountThreshold( 3 )
+				.toQuery();
+		assertThat( query.fetchHits( 3 ) )
+				.extracting( DocumentReference::id )
+				.containsExactly( docId( DOCUMENT_COUNT - 1 ), docId( DOCUMENT_COUNT - 2 ), docId( DOCUMENT_COUNT - 3 ) );
+
+		// Sorting in the opposite order must still work, though it cannot terminate early.
+		SearchResultAssert.assertThat( index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "timestamp" ).asc() )
+				.toQuery() )
+				.hasTotalHitCount( DOCUMENT_COUNT );
+		assertThat( index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "timestamp" ).asc() )
+				.fetchHits( 2 ) )
+				.extracting( DocumentReference::id )
+				.containsExactly( docId( 0 ), docId( 1 ) );
+	}
+
+	@Test
+	public void unknownField() {
+		Assertions.assertThatThrownBy( () -> setup( properties -> {
+			properties.accept( LuceneIndexSettings.IO_WRITER_SORT_FIELD, "doesNotExist" );
+		} ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to sort the index on field 'doesNotExist'" )
+				.hasMessageContaining( "this field does not exist" );
+	}
+
+	@Test
+	public void invalidField() {
+		Assertions.assertThatThrownBy( () -> setup( properties -> {
+			properties.accept( LuceneIndexSettings.IO_WRITER_SORT_FIELD, "text" );
+		} ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to sort the index on field 'text'" )
+				.hasMessageContaining( "index sorting is only available for sortable numeric or date/time fields" );
+	}
+
+	@Test
+	public void invalidOrder() {
+		Assertions.assertThatThrownBy( () -> setup( properties -> {
+			properties.accept( LuceneIndexSettings.IO_WRITER_SORT_FIELD, "timestamp" );
+			properties.accept( LuceneIndexSettings.IO_WRITER_SORT_ORDER, "sideways" );
+		} ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "sideways" );
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			long timestamp = i;
+			plan.add( referenceProvider( docId( i ) ), document -> {
+				document.addValue( index.binding().timestamp, timestamp );
+				document.addValue( index.binding().text, "text" );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static String docId(int i) {
+		return "doc" + i;
+	}
+
+	private LuceneIndexManagerImpl luceneIndexManager() {
+		return index.unwrapForTests( LuceneIndexManagerImpl.class );
+	}
+
+	private void setup(Consumer<BiConsumer<String, Object>> propertyContributor) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.start()
+				.withIndex( index );
+		propertyContributor.accept( setupContext::withBackendProperty );
+		setupContext.setup();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Long> timestamp;
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			timestamp = root.field( "timestamp", f -> f.asLong().sortable( Sortable.YES ) ).toReference();
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
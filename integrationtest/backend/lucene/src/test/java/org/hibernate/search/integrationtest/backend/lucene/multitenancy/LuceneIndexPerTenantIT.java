@@ -0,0 +1,238 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.multitenancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LuceneIndexPerTenantIT {
+
+	private static final String TENANT_1 = "tenant_1";
+	private static final String TENANT_2 = "tenant_2";
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final StubBackendSessionContext tenant1SessionContext = new StubBackendSessionContext( TENANT_1 );
+	private final StubBackendSessionContext tenant2SessionContext = new StubBackendSessionContext( TENANT_2 );
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void lazyCreation() {
+		setup();
+
+
+		Path indexDirectory = temporaryFolder.getRoot().toPath().resolve( index.name() );
+
+		// No tenant was used yet: no shard, no directory
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).isEmpty();
+		assertThat( indexDirectory.resolve( TENANT_1 ) ).doesNotExist();
+
+		initData();
+
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).hasSize( 2 );
+		assertThat( indexDirectory.resolve( TENANT_1 ) ).isDirectory();
+		assertThat( indexDirectory.resolve( TENANT_2 ) ).isDirectory();
+	}
+
+	@Test
+	public void search_onlyTargetsIndexOfTenant() {
+		setup();
+		initData();
+
+		assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( 2 );
+		assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( 1 );
+		assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( 1 );
+	}
+
+	@Test
+	public void purge_onlyAffectsIndexOfTenant() {
+		setup();
+		initData();
+
+		index.createWorkspace( tenant1SessionContext ).purge( Collections.emptySet() ).join();
+		index.createWorkspace( tenant1SessionContext ).refresh().join();
+
+		assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( 0 );
+		assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( 1 );
+	}
+
+	@Test
+	public void invalidTenantId() {
+		setup();
+
+		assertThatThrownBy( () -> index.createScope().query( new StubBackendSessionContext( "../other" ) )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid tenant identifier: '../other'", "index-per-tenant" );
+	}
+
+	@Test
+	public void unknownTenant_noIndexCreation() {
+		setup();
+		Path indexDirectory = temporaryFolder.getRoot().toPath().resolve( index.name() );
+		StubBackendSessionContext unknownTenantSessionContext = new StubBackendSessionContext( "unknown" );
+
+		// Reading or managing the index of a tenant that was never indexed must not create that index
+		assertThat( index.createScope().query( unknownTenantSessionContext )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( 0 );
+		index.createWorkspace( unknownTenantSessionContext ).purge( Collections.emptySet() ).join();
+		index.createWorkspace( unknownTenantSessionContext ).refresh().join();
+
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).isEmpty();
+		assertThat( indexDirectory.resolve( "unknown" ) ).doesNotExist();
+	}
+
+	@Test
+	public void maxOpenTenantIndexes() {
+		startSetup()
+				.withBackendProperty( LuceneIndexSettings.MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES, 1 )
+				.setup();
+
+		// Indexing for tenant 2 closes the index of tenant 1
+		initData();
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).hasSize( 1 );
+
+		// Closed indexes are re-opened from disk when needed
+		assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( 2 );
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).hasSize( 1 );
+		assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( 1 );
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).hasSize( 1 );
+
+		// Indexing still works after a tenant index was closed and re-opened
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( tenant1SessionContext );
+		plan.add( referenceProvider( "3" ), document -> document.addValue( index.binding().string, "text 4" ) );
+		plan.execute().join();
+		assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( 3 );
+	}
+
+	@Test
+	public void maxOpenTenantIndexes_inUse() {
+		startSetup()
+				.withBackendProperty( LuceneIndexSettings.MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES, 1 )
+				.setup();
+		initData();
+
+		// This plan uses the index of tenant 1 until it is executed
+		IndexIndexingPlan<?> tenant1Plan = index.createIndexingPlan( tenant1SessionContext );
+		tenant1Plan.add( referenceProvider( "3" ), document -> document.addValue( index.binding().string, "text 4" ) );
+
+		// Indexing for tenant 2 must not close the index of tenant 1 while it's in use
+		IndexIndexingPlan<?> tenant2Plan = index.createIndexingPlan( tenant2SessionContext );
+		tenant2Plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().string, "text 5" ) );
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).hasSize( 2 );
+
+		// Once the index of tenant 2 is no longer in use, extra indexes are closed
+		tenant2Plan.execute().join();
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).hasSize( 1 );
+
+		// The index of tenant 1 was kept open for the pending plan
+		tenant1Plan.execute().join();
+
+		assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( 3 );
+		assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( 2 );
+	}
+
+	@Test
+	public void maxOpenTenantIndexes_invalid() {
+		assertThatThrownBy( () -> startSetup()
+				.withBackendProperty( LuceneIndexSettings.MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES, 0 )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid maximum number of open tenant indexes: '0'" );
+	}
+
+	private void setup() {
+		startSetup().setup();
+	}
+
+	private SearchSetupHelper.SetupContext startSetup() {
+		return setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY,
+						MultiTenancyStrategyName.INDEX_PER_TENANT )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, temporaryFolder.getRoot().getAbsolutePath() )
+				.withIndex( index )
+				.withMultiTenancy();
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( tenant1SessionContext );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().string, "text 1" ) );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().string, "text 2" ) );
+		plan.execute().join();
+
+		plan = index.createIndexingPlan( tenant2SessionContext );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().string, "text 3" ) );
+		plan.execute().join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
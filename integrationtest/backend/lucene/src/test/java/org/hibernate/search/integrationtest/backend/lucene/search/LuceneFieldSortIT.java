@@ -0,0 +1,148 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.SortedSetSelector;
+import org.apache.lucene.search.SortedSetSortField;
+
+/**
+ * Test the Lucene sort fields produced by sorts by field value:
+ * Lucene's built-in sort fields for single-valued fields outside of nested documents,
+ * custom comparators otherwise.
+ * <p>
+ * The resulting order is tested in the TCK,
+ * see {@link org.hibernate.search.integrationtest.backend.tck.search.sort.FieldSearchSortSingleValuedSpecificsIT}.
+ */
+public class LuceneFieldSortIT {
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+	}
+
+	@Test
+	public void numeric_singleValued() {
+		SortField sortField = sortField( f -> f.field( "integer" ).asc() );
+		assertThat( sortField ).isInstanceOf( SortedNumericSortField.class );
+		SortedNumericSortField sortedNumericSortField = (SortedNumericSortField) sortField;
+		assertThat( sortedNumericSortField.getNumericType() ).isEqualTo( SortField.Type.LONG );
+		assertThat( sortedNumericSortField.getSelector() ).isEqualTo( SortedNumericSelector.Type.MIN );
+		assertThat( sortedNumericSortField.getReverse() ).isFalse();
+		assertThat( sortedNumericSortField.getMissingValue() ).isEqualTo( (long) Integer.MAX_VALUE );
+
+		sortField = sortField( f -> f.field( "integer" ).desc().missing().first() );
+		assertThat( sortField ).isInstanceOf( SortedNumericSortField.class );
+		sortedNumericSortField = (SortedNumericSortField) sortField;
+		assertThat( sortedNumericSortField.getSelector() ).isEqualTo( SortedNumericSelector.Type.MAX );
+		assertThat( sortedNumericSortField.getReverse() ).isTrue();
+		assertThat( sortedNumericSortField.getMissingValue() ).isEqualTo( (long) Integer.MAX_VALUE );
+	}
+
+	@Test
+	public void numeric_multiValued() {
+		assertComparator( sortField( f -> f.field( "multiValuedInteger" ).asc() ) );
+	}
+
+	@Test
+	public void numeric_nested() {
+		assertComparator( sortField( f -> f.field( "nested.integer" ).asc() ) );
+	}
+
+	@Test
+	public void text_singleValued() {
+		SortField sortField = sortField( f -> f.field( "string" ).asc().missing().first() );
+		assertThat( sortField ).isInstanceOf( SortedSetSortField.class );
+		SortedSetSortField sortedSetSortField = (SortedSetSortField) sortField;
+		assertThat( sortedSetSortField.getSelector() ).isEqualTo( SortedSetSelector.Type.MIN );
+		assertThat( sortedSetSortField.getReverse() ).isFalse();
+		assertThat( sortedSetSortField.getMissingValue() ).isEqualTo( SortField.STRING_FIRST );
+
+		sortField = sortField( f -> f.field( "string" ).desc().missing().first() );
+		assertThat( sortField ).isInstanceOf( SortedSetSortField.class );
+		sortedSetSortField = (SortedSetSortField) sortField;
+		assertThat( sortedSetSortField.getReverse() ).isTrue();
+		assertThat( sortedSetSortField.getMissingValue() ).isEqualTo( SortField.STRING_LAST );
+	}
+
+	@Test
+	public void text_singleValued_missingAs() {
+		// Lucene's built-in sort fields cannot replace missing values with an arbitrary term
+		assertComparator( sortField( f -> f.field( "string" ).asc().missing().use( "foo" ) ) );
+	}
+
+	@Test
+	public void text_multiValued() {
+		assertComparator( sortField( f -> f.field( "multiValuedString" ).asc().missing().first() ) );
+	}
+
+	private SortField sortField(Function<? super SearchSortFactory, ? extends SortFinalStep> sortContributor) {
+		SortField[] sortFields = index.createScope().query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( sortContributor )
+				.toQuery()
+				.luceneSort()
+				.getSort();
+		assertThat( sortFields ).isNotEmpty();
+		return sortFields[0];
+	}
+
+	private static void assertComparator(SortField sortField) {
+		assertThat( sortField ).isExactlyInstanceOf( SortField.class );
+		assertThat( sortField.getType() ).isEqualTo( SortField.Type.CUSTOM );
+		assertThat( sortField.getComparatorSource() ).isNotNull();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Integer> multiValuedInteger;
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<String> multiValuedString;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			multiValuedInteger = root.field( "multiValuedInteger", f -> f.asInteger().sortable( Sortable.YES ) )
+					.multiValued().toReference();
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+			multiValuedString = root.field( "multiValuedString", f -> f.asString().sortable( Sortable.YES ) )
+					.multiValued().toReference();
+			IndexSchemaObjectField nestedObjectField = root.objectField( "nested", ObjectStructure.NESTED );
+			nested = nestedObjectField.toReference();
+			nestedInteger = nestedObjectField.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfos;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test updates of documents when the caller knows which fields changed,
+ * which allows updating doc values in place.
+ */
+public class LuceneIndexingDocValuesUpdateIT {
+
+	private static final AggregationKey<Map<Long, Long>> COUNTER_TERMS = AggregationKey.of( "counterTerms" );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final StubBackendSessionContext sessionContext = new StubBackendSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( sessionContext );
+		plan.add( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().text, "first" );
+			document.addValue( index.binding().counter, 1L );
+			document.addValue( index.binding().defaultCounter, 1L );
+		} );
+		plan.add( referenceProvider( "2" ), document -> {
+			document.addValue( index.binding().text, "second" );
+			document.addValue( index.binding().counter, 2L );
+			document.addValue( index.binding().defaultCounter, 2L );
+		} );
+		plan.execute().join();
+	}
+
+	@Test
+	public void docValuesOnly() throws IOException {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( sessionContext );
+		plan.update( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().text, "first" );
+			document.addValue( index.binding().counter, 42L );
+		}, Collections.singleton( index.binding().counter ) );
+		plan.execute().join();
+
+		assertThat( counterTerms( "counter" ) ).containsOnlyKeys( 2L, 42L );
+		assertThat( countMatching( "first" ) ).isEqualTo( 1 );
+		// The document was updated in place: no document was deleted and re-added.
+		assertThat( LuceneIndexContentUtils.<Integer>readIndex( setupHelper, index.name(), reader -> reader.maxDoc() ) )
+				.isEqualTo( 2 );
+	}
+
+	@Test
+	public void docValuesOnly_documentNotIndexedYet() throws IOException {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( sessionContext );
+		plan.update( referenceProvider( "3" ), document -> {
+			document.addValue( index.binding().text, "third" );
+			document.addValue( index.binding().counter, 3L );
+		}, Collections.singleton( index.binding().counter ) );
+		plan.execute().join();
+
+		// The document did not exist: it must have been indexed from scratch.
+		assertThat( countMatching( "third" ) ).isEqualTo( 1 );
+		assertThat( counterTerms( "counter" ) ).containsOnlyKeys( 1L, 2L, 3L );
+		assertThat( LuceneIndexContentUtils.<Integer>readIndex( setupHelper, index.name(), reader -> reader.numDocs() ) )
+				.isEqualTo( 3 );
+	}
+
+	@Test
+	public void notUpdatableInPlace() throws IOException {
+		assertThat( docValuesType( "defaultCounter" ) ).isEqualTo( DocValuesType.SORTED_NUMERIC );
+		assertThat( docValuesType( "counter" ) ).isEqualTo( DocValuesType.NUMERIC );
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( sessionContext );
+		plan.update( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().text, "first" );
+			document.addValue( index.binding().counter, 1L );
+			document.addValue( index.binding().defaultCounter, 42L );
+		}, Collections.singleton( index.binding().defaultCounter ) );
+		plan.execute().join();
+
+		assertThat( counterTerms( "defaultCounter" ) ).containsOnlyKeys( 2L, 42L );
+		assertThat( countMatching( "first" ) ).isEqualTo( 1 );
+		// Without the opt-in, the document is deleted and re-added.
+		assertThat( LuceneIndexContentUtils.<Integer>readIndex( setupHelper, index.name(), reader -> reader.maxDoc() ) )
+				.isEqualTo( 3 );
+	}
+
+	@Test
+	public void docValuesOnly_noValueYet() {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( sessionContext );
+		plan.add( referenceProvider( "3" ), document -> {
+			document.addValue( index.binding().text, "third" );
+		} );
+		plan.execute().join();
+
+		plan.update( referenceProvider( "3" ), document -> {
+			document.addValue( index.binding().text, "third" );
+			document.addValue( index.binding().otherCounter, 3L );
+		}, Collections.singleton( index.binding().otherCounter ) );
+		plan.execute().join();
+
+		assertThat( countMatching( "third" ) ).isEqualTo( 1 );
+		assertThat( counterTerms( "otherCounter" ) ).containsOnlyKeys( 3L );
+	}
+
+	@Test
+	public void notDocValuesOnly() {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( sessionContext );
+		plan.update( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().text, "updated" );
+			document.addValue( index.binding().counter, 42L );
+		}, Arrays.asList( index.binding().text, index.binding().counter ) );
+		plan.execute().join();
+
+		assertThat( counterTerms( "counter" ) ).containsOnlyKeys( 2L, 42L );
+		assertThat( countMatching( "first" ) ).isEqualTo( 0 );
+		assertThat( countMatching( "updated" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void docValuesOnly_removedValue() {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( sessionContext );
+		plan.update( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().text, "first" );
+		}, Collections.singleton( index.binding().counter ) );
+		plan.execute().join();
+
+		assertThat( counterTerms( "counter" ) ).containsOnlyKeys( 2L );
+		assertThat( countMatching( "first" ) ).isEqualTo( 1 );
+	}
+
+	private Map<Long, Long> counterTerms(String fieldPath) {
+		return index.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( COUNTER_TERMS, f -> f.terms().field( fieldPath, Long.class ) )
+				.fetchAll()
+				.aggregation( COUNTER_TERMS );
+	}
+
+	private DocValuesType docValuesType(String fieldPath) throws IOException {
+		return LuceneIndexContentUtils.readIndex( setupHelper, index.name(),
+				reader -> FieldInfos.getMergedFieldInfos( reader ).fieldInfo( fieldPath ).getDocValuesType() );
+	}
+
+	private long countMatching(String text) {
+		return index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( text ) )
+				.fetchTotalHitCount();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+		final IndexFieldReference<Long> counter;
+		final IndexFieldReference<Long> otherCounter;
+		final IndexFieldReference<Long> defaultCounter;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+			counter = root.field( "counter", f -> f.extension( LuceneExtension.get() ).asLong()
+					.searchable( Searchable.NO ).projectable( Projectable.NO ).aggregable( Aggregable.YES )
+					.docValuesUpdatableInPlace( true ) )
+					.toReference();
+			otherCounter = root.field( "otherCounter", f -> f.extension( LuceneExtension.get() ).asLong()
+					.searchable( Searchable.NO ).projectable( Projectable.NO ).aggregable( Aggregable.YES )
+					.docValuesUpdatableInPlace( true ) )
+					.toReference();
+			defaultCounter = root.field( "defaultCounter", f -> f.asLong()
+					.searchable( Searchable.NO ).projectable( Projectable.NO ).aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
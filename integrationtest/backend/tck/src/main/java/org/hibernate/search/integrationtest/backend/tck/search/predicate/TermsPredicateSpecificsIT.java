@@ -0,0 +1,153 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.predicate;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class TermsPredicateSpecificsIT {
+
+	private static final String DOCUMENT_1 = "document1";
+	private static final String DOCUMENT_2 = "document2";
+	private static final String DOCUMENT_3 = "document3";
+	private static final String EMPTY = "empty";
+
+	/**
+	 * More values than the default maximum clause count of Lucene boolean queries.
+	 */
+	private static final int MANY_VALUES_COUNT = 2000;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void keyword() {
+		assertThatQuery( index.query()
+				.where( f -> f.terms().field( "keyword" )
+						.matchingAny( Arrays.asList( "value1", "value3", "unknown" ) ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1, DOCUMENT_3 );
+	}
+
+	@Test
+	public void normalizedKeyword() {
+		// Values must be normalized the same way as indexed values
+		assertThatQuery( index.query()
+				.where( f -> f.terms().field( "normalizedKeyword" )
+						.matchingAny( Arrays.asList( "VALUE1", "Value3", "unknown" ) ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1, DOCUMENT_3 );
+	}
+
+	@Test
+	public void integer() {
+		assertThatQuery( index.query()
+				.where( f -> f.terms().field( "integer" )
+						.matchingAny( Arrays.asList( 2, 3, 42 ) ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void valueConvertNo() {
+		assertThatQuery( index.query()
+				.where( f -> f.terms().field( "keyword" )
+						.matchingAny( Arrays.asList( "value2" ), ValueConvert.NO ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_2 );
+	}
+
+	@Test
+	public void manyValues_keyword() {
+		List<String> values = new ArrayList<>();
+		for ( int i = 0; i < MANY_VALUES_COUNT; i++ ) {
+			values.add( "value" + i );
+		}
+
+		assertThatQuery( index.query()
+				.where( f -> f.terms().field( "keyword" ).matchingAny( values ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void manyValues_integer() {
+		List<Integer> values = new ArrayList<>();
+		for ( int i = 0; i < MANY_VALUES_COUNT; i++ ) {
+			values.add( i );
+		}
+
+		assertThatQuery( index.query()
+				.where( f -> f.terms().field( "integer" ).matchingAny( values ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void manyValues_id() {
+		List<String> values = new ArrayList<>();
+		for ( int i = 0; i < MANY_VALUES_COUNT; i++ ) {
+			values.add( "document" + i );
+		}
+
+		assertThatQuery( index.query()
+				.where( f -> f.id().matchingAny( values ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_1, document -> {
+					document.addValue( index.binding().keyword, "value1" );
+					document.addValue( index.binding().normalizedKeyword, "Value1" );
+					document.addValue( index.binding().integer, 1 );
+				} )
+				.add( DOCUMENT_2, document -> {
+					document.addValue( index.binding().keyword, "value2" );
+					document.addValue( index.binding().normalizedKeyword, "Value2" );
+					document.addValue( index.binding().integer, 2 );
+				} )
+				.add( DOCUMENT_3, document -> {
+					document.addValue( index.binding().keyword, "value3" );
+					document.addValue( index.binding().normalizedKeyword, "Value3" );
+					document.addValue( index.binding().integer, 3 );
+				} )
+				.add( EMPTY, document -> { } )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> keyword;
+		final IndexFieldReference<String> normalizedKeyword;
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			keyword = root.field( "keyword", f -> f.asString() ).toReference();
+			normalizedKeyword = root.field( "normalizedKeyword", f -> f.asString()
+					.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name ) )
+					.toReference();
+			integer = root.field( "integer", f -> f.asInteger() ).toReference();
+		}
+	}
+}
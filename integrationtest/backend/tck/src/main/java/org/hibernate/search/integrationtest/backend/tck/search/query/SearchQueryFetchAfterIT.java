@@ -0,0 +1,259 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchCursor;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test pagination with {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAfter(SearchCursor, Integer)}.
+ */
+public class SearchQueryFetchAfterIT {
+
+	private static final int DOCUMENT_COUNT = 50;
+	private static final int GROUP_COUNT = 4;
+	private static final int PAGE_SIZE = 7;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void singleFieldSort() {
+		assertThat( fetchAllPages( f -> f.field( "integer" ).asc(), Function.identity() ) )
+				.containsExactlyElementsOf( docIds( IntStream.range( 0, DOCUMENT_COUNT ) ) );
+	}
+
+	@Test
+	public void descending() {
+		assertThat( fetchAllPages( f -> f.field( "integer" ).desc(), Function.identity() ) )
+				.containsExactlyElementsOf( docIds( IntStream.range( 0, DOCUMENT_COUNT ).map( i -> DOCUMENT_COUNT - 1 - i ) ) );
+	}
+
+	@Test
+	public void tieBreakById() {
+		// Many documents share the same group: the cursor must still identify a unique position.
+		List<String> expected = new ArrayList<>();
+		for ( int group = 0; group < GROUP_COUNT; group++ ) {
+			int currentGroup = group;
+			expected.addAll( docIds( IntStream.range( 0, DOCUMENT_COUNT ).filter( inGroup( currentGroup ) ) ) );
+		}
+
+		assertThat( fetchAllPages( f -> f.field( "group" ).asc(), Function.identity() ) )
+				.containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	public void multiFieldSort() {
+		// Descending group, then descending integer within each group
+		List<String> expected = new ArrayList<>();
+		for ( int group = GROUP_COUNT - 1; group >= 0; group-- ) {
+			int currentGroup = group;
+			expected.addAll( docIds( IntStream.range( 0, DOCUMENT_COUNT ).map( i -> DOCUMENT_COUNT - 1 - i )
+					.filter( inGroup( currentGroup ) ) ) );
+		}
+
+		assertThat( fetchAllPages( f -> f.field( "group" ).desc().then().field( "integer" ).desc(),
+				Function.identity() ) )
+				.containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	public void lastPage() {
+		SearchQuery<DocumentReference> query = query( f -> f.field( "integer" ).asc() );
+
+		SearchResult<DocumentReference> firstPage = query.fetchAfter( null, DOCUMENT_COUNT );
+		assertThat( firstPage.hits() ).hasSize( DOCUMENT_COUNT );
+		assertThat( firstPage.nextPageCursor() ).isPresent();
+
+		SearchResult<DocumentReference> afterLastPage = query.fetchAfter( firstPage.nextPageCursor().get(), PAGE_SIZE );
+		assertThat( afterLastPage.hits() ).isEmpty();
+		assertThat( afterLastPage.nextPageCursor() ).isEmpty();
+	}
+
+	@Test
+	public void externalForm() {
+		// Pass each cursor through its external form, as a client would.
+		assertThat( fetchAllPages( f -> f.field( "group" ).asc().then().field( "integer" ).desc(),
+				cursor -> {
+					String externalForm = cursor.toExternalForm();
+					assertThat( externalForm ).matches( "[A-Za-z0-9_:\\-]+" );
+					return SearchCursor.parse( externalForm );
+				} ) )
+				.containsExactlyElementsOf(
+						fetchAllPages( f -> f.field( "group" ).asc().then().field( "integer" ).desc(),
+								Function.identity() )
+				);
+	}
+
+	@Test
+	public void externalForm_stable() {
+		SearchQuery<DocumentReference> query = query( f -> f.field( "integer" ).asc() );
+		SearchCursor cursor = query.fetchAfter( null, PAGE_SIZE ).nextPageCursor().get();
+		SearchCursor parsed = SearchCursor.parse( cursor.toExternalForm() );
+
+		assertThat( parsed.toExternalForm() ).isEqualTo( cursor.toExternalForm() );
+		assertThat( query( f -> f.field( "integer" ).asc() ).fetchAfter( parsed, PAGE_SIZE ).hits() )
+				.extracting( DocumentReference::id )
+				.containsExactlyElementsOf( docIds( IntStream.range( PAGE_SIZE, 2 * PAGE_SIZE ) ) );
+	}
+
+	@Test
+	public void invalidCursor_otherQuery() {
+		SearchCursor cursor = query( f -> f.field( "integer" ).asc() )
+				.fetchAfter( null, PAGE_SIZE ).nextPageCursor().get();
+		SearchCursor parsed = SearchCursor.parse( cursor.toExternalForm() );
+
+		SearchQuery<DocumentReference> otherQuery = query( f -> f.field( "group" ).asc() );
+		assertThatThrownBy( () -> otherQuery.fetchAfter( cursor, PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid search cursor" );
+		assertThatThrownBy( () -> otherQuery.fetchAfter( parsed, PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid search cursor" );
+	}
+
+	@Test
+	public void invalidCursor_foreign() {
+		SearchQuery<DocumentReference> query = query( f -> f.field( "integer" ).asc() );
+
+		// A cursor implementation that doesn't come from this backend
+		SearchCursor foreignCursor = new SearchCursor() {
+			@Override
+			public String toExternalForm() {
+				return "foreign";
+			}
+		};
+		assertThatThrownBy( () -> query.fetchAfter( foreignCursor, PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid search cursor" );
+
+		// An external form that doesn't come from this backend
+		assertThatThrownBy( () -> query.fetchAfter( SearchCursor.parse( "foreign:abc" ), PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid search cursor" );
+	}
+
+	@Test
+	public void invalidCursor_malformed() {
+		SearchQuery<DocumentReference> query = query( f -> f.field( "integer" ).asc() );
+		String externalForm = query.fetchAfter( null, PAGE_SIZE ).nextPageCursor().get().toExternalForm();
+		String truncated = externalForm.substring( 0, externalForm.length() - 3 );
+
+		assertThatThrownBy( () -> query.fetchAfter( SearchCursor.parse( truncated ), PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid search cursor" )
+				.hasMessageContaining( truncated );
+	}
+
+	@Test
+	public void parse_nullOrEmpty() {
+		assertThatThrownBy( () -> SearchCursor.parse( null ) )
+				.isInstanceOf( IllegalArgumentException.class );
+		assertThatThrownBy( () -> SearchCursor.parse( "" ) )
+				.isInstanceOf( IllegalArgumentException.class );
+	}
+
+	private List<String> fetchAllPages(Function<? super SearchSortFactory, ? extends SortFinalStep> sortContributor,
+			Function<SearchCursor, SearchCursor> cursorTransformer) {
+		SearchQuery<DocumentReference> query = query( sortContributor );
+		List<String> result = new ArrayList<>();
+		SearchCursor cursor = null;
+		int pageCount = 0;
+		do {
+			SearchResult<DocumentReference> page = query.fetchAfter( cursor, PAGE_SIZE );
+			assertThat( page.hits() ).hasSizeLessThanOrEqualTo( PAGE_SIZE );
+			for ( DocumentReference hit : page.hits() ) {
+				result.add( hit.id() );
+			}
+			cursor = page.nextPageCursor().map( cursorTransformer ).orElse( null );
+			++pageCount;
+			// Guard against infinite loops
+			assertThat( pageCount ).isLessThanOrEqualTo( DOCUMENT_COUNT / PAGE_SIZE + 2 );
+		}
+		while ( cursor != null );
+		return result;
+	}
+
+	private SearchQuery<DocumentReference> query(
+			Function<? super SearchSortFactory, ? extends SortFinalStep> sortContributor) {
+		return index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( sortContributor )
+				.toQuery();
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> {
+							document.addValue( index.binding().integer, i );
+							document.addValue( index.binding().group, i % GROUP_COUNT );
+						}
+				) )
+				.join();
+	}
+
+	private static IntPredicate inGroup(int group) {
+		return i -> i % GROUP_COUNT == group;
+	}
+
+	private static List<String> docIds(IntStream indexes) {
+		return indexes.mapToObj( SearchQueryFetchAfterIT::docId ).collect( Collectors.toList() );
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Integer> group;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			group = root.field( "group", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
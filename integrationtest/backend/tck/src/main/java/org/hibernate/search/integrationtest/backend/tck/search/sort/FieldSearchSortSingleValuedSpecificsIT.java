@@ -0,0 +1,218 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.sort;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.sort.dsl.FieldSortOptionsStep;
+import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.model.singlefield.SingleFieldIndexBinding;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.types.FieldTypeDescriptor;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.IndexFieldLocation;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TestedFieldStructure;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.NormalizedDocRefHit;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Tests sorts by field value on fields that are single-valued and not nested.
+ * <p>
+ * Backends may rely on a different, more efficient implementation for such fields
+ * (e.g. Lucene's built-in sort fields instead of custom comparators):
+ * these tests check that the resulting order is exactly the same as for a multi-valued field
+ * holding the same values.
+ */
+@RunWith(Parameterized.class)
+public class FieldSearchSortSingleValuedSpecificsIT<F> {
+
+	private static Set<FieldTypeDescriptor<?>> supportedFieldTypes;
+	private static List<DataSet<?>> dataSets;
+
+	@Parameterized.Parameters(name = "{0}")
+	public static Object[][] parameters() {
+		supportedFieldTypes = new LinkedHashSet<>();
+		dataSets = new ArrayList<>();
+		List<Object[]> parameters = new ArrayList<>();
+		for ( FieldTypeDescriptor<?> fieldType : FieldTypeDescriptor.getAll() ) {
+			if ( fieldType.isFieldSortSupported() ) {
+				supportedFieldTypes.add( fieldType );
+				DataSet<?> dataSet = new DataSet<>( fieldType );
+				dataSets.add( dataSet );
+				parameters.add( new Object[] { fieldType, dataSet } );
+			}
+		}
+		return parameters.toArray( new Object[0][] );
+	}
+
+	private static final int DOCUMENT_1_ORDINAL = 1;
+	private static final int DOCUMENT_2_ORDINAL = 3;
+	private static final int DOCUMENT_3_ORDINAL = 5;
+
+	private static final TestedFieldStructure SINGLE_VALUED_IN_ROOT = rootStructure( true );
+	private static final TestedFieldStructure MULTI_VALUED_IN_ROOT = rootStructure( false );
+
+	@ClassRule
+	public static SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final Function<IndexSchemaElement, SingleFieldIndexBinding> bindingFactory =
+			root -> SingleFieldIndexBinding.create( root, supportedFieldTypes, c -> c.sortable( Sortable.YES ) );
+
+	private static final SimpleMappedIndex<SingleFieldIndexBinding> index = SimpleMappedIndex.of( bindingFactory );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		BulkIndexer indexer = index.bulkIndexer();
+		for ( DataSet<?> dataSet : dataSets ) {
+			dataSet.contribute( indexer );
+		}
+		indexer.join();
+	}
+
+	private final FieldTypeDescriptor<F> fieldType;
+	private final DataSet<F> dataSet;
+
+	public FieldSearchSortSingleValuedSpecificsIT(FieldTypeDescriptor<F> fieldType, DataSet<F> dataSet) {
+		this.fieldType = fieldType;
+		this.dataSet = dataSet;
+	}
+
+	@Test
+	public void missingValue_default() {
+		assumeTestParametersWork();
+
+		assertSameOrder( f -> f.asc(),
+				dataSet.doc1Id, dataSet.doc2Id, dataSet.doc3Id, dataSet.emptyDocId );
+		assertSameOrder( f -> f.desc(),
+				dataSet.doc3Id, dataSet.doc2Id, dataSet.doc1Id, dataSet.emptyDocId );
+	}
+
+	@Test
+	public void missingValue_last() {
+		assumeTestParametersWork();
+
+		assertSameOrder( f -> f.asc().missing().last(),
+				dataSet.doc1Id, dataSet.doc2Id, dataSet.doc3Id, dataSet.emptyDocId );
+		assertSameOrder( f -> f.desc().missing().last(),
+				dataSet.doc3Id, dataSet.doc2Id, dataSet.doc1Id, dataSet.emptyDocId );
+	}
+
+	@Test
+	public void missingValue_first() {
+		assumeTestParametersWork();
+
+		assertSameOrder( f -> f.asc().missing().first(),
+				dataSet.emptyDocId, dataSet.doc1Id, dataSet.doc2Id, dataSet.doc3Id );
+		assertSameOrder( f -> f.desc().missing().first(),
+				dataSet.emptyDocId, dataSet.doc3Id, dataSet.doc2Id, dataSet.doc1Id );
+	}
+
+	private void assertSameOrder(Function<FieldSortOptionsStep<?, ?>, FieldSortOptionsStep<?, ?>> sortOptions,
+			String... expectedIds) {
+		Consumer<NormalizedDocRefHit.Builder> expectation = b -> {
+			for ( String id : expectedIds ) {
+				b.doc( index.typeName(), id );
+			}
+		};
+		assertThat( query( sortOptions, SINGLE_VALUED_IN_ROOT ) )
+				.hasDocRefHitsExactOrder( expectation );
+		assertThat( query( sortOptions, MULTI_VALUED_IN_ROOT ) )
+				.hasDocRefHitsExactOrder( expectation );
+	}
+
+	private SearchQuery<DocumentReference> query(
+			Function<FieldSortOptionsStep<?, ?>, FieldSortOptionsStep<?, ?>> sortOptions,
+			TestedFieldStructure fieldStructure) {
+		String fieldPath = index.binding().getFieldPath( fieldStructure, fieldType );
+		Function<SearchSortFactory, FieldSortOptionsStep<?, ?>> sortContributor = f -> f.field( fieldPath );
+		return index.createScope().query()
+				.where( f -> f.matchAll() )
+				.routing( dataSet.routingKey )
+				.sort( sortContributor.andThen( sortOptions ) )
+				.toQuery();
+	}
+
+	private void assumeTestParametersWork() {
+		Assume.assumeTrue(
+				"This combination is buggy with this backend",
+				TckConfiguration.get().getBackendFeatures()
+						.sortByFieldValue( SINGLE_VALUED_IN_ROOT, fieldType.getJavaType(), null )
+				&& TckConfiguration.get().getBackendFeatures()
+						.sortByFieldValue( MULTI_VALUED_IN_ROOT, fieldType.getJavaType(), null )
+		);
+	}
+
+	private static TestedFieldStructure rootStructure(boolean singleValued) {
+		for ( TestedFieldStructure fieldStructure : TestedFieldStructure.all() ) {
+			if ( IndexFieldLocation.ROOT.equals( fieldStructure.location )
+					&& fieldStructure.isSingleValued() == singleValued ) {
+				return fieldStructure;
+			}
+		}
+		throw new IllegalStateException( "No root field structure with singleValued = " + singleValued );
+	}
+
+	private static class DataSet<F> {
+		private final FieldTypeDescriptor<F> fieldType;
+		private final String routingKey;
+
+		private final String doc1Id;
+		private final String doc2Id;
+		private final String doc3Id;
+		private final String emptyDocId;
+
+		private DataSet(FieldTypeDescriptor<F> fieldType) {
+			this.fieldType = fieldType;
+			this.routingKey = fieldType.getUniqueName();
+			this.doc1Id = routingKey + "_doc_1";
+			this.doc2Id = routingKey + "_doc_2";
+			this.doc3Id = routingKey + "_doc_3";
+			this.emptyDocId = routingKey + "_emptyDoc";
+		}
+
+		private void contribute(BulkIndexer indexer) {
+			List<F> values = fieldType.getAscendingUniqueTermValues().getSingle();
+			// Important: do not index the documents in the expected order after sorts (1, 2, 3)
+			add( indexer, doc2Id, values.get( DOCUMENT_2_ORDINAL ) );
+			add( indexer, emptyDocId, null );
+			add( indexer, doc1Id, values.get( DOCUMENT_1_ORDINAL ) );
+			add( indexer, doc3Id, values.get( DOCUMENT_3_ORDINAL ) );
+		}
+
+		private void add(BulkIndexer indexer, String id, F value) {
+			// The same value in a single-valued field and in a multi-valued field
+			indexer.add( documentProvider( id, routingKey, document -> {
+				index.binding().initSingleValued( fieldType, IndexFieldLocation.ROOT, document, value );
+				index.binding().initMultiValued( fieldType, IndexFieldLocation.ROOT, document,
+						value == null ? Collections.emptyList() : Collections.singletonList( value ) );
+			} ) );
+		}
+	}
+}
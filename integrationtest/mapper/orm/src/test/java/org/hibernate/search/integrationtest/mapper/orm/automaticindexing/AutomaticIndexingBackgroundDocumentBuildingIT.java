@@ -0,0 +1,259 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing when documents of some entity types are built in background threads.
+ */
+public class AutomaticIndexingBackgroundDocumentBuildingIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Test
+	public void directPersistUpdateDelete() {
+		SessionFactory sessionFactory = setup( BackgroundEntity.NAME );
+
+		withinTransaction( sessionFactory, session -> {
+			BackgroundEntity entity1 = new BackgroundEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			session.persist( entity1 );
+
+			ApplicationThreadEntity entity2 = new ApplicationThreadEntity();
+			entity2.setId( 2 );
+			entity2.setIndexedField( "initialValue" );
+			session.persist( entity2 );
+
+			backendMock.expectWorks( ApplicationThreadEntity.INDEX )
+					.add( "2", b -> b.field( "indexedField", "initialValue" ) )
+					.processedThenExecuted();
+			backendMock.expectWorks( BackgroundEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		withinTransaction( sessionFactory, session -> {
+			BackgroundEntity entity1 = session.get( BackgroundEntity.class, 1 );
+			entity1.setIndexedField( "updatedValue" );
+
+			backendMock.expectWorks( BackgroundEntity.INDEX )
+					.update( "1", b -> b.field( "indexedField", "updatedValue" ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		withinTransaction( sessionFactory, session -> {
+			BackgroundEntity entity1 = session.get( BackgroundEntity.class, 1 );
+			session.delete( entity1 );
+
+			backendMock.expectWorks( BackgroundEntity.INDEX )
+					.delete( "1" )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void nonIndexedFieldUpdate() {
+		SessionFactory sessionFactory = setup( BackgroundEntity.NAME );
+
+		withinTransaction( sessionFactory, session -> {
+			BackgroundEntity entity1 = new BackgroundEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			session.persist( entity1 );
+
+			backendMock.expectWorks( BackgroundEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Dirty paths are collected in the application thread and taken into account in the background:
+		// changes to non-indexed properties must not trigger reindexing.
+		withinTransaction( sessionFactory, session -> {
+			BackgroundEntity entity1 = session.get( BackgroundEntity.class, 1 );
+			entity1.setNonIndexedField( "updatedValue" );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void updateThenDelete_sameTransaction() {
+		SessionFactory sessionFactory = setup( BackgroundEntity.NAME );
+
+		withinTransaction( sessionFactory, session -> {
+			BackgroundEntity entity1 = new BackgroundEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			session.persist( entity1 );
+
+			backendMock.expectWorks( BackgroundEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		withinTransaction( sessionFactory, session -> {
+			BackgroundEntity entity1 = session.get( BackgroundEntity.class, 1 );
+			entity1.setIndexedField( "updatedValue" );
+			session.flush();
+			session.delete( entity1 );
+
+			// The entity no longer exists when documents are built in the background: only the delete remains.
+			backendMock.expectWorks( BackgroundEntity.INDEX )
+					.delete( "1" )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void invalidEntityName_notIndexed() {
+		backendMock.expectAnySchema( BackgroundEntity.INDEX );
+		backendMock.expectAnySchema( ApplicationThreadEntity.INDEX );
+
+		assertThatThrownBy( () -> ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_ENTITY_NAMES,
+						NotIndexedEntity.NAME )
+				.setup( BackgroundEntity.class, ApplicationThreadEntity.class, NotIndexedEntity.class ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						HibernateOrmMapperSettings.AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_ENTITY_NAMES,
+						"Entity '" + NotIndexedEntity.NAME + "' is not indexed"
+				);
+	}
+
+	private SessionFactory setup(String backgroundEntityNames) {
+		backendMock.expectSchema( BackgroundEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+		backendMock.expectSchema( ApplicationThreadEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+
+		SessionFactory sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_ENTITY_NAMES,
+						backgroundEntityNames )
+				.setup( BackgroundEntity.class, ApplicationThreadEntity.class );
+		backendMock.verifyExpectationsMet();
+		return sessionFactory;
+	}
+
+	@Entity(name = BackgroundEntity.NAME)
+	@Indexed(index = BackgroundEntity.INDEX)
+	public static class BackgroundEntity {
+
+		static final String NAME = "background";
+		static final String INDEX = "BackgroundEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		@Basic
+		private String nonIndexedField;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+
+		public String getNonIndexedField() {
+			return nonIndexedField;
+		}
+
+		public void setNonIndexedField(String nonIndexedField) {
+			this.nonIndexedField = nonIndexedField;
+		}
+	}
+
+	@Entity(name = ApplicationThreadEntity.NAME)
+	@Indexed(index = ApplicationThreadEntity.INDEX)
+	public static class ApplicationThreadEntity {
+
+		static final String NAME = "applicationThread";
+		static final String INDEX = "ApplicationThreadEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+
+	@Entity(name = NotIndexedEntity.NAME)
+	public static class NotIndexedEntity {
+
+		static final String NAME = "notIndexed";
+
+		@Id
+		private Integer id;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -11,6 +11,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import javax.persistence.Basic;
 import javax.persistence.ElementCollection;
@@ -309,6 +310,49 @@ public void directValueUpdate_nonIndexedField() {
 		backendMock.verifyExpectationsMet();
 	}
 
+	/**
+	 * Test that reattaching an entity with {@code Session.update()},
+	 * where Hibernate ORM cannot tell which properties are dirty,
+	 * triggers reindexing even if only a non-indexed field changed.
+	 */
+	@Test
+	public void directValueUpdate_reattachedEntity_unknownDirtyProperties() {
+		AtomicReference<IndexedEntity> detachedEntity = new AtomicReference<>();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			entity1.setNonIndexedField( "initialValue" );
+
+			session.persist( entity1 );
+			detachedEntity.set( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b
+							.field( "indexedField", entity1.getIndexedField() )
+							.field( "noReindexOnUpdateField", null )
+					)
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		detachedEntity.get().setNonIndexedField( "updatedValue" );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			// Hibernate ORM doesn't know the state of the entity in the database,
+			// so it reports null dirty properties.
+			session.update( detachedEntity.get() );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "initialValue" )
+							.field( "noReindexOnUpdateField", null )
+					)
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
 	/**
 	 * Test that updating a non-indexed element collection
 	 * does not trigger reindexing of the indexed entity owning the collection.
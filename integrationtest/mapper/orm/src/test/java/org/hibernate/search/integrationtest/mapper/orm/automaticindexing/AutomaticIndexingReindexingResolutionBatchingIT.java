@@ -0,0 +1,192 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing when the resolution of containing entities to reindex loads associations in batch.
+ */
+public class AutomaticIndexingReindexingResolutionBatchingIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Test
+	public void batching() {
+		SessionFactory sessionFactory = setup( 2 );
+		initData( sessionFactory );
+
+		sessionFactory.getStatistics().setStatisticsEnabled( true );
+		sessionFactory.getStatistics().clear();
+
+		updateCategoryNames( sessionFactory );
+
+		// Collections of books were initialized in batch, not lazily
+		assertThat( sessionFactory.getStatistics().getCollectionFetchCount() ).isZero();
+	}
+
+	@Test
+	public void noBatching() {
+		SessionFactory sessionFactory = setup( 0 );
+		initData( sessionFactory );
+
+		sessionFactory.getStatistics().setStatisticsEnabled( true );
+		sessionFactory.getStatistics().clear();
+
+		updateCategoryNames( sessionFactory );
+
+		// Collections of books were initialized lazily, one at a time
+		assertThat( sessionFactory.getStatistics().getCollectionFetchCount() ).isEqualTo( 3 );
+	}
+
+	private void initData(SessionFactory sessionFactory) {
+		withinTransaction( sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				Category category = new Category();
+				category.setId( i );
+				category.setName( "initialName" + i );
+				session.persist( category );
+
+				Book book = new Book();
+				book.setId( 10 + i );
+				book.setCategory( category );
+				category.getBooks().add( book );
+				session.persist( book );
+			}
+
+			backendMock.expectWorks( Book.INDEX )
+					.add( "11", b -> b.objectField( "category", b2 -> b2.field( "name", "initialName1" ) ) )
+					.add( "12", b -> b.objectField( "category", b2 -> b2.field( "name", "initialName2" ) ) )
+					.add( "13", b -> b.objectField( "category", b2 -> b2.field( "name", "initialName3" ) ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void updateCategoryNames(SessionFactory sessionFactory) {
+		withinTransaction( sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				Category category = session.get( Category.class, i );
+				category.setName( "updatedName" + i );
+			}
+
+			backendMock.expectWorks( Book.INDEX )
+					.update( "11", b -> b.objectField( "category", b2 -> b2.field( "name", "updatedName1" ) ) )
+					.update( "12", b -> b.objectField( "category", b2 -> b2.field( "name", "updatedName2" ) ) )
+					.update( "13", b -> b.objectField( "category", b2 -> b2.field( "name", "updatedName3" ) ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	private SessionFactory setup(int batchSize) {
+		backendMock.expectSchema( Book.INDEX, b -> b
+				.objectField( "category", b2 -> b2
+						.field( "name", String.class )
+				)
+		);
+
+		SessionFactory sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_SIZE,
+						batchSize )
+				.setup( Book.class, Category.class );
+		backendMock.verifyExpectationsMet();
+		return sessionFactory;
+	}
+
+	@Entity(name = Book.NAME)
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		static final String NAME = "book";
+		static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@IndexedEmbedded(includePaths = "name")
+		private Category category;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public Category getCategory() {
+			return category;
+		}
+
+		public void setCategory(Category category) {
+			this.category = category;
+		}
+	}
+
+	@Entity(name = Category.NAME)
+	public static class Category {
+
+		static final String NAME = "category";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String name;
+
+		@OneToMany(mappedBy = "category")
+		private List<Book> books = new ArrayList<>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+}
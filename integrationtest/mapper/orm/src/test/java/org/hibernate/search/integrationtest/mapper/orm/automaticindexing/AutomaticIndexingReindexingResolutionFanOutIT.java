@@ -0,0 +1,203 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Test automatic indexing when changes to a contained entity lead to more containing entities to reindex
+ * than the configured fan-out threshold.
+ */
+public class AutomaticIndexingReindexingResolutionFanOutIT {
+
+	private static final int FAN_OUT_THRESHOLD = 2;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( Book.INDEX, b -> b
+				.objectField( "category", b2 -> b2
+						.field( "name", String.class )
+				)
+		);
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_FAN_OUT_THRESHOLD,
+						FAN_OUT_THRESHOLD )
+				.setup( Book.class, Category.class );
+		backendMock.verifyExpectationsMet();
+
+		withinTransaction( sessionFactory, session -> {
+			Category smallCategory = new Category();
+			smallCategory.setId( 1 );
+			smallCategory.setName( "initialName1" );
+			session.persist( smallCategory );
+			persistBook( session, 11, smallCategory );
+
+			Category largeCategory = new Category();
+			largeCategory.setId( 2 );
+			largeCategory.setName( "initialName2" );
+			session.persist( largeCategory );
+			persistBook( session, 21, largeCategory );
+			persistBook( session, 22, largeCategory );
+			persistBook( session, 23, largeCategory );
+
+			backendMock.expectWorks( Book.INDEX )
+					.add( "11", b -> b.objectField( "category", b2 -> b2.field( "name", "initialName1" ) ) )
+					.add( "21", b -> b.objectField( "category", b2 -> b2.field( "name", "initialName2" ) ) )
+					.add( "22", b -> b.objectField( "category", b2 -> b2.field( "name", "initialName2" ) ) )
+					.add( "23", b -> b.objectField( "category", b2 -> b2.field( "name", "initialName2" ) ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void belowThreshold() {
+		withinTransaction( sessionFactory, session -> {
+			Category category = session.get( Category.class, 1 );
+			category.setName( "updatedName1" );
+
+			backendMock.expectWorks( Book.INDEX )
+					.update( "11", b -> b.objectField( "category", b2 -> b2.field( "name", "updatedName1" ) ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void aboveThreshold() {
+		// Containing entities are reindexed in the background, after the transaction
+		backendMock.expectWorksAnyOrder( Book.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.update( "21", b -> b.objectField( "category", b2 -> b2.field( "name", "updatedName2" ) ) )
+				.update( "22", b -> b.objectField( "category", b2 -> b2.field( "name", "updatedName2" ) ) )
+				.update( "23", b -> b.objectField( "category", b2 -> b2.field( "name", "updatedName2" ) ) )
+				.processedThenExecuted();
+
+		withinTransaction( sessionFactory, session -> {
+			Category category = session.get( Category.class, 2 );
+			category.setName( "updatedName2" );
+			session.flush();
+
+			// The association was counted, but never loaded in the application thread
+			assertThat( Hibernate.isInitialized( category.getBooks() ) ).isFalse();
+		} );
+
+		// Containing entities were resolved in the background, one chunk at a time
+		Awaitility.await().untilAsserted( backendMock::verifyExpectationsMet );
+	}
+
+	private void persistBook(Session session, int id, Category category) {
+		Book book = new Book();
+		book.setId( id );
+		book.setCategory( category );
+		category.getBooks().add( book );
+		session.persist( book );
+	}
+
+	@Entity(name = Book.NAME)
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		static final String NAME = "book";
+		static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@IndexedEmbedded(includePaths = "name")
+		private Category category;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public Category getCategory() {
+			return category;
+		}
+
+		public void setCategory(Category category) {
+			this.category = category;
+		}
+	}
+
+	@Entity(name = Category.NAME)
+	public static class Category {
+
+		static final String NAME = "category";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String name;
+
+		@OneToMany(mappedBy = "category")
+		private List<Book> books = new ArrayList<>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+}
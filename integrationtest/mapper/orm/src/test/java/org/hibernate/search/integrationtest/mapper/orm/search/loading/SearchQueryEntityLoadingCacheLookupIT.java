@@ -136,6 +136,8 @@ public void overriddenStrategy_skip_fullCacheHits() {
 				Arrays.asList( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 ),
 				// Expect no successful 2LC lookups (2LC lookup is disabled)
 				0,
+				// Expect no 2LC lookups at all
+				0,
 				// Expect successful PC lookups for all entities (they happen after the DB statement)
 				10,
 				// Still expect a DB statement since the PC lookups happen after the DB statement
@@ -161,6 +163,8 @@ public void overriddenStrategy_persistenceContext_fullCacheHits() {
 				Arrays.asList( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 ),
 				// Expect no successful 2LC lookups (2LC lookup is disabled)
 				0,
+				// Expect no 2LC lookups at all
+				0,
 				// Expect successful PC lookups for all entities
 				10,
 				// Expect no DB statement since everything has been loaded
@@ -186,6 +190,8 @@ public void overriddenStrategy_2LC_fullCacheHits() {
 				Arrays.asList( 5, 6, 7, 8, 9 ),
 				// Expect a few successful 2LC lookups
 				5,
+				// Expect no unsuccessful 2LC lookups (the others are in the session)
+				0,
 				// Expect a few successful PC lookups
 				5,
 				// Expect no DB statement since everything has been loaded
@@ -210,6 +216,8 @@ private void testLoadingCacheLookupExpectingSkipCacheLookup(
 				Arrays.asList( 2, 3 ),
 				// Expect no successful 2LC lookups (2LC is disabled)
 				0,
+				// Expect no 2LC lookups at all
+				0,
 				// Expect a few successful PC lookups (they happen after the DB statement)
 				2,
 				// Expect a DB statement to load the entities
@@ -236,6 +244,8 @@ private void testLoadingCacheLookupExpectingPersistenceContextOnlyLookup(
 				Arrays.asList( 2, 3 ),
 				// Expect no successful 2LC lookups (2LC lookup is disabled)
 				0,
+				// Expect no 2LC lookups at all
+				0,
 				// Expect a few successful PC lookups
 				2,
 				// Expect a DB statement to load the rest
@@ -262,6 +272,8 @@ private void testLoadingCacheLookupExpectingSecondLevelCacheLookup(
 				Arrays.asList( 2, 3 ),
 				// Expect a few successful 2LC lookups
 				2,
+				// Expect exactly one unsuccessful 2LC lookup for each entity that is in neither cache
+				6,
 				// Expect a few successful PC lookups
 				2,
 				// Expect a DB statement to load the rest
@@ -275,6 +287,7 @@ private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenL
 			List<Integer> entitiesToPutInSecondLevelCache,
 			List<Integer> entitiesToLoadInSession,
 			int expectedSecondLevelCacheHitCount,
+			int expectedSecondLevelCacheMissCount,
 			int expectedPersistenceContextHitCount,
 			boolean expectStatementExecution) {
 		sessionFactory.getStatistics().setStatisticsEnabled( true );
@@ -312,6 +325,8 @@ private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenL
 							.isEqualTo( entityCount - expectedPersistenceContextHitCount - expectedSecondLevelCacheHitCount );
 					c.assertSecondLevelCacheHitCount()
 							.isEqualTo( expectedSecondLevelCacheHitCount );
+					c.assertSecondLevelCacheMissCount()
+							.isEqualTo( expectedSecondLevelCacheMissCount );
 					c.assertStatementExecutionCount()
 							.isEqualTo( expectStatementExecution ? 1 : 0 );
 				}
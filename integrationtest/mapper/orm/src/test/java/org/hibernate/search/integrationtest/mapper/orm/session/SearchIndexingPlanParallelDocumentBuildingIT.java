@@ -0,0 +1,202 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.session;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Transient;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.ObjectPath;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.PropertyValue;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.assertj.core.api.Assertions;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the initialization of lazily loaded values before documents are built,
+ * see {@link HibernateOrmMapperSettings#DOCUMENT_BUILDING_PARALLEL_ENABLED}.
+ */
+public class SearchIndexingPlanParallelDocumentBuildingIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Test
+	public void enabled_lazyValuesInitialized() {
+		SessionFactory sessionFactory = setup( true );
+		initData( sessionFactory );
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.getReference( IndexedEntity.class, 1 );
+			Assertions.assertThat( Hibernate.isInitialized( entity ) ).isFalse();
+
+			Search.session( session ).indexingPlan().addOrUpdate( entity );
+
+			// Documents may be built from other threads:
+			// the proxy and the associations traversed during indexing are initialized beforehand.
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b.field( "lazyValuesInitialized", true ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void disabled_lazyValuesNotInitialized() {
+		SessionFactory sessionFactory = setup( false );
+		initData( sessionFactory );
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.getReference( IndexedEntity.class, 1 );
+
+			Search.session( session ).indexingPlan().addOrUpdate( entity );
+
+			// Documents are built from the session's thread: lazy loading happens while building them.
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b.field( "lazyValuesInitialized", false ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void initData(SessionFactory sessionFactory) {
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity indexed = new IndexedEntity( 1 );
+			NestedEntity nested = new NestedEntity( 3, "text3" );
+			ContainedEntity contained = new ContainedEntity( 2 );
+			contained.containing = indexed;
+			contained.nested = nested;
+			session.persist( nested );
+			session.persist( indexed );
+			session.persist( contained );
+		} );
+	}
+
+	private SessionFactory setup(boolean parallelDocumentBuildingEnabled) {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+
+		SessionFactory sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_STRATEGY,
+						AutomaticIndexingStrategyName.NONE )
+				.withProperty( HibernateOrmMapperSettings.DOCUMENT_BUILDING_PARALLEL_ENABLED,
+						parallelDocumentBuildingEnabled )
+				.setup( IndexedEntity.class, ContainedEntity.class, NestedEntity.class );
+
+		backendMock.verifyExpectationsMet();
+
+		return sessionFactory;
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String NAME = "indexed";
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "containing")
+		private List<ContainedEntity> contained = new ArrayList<>();
+
+		protected IndexedEntity() {
+			// For ORM
+		}
+
+		IndexedEntity(int id) {
+			this.id = id;
+		}
+
+		@Transient
+		@GenericField
+		@IndexingDependency(derivedFrom = @ObjectPath({
+				@PropertyValue(propertyName = "contained"),
+				@PropertyValue(propertyName = "nested"),
+				@PropertyValue(propertyName = "text")
+		}))
+		public boolean getLazyValuesInitialized() {
+			if ( !Hibernate.isInitialized( contained ) ) {
+				return false;
+			}
+			for ( ContainedEntity element : contained ) {
+				if ( !Hibernate.isInitialized( element.nested ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	@Entity(name = ContainedEntity.NAME)
+	public static class ContainedEntity {
+
+		static final String NAME = "contained";
+
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private IndexedEntity containing;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private NestedEntity nested;
+
+		protected ContainedEntity() {
+			// For ORM
+		}
+
+		ContainedEntity(int id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = NestedEntity.NAME)
+	public static class NestedEntity {
+
+		static final String NAME = "nested";
+
+		@Id
+		private Integer id;
+
+		private String text;
+
+		@OneToMany(mappedBy = "nested")
+		private List<ContainedEntity> containing = new ArrayList<>();
+
+		protected NestedEntity() {
+			// For ORM
+		}
+
+		NestedEntity(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.SearchMappedIndex;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to search,
+ * covering the most common query shapes: full-text, projections, aggregations,
+ * sorts, nested predicates, deep pagination and scrolling.
+ * <p>
+ * These benchmarks run against a {@link SearchMappedIndex}, see the {@code *SearchBackendHolder} classes.
+ * <p>
+ * The index is not modified while these benchmarks run:
+ * each thread queries the index of its partition, which only contains the initial documents.
+ * <p>
+ * Run with {@code -prof gc} to get allocations per operation in addition to throughput.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractSearchBenchmarks extends AbstractBackendBenchmarks {
+
+	private static final AggregationKey<Map<String, Long>> SHORT_TEXT_TERMS_KEY = AggregationKey.of( "shortTextTerms" );
+	private static final AggregationKey<Map<Range<Long>, Long>> NUMERIC_RANGES_KEY = AggregationKey.of( "numericRanges" );
+
+	/**
+	 * The term to look for in full-text queries.
+	 */
+	@Param({ "hibernate" })
+	private String term;
+
+	/**
+	 * The offset of the page to fetch in deep pagination benchmarks.
+	 */
+	@Param({ "1000" })
+	private int pageOffset;
+
+	/**
+	 * The number of hits in each chunk fetched in scroll benchmarks.
+	 */
+	@Param({ "100" })
+	private int scrollChunkSize;
+
+	/**
+	 * The number of chunks to fetch in scroll benchmarks.
+	 */
+	@Param({ "10" })
+	private int scrollChunkCount;
+
+	@Setup(Level.Iteration)
+	public void prepareIteration() {
+		// Indexes are initialized with refreshes disabled; make sure the documents are visible to queries.
+		MappedIndex index = getIndexPartition().getIndex();
+		Futures.unwrappedExceptionJoin(
+				index.createWorkspace( DetachedBackendSessionContext.of( new StubBackendSessionContext() ) )
+						.refresh()
+		);
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void fullText(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = getIndexPartition().getIndex().createScope().query()
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( term ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void fieldProjection(QueryParams params, Blackhole blackhole) {
+		SearchResult<List<?>> results = getIndexPartition().getIndex().createScope().query()
+				.select( f -> f.composite(
+						f.documentReference(),
+						f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+						f.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+				) )
+				.where( f -> f.matchAll() )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void aggregations(Blackhole blackhole) {
+		SearchResult<DocumentReference> results = getIndexPartition().getIndex().createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( SHORT_TEXT_TERMS_KEY, f -> f.terms()
+						.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ) )
+				.aggregation( NUMERIC_RANGES_KEY, f -> f.range()
+						.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+						.range( null, 100L )
+						.range( 100L, 1_000L )
+						.range( 1_000L, null ) )
+				.fetch( 0 );
+
+		blackhole.consume( results.total().hitCount() );
+		blackhole.consume( results.aggregation( SHORT_TEXT_TERMS_KEY ) );
+		blackhole.consume( results.aggregation( NUMERIC_RANGES_KEY ) );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void multiFieldSort(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = getIndexPartition().getIndex().createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME )
+						.then().field( MappedIndex.NUMERIC_FIELD_NAME ).desc() )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void nested(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = getIndexPartition().getIndex().createScope().query()
+				.where( f -> f.nested().objectField( SearchMappedIndex.NESTED_OBJECT_NAME )
+						.nest( f.bool()
+								.must( f.exists().field( SearchMappedIndex.NESTED_SHORT_TEXT_FIELD_PATH ) )
+								.must( f.range().field( SearchMappedIndex.NESTED_NUMERIC_FIELD_PATH ).atLeast( 0L ) ) ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void deepPagination(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = getIndexPartition().getIndex().createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.NUMERIC_FIELD_NAME ) )
+				.fetch( pageOffset, params.getQueryMaxResults() );
+
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void scroll(Blackhole blackhole) {
+		try ( SearchScroll<DocumentReference> scroll = getIndexPartition().getIndex().createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.NUMERIC_FIELD_NAME ) )
+				.scroll( scrollChunkSize ) ) {
+			for ( int i = 0; i < scrollChunkCount; i++ ) {
+				SearchScrollResult<DocumentReference> chunk = scroll.next();
+				if ( !chunk.hasHits() ) {
+					break;
+				}
+				for ( DocumentReference hit : chunk.hits() ) {
+					blackhole.consume( hit );
+				}
+			}
+		}
+	}
+
+	private static void consume(Blackhole blackhole, SearchResult<?> results) {
+		blackhole.consume( results.total().hitCount() );
+		for ( Object hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
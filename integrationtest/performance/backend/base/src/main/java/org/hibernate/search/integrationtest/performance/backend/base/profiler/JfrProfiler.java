@@ -11,6 +11,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -20,14 +21,32 @@
 import java.util.Map;
 import java.util.Optional;
 
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.openjdk.jmh.infra.BenchmarkParams;
 import org.openjdk.jmh.profile.ExternalProfiler;
 import org.openjdk.jmh.profile.ProfilerException;
+import org.openjdk.jmh.results.AggregationPolicy;
 import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.BenchmarkResultMetaData;
 import org.openjdk.jmh.results.Result;
-
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * A JMH profiler that records each fork with Java Flight Recorder,
+ * then reports the bytes allocated per operation during measurement iterations ({@code jfr.alloc.norm}).
+ * <p>
+ * Allocations are estimated from the allocation events in the recording,
+ * so the settings passed through the {@code jfrOptions} option must enable them,
+ * which the default {@code profile} settings do.
+ * These events are not tied to benchmark threads: allocations from background threads are included.
+ */
 public class JfrProfiler implements ExternalProfiler {
 
+	private static final String ALLOCATION_SAMPLE_EVENT = "jdk.ObjectAllocationSample";
+	private static final String ALLOCATION_IN_NEW_TLAB_EVENT = "jdk.ObjectAllocationInNewTLAB";
+	private static final String ALLOCATION_OUTSIDE_TLAB_EVENT = "jdk.ObjectAllocationOutsideTLAB";
+
 	private final Path outputDir;
 	private final String jfrOptions;
 
@@ -85,7 +104,14 @@ public Collection<? extends Result<?>> afterTrial(BenchmarkResult br, long pid,
 		//CHECKSTYLE:OFF
 		System.out.println( "Java Flight Recording dumped to " + dump );
 		//CHECKSTYLE:ON
-		return Collections.emptyList();
+		BenchmarkResultMetaData metadata = br.getMetadata();
+		if ( metadata == null || metadata.getMeasurementOps() <= 0 ) {
+			return Collections.emptyList();
+		}
+		long allocatedBytes = allocatedBytes( Instant.ofEpochMilli( metadata.getMeasurementTime() ),
+				Instant.ofEpochMilli( metadata.getStopTime() ) );
+		return Collections.singletonList( new ScalarResult( "jfr.alloc.norm",
+				(double) allocatedBytes / metadata.getMeasurementOps(), "B/op", AggregationPolicy.AVG ) );
 	}
 
 	@Override
@@ -98,6 +124,39 @@ public boolean allowPrintErr() {
 		return true;
 	}
 
+	private long allocatedBytes(Instant from, Instant to) {
+		// Allocation samples (JDK 16+) are weighted with the bytes allocated since the previous sample;
+		// TLAB events (enabled in older JDKs' settings) are used as a fallback.
+		long sampledBytes = 0L;
+		long tlabBytes = 0L;
+		try ( RecordingFile recording = new RecordingFile( dump ) ) {
+			while ( recording.hasMoreEvents() ) {
+				RecordedEvent event = recording.readEvent();
+				Instant time = event.getStartTime();
+				if ( time.isBefore( from ) || time.isAfter( to ) ) {
+					continue;
+				}
+				switch ( event.getEventType().getName() ) {
+					case ALLOCATION_SAMPLE_EVENT:
+						sampledBytes += event.getLong( "weight" );
+						break;
+					case ALLOCATION_IN_NEW_TLAB_EVENT:
+						tlabBytes += event.getLong( "tlabSize" );
+						break;
+					case ALLOCATION_OUTSIDE_TLAB_EVENT:
+						tlabBytes += event.getLong( "allocationSize" );
+						break;
+					default:
+						break;
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( "Could not read Java Flight Recording " + dump, e );
+		}
+		return sampledBytes > 0L ? sampledBytes : tlabBytes;
+	}
+
 	private Path generateDumpPath(BenchmarkParams params) {
 		StringBuilder paramString = new StringBuilder();
 		for ( String key : params.getParamsKeys() ) {
@@ -68,7 +68,7 @@ public void startHibernateSearch(TemporaryFileHolder temporaryFileHolder) throws
 
 		indexes = new ArrayList<>();
 		for ( int i = 0; i < INDEX_COUNT; ++i ) {
-			MappedIndex index = new MappedIndex( i );
+			MappedIndex index = createIndex( i );
 			initiator.add( index );
 			indexes.add( index );
 		}
@@ -107,6 +107,10 @@ public List<MappedIndex> getIndexes() {
 		return indexes;
 	}
 
+	protected MappedIndex createIndex(int indexId) {
+		return new MappedIndex( indexId );
+	}
+
 	protected final Map<String, String> stringToMap(String settings) {
 		String[] settingsSplit = settings.split( "&" );
 		Map<String, String> map = new LinkedHashMap<>();
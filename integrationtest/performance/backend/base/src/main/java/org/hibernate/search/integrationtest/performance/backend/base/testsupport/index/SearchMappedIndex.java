@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base.testsupport.index;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
+
+import org.openjdk.jmh.annotations.CompilerControl;
+
+/**
+ * An index with the same fields as {@link MappedIndex},
+ * but with additional projectable/aggregable/sortable options and a nested object,
+ * for use in search benchmarks.
+ * <p>
+ * Kept separate from {@link MappedIndex} so that indexing benchmarks
+ * remain comparable with earlier runs.
+ */
+@CompilerControl(CompilerControl.Mode.INLINE)
+public class SearchMappedIndex extends MappedIndex {
+
+	public static final String NESTED_OBJECT_NAME = "nested";
+	public static final String NESTED_SHORT_TEXT_FIELD_PATH = NESTED_OBJECT_NAME + "." + SHORT_TEXT_FIELD_NAME;
+	public static final String NESTED_NUMERIC_FIELD_PATH = NESTED_OBJECT_NAME + "." + NUMERIC_FIELD_NAME;
+
+	private IndexFieldReference<String> shortTextField;
+	private IndexFieldReference<String> longTextField;
+	private IndexFieldReference<Long> numericField;
+	private IndexObjectFieldReference nestedObject;
+	private IndexFieldReference<String> nestedShortTextField;
+	private IndexFieldReference<Long> nestedNumericField;
+
+	public SearchMappedIndex(int indexId) {
+		super( indexId );
+	}
+
+	@Override
+	protected void bind(IndexedEntityBindingContext context) {
+		IndexSchemaElement root = context.schemaElement();
+		shortTextField = root.field(
+				SHORT_TEXT_FIELD_NAME,
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH )
+						.sortable( Sortable.YES ).projectable( Projectable.YES ).aggregable( Aggregable.YES )
+		)
+				.toReference();
+		longTextField = root.field( LONG_TEXT_FIELD_NAME, f -> f.asString().analyzer( Analyzers.ANALYZER_ENGLISH ) )
+				.toReference();
+		numericField = root.field(
+				NUMERIC_FIELD_NAME,
+				f -> f.asLong().sortable( Sortable.YES ).projectable( Projectable.YES ).aggregable( Aggregable.YES )
+		)
+				.toReference();
+
+		IndexSchemaObjectField nested = root.objectField( NESTED_OBJECT_NAME, ObjectStructure.NESTED );
+		nestedObject = nested.toReference();
+		nestedShortTextField = nested.field(
+				SHORT_TEXT_FIELD_NAME, f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH )
+		)
+				.toReference();
+		nestedNumericField = nested.field( NUMERIC_FIELD_NAME, f -> f.asLong() ).toReference();
+	}
+
+	@Override
+	public void populate(DocumentElement documentElement, String shortText, String longText, long numeric) {
+		documentElement.addValue( shortTextField, shortText );
+		documentElement.addValue( longTextField, longText );
+		documentElement.addValue( numericField, numeric );
+
+		DocumentElement nested = documentElement.addObject( nestedObject );
+		nested.addValue( nestedShortTextField, shortText );
+		nested.addValue( nestedNumericField, numeric );
+	}
+
+}
@@ -38,6 +38,9 @@ public void test() throws RunnerException {
 				.param( "initialIndexSize", "100" )
 				.param( "batchSize", "10" )
 				.param( "maxResults", "10" )
+				.param( "pageOffset", "10" )
+				.param( "scrollChunkSize", "10" )
+				.param( "scrollChunkCount", "2" )
 				.shouldFailOnError( true )
 				.forks( 0 ) // To simplify debugging; Remember this implies JVM parameters via @Fork won't be applied.
 				.build();
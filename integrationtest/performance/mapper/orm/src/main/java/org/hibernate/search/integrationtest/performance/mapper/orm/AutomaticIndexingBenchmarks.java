@@ -0,0 +1,113 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.search.integrationtest.performance.mapper.orm.model.Book;
+import org.hibernate.search.integrationtest.performance.mapper.orm.model.Publisher;
+import org.hibernate.search.integrationtest.performance.mapper.orm.testsupport.Datasets;
+import org.hibernate.search.integrationtest.performance.mapper.orm.testsupport.ToggleableSearchSessionFactoryHolder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * JMH benchmarks related to automatic indexing,
+ * i.e. the overhead of Hibernate Search when committing transactions in Hibernate ORM.
+ * <p>
+ * Each benchmark is executed both with and without Hibernate Search,
+ * so that the overhead can be derived by comparing the results.
+ * <p>
+ * Each thread updates its own set of entities, guaranteeing not to conflict with any other thread in the same trial.
+ */
+@Fork(1)
+@State(Scope.Thread)
+// Use a longer iteration time than the default of 10s:
+// backends have background operations that execute every second,
+// which could introduce significant errors in 10-second iterations.
+@Measurement(time = 30)
+public class AutomaticIndexingBenchmarks {
+
+	static final int THREAD_COUNT = 4;
+
+	/**
+	 * The number of books to update in each transaction.
+	 */
+	@Param({ "20" })
+	private int booksPerTransaction;
+
+	private ToggleableSearchSessionFactoryHolder holder;
+
+	private int threadIndex;
+	private int threadCount;
+	private long bookCountInThread;
+
+	private long bookCursorInThread;
+	private long invocationCount;
+
+	@Setup(Level.Trial)
+	public void setupTrial(ToggleableSearchSessionFactoryHolder holder, ThreadParams threadParams) {
+		this.holder = holder;
+		this.threadIndex = threadParams.getThreadIndex();
+		this.threadCount = threadParams.getThreadCount();
+		this.bookCountInThread = holder.getBookCount() / threadCount;
+		if ( holder.getPublisherCount() < threadCount ) {
+			throw new IllegalStateException( "Publisher count (" + holder.getPublisherCount()
+					+ ") must be at least the thread count (" + threadCount + ")" );
+		}
+	}
+
+	/**
+	 * Updates a field of several books, each of which will have to be reindexed.
+	 */
+	@Benchmark
+	@Threads(THREAD_COUNT)
+	public void updateBooks(WriteCounters counters) {
+		try ( Session session = holder.getSessionFactory().openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			for ( int i = 0; i < booksPerTransaction; i++ ) {
+				long bookIndex = threadIndex + threadCount * ( bookCursorInThread++ % bookCountInThread );
+				Book book = session.get( Book.class, holder.getBookId( bookIndex ) );
+				book.setTitle( Datasets.title( bookIndex ) + " " + invocationCount );
+			}
+			transaction.commit();
+		}
+
+		counters.write += booksPerTransaction;
+		++invocationCount;
+	}
+
+	/**
+	 * Updates a field of a single publisher,
+	 * which is embedded in every book of every author of that publisher.
+	 * <p>
+	 * The write itself is cheap, so this mostly measures the cost of reindexing fan-out.
+	 */
+	@Benchmark
+	@Threads(THREAD_COUNT)
+	public void updatePublisher(WriteCounters counters) {
+		try ( Session session = holder.getSessionFactory().openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Publisher publisher = session.get( Publisher.class, holder.getPublisherId( threadIndex ) );
+			publisher.setName( "publisher" + threadIndex + " " + invocationCount );
+			transaction.commit();
+		}
+
+		counters.write += 1;
+		++invocationCount;
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm;
+
+import org.hibernate.search.integrationtest.performance.mapper.orm.model.Book;
+import org.hibernate.search.integrationtest.performance.mapper.orm.testsupport.SessionFactoryHolder;
+import org.hibernate.search.mapper.orm.Search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JMH benchmarks related to mass indexing, i.e. reindexing of all entities from the database.
+ * <p>
+ * Each operation reindexes all books; the "write" counter reports the number of documents indexed per second.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Measurement(time = 30)
+public class MassIndexingBenchmarks {
+
+	@Param({ "4" })
+	private int threadsToLoadObjects;
+
+	@Param({ "50" })
+	private int batchSizeToLoadObjects;
+
+	@Benchmark
+	@Threads(1)
+	public void massIndexer(SessionFactoryHolder holder, WriteCounters counters) throws InterruptedException {
+		Search.mapping( holder.getSessionFactory() ).scope( Book.class ).massIndexer()
+				.purgeAllOnStart( true )
+				.mergeSegmentsOnFinish( false )
+				.threadsToLoadObjects( threadsToLoadObjects )
+				.batchSizeToLoadObjects( batchSizeToLoadObjects )
+				.startAndWait();
+
+		counters.write += (int) holder.getBookCount();
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.search.integrationtest.performance.mapper.orm.model.Book;
+import org.hibernate.search.integrationtest.performance.mapper.orm.testsupport.SessionFactoryHolder;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks related to search,
+ * with or without loading of the matching entities from the database.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Measurement(time = 30)
+public class SearchBenchmarks {
+
+	/**
+	 * The term to look for in book titles.
+	 */
+	@Param({ "hibernate" })
+	private String term;
+
+	@Param({ "10", "100" })
+	private int maxResults;
+
+	/**
+	 * Executes a full-text query and loads the matching entities from the database.
+	 */
+	@Benchmark
+	@Threads(AutomaticIndexingBenchmarks.THREAD_COUNT)
+	public void searchAndLoad(SessionFactoryHolder holder, Blackhole blackhole) {
+		try ( Session session = holder.getSessionFactory().openSession() ) {
+			List<Book> hits = Search.session( session ).search( Book.class )
+					.where( f -> f.match().field( Book.TITLE ).matching( term ) )
+					.fetchHits( maxResults );
+			for ( Book hit : hits ) {
+				blackhole.consume( hit.getTitle() );
+			}
+		}
+	}
+
+	/**
+	 * Executes the same full-text query as {@link #searchAndLoad(SessionFactoryHolder, Blackhole)},
+	 * but without loading anything from the database.
+	 */
+	@Benchmark
+	@Threads(AutomaticIndexingBenchmarks.THREAD_COUNT)
+	public void searchEntityReferences(SessionFactoryHolder holder, Blackhole blackhole) {
+		try ( Session session = holder.getSessionFactory().openSession() ) {
+			List<EntityReference> hits = Search.session( session ).search( Book.class )
+					.selectEntityReference()
+					.where( f -> f.match().field( Book.TITLE ).matching( term ) )
+					.fetchHits( maxResults );
+			for ( EntityReference hit : hits ) {
+				blackhole.consume( hit );
+			}
+		}
+	}
+
+}
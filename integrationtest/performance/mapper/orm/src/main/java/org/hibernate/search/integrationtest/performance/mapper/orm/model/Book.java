@@ -0,0 +1,99 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm.model;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+
+@Entity
+@Indexed
+public class Book {
+
+	public static final String TITLE = "title";
+	public static final String SUMMARY = "summary";
+	public static final String PUBLICATION_YEAR = "publicationYear";
+
+	@Id
+	private Long id;
+
+	@FullTextField
+	private String title;
+
+	@FullTextField
+	private String summary;
+
+	@GenericField(sortable = Sortable.YES)
+	private int publicationYear;
+
+	@ManyToOne
+	@IndexedEmbedded
+	private Author author;
+
+	@ManyToMany
+	@IndexedEmbedded
+	private Set<Genre> genres = new LinkedHashSet<>();
+
+	protected Book() {
+	}
+
+	public Book(Long id, String title, String summary, int publicationYear) {
+		this.id = id;
+		this.title = title;
+		this.summary = summary;
+		this.publicationYear = publicationYear;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getSummary() {
+		return summary;
+	}
+
+	public void setSummary(String summary) {
+		this.summary = summary;
+	}
+
+	public int getPublicationYear() {
+		return publicationYear;
+	}
+
+	public void setPublicationYear(int publicationYear) {
+		this.publicationYear = publicationYear;
+	}
+
+	public Author getAuthor() {
+		return author;
+	}
+
+	public void setAuthor(Author author) {
+		this.author = author;
+	}
+
+	public Set<Genre> getGenres() {
+		return genres;
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm.testsupport;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.integrationtest.performance.mapper.orm.model.Author;
+import org.hibernate.search.integrationtest.performance.mapper.orm.model.Book;
+import org.hibernate.search.integrationtest.performance.mapper.orm.model.Genre;
+import org.hibernate.search.integrationtest.performance.mapper.orm.model.Publisher;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.schema.management.SchemaManagementStrategyName;
+
+import org.jboss.logging.Logger;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Starts Hibernate ORM on an in-memory H2 database, with or without Hibernate Search,
+ * and populates the database with an initial dataset.
+ * <p>
+ * The dataset is made of {@link Publisher publishers}, each with several {@link Author authors},
+ * each with several {@link Book books}, each book belonging to several {@link Genre genres}.
+ * Books embed their author, which embeds its publisher:
+ * updating a publisher thus triggers reindexing of every book of every author of that publisher.
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractSessionFactoryHolder {
+
+	private static final Logger log = Logger.getLogger( "initialization" );
+
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private static final int INSERT_BATCH_SIZE = 50;
+
+	private static final String LUCENE = "lucene";
+	private static final String ELASTICSEARCH = "elasticsearch";
+
+	/**
+	 * The backend type: "lucene" or "elasticsearch".
+	 * <p>
+	 * Backend properties can be overridden using system properties,
+	 * e.g. {@code -Dhibernate.search.backend.hosts=es1.mycompany.com}.
+	 */
+	@Param({ "lucene" })
+	private String backend;
+
+	@Param({ "10" })
+	private int publisherCount;
+
+	@Param({ "10" })
+	private int authorsPerPublisher;
+
+	@Param({ "100" })
+	private int booksPerAuthor;
+
+	@Param({ "20" })
+	private int genreCount;
+
+	@Param({ "3" })
+	private int genresPerBook;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void startHibernate() {
+		Map<String, Object> settings = new LinkedHashMap<>();
+
+		// Use a different database for each trial, so that trials do not affect each other.
+		settings.put( AvailableSettings.URL,
+				"jdbc:h2:mem:hsearch-perf-" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1" );
+		settings.put( AvailableSettings.DRIVER, "org.h2.Driver" );
+		settings.put( AvailableSettings.DIALECT, H2Dialect.class.getName() );
+		settings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		settings.put( AvailableSettings.POOL_SIZE, 64 );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, INSERT_BATCH_SIZE );
+		settings.put( AvailableSettings.ORDER_INSERTS, true );
+		settings.put( AvailableSettings.ORDER_UPDATES, true );
+
+		settings.put( HibernateOrmMapperSettings.ENABLED, isSearchEnabled() );
+		settings.put( HibernateOrmMapperSettings.SCHEMA_MANAGEMENT_STRATEGY,
+				SchemaManagementStrategyName.DROP_AND_CREATE_AND_DROP.externalRepresentation() );
+		settings.put( EngineSettings.BACKEND + "." + BackendSettings.TYPE, backend );
+		if ( LUCENE.equals( backend ) ) {
+			settings.put( EngineSettings.BACKEND + "." + LuceneBackendSettings.DIRECTORY_TYPE, "local-heap" );
+		}
+		else if ( ELASTICSEARCH.equals( backend ) ) {
+			settings.put( EngineSettings.BACKEND + "." + ElasticsearchIndexSettings.SCHEMA_MANAGEMENT_MINIMAL_REQUIRED_STATUS,
+					IndexStatus.YELLOW.externalRepresentation() );
+		}
+
+		// Allow overrides using system properties.
+		for ( String key : System.getProperties().stringPropertyNames() ) {
+			if ( key.startsWith( "hibernate." ) ) {
+				settings.put( key, System.getProperty( key ) );
+			}
+		}
+
+		StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySettings( settings )
+				.build();
+		try {
+			sessionFactory = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Book.class )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Publisher.class )
+					.addAnnotatedClass( Genre.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+
+		populate();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopHibernate() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	public SessionFactory getSessionFactory() {
+		return sessionFactory;
+	}
+
+	public int getPublisherCount() {
+		return publisherCount;
+	}
+
+	public long getBookCount() {
+		return (long) publisherCount * authorsPerPublisher * booksPerAuthor;
+	}
+
+	/**
+	 * @param publisherIndex The index of a publisher, between 0 (inclusive) and {@link #getPublisherCount()} (exclusive).
+	 * @return The identifier of that publisher.
+	 */
+	public Long getPublisherId(int publisherIndex) {
+		return (long) publisherIndex;
+	}
+
+	/**
+	 * @param bookIndex The index of a book, between 0 (inclusive) and {@link #getBookCount()} (exclusive).
+	 * @return The identifier of that book.
+	 */
+	public Long getBookId(long bookIndex) {
+		return bookIndex;
+	}
+
+	protected abstract boolean isSearchEnabled();
+
+	private void populate() {
+		log.infof( "Populating the database with %d books...", getBookCount() );
+
+		List<Long> genreIds = new ArrayList<>();
+		try ( Session session = sessionFactory.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			for ( int i = 0; i < genreCount; i++ ) {
+				Genre genre = new Genre( (long) i, "genre" + i );
+				session.persist( genre );
+				genreIds.add( genre.getId() );
+			}
+			transaction.commit();
+		}
+
+		long authorId = 0L;
+		long bookIndex = 0L;
+		for ( int publisherIndex = 0; publisherIndex < publisherCount; publisherIndex++ ) {
+			// One transaction per publisher, to avoid running out of memory on large datasets.
+			// Inverse sides of associations are not populated: they are only needed for reindexing,
+			// and nothing needs to be reindexed when creating new entities.
+			try ( Session session = sessionFactory.openSession() ) {
+				Transaction transaction = session.beginTransaction();
+				Publisher publisher = new Publisher( getPublisherId( publisherIndex ), "publisher" + publisherIndex );
+				session.persist( publisher );
+				for ( int i = 0; i < authorsPerPublisher; i++ ) {
+					Author author = new Author( authorId, "author" + authorId );
+					++authorId;
+					author.setPublisher( publisher );
+					session.persist( author );
+					for ( int j = 0; j < booksPerAuthor; j++ ) {
+						Book book = new Book( getBookId( bookIndex ), Datasets.title( bookIndex ),
+								Datasets.summary( bookIndex ), Datasets.publicationYear( bookIndex ) );
+						book.setAuthor( author );
+						for ( int k = 0; k < genresPerBook; k++ ) {
+							Long genreId = genreIds.get( (int) ( ( bookIndex + k ) % genreCount ) );
+							book.getGenres().add( session.getReference( Genre.class, genreId ) );
+						}
+						session.persist( book );
+						++bookIndex;
+					}
+				}
+				transaction.commit();
+			}
+		}
+
+		log.infof( "Finished populating the database with %d books.", getBookCount() );
+	}
+
+}
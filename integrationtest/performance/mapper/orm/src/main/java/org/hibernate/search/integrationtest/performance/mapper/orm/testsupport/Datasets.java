@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm.testsupport;
+
+/**
+ * Generates deterministic text content for entities,
+ * so that full-text queries match a predictable fraction of documents.
+ */
+public final class Datasets {
+
+	private static final String[] WORDS = {
+			"hibernate", "search", "lucene", "elasticsearch", "java", "persistence", "index", "query",
+			"mapping", "entity", "document", "analyzer", "database", "transaction", "session", "cache"
+	};
+
+	private static final int SUMMARY_WORD_COUNT = 30;
+
+	private Datasets() {
+	}
+
+	public static String title(long index) {
+		return word( index ) + " " + word( index / WORDS.length ) + " " + index;
+	}
+
+	public static String summary(long index) {
+		StringBuilder builder = new StringBuilder();
+		for ( int i = 0; i < SUMMARY_WORD_COUNT; i++ ) {
+			if ( i > 0 ) {
+				builder.append( ' ' );
+			}
+			builder.append( word( index * 31 + i * 7 ) );
+		}
+		return builder.toString();
+	}
+
+	public static int publicationYear(long index) {
+		return 1950 + (int) ( index % 70 );
+	}
+
+	private static String word(long index) {
+		return WORDS[(int) ( index % WORDS.length )];
+	}
+
+}
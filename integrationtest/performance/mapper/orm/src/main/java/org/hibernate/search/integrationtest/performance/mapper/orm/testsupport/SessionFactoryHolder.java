@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm.testsupport;
+
+import org.hibernate.search.integrationtest.performance.mapper.orm.model.Book;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchWorkspace;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A session factory with Hibernate Search enabled,
+ * whose indexes are guaranteed to be up-to-date and searchable at the start of each iteration.
+ */
+@State(Scope.Benchmark)
+public class SessionFactoryHolder extends AbstractSessionFactoryHolder {
+
+	@Setup(Level.Iteration)
+	public void refreshIndexes() {
+		SearchWorkspace workspace = Search.mapping( getSessionFactory() ).scope( Book.class ).workspace();
+		workspace.flush();
+		workspace.refresh();
+	}
+
+	@Override
+	protected boolean isSearchEnabled() {
+		return true;
+	}
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm.testsupport;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A session factory with Hibernate Search either enabled or disabled,
+ * to measure the overhead of Hibernate Search on top of Hibernate ORM.
+ */
+@State(Scope.Benchmark)
+public class ToggleableSearchSessionFactoryHolder extends AbstractSessionFactoryHolder {
+
+	@Param({ "true", "false" })
+	private boolean searchEnabled;
+
+	@Override
+	protected boolean isSearchEnabled() {
+		return searchEnabled;
+	}
+
+}
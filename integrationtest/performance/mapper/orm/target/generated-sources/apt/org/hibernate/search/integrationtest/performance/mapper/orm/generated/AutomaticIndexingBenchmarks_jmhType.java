@@ -0,0 +1,4 @@
+package org.hibernate.search.integrationtest.performance.mapper.orm.generated;
+public class AutomaticIndexingBenchmarks_jmhType extends AutomaticIndexingBenchmarks_jmhType_B3 {
+}
+
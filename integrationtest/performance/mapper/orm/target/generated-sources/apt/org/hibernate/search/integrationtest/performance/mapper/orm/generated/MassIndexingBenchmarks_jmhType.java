@@ -0,0 +1,4 @@
+package org.hibernate.search.integrationtest.performance.mapper.orm.generated;
+public class MassIndexingBenchmarks_jmhType extends MassIndexingBenchmarks_jmhType_B3 {
+}
+
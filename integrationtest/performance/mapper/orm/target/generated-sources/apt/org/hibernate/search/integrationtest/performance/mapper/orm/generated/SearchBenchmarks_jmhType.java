@@ -0,0 +1,4 @@
+package org.hibernate.search.integrationtest.performance.mapper.orm.generated;
+public class SearchBenchmarks_jmhType extends SearchBenchmarks_jmhType_B3 {
+}
+
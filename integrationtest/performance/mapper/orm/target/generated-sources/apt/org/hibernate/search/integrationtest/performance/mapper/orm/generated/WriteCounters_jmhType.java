@@ -0,0 +1,4 @@
+package org.hibernate.search.integrationtest.performance.mapper.orm.generated;
+public class WriteCounters_jmhType extends WriteCounters_jmhType_B3 {
+}
+
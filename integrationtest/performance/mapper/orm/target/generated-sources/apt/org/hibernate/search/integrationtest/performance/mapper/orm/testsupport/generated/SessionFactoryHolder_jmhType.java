@@ -0,0 +1,4 @@
+package org.hibernate.search.integrationtest.performance.mapper.orm.testsupport.generated;
+public class SessionFactoryHolder_jmhType extends SessionFactoryHolder_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.hibernate.search.integrationtest.performance.mapper.orm.testsupport.generated;
+public class ToggleableSearchSessionFactoryHolder_jmhType extends ToggleableSearchSessionFactoryHolder_jmhType_B3 {
+}
+
@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.javabean.model.impl;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.BitSetPojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
+
+public class JavaBeanSimplePojoPathFilterFactory implements PojoPathFilterFactory<BitSet> {
+
+	private final PojoPathOrdinals pathOrdinals;
+
+	public JavaBeanSimplePojoPathFilterFactory(PojoPathOrdinals pathOrdinals) {
+		this.pathOrdinals = pathOrdinals;
+	}
+
+	@Override
+	public PojoPathFilter<BitSet> create(Set<PojoModelPathValueNode> paths) {
+		BitSet acceptedPaths = new BitSet();
+		for ( PojoModelPathValueNode path : paths ) {
+			acceptedPaths.set( pathOrdinals.toOrdinal( path.parent().toPropertyString() ) );
+		}
+		return new BitSetPojoPathFilter( pathOrdinals, acceptedPaths );
+	}
+}
@@ -66,6 +66,12 @@ public String tenantIdentifier() {
 		return tenantId;
 	}
 
+	@Override
+	public boolean entityAccessThreadSafe() {
+		// Entities are plain objects passed by the caller: there is no lazy loading involved.
+		return true;
+	}
+
 	@Override
 	public PojoRuntimeIntrospector runtimeIntrospector() {
 		return PojoRuntimeIntrospector.simple();
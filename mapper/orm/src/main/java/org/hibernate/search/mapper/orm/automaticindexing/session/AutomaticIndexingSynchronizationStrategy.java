@@ -8,6 +8,7 @@
 
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ReadSyncAutomaticIndexingSynchronizationStrategy;
+import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ReadSyncWaitForRefreshAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.WriteSyncAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.AsyncAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.SyncAutomaticIndexingSynchronizationStrategy;
@@ -46,6 +47,15 @@ static AutomaticIndexingSynchronizationStrategy readSync() {
 		return ReadSyncAutomaticIndexingSynchronizationStrategy.INSTANCE;
 	}
 
+	/**
+	 * @return A strategy that waits for index changes to be queued and applied,
+	 * then waits for the next periodic refresh to make them visible, without forcing a refresh.
+	 * See the reference documentation for details.
+	 */
+	static AutomaticIndexingSynchronizationStrategy readSyncWaitForRefresh() {
+		return ReadSyncWaitForRefreshAutomaticIndexingSynchronizationStrategy.INSTANCE;
+	}
+
 	/**
 	 * @return A strategy that waits for index changes to be queued and applied, forces a commit and a refresh,
 	 * and waits for the commit and refresh to complete.
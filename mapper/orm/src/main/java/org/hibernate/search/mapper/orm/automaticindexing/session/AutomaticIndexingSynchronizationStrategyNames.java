@@ -32,6 +32,14 @@ private AutomaticIndexingSynchronizationStrategyNames() {
 	 */
 	public static final String READ_SYNC = "read-sync";
 
+	/**
+	 * A strategy that waits for index changes to be queued and applied,
+	 * then waits for the next periodic refresh to make them visible, without forcing a refresh.
+	 * <p>
+	 * See the reference documentation for details.
+	 */
+	public static final String READ_SYNC_WAIT_FOR_REFRESH = "read-sync-wait-for-refresh";
+
 	/**
 	 * A strategy that waits for index changes to be queued and applied, forces a commit and a refresh,
 	 * and waits for the commit and refresh to complete.
@@ -78,6 +78,78 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = PREFIX + Radicals.AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK;
 
+	/**
+	 * The entities whose documents should be built in background threads during automatic indexing,
+	 * instead of in the thread flushing the Hibernate ORM session or committing the transaction.
+	 * <p>
+	 * For these entities, only entity references and dirty properties are collected in the application thread.
+	 * After the transaction is committed, entities are loaded again in a separate, read-only session
+	 * in a background thread, and their documents are built and sent to the backend from there.
+	 * <p>
+	 * Expects either a String containing multiple entity names separated by commas (','),
+	 * or a {@code Collection<String>} containing such entity names.
+	 * Entity names must be names of indexed entities.
+	 * <p>
+	 * Defaults to no value, meaning documents are always built in the application thread.
+	 */
+	public static final String AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_ENTITY_NAMES =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_ENTITY_NAMES;
+
+	/**
+	 * The number of threads to use when building documents in the background during automatic indexing.
+	 * <p>
+	 * Only relevant if {@link #AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_ENTITY_NAMES} is set.
+	 * <p>
+	 * Changes to a given entity are always processed by the same thread, in order.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 2},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_THREAD_POOL_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_THREAD_POOL_SIZE =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_THREAD_POOL_SIZE;
+
+	/**
+	 * The maximum number of lazily-loaded associations to load in a single query
+	 * when resolving the entities to reindex because of changes in contained entities during automatic indexing.
+	 * <p>
+	 * When set, containing entities are resolved level by level for all modified entities at once,
+	 * and lazy associations followed from each level are loaded in batch, with one query per association,
+	 * instead of one query per entity and per association.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} disables batch loading.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_SIZE =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_SIZE;
+
+	/**
+	 * The maximum number of containing entities to reindex in the application thread
+	 * because of changes in a single contained entity during automatic indexing.
+	 * <p>
+	 * When a single modified entity, for example a tag embedded in many indexed entities,
+	 * leads to more containing entities to reindex than this threshold,
+	 * the containing entities are not reindexed as part of the transaction.
+	 * Instead, after the transaction is committed, the modified entity is loaded again
+	 * in a separate, read-only session in a background thread,
+	 * and its containing entities are loaded and reindexed from there, in batches of this size.
+	 * <p>
+	 * When this threshold is set, the size of lazy associations is retrieved with a count query
+	 * before they are loaded in the application thread, so that large associations are never loaded there.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} means containing entities are always reindexed as part of the transaction.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_FAN_OUT_THRESHOLD}.
+	 */
+	public static final String AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_FAN_OUT_THRESHOLD =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_FAN_OUT_THRESHOLD;
+
 	/**
 	 * The strategy to use when loading entities during the execution of a search query.
 	 * <p>
@@ -110,6 +182,27 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_PROCESS_ANNOTATIONS = PREFIX + Radicals.MAPPING_PROCESS_ANNOTATIONS;
 
+	/**
+	 * Whether backends may build documents of entities in parallel, from multiple threads.
+	 * <p>
+	 * Only relevant for backends where a document building thread pool is configured,
+	 * for example through {@code hibernate.search.backend.document_building.thread_pool.size}.
+	 * <p>
+	 * Building a document accesses the entity, and everything it embeds, from a thread other than the one
+	 * the Hibernate ORM session is bound to, which is only safe if no lazy loading happens while doing so.
+	 * When this setting is enabled, before documents are handed to the backend,
+	 * Hibernate Search initializes entity proxies as well as lazy properties and associations
+	 * traversed during indexing (for example through {@code @IndexedEmbedded}), in the session's thread.
+	 * This may load more than strictly necessary:
+	 * properties and associations used by any index are initialized, even if the document being built does not need them.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#DOCUMENT_BUILDING_PARALLEL_ENABLED}.
+	 */
+	public static final String DOCUMENT_BUILDING_PARALLEL_ENABLED = PREFIX + Radicals.DOCUMENT_BUILDING_PARALLEL_ENABLED;
+
 	/**
 	 * The mapping configurer to use.
 	 * <p>
@@ -146,8 +239,13 @@ private Radicals() {
 		public static final String AUTOMATIC_INDEXING_STRATEGY = "automatic_indexing.strategy";
 		public static final String AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY = "automatic_indexing.synchronization.strategy";
 		public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = "automatic_indexing.enable_dirty_check";
+		public static final String AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_ENTITY_NAMES = "automatic_indexing.background_document_building.entity_names";
+		public static final String AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_THREAD_POOL_SIZE = "automatic_indexing.background_document_building.thread_pool_size";
+		public static final String AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_SIZE = "automatic_indexing.reindexing_resolution.batch_size";
+		public static final String AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_FAN_OUT_THRESHOLD = "automatic_indexing.reindexing_resolution.fan_out_threshold";
 		public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = "query.loading.cache_lookup.strategy";
 		public static final String QUERY_LOADING_FETCH_SIZE = "query.loading.fetch_size";
+		public static final String DOCUMENT_BUILDING_PARALLEL_ENABLED = "document_building.parallel.enabled";
 		public static final String MAPPING_PROCESS_ANNOTATIONS = "mapping.process_annotations";
 		public static final String MAPPING_CONFIGURER = "mapping.configurer";
 		public static final String SCHEMA_MANAGEMENT_STRATEGY = "schema_management.strategy";
@@ -167,9 +265,13 @@ private Defaults() {
 		public static final BeanReference<AutomaticIndexingSynchronizationStrategy> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 				BeanReference.of( AutomaticIndexingSynchronizationStrategy.class, "write-sync" );
 		public static final boolean AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = true;
+		public static final int AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_THREAD_POOL_SIZE = 1;
+		public static final int AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_SIZE = 0;
+		public static final int AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_FAN_OUT_THRESHOLD = 0;
 		public static final EntityLoadingCacheLookupStrategy QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
 				EntityLoadingCacheLookupStrategy.SKIP;
 		public static final int QUERY_LOADING_FETCH_SIZE = 100;
+		public static final boolean DOCUMENT_BUILDING_PARALLEL_ENABLED = false;
 		public static final boolean MAPPING_PROCESS_ANNOTATIONS = true;
 		public static final SchemaManagementStrategyName SCHEMA_MANAGEMENT_STRATEGY = SchemaManagementStrategyName.CREATE_OR_VALIDATE;
 	}
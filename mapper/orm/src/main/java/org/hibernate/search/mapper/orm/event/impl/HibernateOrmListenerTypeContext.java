@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.event.impl;
 
+import java.util.BitSet;
+
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 public interface HibernateOrmListenerTypeContext {
@@ -14,4 +16,10 @@ public interface HibernateOrmListenerTypeContext {
 
 	Object toIndexingPlanProvidedId(Object entityId);
 
+	/**
+	 * @param dirtyPropertyIndexes The indexes of dirty properties, as reported by Hibernate ORM.
+	 * @return The corresponding dirty paths, as ordinals.
+	 */
+	BitSet dirtyPropertiesToDirtyPaths(int[] dirtyPropertyIndexes);
+
 }
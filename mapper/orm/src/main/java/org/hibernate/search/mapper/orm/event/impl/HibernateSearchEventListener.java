@@ -55,8 +55,6 @@ public final class HibernateSearchEventListener implements PostDeleteEventListen
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private static final String[] EMPTY_STRING_ARRAY = new String[0];
-
 	private final boolean dirtyCheckingEnabled;
 
 	private volatile EventsHibernateSearchState state;
@@ -102,8 +100,12 @@ public void onPostUpdate(PostUpdateEvent event) {
 		if ( typeContext != null ) {
 			PojoIndexingPlan<?> plan = getCurrentIndexingPlan( contextProvider, event.getSession() );
 			Object providedId = typeContext.toIndexingPlanProvidedId( event.getId() );
-			if ( dirtyCheckingEnabled ) {
-				plan.addOrUpdate( typeContext.typeIdentifier(), providedId, null, entity, getDirtyPropertyNames( event ) );
+			int[] dirtyProperties = event.getDirtyProperties();
+			// Null dirty properties mean Hibernate ORM could not perform dirty checking
+			// (e.g. for an entity reattached with Session.update()): consider everything dirty.
+			if ( dirtyCheckingEnabled && dirtyProperties != null ) {
+				plan.addOrUpdate( typeContext.typeIdentifier(), providedId, null, entity,
+						typeContext.dirtyPropertiesToDirtyPaths( dirtyProperties ) );
 			}
 			else {
 				plan.addOrUpdate( typeContext.typeIdentifier(), providedId, null, entity );
@@ -246,23 +248,6 @@ private void processCollectionEvent(AbstractCollectionEvent event) {
 		}
 	}
 
-	private String[] getDirtyPropertyNames(PostUpdateEvent event) {
-		EntityPersister persister = event.getPersister();
-		final int[] dirtyProperties = event.getDirtyProperties();
-		if ( dirtyProperties != null && dirtyProperties.length > 0 ) {
-			String[] propertyNames = persister.getPropertyNames();
-			int length = dirtyProperties.length;
-			String[] dirtyPropertyNames = new String[length];
-			for ( int i = 0; i < length; i++ ) {
-				dirtyPropertyNames[i] = propertyNames[dirtyProperties[i]];
-			}
-			return dirtyPropertyNames;
-		}
-		else {
-			return EMPTY_STRING_ARRAY;
-		}
-	}
-
 	/**
 	 * Required since Hibernate ORM 4.3
 	 */
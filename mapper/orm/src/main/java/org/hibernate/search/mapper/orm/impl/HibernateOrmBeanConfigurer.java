@@ -30,6 +30,11 @@ public void configure(BeanConfigurationContext context) {
 				AutomaticIndexingSynchronizationStrategyNames.READ_SYNC,
 				BeanReference.ofInstance( AutomaticIndexingSynchronizationStrategy.readSync() )
 		);
+		context.define(
+				AutomaticIndexingSynchronizationStrategy.class,
+				AutomaticIndexingSynchronizationStrategyNames.READ_SYNC_WAIT_FOR_REFRESH,
+				BeanReference.ofInstance( AutomaticIndexingSynchronizationStrategy.readSyncWaitForRefresh() )
+		);
 		context.define(
 				AutomaticIndexingSynchronizationStrategy.class,
 				AutomaticIndexingSynchronizationStrategyNames.SYNC,
@@ -118,6 +118,12 @@ public interface Log extends BasicLogger {
 	@Message(value = "Fetching identifiers of entities to index for entity '%s' during mass indexing")
 	String massIndexerFetchingIds(String entityName);
 
+	@Message(value = "Reindexing entities containing entity '%s' in the background")
+	String reindexingContainingEntities(Object entityReference);
+
+	@Message(value = "Reindexing instance of entity '%s' in the background because a contained entity changed")
+	String reindexingContainingEntity(String entityName);
+
 	@Message(value = "Loading and extracting entity data for entity '%s' during mass indexing")
 	String massIndexingLoadingAndExtractingEntityData(String entityName);
 
@@ -297,4 +303,12 @@ SearchException invalidEntitySuperType(String entityName,
 				+ " '%2$s' is the document ID and must be assigned unique values.")
 	SearchException foundMultipleEntitiesForDocumentId(String entityName, String documentIdSourcePropertyName,
 			Object id);
+
+	@Message(id = ID_OFFSET_2 + 41, value = "Interrupted while waiting for documents to be built in the background."
+			+ " Some changes committed before shutdown may not have been indexed.")
+	SearchException backgroundDocumentBuildingInterrupted(@Cause InterruptedException cause);
+
+	@Message(id = ID_OFFSET_2 + 42, value = "Interrupted while waiting for containing entities to be reindexed in the background."
+			+ " Some changes committed before shutdown may not have been indexed.")
+	SearchException containingEntityReindexingInterrupted(@Cause InterruptedException cause);
 }
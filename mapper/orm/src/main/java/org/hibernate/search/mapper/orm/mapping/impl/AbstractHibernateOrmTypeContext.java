@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.mapping.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
@@ -16,6 +17,7 @@
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContext;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionTypeContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -28,14 +30,21 @@
 	private final String jpaEntityName;
 	private final EntityPersister entityPersister;
 	private final EntityTypeDescriptor<E> entityTypeDescriptor;
+	private final PojoPathOrdinals pathOrdinals;
+	private final int[] dirtyPathOrdinalByPropertyIndex;
+	private final int[] indexingPropertyIndexes;
 
 	AbstractHibernateOrmTypeContext(SessionFactoryImplementor sessionFactory,
-			PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName) {
+			PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName,
+			PojoPathOrdinals pathOrdinals) {
 		this.typeIdentifier = typeIdentifier;
 		this.jpaEntityName = jpaEntityName;
 		MetamodelImplementor metamodel = sessionFactory.getMetamodel();
 		this.entityPersister = metamodel.entityPersister( hibernateOrmEntityName );
 		this.entityTypeDescriptor = metamodel.entity( entityPersister.getEntityName() );
+		this.pathOrdinals = pathOrdinals;
+		this.dirtyPathOrdinalByPropertyIndex = toDirtyPathOrdinals( pathOrdinals, entityPersister.getPropertyNames() );
+		this.indexingPropertyIndexes = toIndexingPropertyIndexes( dirtyPathOrdinalByPropertyIndex );
 	}
 
 	@Override
@@ -57,10 +66,29 @@ public String hibernateOrmEntityName() {
 		return entityPersister.getEntityName();
 	}
 
+	@Override
 	public EntityPersister entityPersister() {
 		return entityPersister;
 	}
 
+	@Override
+	public int[] indexingPropertyIndexes() {
+		return indexingPropertyIndexes;
+	}
+
+	@Override
+	public BitSet dirtyPropertiesToDirtyPaths(int[] dirtyPropertyIndexes) {
+		BitSet dirtyPaths = new BitSet( pathOrdinals.size() );
+		for ( int dirtyPropertyIndex : dirtyPropertyIndexes ) {
+			int ordinal = dirtyPathOrdinalByPropertyIndex[dirtyPropertyIndex];
+			if ( ordinal >= 0 ) {
+				dirtyPaths.set( ordinal );
+			}
+			// Else the property is not involved in any path filter: ignore it.
+		}
+		return dirtyPaths;
+	}
+
 	public EntityTypeDescriptor<E> entityTypeDescriptor() {
 		if ( entityTypeDescriptor == null ) {
 			// TODO HSEARCH-3771 Mass indexing for ORM's dynamic-map entity types
@@ -68,4 +96,32 @@ public EntityTypeDescriptor<E> entityTypeDescriptor() {
 		}
 		return entityTypeDescriptor;
 	}
+
+	private static int[] toDirtyPathOrdinals(PojoPathOrdinals pathOrdinals, String[] propertyNames) {
+		int[] result = new int[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			Integer ordinal = pathOrdinals.toExistingOrdinal( propertyNames[i] );
+			result[i] = ordinal == null ? -1 : ordinal;
+		}
+		return result;
+	}
+
+	private static int[] toIndexingPropertyIndexes(int[] dirtyPathOrdinalByPropertyIndex) {
+		// Properties involved in path filters are those whose changes affect documents,
+		// i.e. those accessed when building documents.
+		int count = 0;
+		for ( int ordinal : dirtyPathOrdinalByPropertyIndex ) {
+			if ( ordinal >= 0 ) {
+				++count;
+			}
+		}
+		int[] result = new int[count];
+		int resultIndex = 0;
+		for ( int i = 0; i < dirtyPathOrdinalByPropertyIndex.length; i++ ) {
+			if ( dirtyPathOrdinalByPropertyIndex[i] >= 0 ) {
+				result[resultIndex++] = i;
+			}
+		}
+		return result;
+	}
 }
@@ -51,6 +51,8 @@
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.session.AutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ConfiguredAutomaticIndexingSynchronizationStrategy;
+import org.hibernate.search.mapper.orm.session.impl.BackgroundDocumentBuildingExecutor;
+import org.hibernate.search.mapper.orm.session.impl.ContainingEntityReindexingExecutor;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSearchSession;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSearchSessionMappingContext;
 import org.hibernate.search.mapper.pojo.mapping.spi.AbstractPojoMappingImplementor;
@@ -59,6 +61,7 @@
 import org.hibernate.search.mapper.pojo.schema.management.spi.PojoScopeSchemaManager;
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeDelegate;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -93,14 +96,55 @@ public class HibernateOrmMapping extends AbstractPojoMappingImplementor<Hibernat
 					.withDefault( HibernateOrmMapperSettings.Defaults.SCHEMA_MANAGEMENT_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<List<String>> AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_ENTITY_NAMES =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_ENTITY_NAMES )
+					.asString().multivalued()
+					.withDefault( Collections.emptyList() )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_FAN_OUT_THRESHOLD =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_FAN_OUT_THRESHOLD )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_FAN_OUT_THRESHOLD )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> DOCUMENT_BUILDING_PARALLEL_ENABLED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.DOCUMENT_BUILDING_PARALLEL_ENABLED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.DOCUMENT_BUILDING_PARALLEL_ENABLED )
+					.build();
+
 	public static MappingImplementor<HibernateOrmMapping> create(
 			PojoMappingDelegate mappingDelegate, HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory, ConfigurationPropertySource propertySource,
 			BeanResolver beanResolver) {
 		BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> synchronizationStrategyHolder =
 				AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY.getAndTransform( propertySource, beanResolver::resolve );
+		BackgroundDocumentBuildingExecutor backgroundDocumentBuildingExecutor = null;
+		ContainingEntityReindexingExecutor containingEntityReindexingExecutor = null;
 
 		try {
+			backgroundDocumentBuildingExecutor = createBackgroundDocumentBuildingExecutor(
+					mappingDelegate, typeContextContainer, propertySource );
+
+			int fanOutThreshold = AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_FAN_OUT_THRESHOLD.get( propertySource );
+			if ( fanOutThreshold > 0 ) {
+				containingEntityReindexingExecutor = new ContainingEntityReindexingExecutor(
+						mappingDelegate.threadPoolProvider(), fanOutThreshold );
+			}
+
 			log.defaultAutomaticIndexingSynchronizationStrategy( synchronizationStrategyHolder.get() );
 
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy =
@@ -108,28 +152,65 @@ public static MappingImplementor<HibernateOrmMapping> create(
 
 			int fetchSize = QUERY_LOADING_FETCH_SIZE.get( propertySource );
 
+			int reindexingResolutionBatchSize = AUTOMATIC_INDEXING_REINDEXING_RESOLUTION_BATCH_SIZE.get( propertySource );
+
+			boolean parallelDocumentBuildingEnabled = DOCUMENT_BUILDING_PARALLEL_ENABLED.get( propertySource );
+
 			SchemaManagementStrategyName schemaManagementStrategyName = SCHEMA_MANAGEMENT_STRATEGY.get( propertySource );
 			SchemaManagementListener schemaManagementListener = new SchemaManagementListener( schemaManagementStrategyName );
 
 			return new HibernateOrmMapping(
 					mappingDelegate, typeContextContainer, sessionFactory,
-					synchronizationStrategyHolder,
-					cacheLookupStrategy, fetchSize,
-					schemaManagementListener
+					synchronizationStrategyHolder, backgroundDocumentBuildingExecutor,
+					containingEntityReindexingExecutor,
+					cacheLookupStrategy, fetchSize, reindexingResolutionBatchSize,
+					parallelDocumentBuildingEnabled, schemaManagementListener
 			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
-					.push( synchronizationStrategyHolder );
+					.push( synchronizationStrategyHolder )
+					.push( backgroundDocumentBuildingExecutor )
+					.push( containingEntityReindexingExecutor );
 			throw e;
 		}
 	}
 
+	private static BackgroundDocumentBuildingExecutor createBackgroundDocumentBuildingExecutor(
+			PojoMappingDelegate mappingDelegate, HibernateOrmTypeContextContainer typeContextContainer,
+			ConfigurationPropertySource propertySource) {
+		List<HibernateOrmIndexedTypeContext<?>> typeContexts =
+				AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_ENTITY_NAMES.getAndTransform( propertySource, names -> {
+					List<HibernateOrmIndexedTypeContext<?>> result = new ArrayList<>( names.size() );
+					for ( String entityName : names ) {
+						PojoRawTypeIdentifier<?> typeIdentifier =
+								typeContextContainer.typeIdentifierForEntityName( entityName );
+						HibernateOrmIndexedTypeContext<?> typeContext =
+								typeContextContainer.indexedForExactType( typeIdentifier );
+						if ( typeContext == null ) {
+							throw log.notIndexedEntityName( entityName );
+						}
+						result.add( typeContext );
+					}
+					return result;
+				} );
+		if ( typeContexts.isEmpty() ) {
+			return null;
+		}
+		int threadPoolSize = AUTOMATIC_INDEXING_BACKGROUND_DOCUMENT_BUILDING_THREAD_POOL_SIZE.get( propertySource );
+		return new BackgroundDocumentBuildingExecutor( mappingDelegate.threadPoolProvider(), threadPoolSize,
+				typeContexts );
+	}
+
 	private final SessionFactoryImplementor sessionFactory;
 	private final HibernateOrmTypeContextContainer typeContextContainer;
 	private final BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder;
+	private final BackgroundDocumentBuildingExecutor backgroundDocumentBuildingExecutor;
+	private final ContainingEntityReindexingExecutor containingEntityReindexingExecutor;
 	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
 	private final int fetchSize;
+	private final int reindexingResolutionBatchSize;
+	private final boolean parallelDocumentBuildingEnabled;
 
 	private final SchemaManagementListener schemaManagementListener;
 
@@ -137,15 +218,23 @@ private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 			HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory,
 			BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder,
+			BackgroundDocumentBuildingExecutor backgroundDocumentBuildingExecutor,
+			ContainingEntityReindexingExecutor containingEntityReindexingExecutor,
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
 			int fetchSize,
+			int reindexingResolutionBatchSize,
+			boolean parallelDocumentBuildingEnabled,
 			SchemaManagementListener schemaManagementListener) {
 		super( mappingDelegate );
 		this.typeContextContainer = typeContextContainer;
 		this.sessionFactory = sessionFactory;
 		this.defaultSynchronizationStrategyHolder = defaultSynchronizationStrategyHolder;
+		this.backgroundDocumentBuildingExecutor = backgroundDocumentBuildingExecutor;
+		this.containingEntityReindexingExecutor = containingEntityReindexingExecutor;
 		this.cacheLookupStrategy = cacheLookupStrategy;
 		this.fetchSize = fetchSize;
+		this.reindexingResolutionBatchSize = reindexingResolutionBatchSize;
+		this.parallelDocumentBuildingEnabled = parallelDocumentBuildingEnabled;
 		this.schemaManagementListener = schemaManagementListener;
 	}
 
@@ -173,7 +262,11 @@ public CompletableFuture<?> preStop(MappingPreStopContext context) {
 
 	@Override
 	protected void doStop() {
-		defaultSynchronizationStrategyHolder.close();
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( BackgroundDocumentBuildingExecutor::close, backgroundDocumentBuildingExecutor );
+			closer.push( ContainingEntityReindexingExecutor::close, containingEntityReindexingExecutor );
+			closer.push( BeanHolder::close, defaultSynchronizationStrategyHolder );
+		}
 	}
 
 	@Override
@@ -253,6 +346,16 @@ public int fetchSize() {
 		return fetchSize;
 	}
 
+	@Override
+	public int reindexingResolutionBatchSize() {
+		return reindexingResolutionBatchSize;
+	}
+
+	@Override
+	public boolean parallelDocumentBuildingEnabled() {
+		return parallelDocumentBuildingEnabled;
+	}
+
 	@Override
 	public SessionFactoryImplementor sessionFactory() {
 		return sessionFactory;
@@ -268,6 +371,16 @@ public FailureHandler failureHandler() {
 		return delegate().failureHandler();
 	}
 
+	@Override
+	public BackgroundDocumentBuildingExecutor backgroundDocumentBuildingExecutor() {
+		return backgroundDocumentBuildingExecutor;
+	}
+
+	@Override
+	public ContainingEntityReindexingExecutor containingEntityReindexingExecutor() {
+		return containingEntityReindexingExecutor;
+	}
+
 	@Override
 	public HibernateOrmScopeSessionContext sessionContext(EntityManager entityManager) {
 		return HibernateOrmSearchSession.get( this, HibernateOrmUtils.toSessionImplementor( entityManager ) );
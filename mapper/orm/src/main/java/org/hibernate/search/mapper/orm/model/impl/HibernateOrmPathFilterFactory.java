@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.model.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -27,9 +28,10 @@
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractors;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.BitSetPojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
-import org.hibernate.search.mapper.pojo.model.path.spi.StringSetPojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.impl.CollectionHelper;
@@ -142,8 +144,13 @@
  *         is used before we can detect a prefix matching the conditions described above.
  *     </li>
  * </ul>
+ * <p>
+ * Each string representation is then assigned an ordinal through {@link PojoPathOrdinals},
+ * so that the filters can test dirty paths represented as a {@link BitSet}:
+ * since the string representation of a top-level property is its name,
+ * Hibernate ORM's dirty property indexes can be translated directly into ordinals.
  */
-public class HibernateOrmPathFilterFactory implements PojoPathFilterFactory<Set<String>> {
+public class HibernateOrmPathFilterFactory implements PojoPathFilterFactory<BitSet> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private static final Set<String> PRIMITIVE_EXTRACTOR_NAMES = CollectionHelper.asImmutableSet(
@@ -158,19 +165,25 @@ public class HibernateOrmPathFilterFactory implements PojoPathFilterFactory<Set<
 	);
 
 	private final PersistentClass persistentClass;
+	private final PojoPathOrdinals pathOrdinals;
 
-	public HibernateOrmPathFilterFactory(PersistentClass persistentClass) {
+	public HibernateOrmPathFilterFactory(PersistentClass persistentClass, PojoPathOrdinals pathOrdinals) {
 		this.persistentClass = persistentClass;
+		this.pathOrdinals = pathOrdinals;
 	}
 
 	@Override
-	public PojoPathFilter<Set<String>> create(Set<PojoModelPathValueNode> paths) {
-		// Use a LinkedHashSet for deterministic iteration
+	public PojoPathFilter<BitSet> create(Set<PojoModelPathValueNode> paths) {
+		// Use a LinkedHashSet for deterministic iteration, and thus deterministic ordinals
 		Set<String> pathsAsStrings = CollectionHelper.newLinkedHashSet( paths.size() );
 		for ( PojoModelPathValueNode path : paths ) {
 			addDirtyPathStringRepresentations( pathsAsStrings, path );
 		}
-		return new StringSetPojoPathFilter( pathsAsStrings );
+		BitSet acceptedPaths = new BitSet();
+		for ( String pathAsString : pathsAsStrings ) {
+			acceptedPaths.set( pathOrdinals.toOrdinal( pathAsString ) );
+		}
+		return new BitSetPojoPathFilter( pathOrdinals, acceptedPaths );
 	}
 
 	private void addDirtyPathStringRepresentations(Set<String> pathsAsStrings, PojoModelPathValueNode path) {
@@ -6,9 +6,40 @@
  */
 package org.hibernate.search.mapper.orm.model.impl;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.function.Consumer;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
+import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.Query;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 
@@ -18,13 +49,19 @@
  */
 public class HibernateOrmRuntimeIntrospector implements PojoRuntimeIntrospector {
 
+	private static final String IDS_PARAMETER_NAME = "ids";
+	private static final String OWNERS_PARAMETER_NAME = "owners";
+	private static final String OWNER_PARAMETER_NAME = "owner";
+
 	private final HibernateOrmRuntimeIntrospectorTypeContextProvider typeContextProvider;
 	private final SessionImplementor sessionImplementor;
+	private final int batchSize;
 
 	public HibernateOrmRuntimeIntrospector(HibernateOrmRuntimeIntrospectorTypeContextProvider typeContextProvider,
-			SessionImplementor sessionImplementor) {
+			SessionImplementor sessionImplementor, int batchSize) {
 		this.typeContextProvider = typeContextProvider;
 		this.sessionImplementor = sessionImplementor;
+		this.batchSize = batchSize;
 	}
 
 	@Override
@@ -60,4 +97,308 @@ public Object unproxy(Object value) {
 		return value;
 	}
 
+	@Override
+	public boolean isBatchInitializationEnabled() {
+		return batchSize > 0;
+	}
+
+	@Override
+	public void initializeAll(List<?> values) {
+		if ( batchSize <= 0 ) {
+			return;
+		}
+		// Use LinkedHashMaps for deterministic iteration, and thus deterministic query order
+		Map<String, Set<Object>> uninitializedProxyIdsByEntityName = new LinkedHashMap<>();
+		Map<String, Set<Object>> uninitializedCollectionOwnersByRole = new LinkedHashMap<>();
+		for ( Object value : values ) {
+			if ( value instanceof HibernateProxy ) {
+				LazyInitializer lazyInitializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+				if ( lazyInitializer.isUninitialized() && lazyInitializer.getSession() == sessionImplementor ) {
+					uninitializedProxyIdsByEntityName.computeIfAbsent( lazyInitializer.getEntityName(),
+							ignored -> new LinkedHashSet<>() )
+							.add( lazyInitializer.getIdentifier() );
+				}
+			}
+			else if ( value instanceof PersistentCollection ) {
+				PersistentCollection collection = (PersistentCollection) value;
+				if ( !collection.wasInitialized() && collection.getRole() != null && collection.getOwner() != null ) {
+					// Entities may override equals/hashCode: use identity
+					uninitializedCollectionOwnersByRole.computeIfAbsent( collection.getRole(),
+							ignored -> Collections.newSetFromMap( new IdentityHashMap<>() ) )
+							.add( collection.getOwner() );
+				}
+			}
+		}
+		for ( Map.Entry<String, Set<Object>> entry : uninitializedProxyIdsByEntityName.entrySet() ) {
+			// Lazy loading will be just as efficient for a single proxy
+			if ( entry.getValue().size() > 1 ) {
+				initializeProxies( entry.getKey(), entry.getValue() );
+			}
+		}
+		for ( Map.Entry<String, Set<Object>> entry : uninitializedCollectionOwnersByRole.entrySet() ) {
+			if ( entry.getValue().size() > 1 ) {
+				initializeCollections( entry.getKey(), entry.getValue() );
+			}
+		}
+	}
+
+	@Override
+	public void initializeForDocumentBuilding(Object entity) {
+		// Entities may override equals/hashCode: use identity
+		initializeIndexingPaths( entity, Collections.newSetFromMap( new IdentityHashMap<>() ) );
+	}
+
+	@Override
+	public int uninitializedContainerSize(Object value) {
+		if ( !( value instanceof PersistentCollection ) ) {
+			return -1;
+		}
+		PersistentCollection collection = (PersistentCollection) value;
+		if ( collection.wasInitialized() ) {
+			return -1;
+		}
+		CollectionEntry entry = sessionImplementor.getPersistenceContext().getCollectionEntry( collection );
+		if ( entry == null || entry.getLoadedPersister() == null || entry.getLoadedKey() == null ) {
+			return -1;
+		}
+		// This executes a count query and leaves the collection uninitialized
+		return entry.getLoadedPersister().getSize( entry.getLoadedKey(), sessionImplementor );
+	}
+
+	@Override
+	public boolean loadInChunks(Object value, int chunkSize, Consumer<Object> chunkConsumer) {
+		if ( !( value instanceof PersistentCollection )
+				// Chunks must be containers of the same kind as the value
+				|| !( value instanceof List || value instanceof Set && !( value instanceof SortedSet ) ) ) {
+			return false;
+		}
+		PersistentCollection collection = (PersistentCollection) value;
+		if ( collection.wasInitialized() || collection.getRole() == null || collection.getOwner() == null ) {
+			return false;
+		}
+		MetamodelImplementor metamodel = sessionImplementor.getSessionFactory().getMetamodel();
+		CollectionPersister collectionPersister = metamodel.collectionPersister( collection.getRole() );
+		if ( !collectionPersister.getElementType().isEntityType() ) {
+			return false;
+		}
+		EntityPersister elementPersister = metamodel.entityPersister(
+				( (EntityType) collectionPersister.getElementType() ).getAssociatedEntityName() );
+		String elementIdentifierPropertyName = elementPersister.getIdentifierPropertyName();
+		String propertyPath = propertyPathOrNull( collectionPersister );
+		if ( elementIdentifierPropertyName == null || propertyPath == null ) {
+			return false;
+		}
+
+		Query<?> idQuery = sessionImplementor.createQuery(
+				"select elem." + elementIdentifierPropertyName
+						+ " from " + collectionPersister.getOwnerEntityPersister().getEntityName() + " e"
+						+ " join e." + propertyPath + " elem"
+						+ " where e = :" + OWNER_PARAMETER_NAME
+						// Pagination requires a stable order
+						+ " order by elem." + elementIdentifierPropertyName
+		);
+		idQuery.setParameter( OWNER_PARAMETER_NAME, collection.getOwner() );
+		idQuery.setHibernateFlushMode( FlushMode.MANUAL );
+		idQuery.setMaxResults( chunkSize );
+		Query<?> loadQuery = HibernateOrmUtils.createQueryForLoadByUniqueProperty(
+				sessionImplementor, elementPersister, elementIdentifierPropertyName, IDS_PARAMETER_NAME );
+		loadQuery.setHibernateFlushMode( FlushMode.MANUAL );
+
+		PersistenceContext persistenceContext = sessionImplementor.getPersistenceContext();
+		int firstResult = 0;
+		List<?> ids;
+		do {
+			idQuery.setFirstResult( firstResult );
+			ids = idQuery.getResultList();
+			firstResult += ids.size();
+
+			// Elements that are already managed must stay managed: only load the others.
+			Map<Object, Object> elementsById = new LinkedHashMap<>();
+			List<Object> idsToLoad = new ArrayList<>();
+			for ( Object id : ids ) {
+				EntityKey key = sessionImplementor.generateEntityKey( (Serializable) id, elementPersister );
+				Object managed = persistenceContext.getEntity( key );
+				if ( managed == null ) {
+					managed = persistenceContext.getProxy( key );
+				}
+				if ( managed == null ) {
+					idsToLoad.add( id );
+				}
+				elementsById.put( id, managed );
+			}
+			List<?> loaded = Collections.emptyList();
+			if ( !idsToLoad.isEmpty() ) {
+				loadQuery.setParameterList( IDS_PARAMETER_NAME, idsToLoad );
+				loaded = loadQuery.getResultList();
+				for ( Object element : loaded ) {
+					elementsById.put( elementPersister.getIdentifier( element, sessionImplementor ), element );
+				}
+			}
+
+			Collection<Object> chunk = value instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+			for ( Object element : elementsById.values() ) {
+				if ( element != null ) {
+					chunk.add( element );
+				}
+			}
+			chunkConsumer.accept( chunk );
+
+			// Release the elements loaded for this chunk
+			for ( Object element : loaded ) {
+				sessionImplementor.evict( element );
+			}
+		}
+		while ( ids.size() == chunkSize );
+		return true;
+	}
+
+	private void initializeIndexingPaths(Object entity, Set<Object> visitedEntities) {
+		Object unproxied = unproxy( entity );
+		if ( !visitedEntities.add( unproxied ) ) {
+			return;
+		}
+		String entityName = sessionImplementor.bestGuessEntityName( unproxied );
+		HibernateOrmRuntimeIntrospectorTypeContext typeContext =
+				entityName == null ? null : typeContextProvider.forHibernateOrmEntityName( entityName );
+		if ( typeContext == null ) {
+			// Neither indexed nor contained: documents will not access this entity's properties
+			return;
+		}
+		EntityPersister persister = typeContext.entityPersister();
+		String[] propertyNames = persister.getPropertyNames();
+		Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int propertyIndex : typeContext.indexingPropertyIndexes() ) {
+			String propertyName = propertyNames[propertyIndex];
+			if ( !Hibernate.isPropertyInitialized( unproxied, propertyName ) ) {
+				// Lazy property of an entity with bytecode enhancement: reading it through the interceptor loads it
+				( (PersistentAttributeInterceptable) unproxied ).$$_hibernate_getInterceptor()
+						.readObject( unproxied, propertyName, null );
+			}
+			Type propertyType = propertyTypes[propertyIndex];
+			if ( propertyType.isAssociationType() || propertyType.isComponentType() ) {
+				initializeIndexingPaths( persister.getPropertyValue( unproxied, propertyIndex ), propertyType,
+						visitedEntities );
+			}
+		}
+	}
+
+	private void initializeIndexingPaths(Object value, Type type, Set<Object> visitedEntities) {
+		if ( value == null ) {
+			return;
+		}
+		if ( type.isEntityType() ) {
+			initializeIndexingPaths( value, visitedEntities );
+		}
+		else if ( type.isCollectionType() ) {
+			Hibernate.initialize( value );
+			Type elementType = ( (CollectionType) type ).getElementType( sessionImplementor.getFactory() );
+			if ( !elementType.isAssociationType() && !elementType.isComponentType() ) {
+				return;
+			}
+			Collection<?> elements;
+			if ( value instanceof Map ) {
+				elements = ( (Map<?, ?>) value ).values();
+			}
+			else if ( value instanceof Collection ) {
+				elements = (Collection<?>) value;
+			}
+			else {
+				// Arrays are never lazily loaded, but their elements may be
+				elements = Arrays.asList( (Object[]) value );
+			}
+			for ( Object element : elements ) {
+				initializeIndexingPaths( element, elementType, visitedEntities );
+			}
+		}
+		else if ( type.isComponentType() ) {
+			CompositeType componentType = (CompositeType) type;
+			Type[] subtypes = componentType.getSubtypes();
+			Object[] subvalues = componentType.getPropertyValues( value, sessionImplementor );
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				initializeIndexingPaths( subvalues[i], subtypes[i], visitedEntities );
+			}
+		}
+	}
+
+	private void initializeProxies(String entityName, Set<Object> ids) {
+		EntityPersister persister = sessionImplementor.getSessionFactory().getMetamodel()
+				.entityPersister( entityName );
+		String identifierPropertyName = persister.getIdentifierPropertyName();
+		if ( identifierPropertyName == null ) {
+			// Non-aggregated composite identifier: just rely on lazy loading
+			return;
+		}
+		Query<?> query = HibernateOrmUtils.createQueryForLoadByUniqueProperty(
+				sessionImplementor, persister, identifierPropertyName, IDS_PARAMETER_NAME );
+		query.setHibernateFlushMode( FlushMode.MANUAL );
+		for ( List<Object> batch : toBatches( ids ) ) {
+			query.setParameterList( IDS_PARAMETER_NAME, batch );
+			// The result is worthless: we only need entities to be loaded into the persistence context,
+			// so that initializing the proxies later will not trigger any query.
+			query.getResultList();
+		}
+	}
+
+	private void initializeCollections(String role, Set<Object> owners) {
+		MetamodelImplementor metamodel = sessionImplementor.getSessionFactory().getMetamodel();
+		CollectionPersister collectionPersister = metamodel.collectionPersister( role );
+		String propertyPath = propertyPathOrNull( collectionPersister );
+		if ( propertyPath == null ) {
+			// Just rely on lazy loading
+			return;
+		}
+		String ownerEntityName = collectionPersister.getOwnerEntityPersister().getEntityName();
+		Query<?> query = sessionImplementor.createQuery(
+				"select distinct e from " + ownerEntityName + " e"
+						+ " left join fetch e." + propertyPath
+						+ " where e in (:" + OWNERS_PARAMETER_NAME + ")"
+		);
+		query.setHibernateFlushMode( FlushMode.MANUAL );
+		for ( List<Object> batch : toBatches( owners ) ) {
+			query.setParameterList( OWNERS_PARAMETER_NAME, batch );
+			// The result is worthless: fetching the collection of entities that are already managed
+			// initializes the collection instances held by these entities.
+			query.getResultList();
+		}
+	}
+
+	/**
+	 * @param collectionPersister The persister of a collection.
+	 * @return The path of the collection from its owner entity,
+	 * or {@code null} if the collection cannot be reached through a simple path from its owner,
+	 * e.g. because it's nested in an element collection.
+	 */
+	private static String propertyPathOrNull(CollectionPersister collectionPersister) {
+		String role = collectionPersister.getRole();
+		EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
+		String ownerEntityName = ownerPersister.getEntityName();
+		if ( !role.startsWith( ownerEntityName + "." ) ) {
+			return null;
+		}
+		String propertyPath = role.substring( ownerEntityName.length() + 1 );
+		try {
+			ownerPersister.getPropertyType( propertyPath );
+		}
+		catch (HibernateException e) {
+			return null;
+		}
+		return propertyPath;
+	}
+
+	private List<List<Object>> toBatches(Set<Object> values) {
+		List<List<Object>> batches = new ArrayList<>();
+		List<Object> batch = new ArrayList<>( Math.min( batchSize, values.size() ) );
+		for ( Object value : values ) {
+			batch.add( value );
+			if ( batch.size() >= batchSize ) {
+				batches.add( batch );
+				batch = new ArrayList<>( Math.min( batchSize, values.size() ) );
+			}
+		}
+		if ( !batch.isEmpty() ) {
+			batches.add( batch );
+		}
+		return batches;
+	}
+
 }
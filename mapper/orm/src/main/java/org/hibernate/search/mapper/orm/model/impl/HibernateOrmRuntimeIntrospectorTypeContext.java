@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.model.impl;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+public interface HibernateOrmRuntimeIntrospectorTypeContext {
+
+	EntityPersister entityPersister();
+
+	/**
+	 * @return The indexes, in the {@link #entityPersister() entity persister}, of properties
+	 * that may be accessed when building documents from entities of this type
+	 * or from entities embedding them.
+	 */
+	int[] indexingPropertyIndexes();
+
+}
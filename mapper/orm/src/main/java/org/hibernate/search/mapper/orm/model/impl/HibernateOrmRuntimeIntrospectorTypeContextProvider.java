@@ -16,4 +16,10 @@ public interface HibernateOrmRuntimeIntrospectorTypeContextProvider {
 	 */
 	PojoRawTypeIdentifier<?> typeIdentifierForHibernateOrmEntityName(String entityName);
 
+	/**
+	 * @param hibernateOrmEntityName The Hibernate ORM entity name (different from the JPA entity name).
+	 * @return The corresponding type context, or {@code null} if the entity is neither indexed nor contained.
+	 */
+	HibernateOrmRuntimeIntrospectorTypeContext forHibernateOrmEntityName(String hibernateOrmEntityName);
+
 }
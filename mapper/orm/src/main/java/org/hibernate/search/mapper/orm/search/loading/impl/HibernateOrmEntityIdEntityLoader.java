@@ -110,7 +110,8 @@ private List<E> doLoadEntities(List<EntityReference> references, Long timeout) {
 		List<E> loadedEntities = createListContainingNulls( references.size() );
 
 		int fetchSize = loadingOptions.fetchSize();
-		Query<?> query = createQuery( fetchSize, timeout );
+		// Only create the query if some entities were not found in the caches.
+		Query<?> query = null;
 
 		List<Object> ids = new ArrayList<>( fetchSize );
 		for ( int i = 0; i < keys.length; i++ ) {
@@ -127,6 +128,9 @@ private List<E> doLoadEntities(List<EntityReference> references, Long timeout) {
 
 			ids.add( key.getIdentifier() );
 			if ( ids.size() >= fetchSize ) {
+				if ( query == null ) {
+					query = createQuery( fetchSize, timeout );
+				}
 				query.setParameterList( IDS_PARAMETER_NAME, ids );
 				// The result is worthless, as entities are not in the right order.
 				// However, this will load entities into the persistence context... see further down.
@@ -135,6 +139,9 @@ private List<E> doLoadEntities(List<EntityReference> references, Long timeout) {
 			}
 		}
 		if ( !ids.isEmpty() ) {
+			if ( query == null ) {
+				query = createQuery( fetchSize, timeout );
+			}
 			query.setParameterList( IDS_PARAMETER_NAME, ids );
 			// Same as above: the result is worthless.
 			query.getResultList();
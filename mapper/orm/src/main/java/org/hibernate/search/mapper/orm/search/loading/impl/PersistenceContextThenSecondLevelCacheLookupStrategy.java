@@ -8,10 +8,13 @@
 
 import java.lang.invoke.MethodHandles;
 
-import org.hibernate.ObjectNotFoundException;
+import org.hibernate.LockOptions;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -42,24 +45,20 @@ static EntityLoadingCacheLookupStrategyImplementor create(EntityPersister common
 		return new PersistenceContextThenSecondLevelCacheLookupStrategy(
 				persistenceContextLookupStrategy,
 				commonEntitySuperTypePersister,
-				cacheAccess,
 				session
 		);
 	}
 
 	private final EntityLoadingCacheLookupStrategyImplementor persistenceContextLookupStrategy;
 	private final EntityPersister persister;
-	private final EntityDataAccess cacheAccess;
 	private final SessionImplementor session;
 
 	private PersistenceContextThenSecondLevelCacheLookupStrategy(
 			EntityLoadingCacheLookupStrategyImplementor persistenceContextLookupStrategy,
 			EntityPersister persister,
-			EntityDataAccess cacheAccess,
 			SessionImplementor session) {
 		this.persistenceContextLookupStrategy = persistenceContextLookupStrategy;
 		this.persister = persister;
-		this.cacheAccess = cacheAccess;
 		this.session = session;
 	}
 
@@ -72,26 +71,15 @@ public Object lookup(EntityKey entityKey) {
 		}
 
 		/*
-		 * Note we must call this method specifically,
-		 * and not sessionFactory.getCache().containsEntity() which is unaware of the session
-		 * and thus cannot take the tenant identifier into account.
+		 * Read the entry from the second level cache and assemble the entity in a single cache access,
+		 * like Hibernate ORM does for multi-loads.
+		 * Checking cacheAccess.contains() first, then calling session.get(),
+		 * would access the cache twice for each hit, and check the persistence context again.
+		 * On a cache miss, this simply returns null: the entity will be loaded along with the others,
+		 * in a batch query.
 		 */
-		final Object key = cacheAccess.generateCacheKey(
-				entityKey.getIdentifier(), persister, session.getSessionFactory(), session.getTenantIdentifier()
-		);
-
-		if ( !cacheAccess.contains( key ) ) {
-			return null;
-		}
-
-		try {
-			// This will load the object from the second level cache
-			return session.get( persister.getEntityName(), entityKey.getIdentifier() );
-		}
-		catch (ObjectNotFoundException ignored) {
-			// Unlikely but needed: an index might be out of sync, and the cache might be as well
-			// Ignore the exception and handle as a cache miss by returning null
-			return null;
-		}
+		LoadEvent loadEvent = new LoadEvent( entityKey.getIdentifier(), persister.getEntityName(),
+				LockOptions.NONE, session.unwrap( EventSource.class ), null );
+		return CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( loadEvent, persister, entityKey );
 	}
 }
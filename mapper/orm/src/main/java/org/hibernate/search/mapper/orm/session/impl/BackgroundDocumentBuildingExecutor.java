@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.session.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Builds the documents of selected entity types in background threads,
+ * so that threads flushing Hibernate ORM sessions or committing transactions
+ * only have to collect entity references and dirty paths for these types.
+ * <p>
+ * Work is distributed among single-threaded lanes according to the entity identifier,
+ * so that changes to a given entity are always processed in the order they were submitted.
+ */
+public final class BackgroundDocumentBuildingExecutor implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String THREAD_NAME_PREFIX = "Automatic indexing - Document building - Lane ";
+
+	private final Map<PojoRawTypeIdentifier<?>, HibernateOrmSessionIndexedTypeContext<?>> typeContexts =
+			new LinkedHashMap<>();
+	private final ExecutorService[] lanes;
+
+	public BackgroundDocumentBuildingExecutor(ThreadPoolProvider threadPoolProvider, int threadPoolSize,
+			Collection<? extends HibernateOrmSessionIndexedTypeContext<?>> typeContexts) {
+		for ( HibernateOrmSessionIndexedTypeContext<?> typeContext : typeContexts ) {
+			this.typeContexts.put( typeContext.typeIdentifier(), typeContext );
+		}
+		// The executor queues are bounded: when they're full, committing threads will block,
+		// which is preferable to accumulating an unbounded amount of work in memory.
+		this.lanes = new ExecutorService[threadPoolSize];
+		for ( int i = 0; i < lanes.length; i++ ) {
+			lanes[i] = threadPoolProvider.newFixedThreadPool( 1, THREAD_NAME_PREFIX + i );
+		}
+	}
+
+	@Override
+	public void close() {
+		for ( ExecutorService lane : lanes ) {
+			lane.shutdown();
+		}
+		// Wait for pending documents to be built and sent to the backend,
+		// so that changes committed before shutdown are not lost.
+		try {
+			for ( ExecutorService lane : lanes ) {
+				lane.awaitTermination( Long.MAX_VALUE, TimeUnit.NANOSECONDS );
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.backgroundDocumentBuildingInterrupted( e );
+		}
+	}
+
+	HibernateOrmSessionIndexedTypeContext<?> typeContextOrNull(PojoRawTypeIdentifier<?> typeIdentifier) {
+		return typeContexts.get( typeIdentifier );
+	}
+
+	/**
+	 * @param id The identifier of an entity.
+	 * @return The lane in which changes to the entity with this identifier must be processed.
+	 */
+	int lane(Object id) {
+		return Math.floorMod( id.hashCode(), lanes.length );
+	}
+
+	<T> CompletableFuture<T> submit(int lane, Supplier<CompletableFuture<T>> task) {
+		return CompletableFuture.supplyAsync( task, lanes[lane] )
+				.thenCompose( Function.identity() );
+	}
+
+	/**
+	 * Blocks until the tasks already submitted to the given lanes have sent their works to the backend.
+	 *
+	 * @param lanesToAwait The lanes to wait for.
+	 */
+	void awaitSubmitted(Set<Integer> lanesToAwait) {
+		CompletableFuture<?>[] futures = new CompletableFuture[lanesToAwait.size()];
+		int i = 0;
+		for ( Integer lane : lanesToAwait ) {
+			// Lanes are single-threaded: this runs after all previously submitted tasks returned.
+			futures[i] = Futures.runAsync( () -> { }, lanes[lane] );
+			i++;
+		}
+		Futures.unwrappedExceptionJoin( CompletableFuture.allOf( futures ) );
+	}
+}
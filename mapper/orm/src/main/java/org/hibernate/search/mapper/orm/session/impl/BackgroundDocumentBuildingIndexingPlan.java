@@ -0,0 +1,330 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.session.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+
+/**
+ * An indexing plan that only collects entity references and dirty paths
+ * for entity types whose documents are built in the background,
+ * and delegates everything else to a regular indexing plan.
+ * <p>
+ * Upon execution, entities collected this way are loaded again in a separate, read-only session,
+ * from a background thread, and their documents are built and sent to the backend from there.
+ * <p>
+ * Changes to a given entity are always processed in the same lane of the executor, in order.
+ * Deletes are not deferred, since they don't involve building documents,
+ * but they are only sent to the backend once the lane of the deleted entity
+ * has sent all the works submitted before, so that a delete cannot be overtaken by a previous update.
+ */
+class BackgroundDocumentBuildingIndexingPlan implements PojoIndexingPlan<EntityReference> {
+
+	private final HibernateOrmSearchSessionMappingContext mappingContext;
+	private final BackgroundDocumentBuildingExecutor executor;
+	private final SessionImplementor sessionImplementor;
+	private final PojoIndexingPlan<EntityReference> delegate;
+	private final DocumentCommitStrategy commitStrategy;
+	private final DocumentRefreshStrategy refreshStrategy;
+
+	// Use a LinkedHashMap for deterministic iteration
+	private final Map<EntityKey, DeferredEntity> notProcessed = new LinkedHashMap<>();
+	private final Map<EntityKey, DeferredEntity> processed = new LinkedHashMap<>();
+	private final Set<Integer> lanesToAwait = new HashSet<>();
+
+	BackgroundDocumentBuildingIndexingPlan(HibernateOrmSearchSessionMappingContext mappingContext,
+			BackgroundDocumentBuildingExecutor executor, SessionImplementor sessionImplementor,
+			PojoIndexingPlan<EntityReference> delegate,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		this.mappingContext = mappingContext;
+		this.executor = executor;
+		this.sessionImplementor = sessionImplementor;
+		this.delegate = delegate;
+		this.commitStrategy = commitStrategy;
+		this.refreshStrategy = refreshStrategy;
+	}
+
+	@Override
+	public void add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity) {
+		DeferredEntity deferred = deferredOrNull( typeIdentifier, providedId, providedRoutingKey, entity );
+		if ( deferred == null ) {
+			delegate.add( typeIdentifier, providedId, providedRoutingKey, entity );
+			return;
+		}
+		deferred.added = true;
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity) {
+		DeferredEntity deferred = deferredOrNull( typeIdentifier, providedId, providedRoutingKey, entity );
+		if ( deferred == null ) {
+			delegate.addOrUpdate( typeIdentifier, providedId, providedRoutingKey, entity );
+			return;
+		}
+		deferred.considerAllDirty = true;
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity, String... dirtyPaths) {
+		DeferredEntity deferred = deferredOrNull( typeIdentifier, providedId, providedRoutingKey, entity );
+		if ( deferred == null ) {
+			delegate.addOrUpdate( typeIdentifier, providedId, providedRoutingKey, entity, dirtyPaths );
+			return;
+		}
+		if ( deferred.dirtyPathStrings == null ) {
+			deferred.dirtyPathStrings = new LinkedHashSet<>();
+		}
+		Collections.addAll( deferred.dirtyPathStrings, dirtyPaths );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity, BitSet dirtyPaths) {
+		DeferredEntity deferred = deferredOrNull( typeIdentifier, providedId, providedRoutingKey, entity );
+		if ( deferred == null ) {
+			delegate.addOrUpdate( typeIdentifier, providedId, providedRoutingKey, entity, dirtyPaths );
+			return;
+		}
+		if ( deferred.dirtyPaths == null ) {
+			deferred.dirtyPaths = new BitSet();
+		}
+		// The bitset may be reused by the caller: copy its content.
+		deferred.dirtyPaths.or( dirtyPaths );
+	}
+
+	@Override
+	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity) {
+		// Deleting doesn't involve building documents: no need to defer it.
+		// Should the entity also have been added or updated in this plan,
+		// it won't be found in the background and will simply be ignored.
+		HibernateOrmSessionIndexedTypeContext<?> typeContext = executor.typeContextOrNull( typeIdentifier );
+		if ( typeContext != null ) {
+			Object entityId = entity == null ? providedId
+					: typeContext.entityPersister().getIdentifier( entity, sessionImplementor );
+			awaitLaneBeforeExecution( entityId );
+		}
+		delegate.delete( typeIdentifier, providedId, providedRoutingKey, entity );
+	}
+
+	@Override
+	public void purge(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey) {
+		if ( executor.typeContextOrNull( typeIdentifier ) != null ) {
+			awaitLaneBeforeExecution( providedId );
+		}
+		delegate.purge( typeIdentifier, providedId, providedRoutingKey );
+	}
+
+	@Override
+	public void process() {
+		delegate.process();
+		for ( Map.Entry<EntityKey, DeferredEntity> entry : notProcessed.entrySet() ) {
+			DeferredEntity alreadyProcessed = processed.get( entry.getKey() );
+			if ( alreadyProcessed == null ) {
+				processed.put( entry.getKey(), entry.getValue() );
+			}
+			else {
+				alreadyProcessed.merge( entry.getValue() );
+			}
+		}
+		notProcessed.clear();
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport<EntityReference>> executeAndReport() {
+		process();
+		// Use a LinkedHashMap for deterministic iteration
+		Map<Integer, List<DeferredEntity>> deferredEntitiesByLane = new LinkedHashMap<>();
+		for ( DeferredEntity deferred : processed.values() ) {
+			deferredEntitiesByLane.computeIfAbsent( executor.lane( deferred.entityId ), ignored -> new ArrayList<>() )
+					.add( deferred );
+		}
+		processed.clear();
+
+		if ( !lanesToAwait.isEmpty() ) {
+			// Make sure deletes are sent to the backend after works previously submitted for the same entities.
+			executor.awaitSubmitted( lanesToAwait );
+			lanesToAwait.clear();
+		}
+		CompletableFuture<IndexIndexingPlanExecutionReport<EntityReference>> delegateFuture =
+				delegate.executeAndReport();
+		if ( deferredEntitiesByLane.isEmpty() ) {
+			return delegateFuture;
+		}
+
+		String tenantId = sessionImplementor.getTenantIdentifier();
+		List<CompletableFuture<IndexIndexingPlanExecutionReport<EntityReference>>> futures = new ArrayList<>();
+		futures.add( delegateFuture );
+		for ( Map.Entry<Integer, List<DeferredEntity>> entry : deferredEntitiesByLane.entrySet() ) {
+			List<DeferredEntity> deferredEntities = entry.getValue();
+			futures.add( executor.submit( entry.getKey(), () -> buildAndExecute( tenantId, deferredEntities ) ) );
+		}
+		return IndexIndexingPlanExecutionReport.allOf( futures );
+	}
+
+	@Override
+	public void discard() {
+		notProcessed.clear();
+		processed.clear();
+		lanesToAwait.clear();
+		delegate.discard();
+	}
+
+	@Override
+	public void discardNotProcessed() {
+		notProcessed.clear();
+		delegate.discardNotProcessed();
+	}
+
+	private void awaitLaneBeforeExecution(Object entityId) {
+		if ( entityId != null ) {
+			lanesToAwait.add( executor.lane( entityId ) );
+		}
+	}
+
+	private DeferredEntity deferredOrNull(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId,
+			String providedRoutingKey, Object entity) {
+		HibernateOrmSessionIndexedTypeContext<?> typeContext = executor.typeContextOrNull( typeIdentifier );
+		if ( typeContext == null || entity == null ) {
+			return null;
+		}
+		Serializable entityId = typeContext.entityPersister().getIdentifier( entity, sessionImplementor );
+		EntityKey key = sessionImplementor.generateEntityKey( entityId, typeContext.entityPersister() );
+		DeferredEntity deferred = notProcessed.get( key );
+		if ( deferred == null ) {
+			deferred = new DeferredEntity( typeContext, entityId, providedId );
+			notProcessed.put( key, deferred );
+		}
+		deferred.providedRoutingKey = providedRoutingKey;
+		return deferred;
+	}
+
+	// Executed in a background thread
+	private CompletableFuture<IndexIndexingPlanExecutionReport<EntityReference>> buildAndExecute(String tenantId,
+			List<DeferredEntity> deferredEntities) {
+		try ( SessionImplementor session = (SessionImplementor) mappingContext.sessionFactory()
+				.withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession() ) {
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.setDefaultReadOnly( true );
+			HibernateOrmSearchSession searchSession = HibernateOrmSearchSession.get( mappingContext, session );
+			PojoIndexingPlan<EntityReference> plan =
+					searchSession.createBackgroundIndexingPlan( commitStrategy, refreshStrategy );
+			Transaction transaction = session.beginTransaction();
+			try {
+				for ( DeferredEntity deferred : deferredEntities ) {
+					deferred.replay( session, plan );
+				}
+				// Documents are built synchronously, while the session is still open,
+				// and only sent to the backend asynchronously.
+				return plan.executeAndReport();
+			}
+			finally {
+				// The session is read-only: no need to commit.
+				transaction.rollback();
+			}
+		}
+		catch (RuntimeException e) {
+			IndexIndexingPlanExecutionReport.Builder<EntityReference> reportBuilder =
+					IndexIndexingPlanExecutionReport.builder();
+			reportBuilder.throwable( e );
+			for ( DeferredEntity deferred : deferredEntities ) {
+				reportBuilder.failingEntityReference( new EntityReferenceImpl(
+						deferred.typeContext.typeIdentifier(), deferred.typeContext.jpaEntityName(),
+						deferred.entityId
+				) );
+			}
+			return CompletableFuture.completedFuture( reportBuilder.build() );
+		}
+	}
+
+	private static final class DeferredEntity {
+		private final HibernateOrmSessionIndexedTypeContext<?> typeContext;
+		private final Serializable entityId;
+		private final Object providedId;
+
+		private String providedRoutingKey;
+		private boolean added;
+		private boolean considerAllDirty;
+		private BitSet dirtyPaths;
+		private Set<String> dirtyPathStrings;
+
+		private DeferredEntity(HibernateOrmSessionIndexedTypeContext<?> typeContext, Serializable entityId,
+				Object providedId) {
+			this.typeContext = typeContext;
+			this.entityId = entityId;
+			this.providedId = providedId;
+		}
+
+		void merge(DeferredEntity other) {
+			providedRoutingKey = other.providedRoutingKey;
+			added = added || other.added;
+			considerAllDirty = considerAllDirty || other.considerAllDirty;
+			if ( other.dirtyPaths != null ) {
+				if ( dirtyPaths == null ) {
+					dirtyPaths = new BitSet();
+				}
+				dirtyPaths.or( other.dirtyPaths );
+			}
+			if ( other.dirtyPathStrings != null ) {
+				if ( dirtyPathStrings == null ) {
+					dirtyPathStrings = new LinkedHashSet<>();
+				}
+				dirtyPathStrings.addAll( other.dirtyPathStrings );
+			}
+		}
+
+		void replay(SessionImplementor session, PojoIndexingPlan<EntityReference> plan) {
+			Object entity = session.get( typeContext.entityPersister().getEntityName(), entityId );
+			if ( entity == null ) {
+				// The entity was deleted in the meantime: there is nothing to index.
+				return;
+			}
+			PojoRawTypeIdentifier<?> typeIdentifier = typeContext.typeIdentifier();
+			if ( added ) {
+				plan.add( typeIdentifier, providedId, providedRoutingKey, entity );
+			}
+			else if ( considerAllDirty ) {
+				plan.addOrUpdate( typeIdentifier, providedId, providedRoutingKey, entity );
+			}
+			else {
+				if ( dirtyPaths != null ) {
+					plan.addOrUpdate( typeIdentifier, providedId, providedRoutingKey, entity, dirtyPaths );
+				}
+				if ( dirtyPathStrings != null ) {
+					plan.addOrUpdate( typeIdentifier, providedId, providedRoutingKey, entity,
+							dirtyPathStrings.toArray( new String[0] ) );
+				}
+			}
+		}
+	}
+}
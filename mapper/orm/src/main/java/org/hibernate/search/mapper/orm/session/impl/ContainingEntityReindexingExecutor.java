@@ -0,0 +1,241 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.session.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Reindexes, in background threads, the entities containing entities
+ * whose changes led to too many containing entities to reindex as part of a transaction.
+ * <p>
+ * Containing entities are resolved in a separate, read-only session,
+ * loading lazy associations in chunks and releasing each chunk once its containing entities were resolved,
+ * so that only identifiers are kept in memory.
+ * Containing entities are then loaded and reindexed in batches, clearing the session between each batch,
+ * similarly to what the mass indexer does.
+ */
+public final class ContainingEntityReindexingExecutor implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String THREAD_NAME_PREFIX = "Automatic indexing - Containing entity reindexing";
+
+	private final int fanOutThreshold;
+	private final ExecutorService executor;
+
+	public ContainingEntityReindexingExecutor(ThreadPoolProvider threadPoolProvider, int fanOutThreshold) {
+		this.fanOutThreshold = fanOutThreshold;
+		// The executor queue is bounded: when it's full, committing threads will block,
+		// which is preferable to accumulating an unbounded amount of work in memory.
+		this.executor = threadPoolProvider.newFixedThreadPool( 1, THREAD_NAME_PREFIX );
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+		// Wait for pending containing entities to be reindexed,
+		// so that changes committed before shutdown are not lost.
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.NANOSECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.containingEntityReindexingInterrupted( e );
+		}
+	}
+
+	int fanOutThreshold() {
+		return fanOutThreshold;
+	}
+
+	void submit(HibernateOrmSearchSessionMappingContext mappingContext, String tenantId, List<Task> tasks,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		executor.submit( () -> {
+			for ( Task task : tasks ) {
+				reindexContainingEntities( mappingContext, tenantId, task, commitStrategy, refreshStrategy );
+			}
+		} );
+	}
+
+	// Executed in a background thread
+	private void reindexContainingEntities(HibernateOrmSearchSessionMappingContext mappingContext,
+			String tenantId, Task task,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		try ( SessionImplementor session = (SessionImplementor) mappingContext.sessionFactory()
+				.withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession() ) {
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.setCacheMode( CacheMode.IGNORE );
+			session.setDefaultReadOnly( true );
+			HibernateOrmSearchSession searchSession = HibernateOrmSearchSession.get( mappingContext, session );
+			Transaction transaction = session.beginTransaction();
+			try {
+				Map<String, Set<Serializable>> containingEntityIds = resolveContainingEntityIds( session,
+						searchSession, task );
+				// Only keep identifiers in memory from now on.
+				session.clear();
+				PojoIndexer indexer = searchSession.createIndexer();
+				for ( Map.Entry<String, Set<Serializable>> entry : containingEntityIds.entrySet() ) {
+					for ( List<Serializable> batch : toBatches( entry.getValue() ) ) {
+						reindexBatch( mappingContext, session, searchSession, indexer, entry.getKey(), batch,
+								commitStrategy, refreshStrategy );
+						session.clear();
+					}
+				}
+			}
+			finally {
+				// The session is read-only: no need to commit.
+				transaction.rollback();
+			}
+		}
+		catch (RuntimeException e) {
+			EntityIndexingFailureContext.Builder contextBuilder = EntityIndexingFailureContext.builder();
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( log.reindexingContainingEntities( task.entityReference ) );
+			contextBuilder.entityReference( task.entityReference );
+			mappingContext.failureHandler().handle( contextBuilder.build() );
+		}
+	}
+
+	private Map<String, Set<Serializable>> resolveContainingEntityIds(SessionImplementor session,
+			HibernateOrmSearchSession searchSession, Task task) {
+		// Use LinkedHashMap/LinkedHashSet for deterministic iteration
+		Map<String, Set<Serializable>> result = new LinkedHashMap<>();
+		Object entity = session.get( task.entityName, task.entityId );
+		if ( entity == null ) {
+			// The entity was deleted in the meantime:
+			// references to it were removed from containing entities, which were reindexed accordingly.
+			return result;
+		}
+		// Lazy associations are loaded in chunks of fan-out threshold size,
+		// and the entities of each chunk are evicted from the session once they have been processed:
+		// only the identifiers of containing entities are retained.
+		searchSession.resolveEntitiesToReindex( task.typeIdentifier, task.entityId, entity, task.dirtyPaths,
+				containingEntity -> {
+					String containingEntityName = session.bestGuessEntityName( containingEntity );
+					result.computeIfAbsent( containingEntityName, ignored -> new LinkedHashSet<>() )
+							.add( session.getIdentifier( containingEntity ) );
+				} );
+		return result;
+	}
+
+	private void reindexBatch(HibernateOrmSearchSessionMappingContext mappingContext, SessionImplementor session,
+			HibernateOrmSearchSession searchSession, PojoIndexer indexer, String entityName, List<Serializable> ids,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		List<?> entities = session.byMultipleIds( entityName )
+				.with( CacheMode.IGNORE )
+				.withBatchSize( ids.size() )
+				.multiLoad( ids );
+
+		List<Object> indexedEntities = new ArrayList<>( entities.size() );
+		List<CompletableFuture<?>> futures = new ArrayList<>( entities.size() );
+		for ( Object entity : entities ) {
+			if ( entity == null ) {
+				// The entity was deleted in the meantime: it was removed from the index already.
+				continue;
+			}
+			CompletableFuture<?> future;
+			try {
+				PojoRawTypeIdentifier<?> typeIdentifier = searchSession.runtimeIntrospector().detectEntityType( entity );
+				future = indexer.addOrUpdate( typeIdentifier, null, null, entity, commitStrategy, refreshStrategy );
+			}
+			catch (RuntimeException e) {
+				future = new CompletableFuture<>();
+				future.completeExceptionally( e );
+			}
+			indexedEntities.add( entity );
+			futures.add( future );
+		}
+
+		Futures.unwrappedExceptionJoin(
+				CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) )
+						// We handle exceptions on a per-entity basis below, so we ignore them here.
+						.exceptionally( exception -> null )
+		);
+
+		for ( int i = 0; i < futures.size(); i++ ) {
+			CompletableFuture<?> future = futures.get( i );
+			if ( future.isCompletedExceptionally() ) {
+				Object entity = indexedEntities.get( i );
+				Throwable throwable = Futures.getThrowableNow( future );
+				EntityIndexingFailureContext.Builder contextBuilder = EntityIndexingFailureContext.builder();
+				contextBuilder.throwable( throwable );
+				contextBuilder.failingOperation( log.reindexingContainingEntity( entityName ) );
+				try {
+					contextBuilder.entityReference( searchSession.createEntityReferenceForHibernateOrmEntityName(
+							entityName, session.getIdentifier( entity ) ) );
+				}
+				catch (RuntimeException e) {
+					// We failed to extract a reference.
+					// Let's just give up and suppress the exception.
+					throwable.addSuppressed( e );
+				}
+				mappingContext.failureHandler().handle( contextBuilder.build() );
+			}
+		}
+	}
+
+	private List<List<Serializable>> toBatches(Set<Serializable> ids) {
+		List<List<Serializable>> batches = new ArrayList<>();
+		List<Serializable> batch = new ArrayList<>( Math.min( ids.size(), fanOutThreshold ) );
+		for ( Serializable id : ids ) {
+			batch.add( id );
+			if ( batch.size() >= fanOutThreshold ) {
+				batches.add( batch );
+				batch = new ArrayList<>( fanOutThreshold );
+			}
+		}
+		if ( !batch.isEmpty() ) {
+			batches.add( batch );
+		}
+		return batches;
+	}
+
+	static final class Task {
+		private final PojoRawTypeIdentifier<?> typeIdentifier;
+		private final String entityName;
+		private final Serializable entityId;
+		private final BitSet dirtyPaths;
+		private final EntityReference entityReference;
+
+		Task(PojoRawTypeIdentifier<?> typeIdentifier, String entityName, Serializable entityId, BitSet dirtyPaths,
+				EntityReference entityReference) {
+			this.typeIdentifier = typeIdentifier;
+			this.entityName = entityName;
+			this.entityId = entityId;
+			this.dirtyPaths = dirtyPaths;
+			this.entityReference = entityReference;
+		}
+	}
+}
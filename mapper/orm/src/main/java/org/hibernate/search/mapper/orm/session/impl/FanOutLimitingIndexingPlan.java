@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.session.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+
+/**
+ * An indexing plan that collects the entities whose changes led to too many containing entities to reindex
+ * while processing its delegate,
+ * and submits the reindexing of their containing entities to a {@link ContainingEntityReindexingExecutor}
+ * upon execution.
+ * <p>
+ * The reindexing of containing entities is not part of the execution report:
+ * it happens after the plan is executed, and failures are reported to the failure handler.
+ */
+class FanOutLimitingIndexingPlan implements PojoIndexingPlan<EntityReference> {
+
+	private final HibernateOrmSearchSessionMappingContext mappingContext;
+	private final ContainingEntityReindexingExecutor executor;
+	private final HibernateOrmSearchSession searchSession;
+	private final PojoIndexingPlan<EntityReference> delegate;
+	private final DocumentCommitStrategy commitStrategy;
+	private final DocumentRefreshStrategy refreshStrategy;
+
+	private final List<ContainingEntityReindexingExecutor.Task> tasks = new ArrayList<>();
+
+	FanOutLimitingIndexingPlan(HibernateOrmSearchSessionMappingContext mappingContext,
+			ContainingEntityReindexingExecutor executor, HibernateOrmSearchSession searchSession,
+			PojoIndexingPlan<EntityReference> delegate,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		this.mappingContext = mappingContext;
+		this.executor = executor;
+		this.searchSession = searchSession;
+		this.delegate = delegate;
+		this.commitStrategy = commitStrategy;
+		this.refreshStrategy = refreshStrategy;
+	}
+
+	@Override
+	public void add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity) {
+		delegate.add( typeIdentifier, providedId, providedRoutingKey, entity );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity) {
+		delegate.addOrUpdate( typeIdentifier, providedId, providedRoutingKey, entity );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity, String... dirtyPaths) {
+		delegate.addOrUpdate( typeIdentifier, providedId, providedRoutingKey, entity, dirtyPaths );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity, BitSet dirtyPaths) {
+		delegate.addOrUpdate( typeIdentifier, providedId, providedRoutingKey, entity, dirtyPaths );
+	}
+
+	@Override
+	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity) {
+		delegate.delete( typeIdentifier, providedId, providedRoutingKey, entity );
+	}
+
+	@Override
+	public void purge(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey) {
+		delegate.purge( typeIdentifier, providedId, providedRoutingKey );
+	}
+
+	@Override
+	public void process() {
+		try {
+			delegate.process();
+		}
+		finally {
+			searchSession.drainContainingEntityReindexingTasks( tasks );
+		}
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport<EntityReference>> executeAndReport() {
+		CompletableFuture<IndexIndexingPlanExecutionReport<EntityReference>> future;
+		try {
+			future = delegate.executeAndReport();
+		}
+		finally {
+			searchSession.drainContainingEntityReindexingTasks( tasks );
+		}
+		if ( !tasks.isEmpty() ) {
+			List<ContainingEntityReindexingExecutor.Task> tasksToSubmit = new ArrayList<>( tasks );
+			tasks.clear();
+			String tenantId = searchSession.tenantIdentifier();
+			// Submit once the changes in the delegate were applied,
+			// so that the index never ends up with containing entities older than what the delegate indexed.
+			future.whenComplete( (report, throwable) -> executor.submit( mappingContext, tenantId,
+					tasksToSubmit, commitStrategy, refreshStrategy ) );
+		}
+		return future;
+	}
+
+	@Override
+	public void discard() {
+		tasks.clear();
+		searchSession.discardContainingEntityReindexingTasks();
+		delegate.discard();
+	}
+
+	@Override
+	public void discardNotProcessed() {
+		delegate.discardNotProcessed();
+	}
+}
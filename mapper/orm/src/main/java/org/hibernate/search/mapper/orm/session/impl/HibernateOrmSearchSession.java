@@ -6,10 +6,15 @@
  */
 package org.hibernate.search.mapper.orm.session.impl;
 
+import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import javax.persistence.EntityManager;
 import javax.transaction.Synchronization;
 
@@ -24,6 +29,8 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ConfiguredAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
@@ -43,6 +50,7 @@
 import org.hibernate.search.mapper.orm.work.impl.SearchIndexingPlanSessionContext;
 import org.hibernate.search.mapper.orm.work.impl.SearchIndexingPlanImpl;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.mapper.pojo.session.spi.AbstractPojoSearchSession;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
@@ -107,6 +115,8 @@ public static HibernateOrmSearchSession get(HibernateOrmSearchSessionMappingCont
 
 	private SearchIndexingPlanImpl indexingPlan;
 
+	private final List<ContainingEntityReindexingExecutor.Task> containingEntityReindexingTasks = new ArrayList<>();
+
 	private HibernateOrmSearchSession(Builder builder) {
 		super( builder.mappingContext );
 		this.mappingContext = builder.mappingContext;
@@ -214,6 +224,15 @@ public BackendSessionContext backendSessionContext() {
 		return this;
 	}
 
+	@Override
+	public boolean entityAccessThreadSafe() {
+		// Entities may be lazily loaded through a session that cannot be used from multiple threads:
+		// only allow concurrent access if the user opted in.
+		// Lazily loaded values that documents need are then loaded beforehand,
+		// see HibernateOrmRuntimeIntrospector#initializeForDocumentBuilding.
+		return mappingContext.parallelDocumentBuildingEnabled();
+	}
+
 	@Override
 	public DocumentReferenceConverter<EntityReference> referenceHitMapper() {
 		return this;
@@ -255,6 +274,54 @@ public PojoRuntimeIntrospector runtimeIntrospector() {
 		return runtimeIntrospector;
 	}
 
+	@Override
+	public int reindexingFanOutThreshold() {
+		ContainingEntityReindexingExecutor executor = mappingContext.containingEntityReindexingExecutor();
+		return executor == null ? 0 : executor.fanOutThreshold();
+	}
+
+	@Override
+	public void reindexContainingEntitiesLater(PojoRawTypeIdentifier<?> typeIdentifier, Object entity,
+			BitSet dirtyPaths) {
+		String entityName = sessionImplementor.bestGuessEntityName( entity );
+		// The entity may have been deleted: don't rely on the persistence context to get its identifier.
+		Serializable entityId = sessionImplementor.getEntityPersister( entityName, entity )
+				.getIdentifier( entity, sessionImplementor );
+		containingEntityReindexingTasks.add( new ContainingEntityReindexingExecutor.Task(
+				typeIdentifier, entityName, entityId,
+				// The bitset may be reused by the caller: copy its content.
+				dirtyPaths == null ? null : (BitSet) dirtyPaths.clone(),
+				createEntityReferenceForHibernateOrmEntityName( entityName, entityId )
+		) );
+	}
+
+	@Override
+	protected <E> void resolveEntitiesToReindex(PojoRawTypeIdentifier<E> typeIdentifier, Object identifier,
+			Object entity, BitSet dirtyPaths, Consumer<Object> entityToReindexConsumer) {
+		super.resolveEntitiesToReindex( typeIdentifier, identifier, entity, dirtyPaths, entityToReindexConsumer );
+	}
+
+	void drainContainingEntityReindexingTasks(List<ContainingEntityReindexingExecutor.Task> target) {
+		target.addAll( containingEntityReindexingTasks );
+		containingEntityReindexingTasks.clear();
+	}
+
+	void discardContainingEntityReindexingTasks() {
+		containingEntityReindexingTasks.clear();
+	}
+
+	EntityReference createEntityReferenceForHibernateOrmEntityName(String hibernateOrmEntityName,
+			Object identifier) {
+		HibernateOrmSessionTypeContext<?> typeContext =
+				typeContextProvider.forHibernateOrmEntityName( hibernateOrmEntityName );
+		if ( typeContext == null ) {
+			throw new AssertionFailure(
+					"Entity name " + hibernateOrmEntityName + " refers to an unknown type"
+			);
+		}
+		return new EntityReferenceImpl( typeContext.typeIdentifier(), typeContext.jpaEntityName(), identifier );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public PojoIndexingPlan<EntityReference> currentIndexingPlan(boolean createIfDoesNotExist) {
@@ -287,10 +354,15 @@ public PojoIndexingPlan<EntityReference> currentIndexingPlan(boolean createIfDoe
 
 		ConfiguredAutomaticIndexingSynchronizationStrategy currentSynchronizationStrategy =
 				configuredAutomaticIndexingSynchronizationStrategy;
-		plan = createIndexingPlan(
-				currentSynchronizationStrategy.getDocumentCommitStrategy(),
-				currentSynchronizationStrategy.getDocumentRefreshStrategy()
-		);
+		DocumentCommitStrategy commitStrategy = currentSynchronizationStrategy.getDocumentCommitStrategy();
+		DocumentRefreshStrategy refreshStrategy = currentSynchronizationStrategy.getDocumentRefreshStrategy();
+		plan = createFanOutLimitingIndexingPlan( commitStrategy, refreshStrategy );
+		BackgroundDocumentBuildingExecutor backgroundDocumentBuildingExecutor =
+				mappingContext.backgroundDocumentBuildingExecutor();
+		if ( backgroundDocumentBuildingExecutor != null ) {
+			plan = new BackgroundDocumentBuildingIndexingPlan( mappingContext, backgroundDocumentBuildingExecutor,
+					sessionImplementor, plan, commitStrategy, refreshStrategy );
+		}
 		planPerTransaction.put( transactionIdentifier, plan );
 
 		if ( sessionImplementor.isTransactionInProgress() ) {
@@ -303,6 +375,27 @@ public PojoIndexingPlan<EntityReference> currentIndexingPlan(boolean createIfDoe
 		return plan;
 	}
 
+	/**
+	 * @return A plan that will build documents immediately, without ever deferring document building to the background,
+	 * and without being tied to the current transaction.
+	 */
+	PojoIndexingPlan<EntityReference> createBackgroundIndexingPlan(DocumentCommitStrategy commitStrategy,
+			DocumentRefreshStrategy refreshStrategy) {
+		return createFanOutLimitingIndexingPlan( commitStrategy, refreshStrategy );
+	}
+
+	private PojoIndexingPlan<EntityReference> createFanOutLimitingIndexingPlan(DocumentCommitStrategy commitStrategy,
+			DocumentRefreshStrategy refreshStrategy) {
+		PojoIndexingPlan<EntityReference> plan = createIndexingPlan( commitStrategy, refreshStrategy );
+		ContainingEntityReindexingExecutor containingEntityReindexingExecutor =
+				mappingContext.containingEntityReindexingExecutor();
+		if ( containingEntityReindexingExecutor != null ) {
+			plan = new FanOutLimitingIndexingPlan( mappingContext, containingEntityReindexingExecutor, this,
+					plan, commitStrategy, refreshStrategy );
+		}
+		return plan;
+	}
+
 	@Override
 	public ConfiguredAutomaticIndexingSynchronizationStrategy configuredAutomaticIndexingSynchronizationStrategy() {
 		return configuredAutomaticIndexingSynchronizationStrategy;
@@ -394,7 +487,8 @@ public Builder(HibernateOrmSearchSessionMappingContext mappingContext,
 		}
 
 		private HibernateOrmRuntimeIntrospector buildRuntimeIntrospector() {
-			return new HibernateOrmRuntimeIntrospector( typeContextProvider, sessionImplementor );
+			return new HibernateOrmRuntimeIntrospector( typeContextProvider, sessionImplementor,
+					mappingContext.reindexingResolutionBatchSize() );
 		}
 
 		public HibernateOrmSearchSession build() {
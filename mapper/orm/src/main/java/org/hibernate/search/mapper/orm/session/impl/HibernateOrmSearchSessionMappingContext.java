@@ -8,6 +8,7 @@
 
 import java.util.Collection;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.orm.scope.impl.SearchScopeImpl;
@@ -17,6 +18,33 @@ public interface HibernateOrmSearchSessionMappingContext extends PojoSearchSessi
 
 	FailureHandler failureHandler();
 
+	SessionFactoryImplementor sessionFactory();
+
+	/**
+	 * @return The executor to use to build documents in the background,
+	 * or {@code null} if documents of all entity types should be built in the application thread.
+	 */
+	BackgroundDocumentBuildingExecutor backgroundDocumentBuildingExecutor();
+
+	/**
+	 * @return The maximum number of lazy associations to load in a single query
+	 * when resolving entities to reindex, or {@code 0} to disable batch loading.
+	 */
+	int reindexingResolutionBatchSize();
+
+	/**
+	 * @return {@code true} if backends may build documents of entities in parallel, from multiple threads;
+	 * {@code false} otherwise.
+	 */
+	boolean parallelDocumentBuildingEnabled();
+
+	/**
+	 * @return The executor to use to reindex containing entities in the background
+	 * when a single entity leads to too many containing entities to reindex,
+	 * or {@code null} if containing entities should always be reindexed as part of the transaction.
+	 */
+	ContainingEntityReindexingExecutor containingEntityReindexingExecutor();
+
 	<T> SearchScopeImpl<T> createScope(Collection<? extends Class<? extends T>> types);
 
 	<T> SearchScopeImpl<T> createScope(Class<T> expectedSuperType, Collection<String> entityNames);
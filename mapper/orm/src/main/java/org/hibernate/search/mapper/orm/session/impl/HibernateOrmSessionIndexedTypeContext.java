@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.session.impl;
 
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
 
 /**
@@ -15,4 +16,6 @@
 
 	IdentifierMapping getIdentifierMapping();
 
+	EntityPersister entityPersister();
+
 }
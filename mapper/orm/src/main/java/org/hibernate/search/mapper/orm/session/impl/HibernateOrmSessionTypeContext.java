@@ -6,12 +6,13 @@
  */
 package org.hibernate.search.mapper.orm.session.impl;
 
+import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRuntimeIntrospectorTypeContext;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 /**
  * @param <E> The entity type.
  */
-public interface HibernateOrmSessionTypeContext<E> {
+public interface HibernateOrmSessionTypeContext<E> extends HibernateOrmRuntimeIntrospectorTypeContext {
 
 	PojoRawTypeIdentifier<E> typeIdentifier();
 
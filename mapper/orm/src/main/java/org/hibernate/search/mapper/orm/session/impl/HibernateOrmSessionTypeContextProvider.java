@@ -16,4 +16,10 @@
 
 	HibernateOrmSessionIndexedTypeContext<?> indexedForJpaEntityName(String indexName);
 
+	/**
+	 * @param hibernateOrmEntityName The Hibernate ORM entity name (different from the JPA entity name).
+	 * @return The corresponding type context, or {@code null} if the entity is neither indexed nor contained.
+	 */
+	HibernateOrmSessionTypeContext<?> forHibernateOrmEntityName(String hibernateOrmEntityName);
+
 }
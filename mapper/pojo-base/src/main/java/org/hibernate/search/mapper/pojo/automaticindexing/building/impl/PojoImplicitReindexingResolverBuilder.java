@@ -6,10 +6,18 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoDirtyIndexFieldsResolver;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverImpl;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
@@ -33,6 +41,11 @@ static Walker walker() {
 
 	// Use a LinkedHashSet for deterministic iteration
 	private final Set<PojoModelPathValueNode> dirtyPathsTriggeringSelfReindexing = new LinkedHashSet<>();
+	// Subset of the paths above for which we cannot tell which index fields are affected
+	private final Set<PojoModelPathValueNode> dirtyPathsTriggeringFullSelfReindexing = new LinkedHashSet<>();
+	// Use a LinkedHashMap for deterministic iteration
+	private final Map<PojoModelPathValueNode, Set<IndexFieldReference<?>>> indexFieldsByDirtyPath =
+			new LinkedHashMap<>();
 
 	private final PojoImplicitReindexingResolverOriginalTypeNodeBuilder<T> containingEntitiesResolverRootBuilder;
 
@@ -57,7 +70,18 @@ void closeOnFailure() {
 
 	void addDirtyPathTriggeringSelfReindexing(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType) {
 		checkNotFrozen();
-		dirtyPathsTriggeringSelfReindexing.add( dirtyPathFromEntityType.toUnboundPath() );
+		PojoModelPathValueNode unboundPath = dirtyPathFromEntityType.toUnboundPath();
+		dirtyPathsTriggeringSelfReindexing.add( unboundPath );
+		dirtyPathsTriggeringFullSelfReindexing.add( unboundPath );
+	}
+
+	void addDirtyPathTriggeringSelfReindexing(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType,
+			Collection<? extends IndexFieldReference<?>> indexFieldReferences) {
+		checkNotFrozen();
+		PojoModelPathValueNode unboundPath = dirtyPathFromEntityType.toUnboundPath();
+		dirtyPathsTriggeringSelfReindexing.add( unboundPath );
+		indexFieldsByDirtyPath.computeIfAbsent( unboundPath, ignored -> new LinkedHashSet<>() )
+				.addAll( indexFieldReferences );
 	}
 
 	PojoImplicitReindexingResolverOriginalTypeNodeBuilder<T> containingEntitiesResolverRoot() {
@@ -89,11 +113,31 @@ final <S> Optional<PojoImplicitReindexingResolver<T, S>> build(PojoPathFilterFac
 					containingEntitiesResolverRootOptional.orElseGet( PojoImplicitReindexingResolverNode::noOp );
 
 			return Optional.of(
-					new PojoImplicitReindexingResolverImpl<>( filter, containingEntitiesResolverRoot )
+					new PojoImplicitReindexingResolverImpl<>( filter, buildDirtyIndexFieldsResolver( pathFilterFactory ),
+							containingEntitiesResolverRoot )
 			);
 		}
 	}
 
+	private <S> PojoDirtyIndexFieldsResolver<S> buildDirtyIndexFieldsResolver(PojoPathFilterFactory<S> pathFilterFactory) {
+		List<PojoPathFilter<S>> dirtyPathFilters = new ArrayList<>();
+		List<Set<IndexFieldReference<?>>> indexFields = new ArrayList<>();
+		for ( Map.Entry<PojoModelPathValueNode, Set<IndexFieldReference<?>>> entry : indexFieldsByDirtyPath.entrySet() ) {
+			if ( dirtyPathsTriggeringFullSelfReindexing.contains( entry.getKey() ) ) {
+				// This path is also used in other ways: no need to bother.
+				continue;
+			}
+			dirtyPathFilters.add( pathFilterFactory.create( Collections.singleton( entry.getKey() ) ) );
+			indexFields.add( Collections.unmodifiableSet( entry.getValue() ) );
+		}
+		if ( dirtyPathFilters.isEmpty() ) {
+			return PojoDirtyIndexFieldsResolver.none();
+		}
+		PojoPathFilter<S> fullReindexingFilter = dirtyPathsTriggeringFullSelfReindexing.isEmpty()
+				? PojoPathFilter.empty() : pathFilterFactory.create( dirtyPathsTriggeringFullSelfReindexing );
+		return new PojoDirtyIndexFieldsResolver<>( fullReindexingFilter, dirtyPathFilters, indexFields );
+	}
+
 	/**
 	 * Freeze the builder, signaling that no mutating method will be called anymore
 	 * and that derived data can be safely computed.
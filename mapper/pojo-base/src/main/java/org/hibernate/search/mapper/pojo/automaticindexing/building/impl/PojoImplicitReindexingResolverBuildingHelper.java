@@ -14,6 +14,7 @@
 import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoDirtyIndexFieldsResolver;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverImpl;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
@@ -88,7 +89,8 @@ public <T, S> PojoImplicitReindexingResolver<T, S> build(PojoRawTypeModel<T> typ
 			PojoPathFilterFactory<S> pathFilterFactory) {
 		return buildOptional( typeModel, pathFilterFactory )
 				.orElseGet( () -> new PojoImplicitReindexingResolverImpl<>(
-						PojoPathFilter.empty(), PojoImplicitReindexingResolverNode.noOp()
+						PojoPathFilter.empty(), PojoDirtyIndexFieldsResolver.none(),
+						PojoImplicitReindexingResolverNode.noOp()
 				) );
 	}
 
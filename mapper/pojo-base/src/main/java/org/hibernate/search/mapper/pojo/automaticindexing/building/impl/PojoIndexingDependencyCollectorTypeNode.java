@@ -7,8 +7,10 @@
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPath;
@@ -174,6 +176,31 @@ void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityT
 		}
 	}
 
+	void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType,
+			Collection<? extends IndexFieldReference<?>> indexFieldReferences) {
+		if ( parentNode != null ) {
+			/*
+			 * The value is not a property of the indexed entity itself:
+			 * it may be embedded in a bigger structure, or even in another entity,
+			 * so we can't tell which index fields need to be updated when it changes.
+			 */
+			collectDependency( dirtyPathFromEntityType );
+			return;
+		}
+
+		/*
+		 * This node represents an indexed entity (A),
+		 * and the value represented by "dirtyPathFromEntityType" is directly part of entity A.
+		 * Same as in collectDependency(BoundPojoModelPathValueNode),
+		 * but we also know that whenever this value changes in entity A,
+		 * only the given index fields need to be updated.
+		 */
+		PojoRawTypeModel<? super T> rawType = modelPathFromLastEntityNode.getTypeModel().rawType();
+		PojoImplicitReindexingResolverBuilder<?> builder =
+				buildingHelper.getOrCreateResolverBuilder( rawType );
+		builder.addDirtyPathTriggeringSelfReindexing( dirtyPathFromEntityType, indexFieldReferences );
+	}
+
 	void markForReindexing(PojoImplicitReindexingResolverValueNodeBuilderDelegate<?> valueNodeBuilderDelegate,
 			Set<? extends PojoRawTypeModel<?>> valueNodeTypeConcreteEntitySubTypes,
 			BoundPojoModelPathValueNode<?, ?, ?> dependencyPathFromInverseSideEntityTypeNode) {
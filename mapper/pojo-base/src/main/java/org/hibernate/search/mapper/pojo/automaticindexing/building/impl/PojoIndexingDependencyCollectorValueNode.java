@@ -7,12 +7,14 @@
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
@@ -127,6 +129,25 @@ public void collectDependency() {
 		doCollectDependency( null );
 	}
 
+	/**
+	 * Collect a dependency to this value,
+	 * knowing that it is only used to populate the given index fields directly, through value bridges.
+	 * <p>
+	 * When this value is a property of the indexed entity itself,
+	 * this allows to reindex only the given fields when this value changes.
+	 * In all other cases, this is equivalent to {@link #collectDependency()}.
+	 *
+	 * @param indexFieldReferences References to the index fields populated from this value.
+	 */
+	public void collectDependency(Collection<? extends IndexFieldReference<?>> indexFieldReferences) {
+		if ( derivedFrom.isEmpty() && ReindexOnUpdate.DEFAULT.equals( reindexOnUpdate ) ) {
+			parentNode.getParentNode().collectDependency( this.modelPathFromLastEntityNode, indexFieldReferences );
+		}
+		else {
+			collectDependency();
+		}
+	}
+
 	@Override
 	void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityType) {
 		if ( derivedFrom.isEmpty() ) {
@@ -0,0 +1,97 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.automaticindexing.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+import org.hibernate.search.util.common.impl.ToStringTreeAppendable;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+
+/**
+ * An object responsible for resolving the index fields affected by changes to an indexed entity,
+ * for changes that only affect the entity itself.
+ *
+ * @param <S> The expected type of the object describing the "dirtiness state".
+ */
+public class PojoDirtyIndexFieldsResolver<S> implements ToStringTreeAppendable {
+
+	private static final PojoDirtyIndexFieldsResolver<?> NONE = new PojoDirtyIndexFieldsResolver<>(
+			PojoPathFilter.empty(), Collections.emptyList(), Collections.emptyList()
+	);
+
+	@SuppressWarnings("unchecked") // This instance works for any S
+	public static <S> PojoDirtyIndexFieldsResolver<S> none() {
+		return (PojoDirtyIndexFieldsResolver<S>) NONE;
+	}
+
+	private final PojoPathFilter<S> dirtyPathsTriggeringFullSelfReindexing;
+	private final List<PojoPathFilter<S>> dirtyPathFilters;
+	private final List<Set<IndexFieldReference<?>>> indexFieldsByDirtyPathFilter;
+
+	/**
+	 * @param dirtyPathsTriggeringFullSelfReindexing A filter accepting paths whose changes
+	 * may affect the indexed document in ways we cannot predict.
+	 * @param dirtyPathFilters Filters accepting paths whose changes only affect a known set of index fields.
+	 * @param indexFieldsByDirtyPathFilter For each filter in {@code dirtyPathFilters},
+	 * the index fields affected by changes to the accepted paths.
+	 */
+	public PojoDirtyIndexFieldsResolver(PojoPathFilter<S> dirtyPathsTriggeringFullSelfReindexing,
+			List<PojoPathFilter<S>> dirtyPathFilters,
+			List<Set<IndexFieldReference<?>>> indexFieldsByDirtyPathFilter) {
+		this.dirtyPathsTriggeringFullSelfReindexing = dirtyPathsTriggeringFullSelfReindexing;
+		this.dirtyPathFilters = dirtyPathFilters;
+		this.indexFieldsByDirtyPathFilter = indexFieldsByDirtyPathFilter;
+	}
+
+	@Override
+	public String toString() {
+		return new ToStringTreeBuilder().value( this ).toString();
+	}
+
+	@Override
+	public void appendTo(ToStringTreeBuilder builder) {
+		builder.attribute( "dirtyPathsTriggeringFullSelfReindexing", dirtyPathsTriggeringFullSelfReindexing );
+		builder.startList( "dirtyPathsTriggeringIndexFieldUpdates" );
+		for ( int i = 0; i < dirtyPathFilters.size(); i++ ) {
+			builder.startObject();
+			builder.attribute( "dirtyPaths", dirtyPathFilters.get( i ) );
+			builder.attribute( "indexFields", indexFieldsByDirtyPathFilter.get( i ) );
+			builder.endObject();
+		}
+		builder.endList();
+	}
+
+	/**
+	 * @param dirtinessState A set of dirty paths.
+	 * {@code null} can be passed to mean "no information", in which case all paths are considered dirty.
+	 * @return The index fields affected by the given dirty paths,
+	 * or {@code null} if the given dirty paths may affect the indexed document in ways we cannot predict,
+	 * in which case the whole document must be rebuilt.
+	 */
+	public Set<IndexFieldReference<?>> dirtyIndexFieldsOrNull(S dirtinessState) {
+		if ( dirtinessState == null || dirtyPathFilters.isEmpty()
+				|| dirtyPathsTriggeringFullSelfReindexing.test( dirtinessState ) ) {
+			return null;
+		}
+		Set<IndexFieldReference<?>> result = null;
+		for ( int i = 0; i < dirtyPathFilters.size(); i++ ) {
+			if ( dirtyPathFilters.get( i ).test( dirtinessState ) ) {
+				if ( result == null ) {
+					result = new LinkedHashSet<>();
+				}
+				result.addAll( indexFieldsByDirtyPathFilter.get( i ) );
+			}
+		}
+		return result;
+	}
+
+}
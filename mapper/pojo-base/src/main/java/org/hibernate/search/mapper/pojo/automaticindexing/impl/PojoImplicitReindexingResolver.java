@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.impl;
 
+import java.util.Set;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.util.common.impl.ToStringTreeAppendable;
 
@@ -32,6 +35,16 @@
 	 */
 	boolean requiresSelfReindexing(S dirtinessState);
 
+	/**
+	 * @param dirtinessState A set of dirty paths.
+	 * {@code null} can be passed to mean "no information", in which case all paths are considered dirty.
+	 * @return The index fields that need to be updated when reindexing an entity
+	 * of the type handled by this resolver because of the given dirty paths,
+	 * or {@code null} if the whole document needs to be rebuilt.
+	 * Only relevant if {@link #requiresSelfReindexing(Object)} returns {@code true}.
+	 */
+	Set<IndexFieldReference<?>> dirtyIndexFieldsOrNull(S dirtinessState);
+
 	/**
 	 * Add all entities that should be reindexed to {@code collector},
 	 * taking into account the given "dirtiness state".
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.impl;
 
+import java.util.Set;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
@@ -13,12 +16,15 @@
 public class PojoImplicitReindexingResolverImpl<T, S> implements PojoImplicitReindexingResolver<T, S> {
 
 	private final PojoPathFilter<S> dirtyPathsTriggeringSelfReindexing;
+	private final PojoDirtyIndexFieldsResolver<S> dirtyIndexFieldsResolver;
 	private final PojoImplicitReindexingResolverNode<T, S> containingEntitiesResolverRoot;
 
 	public PojoImplicitReindexingResolverImpl(
 			PojoPathFilter<S> dirtyPathsTriggeringSelfReindexing,
+			PojoDirtyIndexFieldsResolver<S> dirtyIndexFieldsResolver,
 			PojoImplicitReindexingResolverNode<T, S> containingEntitiesResolverRoot) {
 		this.dirtyPathsTriggeringSelfReindexing = dirtyPathsTriggeringSelfReindexing;
+		this.dirtyIndexFieldsResolver = dirtyIndexFieldsResolver;
 		this.containingEntitiesResolverRoot = containingEntitiesResolverRoot;
 	}
 
@@ -36,6 +42,7 @@ public void close() {
 	public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "operation", "root" );
 		builder.attribute( "dirtyPathsTriggeringSelfReindexing", dirtyPathsTriggeringSelfReindexing );
+		builder.attribute( "dirtyIndexFieldsResolver", dirtyIndexFieldsResolver );
 		builder.attribute( "containingEntitiesResolverRoot", containingEntitiesResolverRoot );
 	}
 
@@ -44,6 +51,11 @@ public boolean requiresSelfReindexing(S dirtinessState) {
 		return dirtinessState == null || dirtyPathsTriggeringSelfReindexing.test( dirtinessState );
 	}
 
+	@Override
+	public Set<IndexFieldReference<?>> dirtyIndexFieldsOrNull(S dirtinessState) {
+		return dirtyIndexFieldsResolver.dirtyIndexFieldsOrNull( dirtinessState );
+	}
+
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, T dirty, S dirtinessState) {
@@ -54,7 +54,7 @@ public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, T dirty, S dirtinessState) {
 		P propertyValue = handle.get( dirty );
 		if ( propertyValue != null ) {
-			nested.resolveEntitiesToReindex( collector, runtimeIntrospector, propertyValue, dirtinessState );
+			collector.resolveEntitiesToReindex( nested, propertyValue, dirtinessState );
 		}
 	}
 }
@@ -15,4 +15,19 @@ public interface PojoReindexingCollector {
 
 	void markForReindexing(Object dirtyEntity);
 
+	/**
+	 * Apply the given node to a value retrieved from a property of a dirty object.
+	 * <p>
+	 * Implementations may defer the call in order to initialize multiple values in batch,
+	 * in which case the node will be applied later, before resolution ends.
+	 *
+	 * @param node The node to apply to the value.
+	 * @param value The value retrieved from a property.
+	 * @param dirtinessState The set of dirty paths in the object passed to the root reindexing resolver.
+	 * @param <V> The type of the value.
+	 * @param <S> The expected type of the object describing the "dirtiness state".
+	 */
+	<V, S> void resolveEntitiesToReindex(PojoImplicitReindexingResolverNode<? super V, S> node, V value,
+			S dirtinessState);
+
 }
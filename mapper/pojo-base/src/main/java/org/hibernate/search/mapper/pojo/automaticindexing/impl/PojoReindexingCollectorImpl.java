@@ -0,0 +1,242 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.automaticindexing.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+
+/**
+ * A {@link PojoReindexingCollector} resolving entities to reindex for all the dirty entities of an indexing plan.
+ * <p>
+ * When {@link PojoRuntimeIntrospector#isBatchInitializationEnabled() batch initialization is enabled},
+ * values retrieved from properties are not traversed immediately:
+ * resolution proceeds breadth-first, one level of properties at a time, across all dirty entities,
+ * so that the values of each level can be {@link PojoRuntimeIntrospector#initializeAll(List) initialized in batch}
+ * instead of being lazily loaded one at a time.
+ * <p>
+ * When a fan-out threshold is set, entities to reindex are buffered per dirty entity,
+ * and if a single dirty entity leads to more entities to reindex than the threshold,
+ * resolution stops for that dirty entity, its buffered entities are dropped,
+ * and its fan-out handler is called instead.
+ * Lazily loaded containers whose size is known without initializing them are checked against the threshold
+ * before they are loaded.
+ * <p>
+ * When a chunk size is set, lazily loaded containers are
+ * {@link PojoRuntimeIntrospector#loadInChunks(Object, int, Consumer) loaded in chunks}
+ * if possible, instead of being loaded all at once,
+ * and resolution happens one chunk at a time.
+ * Batch initialization is disabled in that case.
+ */
+public final class PojoReindexingCollectorImpl implements PojoReindexingCollector {
+
+	private final PojoRuntimeIntrospector runtimeIntrospector;
+	private final int fanOutThreshold;
+	private final int chunkSize;
+	private final Consumer<Object> entityToReindexConsumer;
+	private final boolean batchInitializationEnabled;
+
+	private List<DeferredResolution<?, ?>> deferredResolutions = new ArrayList<>();
+	private final List<RootContext> bufferingRoots = new ArrayList<>();
+	private RootContext currentRoot;
+
+	public PojoReindexingCollectorImpl(PojoRuntimeIntrospector runtimeIntrospector, int fanOutThreshold,
+			Consumer<Object> entityToReindexConsumer) {
+		this( runtimeIntrospector, fanOutThreshold, 0, entityToReindexConsumer );
+	}
+
+	public PojoReindexingCollectorImpl(PojoRuntimeIntrospector runtimeIntrospector, int fanOutThreshold,
+			int chunkSize, Consumer<Object> entityToReindexConsumer) {
+		this.runtimeIntrospector = runtimeIntrospector;
+		this.fanOutThreshold = fanOutThreshold;
+		this.chunkSize = chunkSize;
+		this.entityToReindexConsumer = entityToReindexConsumer;
+		// Chunks are released as soon as they've been processed: resolution cannot be deferred.
+		this.batchInitializationEnabled = chunkSize <= 0 && runtimeIntrospector.isBatchInitializationEnabled();
+	}
+
+	@Override
+	public void markForReindexing(Object dirtyEntity) {
+		if ( currentRoot == null || currentRoot.buffer == null ) {
+			entityToReindexConsumer.accept( dirtyEntity );
+		}
+		else {
+			currentRoot.buffer( dirtyEntity );
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // Chunks are containers of the same kind as the value
+	public <V, S> void resolveEntitiesToReindex(PojoImplicitReindexingResolverNode<? super V, S> node, V value,
+			S dirtinessState) {
+		if ( currentRoot != null && currentRoot.buffer != null
+				&& ( currentRoot.fannedOut
+						|| currentRoot.fansOutWith( runtimeIntrospector.uninitializedContainerSize( value ) ) ) ) {
+			// Entities to reindex will be resolved later, outside of this collector: no need to go further,
+			// and in particular no need to load the value if it's a lazily loaded container.
+			return;
+		}
+		if ( chunkSize > 0 && runtimeIntrospector.loadInChunks( value, chunkSize,
+				chunk -> node.resolveEntitiesToReindex( this, runtimeIntrospector, (V) chunk, dirtinessState ) ) ) {
+			return;
+		}
+		if ( batchInitializationEnabled ) {
+			deferredResolutions.add( new DeferredResolution<>( node, value, dirtinessState, currentRoot ) );
+		}
+		else {
+			node.resolveEntitiesToReindex( this, runtimeIntrospector, value, dirtinessState );
+		}
+	}
+
+	/**
+	 * Resolve entities to reindex because of changes in the given entity.
+	 * <p>
+	 * Resolution may be partial until {@link #resolveDeferred()} is called.
+	 *
+	 * @param resolver The reindexing resolver for the type of the dirty entity.
+	 * @param dirtySupplier A supplier for the dirty entity.
+	 * @param dirtinessState The set of dirty paths in the dirty entity.
+	 * @param failureWrapper A function adding context to failures, now or when deferred resolution happens.
+	 * @param fanOutHandler A handler to call if the dirty entity leads to more entities to reindex
+	 * than the fan-out threshold, or {@code null} to never apply the threshold to this dirty entity.
+	 * @param <T> The type of the dirty entity.
+	 * @param <S> The expected type of the object describing the "dirtiness state".
+	 */
+	public <T, S> void resolveEntitiesToReindex(PojoImplicitReindexingResolver<T, S> resolver,
+			Supplier<? extends T> dirtySupplier, S dirtinessState,
+			Function<RuntimeException, RuntimeException> failureWrapper, Runnable fanOutHandler) {
+		RootContext root = new RootContext( failureWrapper,
+				fanOutThreshold > 0 ? fanOutHandler : null );
+		if ( root.buffer != null ) {
+			bufferingRoots.add( root );
+		}
+		currentRoot = root;
+		try {
+			resolver.resolveEntitiesToReindex( this, runtimeIntrospector, dirtySupplier.get(), dirtinessState );
+		}
+		catch (RuntimeException e) {
+			throw failureWrapper.apply( e );
+		}
+		finally {
+			currentRoot = null;
+		}
+	}
+
+	/**
+	 * Complete the resolution of entities to reindex,
+	 * initializing values in batch one level at a time,
+	 * then pass buffered entities to reindex to the consumer.
+	 */
+	public void resolveDeferred() {
+		while ( !deferredResolutions.isEmpty() ) {
+			List<DeferredResolution<?, ?>> level = deferredResolutions;
+			deferredResolutions = new ArrayList<>();
+
+			List<Object> values = new ArrayList<>( level.size() );
+			for ( DeferredResolution<?, ?> resolution : level ) {
+				if ( resolution.root == null || !resolution.root.fannedOut ) {
+					values.add( resolution.value );
+				}
+			}
+			runtimeIntrospector.initializeAll( values );
+
+			for ( DeferredResolution<?, ?> resolution : level ) {
+				RootContext root = resolution.root;
+				if ( root != null && root.fannedOut ) {
+					continue;
+				}
+				currentRoot = root;
+				try {
+					resolution.resolve( this, runtimeIntrospector );
+				}
+				catch (RuntimeException e) {
+					throw root == null ? e : root.failureWrapper.apply( e );
+				}
+				finally {
+					currentRoot = null;
+				}
+			}
+		}
+
+		for ( RootContext root : bufferingRoots ) {
+			if ( !root.fannedOut ) {
+				for ( Object entityToReindex : root.buffer ) {
+					entityToReindexConsumer.accept( entityToReindex );
+				}
+			}
+		}
+		bufferingRoots.clear();
+	}
+
+	private final class RootContext {
+		private final Function<RuntimeException, RuntimeException> failureWrapper;
+		private final Runnable fanOutHandler;
+		private List<Object> buffer;
+		private boolean fannedOut;
+
+		private RootContext(Function<RuntimeException, RuntimeException> failureWrapper, Runnable fanOutHandler) {
+			this.failureWrapper = failureWrapper;
+			this.fanOutHandler = fanOutHandler;
+			this.buffer = fanOutHandler == null ? null : new ArrayList<>();
+		}
+
+		void buffer(Object entityToReindex) {
+			if ( fannedOut ) {
+				return;
+			}
+			buffer.add( entityToReindex );
+			if ( buffer.size() > fanOutThreshold ) {
+				fanOut();
+			}
+		}
+
+		/**
+		 * @param expectedEntityCount The number of entities to reindex that are expected to be resolved next,
+		 * or a negative number if unknown.
+		 * @return {@code true} if this root fanned out, {@code false} otherwise.
+		 */
+		boolean fansOutWith(int expectedEntityCount) {
+			if ( !fannedOut && expectedEntityCount > 0
+					&& buffer.size() + (long) expectedEntityCount > fanOutThreshold ) {
+				// This is only an estimate, since not all elements will necessarily lead to an entity to reindex,
+				// but fanning out is always safe: all entities to reindex will be resolved later.
+				fanOut();
+			}
+			return fannedOut;
+		}
+
+		private void fanOut() {
+			fannedOut = true;
+			buffer = Collections.emptyList();
+			fanOutHandler.run();
+		}
+	}
+
+	private static final class DeferredResolution<V, S> {
+		private final PojoImplicitReindexingResolverNode<? super V, S> node;
+		private final V value;
+		private final S dirtinessState;
+		private final RootContext root;
+
+		private DeferredResolution(PojoImplicitReindexingResolverNode<? super V, S> node, V value, S dirtinessState,
+				RootContext root) {
+			this.node = node;
+			this.value = value;
+			this.dirtinessState = dirtinessState;
+			this.root = root;
+		}
+
+		void resolve(PojoReindexingCollector collector, PojoRuntimeIntrospector runtimeIntrospector) {
+			node.resolveEntitiesToReindex( collector, runtimeIntrospector, value, dirtinessState );
+		}
+	}
+}
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 
 /**
@@ -22,6 +23,8 @@ public interface PojoIndexedTypeExtendedMappingCollector {
 
 	void identifierMapping(IdentifierMapping identifierMapping);
 
+	void pathOrdinals(PojoPathOrdinals pathOrdinals);
+
 	void indexManager(MappedIndexManager indexManager);
 
 }
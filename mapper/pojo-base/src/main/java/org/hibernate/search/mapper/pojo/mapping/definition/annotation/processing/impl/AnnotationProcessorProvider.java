@@ -41,6 +41,15 @@ public class AnnotationProcessorProvider {
 			typeAnnotationProcessorReferenceCache = new HashMap<>();
 	private final Map<Class<? extends Annotation>, Optional<BeanReference<? extends PropertyMappingAnnotationProcessor>>>
 			propertyAnnotationProcessorReferenceCache = new HashMap<>();
+	/*
+	 * Processors are created for each annotation occurrence,
+	 * so we remember the annotation type accepted by each processor implementation
+	 * instead of resolving it through generic type reflection every single time.
+	 * Type and property processors are cached separately,
+	 * because a single class may implement both interfaces with different type arguments.
+	 */
+	private final Map<Class<?>, Class<?>> typeProcessorAnnotationTypeCache = new HashMap<>();
+	private final Map<Class<?>, Class<?>> propertyProcessorAnnotationTypeCache = new HashMap<>();
 
 	public AnnotationProcessorProvider(BeanResolver beanResolver, FailureCollector rootFailureCollector) {
 		this.beanResolver = beanResolver;
@@ -59,7 +68,8 @@ public AnnotationProcessorProvider(BeanResolver beanResolver, FailureCollector r
 				return Optional.empty();
 			}
 			processor = (BeanHolder<? extends TypeMappingAnnotationProcessor<? super A>>) createProcessorBean(
-					TypeMappingAnnotationProcessor.class, annotationType, processorReference.get()
+					TypeMappingAnnotationProcessor.class, typeProcessorAnnotationTypeCache,
+					annotationType, processorReference.get()
 			);
 		}
 		catch (RuntimeException e) {
@@ -84,7 +94,8 @@ public AnnotationProcessorProvider(BeanResolver beanResolver, FailureCollector r
 				return Optional.empty();
 			}
 			processor = (BeanHolder<? extends PropertyMappingAnnotationProcessor<? super A>>) createProcessorBean(
-					PropertyMappingAnnotationProcessor.class, annotationType, processorReference.get()
+					PropertyMappingAnnotationProcessor.class, propertyProcessorAnnotationTypeCache,
+					annotationType, processorReference.get()
 			);
 		}
 		catch (RuntimeException e) {
@@ -162,19 +173,24 @@ public AnnotationProcessorProvider(BeanResolver beanResolver, FailureCollector r
 	}
 
 	private <B, A extends Annotation> BeanHolder<? extends B> createProcessorBean(
-			Class<B> expectedType, Class<A> encounteredAnnotationType,
+			Class<B> expectedType, Map<Class<?>, Class<?>> processorAnnotationTypeCache,
+			Class<A> encounteredAnnotationType,
 			BeanReference<? extends B> processorReference) {
 		BeanHolder<? extends B> delegateHolder = processorReference.resolve( beanResolver );
 		try {
 			B processor = delegateHolder.get();
-			GenericTypeContext bridgeTypeContext = new GenericTypeContext( processor.getClass() );
-			Class<?> processorAnnotationType = bridgeTypeContext.resolveTypeArgument( expectedType, 0 )
-					.map( ReflectionUtils::getRawType )
-					.orElseThrow( () -> new AssertionFailure(
-							"Could not auto-detect the annotation type accepted by processor '"
-									+ processor + "'."
-									+ " There is a bug in Hibernate Search, please report it."
-					) );
+			Class<?> processorAnnotationType = processorAnnotationTypeCache.get( processor.getClass() );
+			if ( processorAnnotationType == null ) {
+				GenericTypeContext bridgeTypeContext = new GenericTypeContext( processor.getClass() );
+				processorAnnotationType = bridgeTypeContext.resolveTypeArgument( expectedType, 0 )
+						.map( ReflectionUtils::getRawType )
+						.orElseThrow( () -> new AssertionFailure(
+								"Could not auto-detect the annotation type accepted by processor '"
+										+ processor + "'."
+										+ " There is a bug in Hibernate Search, please report it."
+						) );
+				processorAnnotationTypeCache.put( processor.getClass(), processorAnnotationType );
+			}
 			if ( !processorAnnotationType.isAssignableFrom( encounteredAnnotationType ) ) {
 				throw log.invalidAnnotationTypeForAnnotationProcessor( processor, processorAnnotationType );
 			}
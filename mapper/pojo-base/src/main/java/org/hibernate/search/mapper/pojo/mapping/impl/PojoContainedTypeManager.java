@@ -7,13 +7,14 @@
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.Set;
+import java.util.BitSet;
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
-import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollectorImpl;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -37,14 +38,17 @@
 	private final String entityName;
 	private final PojoRawTypeIdentifier<E> typeIdentifier;
 	private final PojoCaster<E> caster;
-	private final PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver;
+	private final PojoPathOrdinals pathOrdinals;
+	private final PojoImplicitReindexingResolver<E, BitSet> reindexingResolver;
 
 	public PojoContainedTypeManager(String entityName, PojoRawTypeIdentifier<E> typeIdentifier,
 			PojoCaster<E> caster,
-			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver) {
+			PojoPathOrdinals pathOrdinals,
+			PojoImplicitReindexingResolver<E, BitSet> reindexingResolver) {
 		this.entityName = entityName;
 		this.typeIdentifier = typeIdentifier;
 		this.caster = caster;
+		this.pathOrdinals = pathOrdinals;
 		this.reindexingResolver = reindexingResolver;
 	}
 
@@ -70,6 +74,11 @@ public PojoRawTypeIdentifier<E> typeIdentifier() {
 		return typeIdentifier;
 	}
 
+	@Override
+	public PojoPathOrdinals pathOrdinals() {
+		return pathOrdinals;
+	}
+
 	@Override
 	public Supplier<E> toEntitySupplier(PojoWorkSessionContext<?> sessionContext, Object entity) {
 		PojoRuntimeIntrospector introspector = sessionContext.runtimeIntrospector();
@@ -77,17 +86,13 @@ public Supplier<E> toEntitySupplier(PojoWorkSessionContext<?> sessionContext, Ob
 	}
 
 	@Override
-	public void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoWorkSessionContext<?> sessionContext,
-			Object identifier, Supplier<E> entitySupplier, Set<String> dirtyPaths) {
-		try {
-			reindexingResolver.resolveEntitiesToReindex( collector, sessionContext.runtimeIntrospector(),
-					entitySupplier.get(), dirtyPaths );
-		}
-		catch (RuntimeException e) {
+	public void resolveEntitiesToReindex(PojoReindexingCollectorImpl collector, PojoWorkSessionContext<?> sessionContext,
+			Object identifier, Supplier<E> entitySupplier, BitSet dirtyPaths) {
+		collector.resolveEntitiesToReindex( reindexingResolver, entitySupplier, dirtyPaths, e -> {
 			Object entityReference = EntityReferenceFactory.safeCreateEntityReference(
 					sessionContext.entityReferenceFactory(), entityName, identifier, e::addSuppressed );
-			throw log.errorResolvingEntitiesToReindex( entityReference, e.getMessage(), e );
-		}
+			return log.errorResolvingEntitiesToReindex( entityReference, e.getMessage(), e );
+		}, () -> sessionContext.reindexContainingEntitiesLater( typeIdentifier, entitySupplier.get(), dirtyPaths ) );
 	}
 
 	@Override
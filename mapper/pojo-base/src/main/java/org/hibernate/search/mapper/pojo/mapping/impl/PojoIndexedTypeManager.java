@@ -7,10 +7,12 @@
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -22,8 +24,9 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.IdentifierMappingImplementor;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
-import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollectorImpl;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -58,14 +61,16 @@
 	private final BeanHolder<? extends RoutingBridge<? super E>> routingBridgeHolder;
 	private final PojoIndexingProcessor<E> processor;
 	private final MappedIndexManager indexManager;
-	private final PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver;
+	private final PojoPathOrdinals pathOrdinals;
+	private final PojoImplicitReindexingResolver<E, BitSet> reindexingResolver;
 
 	public PojoIndexedTypeManager(String entityName, PojoRawTypeIdentifier<E> typeIdentifier,
 			PojoCaster<E> caster,
 			IdentifierMappingImplementor<I, E> identifierMapping,
 			BeanHolder<? extends RoutingBridge<? super E>> routingBridgeHolder,
 			PojoIndexingProcessor<E> processor, MappedIndexManager indexManager,
-			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver) {
+			PojoPathOrdinals pathOrdinals,
+			PojoImplicitReindexingResolver<E, BitSet> reindexingResolver) {
 		this.entityName = entityName;
 		this.typeIdentifier = typeIdentifier;
 		this.caster = caster;
@@ -73,6 +78,7 @@ public PojoIndexedTypeManager(String entityName, PojoRawTypeIdentifier<E> typeId
 		this.routingBridgeHolder = routingBridgeHolder;
 		this.processor = processor;
 		this.indexManager = indexManager;
+		this.pathOrdinals = pathOrdinals;
 		this.reindexingResolver = reindexingResolver;
 	}
 
@@ -113,6 +119,11 @@ public IdentifierMappingImplementor<I, E> identifierMapping() {
 		return identifierMapping;
 	}
 
+	@Override
+	public PojoPathOrdinals pathOrdinals() {
+		return pathOrdinals;
+	}
+
 	@Override
 	public Supplier<E> toEntitySupplier(PojoWorkSessionContext<?> sessionContext, Object entity) {
 		PojoRuntimeIntrospector introspector = sessionContext.runtimeIntrospector();
@@ -141,22 +152,23 @@ public PojoDocumentContributor<E> toDocumentContributor(PojoWorkSessionContext<?
 	}
 
 	@Override
-	public boolean requiresSelfReindexing(Set<String> dirtyPaths) {
+	public boolean requiresSelfReindexing(BitSet dirtyPaths) {
 		return reindexingResolver.requiresSelfReindexing( dirtyPaths );
 	}
 
 	@Override
-	public void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoWorkSessionContext<?> sessionContext,
-			Object identifier, Supplier<E> entitySupplier, Set<String> dirtyPaths) {
-		try {
-			reindexingResolver.resolveEntitiesToReindex( collector, sessionContext.runtimeIntrospector(),
-					entitySupplier.get(), dirtyPaths );
-		}
-		catch (RuntimeException e) {
+	public Set<IndexFieldReference<?>> dirtyIndexFieldsOrNull(BitSet dirtyPaths) {
+		return reindexingResolver.dirtyIndexFieldsOrNull( dirtyPaths );
+	}
+
+	@Override
+	public void resolveEntitiesToReindex(PojoReindexingCollectorImpl collector, PojoWorkSessionContext<?> sessionContext,
+			Object identifier, Supplier<E> entitySupplier, BitSet dirtyPaths) {
+		collector.resolveEntitiesToReindex( reindexingResolver, entitySupplier, dirtyPaths, e -> {
 			Object entityReference = EntityReferenceFactory.safeCreateEntityReference(
 					sessionContext.entityReferenceFactory(), entityName, identifier, e::addSuppressed );
-			throw log.errorResolvingEntitiesToReindex( entityReference, e.getMessage(), e );
-		}
+			return log.errorResolvingEntitiesToReindex( entityReference, e.getMessage(), e );
+		}, () -> sessionContext.reindexContainingEntitiesLater( typeIdentifier, entitySupplier.get(), dirtyPaths ) );
 	}
 
 	@Override
@@ -6,15 +6,20 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollectorImpl;
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.scope.impl.PojoScopeDelegateImpl;
@@ -23,14 +28,18 @@
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeTypeExtendedContextProvider;
 import org.hibernate.search.mapper.pojo.work.impl.PojoIndexerImpl;
 import org.hibernate.search.mapper.pojo.work.impl.PojoIndexingPlanImpl;
+import org.hibernate.search.mapper.pojo.work.impl.PojoWorkTypeContext;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 
 public class PojoMappingDelegateImpl implements PojoMappingDelegate {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
 	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
@@ -114,4 +123,22 @@ public PojoIndexer createIndexer(PojoWorkSessionContext<?> context) {
 				context
 		);
 	}
+
+	@Override
+	public <E> void resolveEntitiesToReindex(PojoWorkSessionContext<?> context,
+			PojoRawTypeIdentifier<E> typeIdentifier, Object identifier, Object entity, BitSet dirtyPaths,
+			Consumer<Object> entityToReindexConsumer) {
+		PojoWorkTypeContext<E> typeContext = indexedTypeManagers.getByExactType( typeIdentifier ).orElse( null );
+		if ( typeContext == null ) {
+			typeContext = containedTypeManagers.getByExactType( typeIdentifier )
+					.orElseThrow( () -> log.notIndexedTypeNorAsDelegate( typeIdentifier ) );
+		}
+		// No fan-out threshold here: callers expect all entities to reindex to be resolved.
+		// Lazily loaded containers are loaded in chunks so as not to load all their elements at once.
+		PojoReindexingCollectorImpl collector = new PojoReindexingCollectorImpl( context.runtimeIntrospector(),
+				0, context.reindexingFanOutThreshold(), entityToReindexConsumer );
+		typeContext.resolveEntitiesToReindex( collector, context, identifier,
+				typeContext.toEntitySupplier( context, entity ), dirtyPaths );
+		collector.resolveDeferred();
+	}
 }
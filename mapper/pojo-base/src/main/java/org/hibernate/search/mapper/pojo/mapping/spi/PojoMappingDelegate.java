@@ -6,8 +6,10 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.spi;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -44,4 +46,23 @@ <R> PojoIndexingPlan<R> createIndexingPlan(PojoWorkSessionContext<R> context,
 
 	PojoIndexer createIndexer(PojoWorkSessionContext<?> context);
 
+	/**
+	 * Resolve all entities that must be reindexed because of changes in the given entity,
+	 * regardless of any {@link PojoWorkSessionContext#reindexingFanOutThreshold() fan-out threshold}.
+	 * <p>
+	 * If a fan-out threshold is set, lazily loaded containers are loaded in chunks of that size where possible:
+	 * see {@link org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector#loadInChunks(Object, int, Consumer)}.
+	 *
+	 * @param context The session context.
+	 * @param typeIdentifier The type of the changed entity.
+	 * @param identifier The identifier of the changed entity.
+	 * @param entity The changed entity.
+	 * @param dirtyPaths The set of dirty paths in the changed entity, or {@code null} if all paths are dirty.
+	 * @param entityToReindexConsumer A consumer for the entities to reindex.
+	 * @param <E> The type of the changed entity.
+	 */
+	<E> void resolveEntitiesToReindex(PojoWorkSessionContext<?> context,
+			PojoRawTypeIdentifier<E> typeIdentifier, Object identifier, Object entity, BitSet dirtyPaths,
+			Consumer<Object> entityToReindexConsumer);
+
 }
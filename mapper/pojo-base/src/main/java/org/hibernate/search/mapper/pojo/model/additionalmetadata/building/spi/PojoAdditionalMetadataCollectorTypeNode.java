@@ -6,11 +6,12 @@
  */
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi;
 
-import java.util.Set;
+import java.util.BitSet;
 
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingConfigurationCollector;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 public interface PojoAdditionalMetadataCollectorTypeNode extends PojoAdditionalMetadataCollector {
@@ -37,11 +38,14 @@ public interface PojoAdditionalMetadataCollectorTypeNode extends PojoAdditionalM
 	 * @param pathFilterFactory The path filter factory for this entity type,
 	 * i.e. the object allowing to create path filters that will be used in particular
 	 * when performing dirty checking during automatic reindexing.
+	 * @param pathOrdinals The path ordinals for this entity type,
+	 * i.e. the registry of paths used to represent dirty paths as a {@link BitSet}.
+	 * Must be the same instance used by {@code pathFilterFactory} when creating filters.
 	 * @return A {@link PojoAdditionalMetadataCollectorEntityTypeNode}, to provide optional metadata
 	 * about the entity.
 	 */
 	PojoAdditionalMetadataCollectorEntityTypeNode markAsEntity(String entityName,
-			PojoPathFilterFactory<Set<String>> pathFilterFactory);
+			PojoPathFilterFactory<BitSet> pathFilterFactory, PojoPathOrdinals pathOrdinals);
 
 	/**
 	 * Mark this type as an indexed type.
@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A registry assigning an ordinal to each string representation of a path in a given entity type,
+ * so that sets of paths can be represented as a {@link BitSet}.
+ * <p>
+ * Ordinals are assigned at bootstrap, when creating path filters;
+ * after bootstrap, this object is only read from and is thus safe for concurrent use.
+ */
+public final class PojoPathOrdinals {
+
+	private final Map<String, Integer> ordinalByPath = new HashMap<>();
+	private final List<String> pathByOrdinal = new ArrayList<>();
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal assigned to that path, assigning a new one if necessary.
+	 * Must only be called at bootstrap.
+	 */
+	public int toOrdinal(String path) {
+		Integer ordinal = ordinalByPath.get( path );
+		if ( ordinal == null ) {
+			ordinal = pathByOrdinal.size();
+			pathByOrdinal.add( path );
+			ordinalByPath.put( path, ordinal );
+		}
+		return ordinal;
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal assigned to that path, or {@code null} if no ordinal was assigned,
+	 * meaning no path filter will ever accept this path.
+	 */
+	public Integer toExistingOrdinal(String path) {
+		return ordinalByPath.get( path );
+	}
+
+	/**
+	 * @param ordinal An ordinal returned by {@link #toOrdinal(String)}.
+	 * @return The string representation of the corresponding path.
+	 */
+	public String toPath(int ordinal) {
+		return pathByOrdinal.get( ordinal );
+	}
+
+	/**
+	 * @return The number of paths that were assigned an ordinal so far.
+	 */
+	public int size() {
+		return pathByOrdinal.size();
+	}
+
+	/**
+	 * Sets the bits corresponding to the given paths in the given bitset.
+	 * <p>
+	 * Paths that were not assigned an ordinal are ignored,
+	 * since no path filter will ever accept them.
+	 *
+	 * @param bitSet The bitset to update.
+	 * @param paths The string representations of paths.
+	 */
+	public void setOrdinals(BitSet bitSet, String... paths) {
+		for ( String path : paths ) {
+			Integer ordinal = ordinalByPath.get( path );
+			if ( ordinal != null ) {
+				bitSet.set( ordinal );
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + pathByOrdinal + "]";
+	}
+}
@@ -6,6 +6,11 @@
  */
 package org.hibernate.search.mapper.pojo.model.spi;
 
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+
 /**
  * A Pojo introspector used at runtime.
  */
@@ -28,6 +33,72 @@ public interface PojoRuntimeIntrospector {
 	 */
 	Object unproxy(Object value);
 
+	/**
+	 * @return {@code true} if values retrieved from entities while resolving entities to reindex
+	 * should be passed to {@link #initializeAll(List)} before being accessed, {@code false} otherwise.
+	 */
+	default boolean isBatchInitializationEnabled() {
+		return false;
+	}
+
+	/**
+	 * Initialize the given values if they are lazily loaded (proxies, lazy collections, ...),
+	 * using as few round-trips to the underlying datastore as possible.
+	 * <p>
+	 * Values that are not lazily loaded or are already initialized must be ignored.
+	 *
+	 * @param values The values to initialize. May contain duplicates and values of unrelated types.
+	 */
+	default void initializeAll(List<?> values) {
+		// Nothing to do by default
+	}
+
+	/**
+	 * @param value A value retrieved from an entity while resolving entities to reindex.
+	 * @return The number of elements in the given value if it is a lazily loaded container
+	 * that is not initialized yet and whose size can be retrieved without initializing it,
+	 * {@code -1} otherwise.
+	 */
+	default int uninitializedContainerSize(Object value) {
+		return -1;
+	}
+
+	/**
+	 * Load the elements of the given value one chunk at a time,
+	 * if it is a lazily loaded container that is not initialized yet.
+	 * <p>
+	 * Each chunk is a container of the same kind as the given value (list, set, ...),
+	 * holding at most {@code chunkSize} elements.
+	 * Once a chunk has been passed to the consumer,
+	 * everything that was loaded since the chunk was loaded may be released:
+	 * the consumer must not retain references to the chunk or its elements.
+	 * <p>
+	 * The given value itself is left uninitialized.
+	 *
+	 * @param value A value retrieved from an entity while resolving entities to reindex.
+	 * @param chunkSize The maximum number of elements in each chunk.
+	 * @param chunkConsumer A consumer for the chunks.
+	 * @return {@code true} if the elements were passed to the consumer in chunks,
+	 * {@code false} if the value cannot be loaded in chunks and the consumer was not called.
+	 */
+	default boolean loadInChunks(Object value, int chunkSize, Consumer<Object> chunkConsumer) {
+		return false;
+	}
+
+	/**
+	 * Initialize the given entity if it is lazily loaded,
+	 * as well as the lazily loaded values that may be accessed when building documents from this entity,
+	 * so that documents can be built from another thread without loading anything.
+	 * <p>
+	 * Only called if {@link BackendSessionContext#entityAccessThreadSafe()} returns {@code true},
+	 * from the thread the indexing plan is processed in.
+	 *
+	 * @param entity An entity that is about to be indexed.
+	 */
+	default void initializeForDocumentBuilding(Object entity) {
+		// Nothing to do by default
+	}
+
 	/**
 	 * @return A simple {@link PojoRuntimeIntrospector} that relies on the object's class to return entity types,
 	 * and assumes objects are not proxyfied.
@@ -10,9 +10,11 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.types.ObjectStructure;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEmbeddedDefinition;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexBindingContext;
@@ -185,9 +187,18 @@ private Collection<PojoIndexingProcessor<? super V>> doBuild(
 					.map( Optional::get )
 					.forEach( immutableNestedNodes::add );
 
-			if ( !immutableNestedNodes.isEmpty() ) {
+			if ( immutableNestedNodes.size() > boundBridges.size() ) {
+				// This value is used in nested type nodes, e.g. through an indexed-embedded
 				valueDependencyCollector.collectDependency();
 			}
+			else if ( !boundBridges.isEmpty() ) {
+				// This value is only used to populate a known set of index fields
+				List<IndexFieldReference<?>> indexFieldReferences = new ArrayList<>( boundBridges.size() );
+				for ( BoundValueBridge<V, ?> boundBridge : boundBridges ) {
+					indexFieldReferences.add( boundBridge.getIndexFieldReference() );
+				}
+				valueDependencyCollector.collectDependency( indexFieldReferences );
+			}
 
 			return immutableNestedNodes;
 		}
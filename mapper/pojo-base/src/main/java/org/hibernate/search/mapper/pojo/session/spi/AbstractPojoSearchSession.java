@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.session.spi;
 
+import java.util.BitSet;
+import java.util.function.Consumer;
+
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.pojo.bridge.runtime.IdentifierBridgeFromDocumentIdentifierContext;
@@ -14,6 +17,7 @@
 import org.hibernate.search.mapper.pojo.bridge.runtime.TypeBridgeWriteContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeFromIndexedValueContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.SessionBasedBridgeOperationContext;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
@@ -69,4 +73,10 @@ protected PojoIndexer createIndexer() {
 		return mappingContext.createIndexer( this );
 	}
 
+	protected <E> void resolveEntitiesToReindex(PojoRawTypeIdentifier<E> typeIdentifier, Object identifier,
+			Object entity, BitSet dirtyPaths, Consumer<Object> entityToReindexConsumer) {
+		mappingContext.resolveEntitiesToReindex( this, typeIdentifier, identifier, entity, dirtyPaths,
+				entityToReindexConsumer );
+	}
+
 }
@@ -6,8 +6,12 @@
  */
 package org.hibernate.search.mapper.pojo.session.spi;
 
+import java.util.BitSet;
+import java.util.function.Consumer;
+
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkMappingContext;
@@ -23,4 +27,8 @@ <R> PojoIndexingPlan<R> createIndexingPlan(PojoWorkSessionContext<R> context,
 
 	PojoIndexer createIndexer(PojoWorkSessionContext<?> context);
 
+	<E> void resolveEntitiesToReindex(PojoWorkSessionContext<?> context,
+			PojoRawTypeIdentifier<E> typeIdentifier, Object identifier, Object entity, BitSet dirtyPaths,
+			Consumer<Object> entityToReindexConsumer);
+
 }
@@ -6,13 +6,12 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 
-import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollectorImpl;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 
 /**
@@ -49,6 +48,12 @@ void update(Object providedId, String providedRoutingKey, Object entity, String.
 		getState( identifier ).update( entitySupplier, providedRoutingKey, dirtyPaths );
 	}
 
+	void update(Object providedId, String providedRoutingKey, Object entity, BitSet dirtyPaths) {
+		Supplier<E> entitySupplier = typeContext().toEntitySupplier( sessionContext, entity );
+		I identifier = toIdentifier( providedId, entitySupplier );
+		getState( identifier ).update( entitySupplier, providedRoutingKey, dirtyPaths );
+	}
+
 	void delete(Object providedId, String providedRoutingKey, Object entity) {
 		Supplier<E> entitySupplier = typeContext().toEntitySupplier( sessionContext, entity );
 		I identifier = toIdentifier( providedId, entitySupplier );
@@ -57,7 +62,7 @@ void delete(Object providedId, String providedRoutingKey, Object entity) {
 
 	abstract void purge(Object providedId, String providedRoutingKey);
 
-	void resolveDirty(PojoReindexingCollector containingEntityCollector) {
+	void resolveDirty(PojoReindexingCollectorImpl containingEntityCollector) {
 		for ( S state : statesPerId.values() ) {
 			state.resolveDirty( containingEntityCollector );
 		}
@@ -87,7 +92,7 @@ abstract class AbstractEntityState {
 
 		boolean shouldResolveToReindex;
 		boolean considerAllDirty;
-		Set<String> dirtyPaths;
+		BitSet dirtyPaths;
 
 		AbstractEntityState(I identifier) {
 			this.identifier = identifier;
@@ -110,9 +115,15 @@ void update(Supplier<E> entitySupplier, String providedRoutingKey, String... dir
 			doUpdate( entitySupplier, providedRoutingKey );
 			shouldResolveToReindex = true;
 			if ( !considerAllDirty ) {
-				for ( String dirtyPath : dirtyPaths ) {
-					addDirtyPath( dirtyPath );
-				}
+				typeContext().pathOrdinals().setOrdinals( dirtyPathsForUpdate(), dirtyPaths );
+			}
+		}
+
+		void update(Supplier<E> entitySupplier, String providedRoutingKey, BitSet dirtyPaths) {
+			doUpdate( entitySupplier, providedRoutingKey );
+			shouldResolveToReindex = true;
+			if ( !considerAllDirty ) {
+				dirtyPathsForUpdate().or( dirtyPaths );
 			}
 		}
 
@@ -148,7 +159,7 @@ void delete(Supplier<E> entitySupplier, String providedRoutingKey) {
 			dirtyPaths = null;
 		}
 
-		void resolveDirty(PojoReindexingCollector containingEntityCollector) {
+		void resolveDirty(PojoReindexingCollectorImpl containingEntityCollector) {
 			if ( shouldResolveToReindex ) {
 				shouldResolveToReindex = false; // Avoid infinite looping
 				typeContext().resolveEntitiesToReindex(
@@ -158,11 +169,11 @@ void resolveDirty(PojoReindexingCollector containingEntityCollector) {
 			}
 		}
 
-		private void addDirtyPath(String dirtyPath) {
+		private BitSet dirtyPathsForUpdate() {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			return dirtyPaths;
 		}
 	}
 
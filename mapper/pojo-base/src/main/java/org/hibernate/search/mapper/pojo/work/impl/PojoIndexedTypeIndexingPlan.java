@@ -8,13 +8,15 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
-import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollectorImpl;
 import org.hibernate.search.mapper.pojo.route.impl.DocumentRouteImpl;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 
@@ -53,7 +55,7 @@ void updateBecauseOfContained(Object entity) {
 	}
 
 	@Override
-	void resolveDirty(PojoReindexingCollector containingEntityCollector) {
+	void resolveDirty(PojoReindexingCollectorImpl containingEntityCollector) {
 		// We need to iterate on a "frozen snapshot" of the states because of HSEARCH-3857
 		List<IndexedEntityState> frozenIndexingPlansPerId = new ArrayList<>( statesPerId.values() );
 		for ( IndexedEntityState plan : frozenIndexingPlansPerId ) {
@@ -162,9 +164,11 @@ void purge(String providedRoutingKey) {
 		void sendCommandsToDelegate() {
 			if ( added ) {
 				if ( deleted ) {
-					if ( considerAllDirty || updatedBecauseOfContained
-							|| typeContext.requiresSelfReindexing( dirtyPaths ) ) {
-						delegateUpdate();
+					if ( considerAllDirty || updatedBecauseOfContained ) {
+						delegateUpdate( null );
+					}
+					else if ( typeContext.requiresSelfReindexing( dirtyPaths ) ) {
+						delegateUpdate( typeContext.dirtyIndexFieldsOrNull( dirtyPaths ) );
 					}
 				}
 				else {
@@ -190,11 +194,14 @@ private void delegateAdd() {
 			}
 			DocumentReferenceProvider referenceProvider = new PojoDocumentReferenceProvider( documentIdentifier,
 					currentRoute.routingKey(), identifier );
-			delegate.add( referenceProvider,
-					typeContext.toDocumentContributor( sessionContext, identifier, entitySupplier ) );
+			delegate.add( referenceProvider, toDocumentContributor() );
 		}
 
-		private void delegateUpdate() {
+		/**
+		 * @param dirtyIndexFields The index fields that may have changed,
+		 * or {@code null} if the whole document may have changed.
+		 */
+		private void delegateUpdate(Set<IndexFieldReference<?>> dirtyIndexFields) {
 			PojoWorkRouter router = typeContext.createRouter( sessionContext, identifier, entitySupplier );
 			DocumentRouteImpl currentRoute = router.currentRoute( providedRoutingKey );
 			List<DocumentRouteImpl> previousRoutes = router.previousRoutes( currentRoute );
@@ -211,8 +218,22 @@ private void delegateUpdate() {
 			}
 			DocumentReferenceProvider referenceProvider = new PojoDocumentReferenceProvider( documentIdentifier,
 					currentRoute.routingKey(), identifier );
-			delegate.update( referenceProvider,
-					typeContext.toDocumentContributor( sessionContext, identifier, entitySupplier ) );
+			PojoDocumentContributor<E> documentContributor = toDocumentContributor();
+			if ( dirtyIndexFields != null && previousRoutes.isEmpty() ) {
+				delegate.update( referenceProvider, documentContributor, dirtyIndexFields );
+			}
+			else {
+				delegate.update( referenceProvider, documentContributor );
+			}
+		}
+
+		private PojoDocumentContributor<E> toDocumentContributor() {
+			if ( sessionContext.entityAccessThreadSafe() ) {
+				// The document may be built from another thread:
+				// make sure building it will not require loading anything through the session.
+				sessionContext.runtimeIntrospector().initializeForDocumentBuilding( entitySupplier.get() );
+			}
+			return typeContext.toDocumentContributor( sessionContext, identifier, entitySupplier );
 		}
 
 		private void delegateDelete() {
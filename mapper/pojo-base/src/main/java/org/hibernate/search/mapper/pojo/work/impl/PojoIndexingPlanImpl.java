@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,7 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollectorImpl;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -73,6 +75,12 @@ public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object provided
 		delegate.update( providedId, providedRoutingKey, entity, dirtyPaths );
 	}
 
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey, Object entity, BitSet dirtyPaths) {
+		AbstractPojoTypeIndexingPlan<?, ?, ?> delegate = getDelegate( typeIdentifier );
+		delegate.update( providedId, providedRoutingKey, entity, dirtyPaths );
+	}
+
 	@Override
 	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey, Object entity) {
 		AbstractPojoTypeIndexingPlan<?, ?, ?> delegate = getDelegate( typeIdentifier );
@@ -93,14 +101,18 @@ public void process() {
 
 		isProcessing = true;
 		try {
+			PojoReindexingCollectorImpl containingEntityCollector =
+					new PojoReindexingCollectorImpl( introspector, sessionContext.reindexingFanOutThreshold(),
+							this::updateBecauseOfContained );
 			for ( PojoContainedTypeIndexingPlan<?> delegate : containedTypeDelegates.values() ) {
-				delegate.resolveDirty( this::updateBecauseOfContained );
+				delegate.resolveDirty( containingEntityCollector );
 			}
 			// We need to iterate on a "frozen snapshot" of the indexedTypeDelegates values because of HSEARCH-3857
 			List<PojoIndexedTypeIndexingPlan<?, ?, ?>> frozenIndexedTypeDelegates = new ArrayList<>( indexedTypeDelegates.values() );
 			for ( PojoIndexedTypeIndexingPlan<?, ?, ?> delegate : frozenIndexedTypeDelegates ) {
-				delegate.resolveDirty( this::updateBecauseOfContained );
+				delegate.resolveDirty( containingEntityCollector );
 			}
+			containingEntityCollector.resolveDeferred();
 			for ( PojoIndexedTypeIndexingPlan<?, ?, ?> delegate : indexedTypeDelegates.values() ) {
 				delegate.process();
 			}
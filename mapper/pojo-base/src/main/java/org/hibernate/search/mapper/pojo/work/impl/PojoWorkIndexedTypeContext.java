@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
+import java.util.BitSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -31,7 +33,9 @@
 	PojoDocumentContributor<E> toDocumentContributor(PojoWorkSessionContext<?> sessionContext, I identifier,
 			Supplier<E> entitySupplier);
 
-	boolean requiresSelfReindexing(Set<String> dirtyPaths);
+	boolean requiresSelfReindexing(BitSet dirtyPaths);
+
+	Set<IndexFieldReference<?>> dirtyIndexFieldsOrNull(BitSet dirtyPaths);
 
 	<R> PojoIndexedTypeIndexingPlan<I, E, R> createIndexingPlan(PojoWorkSessionContext<R> sessionContext,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy);
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.work.spi;
 
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
@@ -80,6 +81,28 @@
 	 */
 	void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey, Object entity, String... dirtyPaths);
 
+	/**
+	 * Update an entity in the index, or add it if it's absent from the index,
+	 * but try to avoid reindexing if the given dirty paths
+	 * are known not to impact the indexed form of that entity.
+	 * <p>
+	 * Equivalent to {@link #addOrUpdate(PojoRawTypeIdentifier, Object, String, Object, String...)},
+	 * but avoids the conversion of dirty paths from their string representation.
+	 *
+	 * @param typeIdentifier The identifier of the entity type.
+	 * @param providedId A value to extract the document ID from.
+	 * Generally the expected value is the entity ID, but a different value may be expected depending on the mapping.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param providedRoutingKey The routing key to route the addOrUpdate request to the appropriate index shard.
+	 * Leave {@code null} if sharding is disabled
+	 * or to have Hibernate Search compute the value through the assigned {@link org.hibernate.search.mapper.pojo.bridge.RoutingKeyBridge}.
+	 * @param entity The entity to update in the index.
+	 * @param dirtyPaths The paths to consider dirty, as a set of ordinals
+	 * assigned by the {@link org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals} of the entity type.
+	 * The bitset is not retained by the plan and may be reused by the caller.
+	 */
+	void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey, Object entity, BitSet dirtyPaths);
+
 	/**
 	 * Delete an entity from the index.
 	 * <p>
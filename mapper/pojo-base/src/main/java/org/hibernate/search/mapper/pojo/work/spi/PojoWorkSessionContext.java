@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.mapper.pojo.work.spi;
 
+import java.util.BitSet;
+
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.BridgeSessionContext;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.AssertionFailure;
 
 /**
  * Session-scoped information and operations for use in POJO work execution.
@@ -24,4 +28,31 @@
 
 	EntityReferenceFactory<R> entityReferenceFactory();
 
+	/**
+	 * @return The maximum number of containing entities an indexing plan may reindex
+	 * because of changes in a single entity, or {@code 0} for no limit.
+	 * Beyond that number, the reindexing of containing entities is delegated to
+	 * {@link #reindexContainingEntitiesLater(PojoRawTypeIdentifier, Object, BitSet)}.
+	 */
+	default int reindexingFanOutThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Reindex the entities containing the given entity later, outside of the indexing plan being processed.
+	 * <p>
+	 * Only called if {@link #reindexingFanOutThreshold()} returns a strictly positive number.
+	 *
+	 * @param typeIdentifier The type of the changed entity.
+	 * @param entity The changed entity.
+	 * @param dirtyPaths The set of dirty paths in the changed entity, or {@code null} if all paths are dirty.
+	 */
+	default void reindexContainingEntitiesLater(PojoRawTypeIdentifier<?> typeIdentifier, Object entity,
+			BitSet dirtyPaths) {
+		throw new AssertionFailure(
+				"Attempt to defer the reindexing of entities containing entity " + entity + " of type " + typeIdentifier
+				+ ", but this session does not support it. There is a bug in Hibernate Search, please report it."
+		);
+	}
+
 }
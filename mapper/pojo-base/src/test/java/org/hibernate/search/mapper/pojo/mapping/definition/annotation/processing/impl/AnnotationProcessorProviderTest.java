@@ -0,0 +1,138 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Optional;
+
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
+import org.hibernate.search.engine.reporting.spi.FailureCollector;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.PropertyMapping;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.PropertyMappingAnnotationProcessor;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.PropertyMappingAnnotationProcessorContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.PropertyMappingAnnotationProcessorRef;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.TypeMapping;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.TypeMappingAnnotationProcessor;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.TypeMappingAnnotationProcessorContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.TypeMappingAnnotationProcessorRef;
+import org.hibernate.search.mapper.pojo.mapping.definition.programmatic.PropertyMappingStep;
+import org.hibernate.search.mapper.pojo.mapping.definition.programmatic.TypeMappingStep;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.Test;
+
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+
+public class AnnotationProcessorProviderTest extends EasyMockSupport {
+
+	private final BeanResolver beanResolverMock = createMock( BeanResolver.class );
+	private final FailureCollector failureCollectorMock = createMock( FailureCollector.class );
+	private final ContextualFailureCollector contextualFailureCollectorMock =
+			createMock( ContextualFailureCollector.class );
+
+	private final AnnotationProcessorProvider provider =
+			new AnnotationProcessorProvider( beanResolverMock, failureCollectorMock );
+
+	@Test
+	public void repeatedOccurrences() {
+		EasyMock.expect( beanResolverMock.resolve( DualProcessor.class ) )
+				.andAnswer( () -> BeanHolder.of( new DualProcessor() ) ).times( 4 );
+		replayAll();
+		for ( int i = 0; i < 2; i++ ) {
+			assertThat( provider.createTypeAnnotationProcessor( annotation( TypeAnnotated.class, TypeAnnotation.class ) ) )
+					.hasValueSatisfying( holder -> assertThat( holder.get() ).isInstanceOf( DualProcessor.class ) );
+			assertThat( provider.createPropertyAnnotationProcessor( annotation( PropertyAnnotated.class, PropertyAnnotation.class ) ) )
+					.hasValueSatisfying( holder -> assertThat( holder.get() ).isInstanceOf( DualProcessor.class ) );
+		}
+		verifyAll();
+	}
+
+	@Test
+	public void incompatibleAnnotationType_afterCompatibleOccurrence() {
+		Capture<Throwable> failureCapture = Capture.newInstance();
+		EasyMock.expect( beanResolverMock.resolve( DualProcessor.class ) )
+				.andAnswer( () -> BeanHolder.of( new DualProcessor() ) ).times( 2 );
+		EasyMock.expect( failureCollectorMock.withContext( EasyMock.anyObject( EventContext.class ) ) )
+				.andReturn( contextualFailureCollectorMock );
+		contextualFailureCollectorMock.add( EasyMock.capture( failureCapture ) );
+		replayAll();
+		// The annotation type accepted by the processor is now known...
+		assertThat( provider.createPropertyAnnotationProcessor( annotation( PropertyAnnotated.class, PropertyAnnotation.class ) ) )
+				.isPresent();
+		// ... but is still checked against each annotation occurrence
+		Optional<?> processor = provider.createPropertyAnnotationProcessor(
+				annotation( PropertyAnnotated.class, OtherPropertyAnnotation.class ) );
+		assertThat( processor ).isEmpty();
+		verifyAll();
+
+		assertThat( failureCapture.getValue() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "expects annotations of incompatible type",
+						PropertyAnnotation.class.getName() );
+	}
+
+	private static <A extends Annotation> A annotation(Class<?> annotatedClass,
+			Class<A> annotationType) {
+		return annotatedClass.getAnnotation( annotationType );
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@TypeMapping(processor = @TypeMappingAnnotationProcessorRef(type = DualProcessor.class))
+	private @interface TypeAnnotation {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@PropertyMapping(processor = @PropertyMappingAnnotationProcessorRef(type = DualProcessor.class))
+	private @interface PropertyAnnotation {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@PropertyMapping(processor = @PropertyMappingAnnotationProcessorRef(type = DualProcessor.class))
+	private @interface OtherPropertyAnnotation {
+	}
+
+	@TypeAnnotation
+	@PropertyAnnotation
+	@OtherPropertyAnnotation
+	private static class PropertyAnnotated {
+	}
+
+	@TypeAnnotation
+	private static class TypeAnnotated {
+	}
+
+	/*
+	 * Implements both processor interfaces with different type arguments,
+	 * so that the annotation types they accept must be resolved separately.
+	 */
+	public static class DualProcessor implements TypeMappingAnnotationProcessor<TypeAnnotation>,
+			PropertyMappingAnnotationProcessor<PropertyAnnotation> {
+		@Override
+		public void process(TypeMappingStep mapping, TypeAnnotation annotation,
+				TypeMappingAnnotationProcessorContext context) {
+		}
+
+		@Override
+		public void process(PropertyMappingStep mapping, PropertyAnnotation annotation,
+				PropertyMappingAnnotationProcessorContext context) {
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+public class BitSetPojoPathFilterTest {
+
+	@Test
+	public void test() {
+		PojoPathOrdinals ordinals = new PojoPathOrdinals();
+		BitSet accepted = new BitSet();
+		accepted.set( ordinals.toOrdinal( "foo" ) );
+		accepted.set( ordinals.toOrdinal( "bar.baz" ) );
+		int unrelatedOrdinal = ordinals.toOrdinal( "unrelated" );
+		BitSetPojoPathFilter filter = new BitSetPojoPathFilter( ordinals, accepted );
+
+		assertThat( filter.test( new BitSet() ) ).isFalse();
+
+		BitSet dirty = new BitSet();
+		dirty.set( unrelatedOrdinal );
+		assertThat( filter.test( dirty ) ).isFalse();
+
+		ordinals.setOrdinals( dirty, "bar.baz", "unknown" );
+		assertThat( filter.test( dirty ) ).isTrue();
+
+		assertThat( filter ).hasToString( "BitSetPojoPathFilter[foo, bar.baz]" );
+	}
+
+	@Test
+	public void ordinals() {
+		PojoPathOrdinals ordinals = new PojoPathOrdinals();
+		assertThat( ordinals.toOrdinal( "foo" ) ).isEqualTo( 0 );
+		assertThat( ordinals.toOrdinal( "bar" ) ).isEqualTo( 1 );
+		assertThat( ordinals.toOrdinal( "foo" ) ).isEqualTo( 0 );
+		assertThat( ordinals.toExistingOrdinal( "bar" ) ).isEqualTo( 1 );
+		assertThat( ordinals.toExistingOrdinal( "unknown" ) ).isNull();
+		assertThat( ordinals.toPath( 1 ) ).isEqualTo( "bar" );
+		assertThat( ordinals.size() ).isEqualTo( 2 );
+	}
+
+}
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQuery;
@@ -71,6 +72,11 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		return result;
 	}
 
+	@Override
+	public SearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		throw new UnsupportedOperationException( "Search-after pagination not supported in the stub backend" );
+	}
+
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		return fetch( offset, limit ).hits();
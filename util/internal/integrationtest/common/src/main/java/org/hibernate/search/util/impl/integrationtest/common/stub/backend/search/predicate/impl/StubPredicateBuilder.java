@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.predicate.impl;
 
+import java.util.Collection;
 import java.util.Set;
 import org.hibernate.search.engine.search.common.BooleanOperator;
 import org.hibernate.search.engine.search.common.ValueConvert;
@@ -23,6 +24,7 @@
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinBoundingBoxPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinCirclePredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinPolygonPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.TermsPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.WildcardPredicateBuilder;
 import org.hibernate.search.engine.spatial.DistanceUnit;
 import org.hibernate.search.engine.spatial.GeoBoundingBox;
@@ -40,6 +42,7 @@ public class StubPredicateBuilder implements MatchAllPredicateBuilder,
 		SimpleQueryStringPredicateBuilder,
 		NestedPredicateBuilder,
 		ExistsPredicateBuilder,
+		TermsPredicateBuilder,
 		SpatialWithinCirclePredicateBuilder,
 		SpatialWithinPolygonPredicateBuilder,
 		SpatialWithinBoundingBoxPredicateBuilder {
@@ -94,6 +97,11 @@ public void value(Object value, ValueConvert convert) {
 		// No-op
 	}
 
+	@Override
+	public void values(Collection<?> values, ValueConvert convert) {
+		// No-op
+	}
+
 	@Override
 	public void analyzer(String analyzerName) {
 		// No-op
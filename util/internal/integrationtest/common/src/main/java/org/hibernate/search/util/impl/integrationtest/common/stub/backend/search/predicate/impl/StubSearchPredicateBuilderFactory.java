@@ -20,6 +20,7 @@
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinBoundingBoxPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinCirclePredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinPolygonPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.TermsPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.WildcardPredicateBuilder;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubQueryElementCollector;
 
@@ -77,6 +78,11 @@ public ExistsPredicateBuilder exists(String absoluteFieldPath) {
 		return new StubPredicateBuilder();
 	}
 
+	@Override
+	public TermsPredicateBuilder terms(String absoluteFieldPath) {
+		return new StubPredicateBuilder();
+	}
+
 	@Override
 	public SpatialWithinCirclePredicateBuilder spatialWithinCircle(String absoluteFieldPath) {
 		return new StubPredicateBuilder();
@@ -80,6 +80,11 @@ public AbstractLongAssert<?> assertSecondLevelCacheHitCount() {
 				.as( "Second level cache hit count" );
 	}
 
+	public AbstractLongAssert<?> assertSecondLevelCacheMissCount() {
+		return assertThat( statistics.getSecondLevelCacheMissCount() )
+				.as( "Second level cache miss count" );
+	}
+
 	private String inspectSql(String sql) {
 		statements.add( sql );
 		return sql;